@@ -0,0 +1,44 @@
+package com.security.authentication.command;
+
+import com.security.authentication.dataset.CommandDataset;
+import com.security.authentication.dataset.UserDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CommandCreatorBenchmark {
+    private static final int COMMANDS = 4096;
+
+    @Param({"" + UserDataset.DEFAULT_SEED})
+    public long seed;
+
+    private String[] commands;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        commands = CommandDataset.commands(COMMANDS, seed);
+    }
+
+    @Benchmark
+    public Command newCommand() {
+        return CommandCreator.newCommand(commands[cursor++ & (COMMANDS - 1)]);
+    }
+}
@@ -0,0 +1,65 @@
+package com.security.authentication.crypt;
+
+import com.security.authentication.dataset.UserDataset;
+import com.security.authentication.exceptions.crypt.DecryptFailException;
+import com.security.authentication.exceptions.crypt.EncryptFailException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PasswordCrypterBenchmark {
+    private static final int PASSWORDS = 1024;
+
+    @Param({"" + UserDataset.DEFAULT_SEED})
+    public long seed;
+
+    private PasswordCrypter passwordCrypter;
+    private String[] passwords;
+    private String[] encryptedPasswords;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws EncryptFailException {
+        UserDataset dataset = new UserDataset(PASSWORDS, seed);
+
+        passwordCrypter = new PasswordCrypter(dataset.secretKey());
+        passwords = new String[PASSWORDS];
+        encryptedPasswords = new String[PASSWORDS];
+
+        for (int i = 0; i < PASSWORDS; i++) {
+            passwords[i] = dataset.user(i).getAccountInfo().getPassword();
+            encryptedPasswords[i] = passwordCrypter.encrypt(passwords[i]);
+        }
+    }
+
+    @Benchmark
+    public String encrypt() throws EncryptFailException {
+        return passwordCrypter.encrypt(passwords[next()]);
+    }
+
+    @Benchmark
+    public String decrypt() throws DecryptFailException {
+        return passwordCrypter.decrypt(encryptedPasswords[next()]);
+    }
+
+    private int next() {
+        return cursor++ & (PASSWORDS - 1);
+    }
+}
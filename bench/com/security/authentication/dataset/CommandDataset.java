@@ -0,0 +1,36 @@
+package com.security.authentication.dataset;
+
+import java.util.SplittableRandom;
+
+public class CommandDataset {
+    private static final String[] TEMPLATES = {
+            "register --username %s --password %s --first-name %s --last-name %s --email %s@mail.com",
+            "login --username %s --password %s",
+            "login --session-id %s",
+            "update-user --session-id %s --new-username %s --new-email %s@mail.com",
+            "reset-password --session-id %s --username %s --old-password %s --new-password %s",
+            "logout --session-id %s",
+            "add-admin-user --session-id %s --username %s",
+            "remove-admin-user --session-id %s --username %s",
+            "delete-user --session-id %s --username %s",
+            "unknown --session-id %s"
+    };
+
+    public static String[] commands(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        String[] commands = new String[count];
+
+        for (int i = 0; i < count; i++) {
+            String template = TEMPLATES[random.nextInt(TEMPLATES.length)];
+
+            commands[i] = String.format(template, argument(random), argument(random), argument(random),
+                    argument(random), argument(random));
+        }
+
+        return commands;
+    }
+
+    private static String argument(SplittableRandom random) {
+        return Long.toHexString(random.nextLong() >>> 1);
+    }
+}
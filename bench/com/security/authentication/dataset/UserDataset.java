@@ -0,0 +1,111 @@
+package com.security.authentication.dataset;
+
+import com.google.gson.Gson;
+import com.security.authentication.crypt.PasswordCrypter;
+import com.security.authentication.crypt.UserCrypter;
+import com.security.authentication.exceptions.crypt.EncryptFailException;
+import com.security.authentication.user.RegularUser;
+import com.security.authentication.user.User;
+import com.security.authentication.user.info.AccountInfo;
+import com.security.authentication.user.info.PersonalInfo;
+import com.security.authentication.validator.Validator;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.SplittableRandom;
+
+public class UserDataset {
+    public static final long DEFAULT_SEED = 0x5EED_2021L;
+
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789";
+    private static final Path DATA_DIRECTORY = Path.of(System.getProperty("bench.data",
+            Path.of(System.getProperty("java.io.tmpdir"), "authentication-bench").toString()));
+
+    private final int size;
+    private final long seed;
+
+    public UserDataset(int size, long seed) {
+        if (size < 1) {
+            throw new IllegalArgumentException("dataset needs at least one user");
+        }
+
+        this.size = size;
+        this.seed = seed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public SecretKey secretKey() {
+        byte[] key = new byte[16];
+
+        new SplittableRandom(seed).nextBytes(key);
+
+        return new SecretKeySpec(key, "AES");
+    }
+
+    public String username(int index) {
+        return "user" + index;
+    }
+
+    public User user(int index) {
+        SplittableRandom random = new SplittableRandom(seed ^ (0x9E3779B97F4A7C15L * (index + 1)));
+        AccountInfo accountInfo = new AccountInfo(username(index), word(random, 12));
+        PersonalInfo personalInfo = new PersonalInfo(word(random, 8), word(random, 10),
+                word(random, 8) + "@" + word(random, 6) + ".com");
+
+        return new RegularUser(accountInfo, personalInfo);
+    }
+
+    public User absentUser(int index) {
+        return user(size + index);
+    }
+
+    public Path copyUsersFile(Path target) throws IOException {
+        Validator.validateNotNull(target, "target");
+
+        return Files.copy(usersFile(), target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public synchronized Path usersFile() throws IOException {
+        Path file = DATA_DIRECTORY.resolve("users-" + size + "-" + Long.toHexString(seed) + ".txt");
+
+        if (Files.exists(file)) {
+            return file;
+        }
+
+        Files.createDirectories(DATA_DIRECTORY);
+
+        Path partial = Files.createTempFile(DATA_DIRECTORY, "users", ".partial");
+        UserCrypter userCrypter = new UserCrypter(new PasswordCrypter(secretKey()), null);
+        Gson gson = new Gson();
+
+        try (BufferedWriter writer = Files.newBufferedWriter(partial, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < size; i++) {
+                writer.append(gson.toJson(userCrypter.encrypt(user(i)), User.class)).append(System.lineSeparator());
+            }
+        } catch (EncryptFailException e) {
+            Files.delete(partial);
+            throw new IOException("failed to encrypt dataset", e);
+        }
+
+        return Files.move(partial, file, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String word(SplittableRandom random, int length) {
+        StringBuilder word = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++) {
+            word.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+
+        return word.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package com.security.authentication.handler;
+
+import com.security.authentication.dataset.UserDataset;
+import com.security.authentication.generator.SessionGenerator;
+import com.security.authentication.generator.SessionId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SessionHandlerBenchmark {
+    private static final int LOOKUPS = 4096;
+
+    @Param({"1000", "100000", "1000000"})
+    public int sessions;
+
+    @Param({"" + UserDataset.DEFAULT_SEED})
+    public long seed;
+
+    private SessionHandler<Object> sessionHandler;
+    private SessionId[] liveSessionIds;
+    private SessionId[] unknownSessionIds;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(seed);
+        SessionGenerator generator = new SessionGenerator();
+        Object value = new Object();
+
+        sessionHandler = new SessionHandler<>(() -> new SessionId(random.nextLong() | 1, random.nextLong()),
+                () -> 0L, sessionId -> {
+        });
+        liveSessionIds = new SessionId[LOOKUPS];
+        unknownSessionIds = new SessionId[LOOKUPS];
+
+        for (int i = 0; i < sessions; i++) {
+            SessionId sessionId = sessionHandler.generate(value);
+
+            if (i < LOOKUPS) {
+                liveSessionIds[i] = sessionId;
+            }
+        }
+
+        for (int i = 0; i < LOOKUPS; i++) {
+            liveSessionIds[i] = liveSessionIds[i % Math.min(sessions, LOOKUPS)];
+            unknownSessionIds[i] = generator.generate();
+        }
+    }
+
+    @Benchmark
+    public boolean isValidLive() {
+        return sessionHandler.isValid(liveSessionIds[cursor++ & (LOOKUPS - 1)]);
+    }
+
+    @Benchmark
+    public boolean isValidUnknown() {
+        return sessionHandler.isValid(unknownSessionIds[cursor++ & (LOOKUPS - 1)]);
+    }
+}
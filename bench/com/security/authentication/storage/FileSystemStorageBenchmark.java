@@ -0,0 +1,110 @@
+package com.security.authentication.storage;
+
+import com.security.authentication.dataset.UserDataset;
+import com.security.authentication.exceptions.storage.RemoveFailException;
+import com.security.authentication.exceptions.storage.StorageFailException;
+import com.security.authentication.exceptions.storage.UserNotFoundException;
+import com.security.authentication.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FileSystemStorageBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int users;
+
+    @Param({"" + UserDataset.DEFAULT_SEED})
+    public long seed;
+
+    private UserDataset dataset;
+    private Path directory;
+    private FileSystemStorage storage;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws IOException {
+        dataset = new UserDataset(users, seed);
+        dataset.usersFile();
+        directory = Files.createTempDirectory("storage-bench");
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() throws IOException {
+        Path usersFile = dataset.copyUsersFile(directory.resolve("users.txt"));
+
+        Files.deleteIfExists(directory.resolve("users.txt.bloom"));
+        storage = new FileSystemStorage(usersFile, dataset.secretKey());
+        cursor = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownIteration() throws IOException {
+        storage.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws IOException {
+        Files.deleteIfExists(directory.resolve("users.txt"));
+        Files.deleteIfExists(directory.resolve("users.txt.bloom"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public User extract() throws UserNotFoundException, StorageFailException {
+        return storage.extract(dataset.username(next()));
+    }
+
+    @Benchmark
+    public boolean add() throws StorageFailException {
+        return storage.add(dataset.absentUser(cursor++));
+    }
+
+    @Benchmark
+    public boolean remove(Removal removal) throws RemoveFailException {
+        removal.user = dataset.user(next());
+
+        return storage.remove(removal.user);
+    }
+
+    @State(Scope.Thread)
+    public static class Removal {
+        private User user;
+
+        @TearDown(Level.Invocation)
+        public void restore(FileSystemStorageBenchmark benchmark) throws StorageFailException {
+            if (user != null) {
+                benchmark.storage.add(user);
+                user = null;
+            }
+        }
+    }
+
+    private int next() {
+        int index = (int) (((cursor * 0x9E3779B97F4A7C15L) >>> 1) % users);
+
+        cursor++;
+
+        return index;
+    }
+}
@@ -1,8 +1,11 @@
 package com.security.authentication.command;
 
+import com.security.authentication.connect.Connection;
 import com.security.authentication.defend.Defender;
+import com.security.authentication.enums.CommandOutcome;
 import com.security.authentication.enums.LOGInfoStatus;
 import com.security.authentication.enums.LOGInfoType;
+import com.security.authentication.enums.Response;
 import com.security.authentication.exceptions.authorize.AlreadyAuthorizedUserException;
 import com.security.authentication.exceptions.authorize.AlreadyNotAuthorizedUserException;
 import com.security.authentication.exceptions.authorize.NotAuthorizedUserException;
@@ -16,316 +19,352 @@ import com.security.authentication.exceptions.storage.EmptyStorageException;
 import com.security.authentication.exceptions.storage.StorageFailException;
 import com.security.authentication.exceptions.storage.UserNotFoundException;
 import com.security.authentication.exceptions.update.NoUpdateRequestException;
-import com.security.authentication.formatter.LogFormatter;
 import com.security.authentication.handler.UserHandler;
+import com.security.authentication.log.AuditEvent;
 import com.security.authentication.log.Log;
+import com.security.authentication.metrics.MetricsRegistry;
 import com.security.authentication.validator.Validator;
 
 import java.io.IOException;
-import java.nio.channels.SocketChannel;
 
 public class CommandExecutor {
     private final UserHandler userHandler;
     private final Defender defender;
     private final Log log;
+    private final MetricsRegistry metrics;
 
     public CommandExecutor(Log log, UserHandler userHandler, Defender defender) {
+        this(log, userHandler, defender, new MetricsRegistry());
+    }
+
+    public CommandExecutor(Log log, UserHandler userHandler, Defender defender, MetricsRegistry metrics) {
         this.log = log;
         this.userHandler = userHandler;
         this.defender = defender;
+        this.metrics = metrics;
     }
 
-    public String execute(Command command, SocketChannel channel) {
+    public String execute(Command command, Connection connection) {
         try {
             Validator.validateNotNull(command, "command");
-            Validator.validateNotNull(channel, "channel");
+            Validator.validateNotNull(connection, "connection");
         } catch (IllegalArgumentException e) {
-            return "<A problem in the system has occurred, please try again>";
+            return Response.SYSTEM_PROBLEM.getMessage();
         }
 
+        long start = System.nanoTime();
+        Reply reply;
+
+        try {
+            reply = dispatch(command, connection);
+        } catch (RuntimeException e) {
+            record(command, CommandOutcome.SYSTEM_PROBLEM, start);
+            throw e;
+        }
+
+        record(command, reply.outcome(), start);
+
+        return reply.message();
+    }
+
+    private void record(Command command, CommandOutcome outcome, long start) {
+        metrics.record(command.type(), outcome, System.nanoTime() - start);
+    }
+
+    private Reply dispatch(Command command, Connection connection) {
         return switch (command.type()) {
-            case REGISTER -> handleRegister(command, channel);
-            case LOGIN -> handleLogIn(command, channel);
-            case UPDATE_USER -> handleUpdateUser(command, channel);
-            case RESET_PASSWORD -> handleResetPassword(command, channel);
-            case LOGOUT -> handleLogOut(command, channel);
-            case ADD_ADMIN_USER -> handleAddAdmin(command, channel);
-            case REMOVE_ADMIN_USER -> handleRemoveAdmin(command, channel);
-            case DELETE_USER -> handleDeleteUser(command, channel);
+            case REGISTER -> handleRegister(command, connection);
+            case LOGIN -> handleLogIn(command, connection);
+            case UPDATE_USER -> handleUpdateUser(command, connection);
+            case RESET_PASSWORD -> handleResetPassword(command, connection);
+            case LOGOUT -> handleLogOut(command, connection);
+            case ADD_ADMIN_USER -> handleAddAdmin(command, connection);
+            case REMOVE_ADMIN_USER -> handleRemoveAdmin(command, connection);
+            case DELETE_USER -> handleDeleteUser(command, connection);
             case INVALID -> handleUnknown();
         };
     }
 
-    private String handleUnknown() {
-        return "<Unknown command>";
+    private Reply handleUnknown() {
+        return Reply.of(Response.UNKNOWN_COMMAND);
     }
 
-    private String handleRegister(Command command, SocketChannel channel) {
-        String responseValidationFail = Validator.validateCommand(command);
+    private Reply handleRegister(Command command, Connection connection) {
+        Response responseValidationFail = Validator.validateCommand(command);
         if (responseValidationFail != null) {
-            return responseValidationFail;
+            return Reply.of(responseValidationFail);
         }
 
-        if (defender.isBlocked(channel)) {
-            return "<You are currently blocked>";
+        if (defender.isBlocked(connection)) {
+            return Reply.of(Response.BLOCKED);
         }
 
         try {
-            userHandler.register(command.parameters(), channel);
+            userHandler.register(command.parameters(), connection);
         } catch (UserAlreadyRegisteredException e) {
-            return "<Username is taken, choose another one>";
+            return Reply.of(Response.USERNAME_TAKEN);
         } catch (AlreadyLoggedInException e) {
-            return "<You are logged in>";
+            return Reply.of(Response.LOGGED_IN_CONNECTION);
         } catch (StorageFailException e) {
-            return "<A problem in the system has occurred, please try again>";
+            return Reply.of(Response.SYSTEM_PROBLEM);
         } catch (EmptyStorageException e) {
-            return "<You have been successfully registered. Since you are the first user in the system, you are admin>";
+            return Reply.of(Response.REGISTERED_AS_ADMIN);
         }
 
-        defender.clearHistory(channel);
+        defender.clearHistory(connection);
 
-        return "<You have been successfully registered>";
+        return Reply.of(Response.REGISTERED);
     }
 
-    private String handleLogIn(Command command, SocketChannel channel) {
-        String responseValidationFail = Validator.validateCommand(command);
+    private Reply handleLogIn(Command command, Connection connection) {
+        Response responseValidationFail = Validator.validateCommand(command);
         if (responseValidationFail != null) {
-            return responseValidationFail;
+            return Reply.of(responseValidationFail);
         }
 
-        if (defender.isBlocked(channel)) {
-            return "<You are currently blocked>";
+        if (defender.isBlocked(connection)) {
+            return Reply.of(Response.BLOCKED);
         }
 
         String sessionId;
 
         try {
-            sessionId = userHandler.logIn(command.parameters(), channel);
+            sessionId = userHandler.logIn(command.parameters(), connection);
         } catch (InvalidCombinationException e) {
-            defender.registerInvalidTry(channel);
-            toLog(LOGInfoType.UNSUCCESSFUL_LOGIN, channel);
-            return "<Wrong username/password combination>";
+            defender.registerInvalidTry(connection);
+            toLog(LOGInfoType.UNSUCCESSFUL_LOGIN, connection);
+            return Reply.of(Response.WRONG_COMBINATION);
         } catch (InvalidSessionIdException e) {
-            defender.registerInvalidTry(channel);
-            toLog(LOGInfoType.UNSUCCESSFUL_LOGIN, channel);
-            return "<Wrong session id>";
+            defender.registerInvalidTry(connection);
+            toLog(LOGInfoType.UNSUCCESSFUL_LOGIN, connection);
+            return Reply.of(Response.WRONG_SESSION_ID);
         } catch (AlreadyLoggedInException e) {
-            return "<You are already logged in>";
+            return Reply.of(Response.ALREADY_LOGGED_IN);
         } catch (StorageFailException e) {
-            return "<A problem in the system has occurred, please try again>";
+            return Reply.of(Response.SYSTEM_PROBLEM);
         }
 
-        return "<You have been successfully logged in, your session id is <" + sessionId + ">>";
+        return Reply.of(Response.LOGGED_IN, sessionId);
     }
 
-    private String handleUpdateUser(Command command, SocketChannel channel) {
-        String responseValidationFail = Validator.validateCommand(command);
+    private Reply handleUpdateUser(Command command, Connection connection) {
+        Response responseValidationFail = Validator.validateCommand(command);
         if (responseValidationFail != null) {
-            return responseValidationFail;
+            return Reply.of(responseValidationFail);
         }
 
         try {
-            userHandler.updatePersonalInfo(command.parameters(), channel);
+            userHandler.updatePersonalInfo(command.parameters(), connection);
         } catch (InvalidSessionIdException e) {
-            return "<Wrong session id>";
+            return Reply.of(Response.WRONG_SESSION_ID);
         } catch (NotLoggedInException e) {
-            return "<You are not logged in>";
+            return Reply.of(Response.NOT_LOGGED_IN);
         } catch (StorageFailException e) {
-            return "<A problem in the system has occurred, please try again>";
+            return Reply.of(Response.SYSTEM_PROBLEM);
         } catch (NoUpdateRequestException e) {
-            return "<You did not request any changes>";
+            return Reply.of(Response.NO_CHANGES);
         }
 
-        return "<You successfully updated your profile>";
+        return Reply.of(Response.PROFILE_UPDATED);
     }
 
-    private String handleResetPassword(Command command, SocketChannel channel) {
-        String response = Validator.validateCommand(command);
-        if (response != null) {
-            return response;
+    private Reply handleResetPassword(Command command, Connection connection) {
+        Response responseValidationFail = Validator.validateCommand(command);
+        if (responseValidationFail != null) {
+            return Reply.of(responseValidationFail);
         }
 
         try {
-            userHandler.updateAccountPassword(command.parameters(), channel);
+            userHandler.updateAccountPassword(command.parameters(), connection);
         } catch (NotLoggedInException e) {
-            return "<You are not logged in>";
+            return Reply.of(Response.NOT_LOGGED_IN);
         } catch (InvalidCombinationException e) {
-            return "<Wrong username/password combination>";
+            return Reply.of(Response.WRONG_COMBINATION);
         } catch (InvalidSessionIdException e) {
-            return "<Wrong session id>";
+            return Reply.of(Response.WRONG_SESSION_ID);
         } catch (StorageFailException e) {
-            return "<A problem in the system has occurred, please try again>";
+            return Reply.of(Response.SYSTEM_PROBLEM);
         }
 
-        return "<You successfully changed your password to <" + command.parameters().get(7) + ">>";
+        return Reply.of(Response.PASSWORD_CHANGED, command.parameters().get(7));
     }
 
-    private String handleLogOut(Command command, SocketChannel channel) {
-        String responseValidationFail = Validator.validateCommand(command);
+    private Reply handleLogOut(Command command, Connection connection) {
+        Response responseValidationFail = Validator.validateCommand(command);
         if (responseValidationFail != null) {
-            return responseValidationFail;
+            return Reply.of(responseValidationFail);
         }
 
         try {
-            userHandler.logOut(command.parameters(), channel);
+            userHandler.logOut(command.parameters(), connection);
         } catch (NotLoggedInException e) {
-            return "<You are not logged in>";
+            return Reply.of(Response.NOT_LOGGED_IN);
         } catch (InvalidSessionIdException e) {
-            return "<Wrong session id>";
+            return Reply.of(Response.WRONG_SESSION_ID);
         }
 
-        return "<You logged out successfully>";
+        return Reply.of(Response.LOGGED_OUT);
     }
 
-    private String handleAddAdmin(Command command, SocketChannel channel) {
-        String responseValidationFail = Validator.validateCommand(command);
+    private Reply handleAddAdmin(Command command, Connection connection) {
+        Response responseValidationFail = Validator.validateCommand(command);
         if (responseValidationFail != null) {
-            return responseValidationFail;
+            return Reply.of(responseValidationFail);
         }
 
-        if (!userHandler.isLoggedIn(channel)) {
-            return "<You are not logged in>";
+        if (!userHandler.isLoggedIn(connection)) {
+            return Reply.of(Response.NOT_LOGGED_IN);
         }
 
         String sessionId = command.parameters().get(1);
 
         if (!userHandler.isSessionValid(sessionId)) {
-            return "<Wrong session id>";
+            return Reply.of(Response.WRONG_SESSION_ID);
         }
 
-        String perpetrator = userHandler.extract(channel).getAccountInfo().getUsername();
+        String perpetrator = userHandler.extract(connection).getAccountInfo().getUsername();
         String target = command.parameters().get(3);
-        toLog(LOGInfoStatus.BEGIN, LOGInfoType.ADDED_ADMIN_PRIVILEGES, channel, perpetrator, target, false);
+        toLog(LOGInfoStatus.BEGIN, LOGInfoType.ADDED_ADMIN_PRIVILEGES, connection, perpetrator, target, false);
 
         try {
-            userHandler.makeAdmin(command.parameters(), channel);
+            userHandler.makeAdmin(command.parameters(), connection);
         } catch (UserNotFoundException e) {
-            toLog(LOGInfoStatus.END, LOGInfoType.ADDED_ADMIN_PRIVILEGES, channel, perpetrator, target, false);
-            return "<User with username <" + command.parameters().get(3) + "> does not exist>";
+            toLog(LOGInfoStatus.END, LOGInfoType.ADDED_ADMIN_PRIVILEGES, connection, perpetrator, target, false);
+            return Reply.of(Response.USER_NOT_FOUND, command.parameters().get(3));
         } catch (NotAuthorizedUserException e) {
-            toLog(LOGInfoStatus.END, LOGInfoType.ADDED_ADMIN_PRIVILEGES, channel, perpetrator, target, false);
-            return "<Only a admin can add new admin>";
+            toLog(LOGInfoStatus.END, LOGInfoType.ADDED_ADMIN_PRIVILEGES, connection, perpetrator, target, false);
+            return Reply.of(Response.ADMIN_REQUIRED_TO_ADD_ADMIN);
         } catch (AlreadyAuthorizedUserException e) {
-            toLog(LOGInfoStatus.END, LOGInfoType.ADDED_ADMIN_PRIVILEGES, channel, perpetrator, target, false);
-            return "<User with username <" + command.parameters().get(3) + "> is already admin>";
+            toLog(LOGInfoStatus.END, LOGInfoType.ADDED_ADMIN_PRIVILEGES, connection, perpetrator, target, false);
+            return Reply.of(Response.ALREADY_ADMIN, command.parameters().get(3));
         } catch (StorageFailException e) {
-            toLog(LOGInfoStatus.END, LOGInfoType.ADDED_ADMIN_PRIVILEGES, channel, perpetrator, target, false);
-            return "<A problem in the system has occurred, please try again>";
+            toLog(LOGInfoStatus.END, LOGInfoType.ADDED_ADMIN_PRIVILEGES, connection, perpetrator, target, false);
+            return Reply.of(Response.SYSTEM_PROBLEM);
         } catch (NotLoggedInException e) {
-            return "<You are not logged in>";
+            return Reply.of(Response.NOT_LOGGED_IN);
         } catch (InvalidSessionIdException e) {
-            return "<Wrong session id>";
+            return Reply.of(Response.WRONG_SESSION_ID);
         }
 
-        toLog(LOGInfoStatus.END, LOGInfoType.ADDED_ADMIN_PRIVILEGES, channel, perpetrator, target, true);
+        toLog(LOGInfoStatus.END, LOGInfoType.ADDED_ADMIN_PRIVILEGES, connection, perpetrator, target, true);
 
-        return "<You successfully added new admin to the system>";
+        return Reply.of(Response.ADMIN_ADDED);
     }
 
-    private String handleRemoveAdmin(Command command, SocketChannel channel) {
-        String responseValidationFail = Validator.validateCommand(command);
+    private Reply handleRemoveAdmin(Command command, Connection connection) {
+        Response responseValidationFail = Validator.validateCommand(command);
         if (responseValidationFail != null) {
-            return responseValidationFail;
+            return Reply.of(responseValidationFail);
         }
 
-        if (!userHandler.isLoggedIn(channel)) {
-            return "<You are not logged in>";
+        if (!userHandler.isLoggedIn(connection)) {
+            return Reply.of(Response.NOT_LOGGED_IN);
         }
 
         String sessionId = command.parameters().get(1);
 
         if (!userHandler.isSessionValid(sessionId)) {
-            return "<Wrong session id>";
+            return Reply.of(Response.WRONG_SESSION_ID);
         }
 
-        String perpetrator = userHandler.extract(channel).getAccountInfo().getUsername();
+        String perpetrator = userHandler.extract(connection).getAccountInfo().getUsername();
         String target = command.parameters().get(3);
-        toLog(LOGInfoStatus.BEGIN, LOGInfoType.REMOVED_ADMIN_PRIVILEGES, channel, perpetrator, target, false);
+        toLog(LOGInfoStatus.BEGIN, LOGInfoType.REMOVED_ADMIN_PRIVILEGES, connection, perpetrator, target, false);
 
         try {
-            userHandler.removeAdmin(command.parameters(), channel);
+            userHandler.removeAdmin(command.parameters(), connection);
         } catch (NotAuthorizedUserException e) {
-            toLog(LOGInfoStatus.END, LOGInfoType.REMOVED_ADMIN_PRIVILEGES, channel, perpetrator, target, false);
-            return "<Only a admin can remove admin>";
+            toLog(LOGInfoStatus.END, LOGInfoType.REMOVED_ADMIN_PRIVILEGES, connection, perpetrator, target, false);
+            return Reply.of(Response.ADMIN_REQUIRED_TO_REMOVE_ADMIN);
         } catch (UserNotFoundException e) {
-            toLog(LOGInfoStatus.END, LOGInfoType.REMOVED_ADMIN_PRIVILEGES, channel, perpetrator, target, false);
-            return "<User with username <" + command.parameters().get(3) + "> does not exist>";
+            toLog(LOGInfoStatus.END, LOGInfoType.REMOVED_ADMIN_PRIVILEGES, connection, perpetrator, target, false);
+            return Reply.of(Response.USER_NOT_FOUND, command.parameters().get(3));
         } catch (StorageFailException e) {
-            toLog(LOGInfoStatus.END, LOGInfoType.REMOVED_ADMIN_PRIVILEGES, channel, perpetrator, target, false);
-            return "<A problem in the system has occurred, please try again>";
+            toLog(LOGInfoStatus.END, LOGInfoType.REMOVED_ADMIN_PRIVILEGES, connection, perpetrator, target, false);
+            return Reply.of(Response.SYSTEM_PROBLEM);
         } catch (AlreadyNotAuthorizedUserException e) {
-            toLog(LOGInfoStatus.END, LOGInfoType.REMOVED_ADMIN_PRIVILEGES, channel, perpetrator, target, false);
-            return "<User with username <" + command.parameters().get(3) + "> is not admin>";
+            toLog(LOGInfoStatus.END, LOGInfoType.REMOVED_ADMIN_PRIVILEGES, connection, perpetrator, target, false);
+            return Reply.of(Response.NOT_ADMIN, command.parameters().get(3));
         } catch (NotLoggedInException e) {
-            return "<You are not logged in>";
+            return Reply.of(Response.NOT_LOGGED_IN);
         } catch (InvalidSessionIdException e) {
-            return "<Wrong session id>";
+            return Reply.of(Response.WRONG_SESSION_ID);
         }
 
-        toLog(LOGInfoStatus.END, LOGInfoType.REMOVED_ADMIN_PRIVILEGES, channel, perpetrator, target, true);
+        toLog(LOGInfoStatus.END, LOGInfoType.REMOVED_ADMIN_PRIVILEGES, connection, perpetrator, target, true);
 
-        return "<You removed a admin successfully>";
+        return Reply.of(Response.ADMIN_REMOVED);
     }
 
-    private String handleDeleteUser(Command command, SocketChannel channel) {
-        String responseValidationFail = Validator.validateCommand(command);
+    private Reply handleDeleteUser(Command command, Connection connection) {
+        Response responseValidationFail = Validator.validateCommand(command);
 
         if (responseValidationFail != null) {
-            return responseValidationFail;
+            return Reply.of(responseValidationFail);
         }
 
-        if (!userHandler.isLoggedIn(channel)) {
-            return "<You are not logged in>";
+        if (!userHandler.isLoggedIn(connection)) {
+            return Reply.of(Response.NOT_LOGGED_IN);
         }
 
         String sessionId = command.parameters().get(1);
 
         if (!userHandler.isSessionValid(sessionId)) {
-            return "<Wrong session id>";
+            return Reply.of(Response.WRONG_SESSION_ID);
         }
 
         try {
-            userHandler.removeUser(command.parameters(), channel);
+            userHandler.removeUser(command.parameters(), connection);
         } catch (NotLoggedInException e) {
-            return "<You are not logged in>";
+            return Reply.of(Response.NOT_LOGGED_IN);
         } catch (InvalidSessionIdException e) {
-            return "<Wrong session id>";
+            return Reply.of(Response.WRONG_SESSION_ID);
         } catch (NotAuthorizedUserException e) {
-            return "<Only a admin can remove user>";
+            return Reply.of(Response.ADMIN_REQUIRED_TO_REMOVE_USER);
         } catch (UserNotFoundException e) {
-            return "<User with username <" + command.parameters().get(3) + "> does not exist>";
+            return Reply.of(Response.USER_NOT_FOUND, command.parameters().get(3));
         } catch (StorageFailException e) {
-            return "<A problem in the system has occurred, please try again>";
+            return Reply.of(Response.SYSTEM_PROBLEM);
         }
 
-        return "<You deleted a user successfully>";
+        return Reply.of(Response.USER_DELETED);
     }
 
     private void toLog(LOGInfoStatus status,
                        LOGInfoType type,
-                       SocketChannel channel,
+                       Connection connection,
                        String perpetrator,
                        String target,
                        boolean succeeded) {
 
-        String ip = getUserIp(channel);
-        log.write(LogFormatter.format(status, type, ip, perpetrator, target, succeeded));
+        String ip = getUserIp(connection);
+        log.write(AuditEvent.of(status, type, ip, perpetrator, target, succeeded));
     }
 
-    private void toLog(LOGInfoType type, SocketChannel channel) {
-        String ip = getUserIp(channel);
-        log.write(LogFormatter.format(type, ip));
+    private void toLog(LOGInfoType type, Connection connection) {
+        String ip = getUserIp(connection);
+        log.write(AuditEvent.of(type, ip));
     }
 
-    private String getUserIp(SocketChannel channel) {
+    private String getUserIp(Connection connection) {
         String remoteUserInfo;
 
         try {
-            remoteUserInfo = channel.getRemoteAddress().toString();
+            remoteUserInfo = connection.getChannel().getRemoteAddress().toString();
         } catch (IOException e) {
             throw new IPGetFailException("could not retrieve user ip", e);
         }
 
         return remoteUserInfo.substring(1, remoteUserInfo.indexOf(":"));
     }
+
+    private record Reply(String message, CommandOutcome outcome) {
+        private static Reply of(Response response) {
+            return new Reply(response.getMessage(), response.getOutcome());
+        }
+
+        private static Reply of(Response response, String argument) {
+            return new Reply(response.format(argument), response.getOutcome());
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package com.security.authentication.command;
+
+import com.security.authentication.enums.CommandType;
+import com.security.authentication.validator.Validator;
+
+public class CommandParser {
+    private static final int ALPHABET_SIZE = 27;
+    private static final int DASH_INDEX = 26;
+    private static final Node COMMAND_TYPES = buildCommandTypes();
+
+    public static Command parse(String clientInput) {
+        Validator.validateNotNull(clientInput, "clientInput");
+
+        int firstSpace = clientInput.indexOf(' ');
+
+        if (firstSpace < 0) {
+            return new Command(CommandType.INVALID, null);
+        }
+
+        return new Command(resolveType(clientInput), TokenList.of(clientInput, firstSpace + 1));
+    }
+
+    public static CommandType resolveType(CharSequence clientInput) {
+        Validator.validateNotNull(clientInput, "clientInput");
+
+        Node node = COMMAND_TYPES;
+
+        for (int i = 0; i < clientInput.length(); i++) {
+            int index = indexOf(clientInput.charAt(i));
+
+            if (index < 0 || (node = node.children[index]) == null) {
+                return CommandType.INVALID;
+            }
+
+            if (node.type != null) {
+                return node.type;
+            }
+        }
+
+        return CommandType.INVALID;
+    }
+
+    private static Node buildCommandTypes() {
+        Node root = new Node();
+
+        for (CommandType commandType : CommandType.values()) {
+            if (commandType == CommandType.INVALID) {
+                continue;
+            }
+
+            Node node = root;
+
+            for (char c : commandType.getMessage().toCharArray()) {
+                int index = indexOf(c);
+
+                if (node.children[index] == null) {
+                    node.children[index] = new Node();
+                }
+
+                node = node.children[index];
+            }
+
+            node.type = commandType;
+        }
+
+        return root;
+    }
+
+    private static int indexOf(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+
+        return c == '-' ? DASH_INDEX : -1;
+    }
+
+    private static class Node {
+        private final Node[] children = new Node[ALPHABET_SIZE];
+        private CommandType type;
+    }
+}
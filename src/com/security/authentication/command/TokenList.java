@@ -0,0 +1,80 @@
+package com.security.authentication.command;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+public class TokenList extends AbstractList<String> implements RandomAccess {
+    private static final int INITIAL_TOKENS = 8;
+    private static final char SEPARATOR = ' ';
+
+    private final String source;
+    private final int[] bounds;
+    private final int size;
+    private String[] tokens;
+
+    private TokenList(String source, int[] bounds, int size) {
+        this.source = source;
+        this.bounds = bounds;
+        this.size = size;
+    }
+
+    static TokenList of(String source, int from) {
+        int[] bounds = new int[2 * INITIAL_TOKENS];
+        int size = 0;
+        int start = from;
+        int length = source.length();
+
+        for (int i = from; i <= length; i++) {
+            if (i == length || source.charAt(i) == SEPARATOR) {
+                if (2 * size == bounds.length) {
+                    bounds = Arrays.copyOf(bounds, 2 * bounds.length);
+                }
+
+                bounds[2 * size] = start;
+                bounds[2 * size + 1] = i;
+                size++;
+                start = i + 1;
+            }
+        }
+
+        while (size > 0 && bounds[2 * size - 2] == bounds[2 * size - 1]) {
+            size--;
+        }
+
+        return new TokenList(source, bounds, size);
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " out of " + size);
+        }
+
+        if (tokens == null) {
+            tokens = new String[size];
+        }
+
+        if (tokens[index] == null) {
+            tokens[index] = source.substring(bounds[2 * index], bounds[2 * index + 1]);
+        }
+
+        return tokens[index];
+    }
+
+    public boolean tokenEquals(int index, String expected) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " out of " + size);
+        }
+
+        int start = bounds[2 * index];
+        int length = bounds[2 * index + 1] - start;
+
+        return length == expected.length() && source.regionMatches(start, expected, 0, length);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,58 @@
+package com.security.authentication.connect;
+
+import com.security.authentication.generator.SessionId;
+import com.security.authentication.user.AuthenticatedUser;
+import com.security.authentication.validator.Validator;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+
+public class Connection {
+    private final SocketChannel channel;
+    private AuthenticatedUser user;
+    private SessionId sessionId;
+    private InetAddress remoteAddress;
+
+    public Connection(SocketChannel channel) {
+        Validator.validateNotNull(channel, "channel");
+
+        this.channel = channel;
+    }
+
+    public SocketChannel getChannel() {
+        return channel;
+    }
+
+    public InetAddress getRemoteAddress() {
+        if (remoteAddress == null) {
+            try {
+                if (channel.getRemoteAddress() instanceof InetSocketAddress address) {
+                    remoteAddress = address.getAddress();
+                }
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        return remoteAddress;
+    }
+
+    public AuthenticatedUser getUser() {
+        return user;
+    }
+
+    public SessionId getSessionId() {
+        return sessionId;
+    }
+
+    public void bind(SessionId sessionId, AuthenticatedUser user) {
+        this.sessionId = sessionId;
+        this.user = user;
+    }
+
+    public void release() {
+        bind(null, null);
+    }
+}
@@ -1,52 +1,39 @@
 package com.security.authentication.connect;
 
+import com.security.authentication.generator.SessionId;
 import com.security.authentication.user.AuthenticatedUser;
 import com.security.authentication.validator.Validator;
 
-import java.nio.channels.SocketChannel;
-import java.util.HashMap;
-import java.util.Map;
-
 public class Connector {
-    private final Map<SocketChannel, AuthenticatedUser> userChannels;
-    private final Map<SocketChannel, String> connectedSessionIds;
-
-    public Connector() {
-        this.userChannels = new HashMap<>();
-        this.connectedSessionIds = new HashMap<>();
-    }
-
-    public void connect(SocketChannel channel, String sessionId, AuthenticatedUser user) {
-        Validator.validateNotNull(channel, "channel");
+    public void connect(Connection connection, SessionId sessionId, AuthenticatedUser user) {
+        Validator.validateNotNull(connection, "connection");
         Validator.validateNotNull(sessionId, "sessionId");
         Validator.validateNotNull(user, "user");
 
-        userChannels.put(channel, user);
-        connectedSessionIds.put(channel, sessionId);
+        connection.bind(sessionId, user);
     }
 
-    public void disconnect(SocketChannel channel) {
-        Validator.validateNotNull(channel, "channel");
+    public void disconnect(Connection connection) {
+        Validator.validateNotNull(connection, "connection");
 
-        userChannels.remove(channel);
-        connectedSessionIds.remove(channel);
+        connection.bind(null, null);
     }
 
-    public boolean isConnected(SocketChannel channel) {
-        Validator.validateNotNull(channel, "channel");
+    public boolean isConnected(Connection connection) {
+        Validator.validateNotNull(connection, "connection");
 
-        return userChannels.containsKey(channel);
+        return connection.getUser() != null;
     }
 
-    public String getSession(SocketChannel channel) {
-        Validator.validateNotNull(channel, "channel");
+    public SessionId getSession(Connection connection) {
+        Validator.validateNotNull(connection, "connection");
 
-        return connectedSessionIds.get(channel);
+        return connection.getSessionId();
     }
 
-    public AuthenticatedUser getUser(SocketChannel channel) {
-        Validator.validateNotNull(channel, "channel");
+    public AuthenticatedUser getUser(Connection connection) {
+        Validator.validateNotNull(connection, "connection");
 
-        return userChannels.get(channel);
+        return connection.getUser();
     }
 }
@@ -0,0 +1,9 @@
+package com.security.authentication.crypt;
+
+import com.security.authentication.exceptions.crypt.HashFailException;
+
+public interface Hasher extends Crypter {
+    String hash(String word) throws HashFailException;
+
+    boolean matches(String word, String hash) throws HashFailException;
+}
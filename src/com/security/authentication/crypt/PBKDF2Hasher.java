@@ -0,0 +1,88 @@
+package com.security.authentication.crypt;
+
+import com.security.authentication.exceptions.crypt.HashFailException;
+import com.security.authentication.validator.Validator;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+public class PBKDF2Hasher implements Hasher {
+    public static final int DEFAULT_ITERATIONS = 310_000;
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String PREFIX = "pbkdf2-sha256";
+    private static final String SEPARATOR = "$";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+
+    private final int iterations;
+    private final SecureRandom random = new SecureRandom();
+
+    public PBKDF2Hasher() {
+        this(DEFAULT_ITERATIONS);
+    }
+
+    public PBKDF2Hasher(int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("iterations must be positive");
+        }
+
+        this.iterations = iterations;
+    }
+
+    @Override
+    public String hash(String word) throws HashFailException {
+        Validator.validateNotNull(word, "word");
+
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+
+        Base64.Encoder encoder = Base64.getEncoder();
+
+        return PREFIX + SEPARATOR + iterations
+                + SEPARATOR + encoder.encodeToString(salt)
+                + SEPARATOR + encoder.encodeToString(derive(word, salt, iterations));
+    }
+
+    @Override
+    public boolean matches(String word, String hash) throws HashFailException {
+        Validator.validateNotNull(word, "word");
+        Validator.validateNotNull(hash, "hash");
+
+        String[] parts = hash.split("\\" + SEPARATOR);
+
+        if (parts.length != 4 || !PREFIX.equals(parts[0])) {
+            return false;
+        }
+
+        int storedIterations;
+        byte[] salt;
+        byte[] expected;
+
+        try {
+            storedIterations = Integer.parseInt(parts[1]);
+            salt = Base64.getDecoder().decode(parts[2]);
+            expected = Base64.getDecoder().decode(parts[3]);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+
+        return MessageDigest.isEqual(expected, derive(word, salt, storedIterations));
+    }
+
+    private byte[] derive(String word, byte[] salt, int rounds) throws HashFailException {
+        PBEKeySpec spec = new PBEKeySpec(word.toCharArray(), salt, rounds, HASH_BITS);
+
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new HashFailException("problem occurred during hashing");
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
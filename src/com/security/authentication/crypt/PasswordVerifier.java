@@ -0,0 +1,75 @@
+package com.security.authentication.crypt;
+
+import com.security.authentication.exceptions.crypt.HashFailException;
+import com.security.authentication.validator.Validator;
+
+import java.io.Closeable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class PasswordVerifier implements Closeable {
+    private final Hasher hasher;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordVerifier(Hasher hasher, int threads, int queueCapacity) {
+        Validator.validateNotNull(hasher, "hasher");
+
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.hasher = hasher;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "password-verifier-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public CompletableFuture<Boolean> verify(String password, String hash) {
+        Validator.validateNotNull(password, "password");
+        Validator.validateNotNull(hash, "hash");
+
+        return submit(() -> {
+            try {
+                return hasher.matches(password, hash);
+            } catch (HashFailException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    public CompletableFuture<String> hash(String password) {
+        Validator.validateNotNull(password, "password");
+
+        return submit(() -> {
+            try {
+                return hasher.hash(password);
+            } catch (HashFailException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
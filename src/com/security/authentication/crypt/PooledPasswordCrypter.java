@@ -0,0 +1,109 @@
+package com.security.authentication.crypt;
+
+import com.security.authentication.exceptions.crypt.CypherInitializeFailException;
+import com.security.authentication.exceptions.crypt.DecryptFailException;
+import com.security.authentication.exceptions.crypt.EncryptFailException;
+import com.security.authentication.validator.Validator;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+public class PooledPasswordCrypter implements Encrypter, Decrypter {
+    private static final String ALGORITHM = "AES";
+    private static final int DEFAULT_POOL_SIZE = 2 * Runtime.getRuntime().availableProcessors();
+
+    private final SecretKey secretKey;
+    private final BlockingQueue<Cipher> encryptCiphers;
+    private final BlockingQueue<Cipher> decryptCiphers;
+
+    public PooledPasswordCrypter(SecretKey secretKey) {
+        this(secretKey, DEFAULT_POOL_SIZE);
+    }
+
+    public PooledPasswordCrypter(SecretKey secretKey, int poolSize) {
+        Validator.validateNotNull(secretKey, "secretKey");
+
+        this.secretKey = secretKey;
+        this.encryptCiphers = new ArrayBlockingQueue<>(poolSize);
+        this.decryptCiphers = new ArrayBlockingQueue<>(poolSize);
+
+        try {
+            for (int i = 0; i < poolSize; i++) {
+                encryptCiphers.offer(newCipher(Cipher.ENCRYPT_MODE));
+                decryptCiphers.offer(newCipher(Cipher.DECRYPT_MODE));
+            }
+        } catch (GeneralSecurityException e) {
+            throw new CypherInitializeFailException("cypher initializing failed", e);
+        }
+    }
+
+    @Override
+    public String decrypt(String word) throws DecryptFailException {
+        Validator.validateNotNull(word, "word");
+
+        byte[] encryptedTextByte = Base64.getDecoder().decode(word);
+        byte[] decryptedByte;
+        Cipher cipher;
+
+        try {
+            cipher = borrow(decryptCiphers, Cipher.DECRYPT_MODE);
+        } catch (GeneralSecurityException e) {
+            throw new DecryptFailException("problem occurred during decrypting");
+        }
+
+        try {
+            decryptedByte = cipher.doFinal(encryptedTextByte);
+        } catch (BadPaddingException | IllegalBlockSizeException e) {
+            throw new DecryptFailException("problem occurred during decrypting");
+        }
+
+        decryptCiphers.offer(cipher);
+
+        return new String(decryptedByte, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String encrypt(String word) throws EncryptFailException {
+        Validator.validateNotNull(word, "word");
+
+        byte[] plainTextByte = word.getBytes(StandardCharsets.UTF_8);
+        byte[] encryptedByte;
+        Cipher cipher;
+
+        try {
+            cipher = borrow(encryptCiphers, Cipher.ENCRYPT_MODE);
+        } catch (GeneralSecurityException e) {
+            throw new EncryptFailException("problem occurred during encrypting");
+        }
+
+        try {
+            encryptedByte = cipher.doFinal(plainTextByte);
+        } catch (BadPaddingException | IllegalBlockSizeException e) {
+            throw new EncryptFailException("problem occurred during encrypting");
+        }
+
+        encryptCiphers.offer(cipher);
+
+        return Base64.getEncoder().encodeToString(encryptedByte);
+    }
+
+    private Cipher borrow(BlockingQueue<Cipher> pool, int mode) throws GeneralSecurityException {
+        Cipher cipher = pool.poll();
+
+        return cipher != null ? cipher : newCipher(mode);
+    }
+
+    private Cipher newCipher(int mode) throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance(ALGORITHM);
+        cipher.init(mode, secretKey);
+
+        return cipher;
+    }
+}
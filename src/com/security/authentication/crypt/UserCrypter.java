@@ -0,0 +1,69 @@
+package com.security.authentication.crypt;
+
+import com.security.authentication.exceptions.crypt.DecryptFailException;
+import com.security.authentication.exceptions.crypt.EncryptFailException;
+import com.security.authentication.exceptions.crypt.PasswordResolveFailException;
+import com.security.authentication.user.Admin;
+import com.security.authentication.user.RegularUser;
+import com.security.authentication.user.User;
+import com.security.authentication.user.info.AccountInfo;
+import com.security.authentication.validator.Validator;
+
+public class UserCrypter {
+    private final Encrypter encrypter;
+    private final Decrypter decrypter;
+
+    public UserCrypter(Encrypter encrypter, Decrypter decrypter) {
+        this.encrypter = encrypter;
+        this.decrypter = decrypter;
+    }
+
+    public User encrypt(User user) throws EncryptFailException {
+        Validator.validateNotNull(user, "user");
+
+        String password;
+
+        try {
+            password = user.getAccountInfo().getPassword();
+        } catch (PasswordResolveFailException e) {
+            throw new EncryptFailException("failed to resolve password");
+        }
+
+        String encryptedPassword = encrypter.encrypt(password);
+        AccountInfo newAccountInfo = new AccountInfo(user.getAccountInfo().getUsername(), encryptedPassword);
+
+        return withAccountInfo(user, newAccountInfo);
+    }
+
+    public User decrypt(User user) throws DecryptFailException {
+        Validator.validateNotNull(user, "user");
+
+        String decryptedPassword = decrypter.decrypt(user.getAccountInfo().getPassword());
+        AccountInfo newAccountInfo = new AccountInfo(user.getAccountInfo().getUsername(), decryptedPassword);
+
+        return withAccountInfo(user, newAccountInfo);
+    }
+
+    public User decryptLazily(User user) {
+        Validator.validateNotNull(user, "user");
+
+        String encryptedPassword = user.getAccountInfo().getPassword();
+        AccountInfo newAccountInfo = new AccountInfo(user.getAccountInfo().getUsername(), () -> {
+            try {
+                return decrypter.decrypt(encryptedPassword);
+            } catch (DecryptFailException e) {
+                throw new PasswordResolveFailException("failed to decrypt password", e);
+            }
+        });
+
+        return withAccountInfo(user, newAccountInfo);
+    }
+
+    private User withAccountInfo(User user, AccountInfo accountInfo) {
+        if (user.isAuthorized()) {
+            return new Admin(accountInfo, user.getPersonalInfo());
+        }
+
+        return new RegularUser(accountInfo, user.getPersonalInfo());
+    }
+}
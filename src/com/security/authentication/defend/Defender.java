@@ -1,38 +1,74 @@
 package com.security.authentication.defend;
 
+import com.security.authentication.connect.Connection;
 import com.security.authentication.defend.schedule.Scheduler;
 import com.security.authentication.defend.schedule.TemporaryBlockedUserScheduler;
 import com.security.authentication.defend.tracker.BruteForceTracker;
 import com.security.authentication.defend.tracker.Tracker;
 import com.security.authentication.validator.Validator;
 
-import java.nio.channels.SocketChannel;
+import java.net.InetAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
 
 public class Defender {
-    private final Scheduler scheduler = new TemporaryBlockedUserScheduler();
-    private final Tracker tracker = new BruteForceTracker();
     private static final int MAX_INVALID_ATTEMPTS = 3;
+    private static final long INVALID_ATTEMPTS_WINDOW = TimeUnit.MINUTES.toNanos(1);
+    private static final long SUSPEND_TIME = TimeUnit.SECONDS.toNanos(15);
+    private static final int MAX_TRACKED_ADDRESSES = 1 << 16;
 
-    public void registerInvalidTry(SocketChannel channel) {
-        Validator.validateNotNull(channel, "channel");
+    private final Scheduler<Object> scheduler;
+    private final Tracker<Object> tracker;
+    private final LongAdder blocks = new LongAdder();
 
-        tracker.increment(channel);
+    public Defender() {
+        this(System::nanoTime);
+    }
+
+    public Defender(LongSupplier nanoClock) {
+        this.scheduler = new TemporaryBlockedUserScheduler<>(nanoClock, SUSPEND_TIME, MAX_TRACKED_ADDRESSES);
+        this.tracker = new BruteForceTracker<>(nanoClock, INVALID_ATTEMPTS_WINDOW, MAX_INVALID_ATTEMPTS,
+                MAX_TRACKED_ADDRESSES);
+    }
+
+    public synchronized void registerInvalidTry(Connection connection) {
+        Validator.validateNotNull(connection, "connection");
 
-        if (tracker.getTrackCount(channel) >= MAX_INVALID_ATTEMPTS) {
-            scheduler.suspend(channel);
-            tracker.remove(channel);
+        Object key = keyOf(connection);
+
+        tracker.increment(key);
+
+        if (tracker.getTrackCount(key) >= MAX_INVALID_ATTEMPTS) {
+            scheduler.suspend(key);
+            tracker.remove(key);
+            blocks.increment();
         }
     }
 
-    public void clearHistory(SocketChannel channel) {
-        Validator.validateNotNull(channel, "channel");
+    public synchronized void clearHistory(Connection connection) {
+        Validator.validateNotNull(connection, "connection");
+
+        tracker.remove(keyOf(connection));
+    }
+
+    public boolean isBlocked(Connection connection) {
+        Validator.validateNotNull(connection, "connection");
+
+        return scheduler.isSuspended(keyOf(connection));
+    }
+
+    public int blockedCount() {
+        return scheduler.size();
+    }
 
-        tracker.remove(channel);
+    public long blockCount() {
+        return blocks.sum();
     }
 
-    public boolean isBlocked(SocketChannel channel) {
-        Validator.validateNotNull(channel, "channel");
+    private Object keyOf(Connection connection) {
+        InetAddress address = connection.getRemoteAddress();
 
-        return scheduler.isSuspended(channel);
+        return address != null ? address : connection;
     }
 }
@@ -1,11 +1,11 @@
 package com.security.authentication.defend.schedule;
 
-import java.nio.channels.SocketChannel;
+public interface Scheduler<K> {
+    void suspend(K key);
 
-public interface Scheduler {
-    void suspend(SocketChannel channel);
+    void release(K key);
 
-    void release(SocketChannel channel);
+    boolean isSuspended(K key);
 
-    boolean isSuspended(SocketChannel channel);
+    int size();
 }
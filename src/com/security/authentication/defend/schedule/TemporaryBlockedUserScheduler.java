@@ -2,45 +2,112 @@ package com.security.authentication.defend.schedule;
 
 import com.security.authentication.validator.Validator;
 
-import java.nio.channels.SocketChannel;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.HashMap;
+import java.util.ArrayDeque;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
-public class TemporaryBlockedUserScheduler implements Scheduler {
-    private final Map<SocketChannel, LocalDateTime> suspendedChannels = new HashMap<>();
-    private static final int IP_SUSPEND_TIME = 15;
+public class TemporaryBlockedUserScheduler<K> implements Scheduler<K> {
+    private static final long DEFAULT_SUSPEND_TIME = TimeUnit.SECONDS.toNanos(15);
+    private static final int DEFAULT_MAX_SUSPENDED_KEYS = 1 << 16;
+
+    private final LongSupplier nanoClock;
+    private final long suspendTime;
+    private final int maxSuspendedKeys;
+    private final Map<K, Long> suspendedUntil;
+    private final Queue<Suspension<K>> suspensions;
+
+    public TemporaryBlockedUserScheduler() {
+        this(System::nanoTime, DEFAULT_SUSPEND_TIME, DEFAULT_MAX_SUSPENDED_KEYS);
+    }
+
+    public TemporaryBlockedUserScheduler(LongSupplier nanoClock, long suspendTime, int maxSuspendedKeys) {
+        Validator.validateNotNull(nanoClock, "nanoClock");
+
+        if (suspendTime < 1 || maxSuspendedKeys < 1) {
+            throw new IllegalArgumentException("invalid scheduler bounds");
+        }
+
+        this.nanoClock = nanoClock;
+        this.suspendTime = suspendTime;
+        this.maxSuspendedKeys = maxSuspendedKeys;
+        this.suspendedUntil = new ConcurrentHashMap<>();
+        this.suspensions = new ArrayDeque<>();
+    }
 
     @Override
-    public void suspend(SocketChannel channel) {
-        Validator.validateNotNull(channel, "channel");
+    public synchronized void suspend(K key) {
+        Validator.validateNotNull(key, "key");
 
-        suspendedChannels.put(channel, LocalDateTime.now());
+        long now = nanoClock.getAsLong();
+
+        dropExpired(now);
+
+        if (!suspendedUntil.containsKey(key)) {
+            while (suspendedUntil.size() >= maxSuspendedKeys && !suspensions.isEmpty()) {
+                drop(suspensions.poll());
+            }
+        }
+
+        long deadline = now + suspendTime;
+
+        suspendedUntil.put(key, deadline);
+        suspensions.add(new Suspension<>(key, deadline));
+
+        if (suspensions.size() > 2 * maxSuspendedKeys) {
+            suspensions.removeIf(suspension -> !suspension.isCurrent(suspendedUntil));
+        }
     }
 
     @Override
-    public void release(SocketChannel channel) {
-        Validator.validateNotNull(channel, "channel");
+    public void release(K key) {
+        Validator.validateNotNull(key, "key");
 
-        suspendedChannels.remove(channel);
+        suspendedUntil.remove(key);
     }
 
     @Override
-    public boolean isSuspended(SocketChannel channel) {
-        Validator.validateNotNull(channel, "channel");
+    public boolean isSuspended(K key) {
+        Validator.validateNotNull(key, "key");
 
-        if (!suspendedChannels.containsKey(channel)) {
+        Long deadline = suspendedUntil.get(key);
+
+        if (deadline == null) {
             return false;
         }
 
-        LocalDateTime time = suspendedChannels.get(channel);
-
-        if (Math.abs(ChronoUnit.SECONDS.between(LocalDateTime.now(), time)) <= IP_SUSPEND_TIME) {
+        if (nanoClock.getAsLong() - deadline < 0) {
             return true;
         }
 
-        suspendedChannels.remove(channel);
+        suspendedUntil.remove(key, deadline);
         return false;
     }
+
+    @Override
+    public int size() {
+        return suspendedUntil.size();
+    }
+
+    private void dropExpired(long now) {
+        Suspension<K> oldest;
+
+        while ((oldest = suspensions.peek()) != null && now - oldest.deadline() >= 0) {
+            drop(suspensions.poll());
+        }
+    }
+
+    private void drop(Suspension<K> suspension) {
+        suspendedUntil.remove(suspension.key(), suspension.deadline());
+    }
+
+    private record Suspension<K>(K key, long deadline) {
+        private boolean isCurrent(Map<K, Long> suspendedUntil) {
+            Long current = suspendedUntil.get(key);
+
+            return current != null && current == deadline;
+        }
+    }
 }
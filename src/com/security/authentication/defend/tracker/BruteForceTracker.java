@@ -2,40 +2,107 @@ package com.security.authentication.defend.tracker;
 
 import com.security.authentication.validator.Validator;
 
-import java.nio.channels.SocketChannel;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
-public class BruteForceTracker implements Tracker {
-    private final Map<SocketChannel, Integer> invalidAttempts = new HashMap<>();
+public class BruteForceTracker<K> implements Tracker<K> {
+    private static final long DEFAULT_WINDOW = TimeUnit.MINUTES.toNanos(1);
+    private static final int DEFAULT_MAX_COUNTED_ATTEMPTS = 16;
+    private static final int DEFAULT_MAX_TRACKED_KEYS = 1 << 16;
+
+    private final LongSupplier nanoClock;
+    private final long window;
+    private final int maxCountedAttempts;
+    private final Map<K, long[]> attempts;
+
+    public BruteForceTracker() {
+        this(System::nanoTime, DEFAULT_WINDOW, DEFAULT_MAX_COUNTED_ATTEMPTS, DEFAULT_MAX_TRACKED_KEYS);
+    }
+
+    public BruteForceTracker(LongSupplier nanoClock, long window, int maxCountedAttempts, int maxTrackedKeys) {
+        Validator.validateNotNull(nanoClock, "nanoClock");
+
+        if (window < 1 || maxCountedAttempts < 1 || maxTrackedKeys < 1) {
+            throw new IllegalArgumentException("invalid tracker bounds");
+        }
+
+        this.nanoClock = nanoClock;
+        this.window = window;
+        this.maxCountedAttempts = maxCountedAttempts;
+        this.attempts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, long[]> eldest) {
+                return size() > maxTrackedKeys;
+            }
+        };
+    }
 
     @Override
-    public void increment(SocketChannel channel) {
-        Validator.validateNotNull(channel, "channel");
-
-        if (!invalidAttempts.containsKey(channel)) {
-            invalidAttempts.put(channel, 1);
-        } else {
-            int oldAttempts = invalidAttempts.get(channel);
-            invalidAttempts.replace(channel, oldAttempts + 1);
+    public synchronized void increment(K key) {
+        Validator.validateNotNull(key, "key");
+
+        long now = nanoClock.getAsLong();
+        long[] times = attempts.get(key);
+
+        if (times == null) {
+            times = new long[maxCountedAttempts + 1];
+            attempts.put(key, times);
+        }
+
+        int count = countWithinWindow(times, now);
+
+        if (count == maxCountedAttempts) {
+            System.arraycopy(times, 1, times, 0, --count);
         }
+
+        times[count] = now;
+        times[maxCountedAttempts] = count + 1;
     }
 
     @Override
-    public void remove(SocketChannel channel) {
-        Validator.validateNotNull(channel, "ip");
+    public synchronized void remove(K key) {
+        Validator.validateNotNull(key, "key");
 
-        invalidAttempts.remove(channel);
+        attempts.remove(key);
     }
 
     @Override
-    public int getTrackCount(SocketChannel channel) {
-        Validator.validateNotNull(channel, "ip");
+    public synchronized int getTrackCount(K key) {
+        Validator.validateNotNull(key, "key");
+
+        long[] times = attempts.get(key);
 
-        if (!invalidAttempts.containsKey(channel)) {
+        if (times == null) {
             return 0;
         }
 
-        return invalidAttempts.get(channel);
+        int count = countWithinWindow(times, nanoClock.getAsLong());
+
+        if (count == 0) {
+            attempts.remove(key);
+        }
+
+        return count;
+    }
+
+    public synchronized int size() {
+        return attempts.size();
+    }
+
+    private int countWithinWindow(long[] times, long now) {
+        int stored = (int) times[maxCountedAttempts];
+        int live = 0;
+
+        for (int i = 0; i < stored; i++) {
+            if (now - times[i] < window) {
+                times[live++] = times[i];
+            }
+        }
+
+        times[maxCountedAttempts] = live;
+
+        return live;
     }
 }
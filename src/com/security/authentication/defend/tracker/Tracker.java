@@ -1,11 +1,9 @@
 package com.security.authentication.defend.tracker;
 
-import java.nio.channels.SocketChannel;
+public interface Tracker<K> {
+    void increment(K key);
 
-public interface Tracker {
-    void increment(SocketChannel channel);
+    void remove(K key);
 
-    void remove(SocketChannel channel);
-
-    int getTrackCount(SocketChannel channel);
+    int getTrackCount(K key);
 }
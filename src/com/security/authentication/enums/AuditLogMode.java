@@ -0,0 +1,32 @@
+package com.security.authentication.enums;
+
+import com.security.authentication.validator.Validator;
+
+public enum AuditLogMode {
+    SYNC("sync"),
+    ASYNC("async"),
+    BINARY("binary"),
+    INVALID("");
+
+    private final String mode;
+
+    AuditLogMode(String mode) {
+        this.mode = mode;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public static AuditLogMode getType(String command) {
+        Validator.validateNotNull(command, "command");
+
+        for (AuditLogMode auditLogMode : AuditLogMode.values()) {
+            if (command.equals(auditLogMode.getMode())) {
+                return auditLogMode;
+            }
+        }
+
+        return INVALID;
+    }
+}
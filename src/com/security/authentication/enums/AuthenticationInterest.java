@@ -2,6 +2,11 @@ package com.security.authentication.enums;
 
 import com.security.authentication.validator.Validator;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 public enum AuthenticationInterest {
     USERNAME("--username"),
     PASSWORD("--password"),
@@ -12,6 +17,9 @@ public enum AuthenticationInterest {
 
     private final String interest;
 
+    private static final Map<String, AuthenticationInterest> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(AuthenticationInterest::getInterest, Function.identity()));
+
     AuthenticationInterest(String interest) {
         this.interest = interest;
     }
@@ -23,12 +31,6 @@ public enum AuthenticationInterest {
     public static AuthenticationInterest getType(String command) {
         Validator.validateNotNull(command, "command");
 
-        for (AuthenticationInterest interest : AuthenticationInterest.values()) {
-            if (command.equals(interest.getInterest())) {
-                return interest;
-            }
-        }
-
-        return INVALID;
+        return BY_NAME.getOrDefault(command, INVALID);
     }
 }
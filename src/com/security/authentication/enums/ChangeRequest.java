@@ -2,6 +2,11 @@ package com.security.authentication.enums;
 
 import com.security.authentication.validator.Validator;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 public enum ChangeRequest {
     NEW_USERNAME("--new-username"),
     NEW_FIRST_NAME("--new-first-name"),
@@ -13,6 +18,9 @@ public enum ChangeRequest {
 
     private final String changeRequest;
 
+    private static final Map<String, ChangeRequest> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(ChangeRequest::getRequest, Function.identity()));
+
     ChangeRequest(String changeRequest) {
         this.changeRequest = changeRequest;
     }
@@ -24,12 +32,6 @@ public enum ChangeRequest {
     public static ChangeRequest getType(String command) {
         Validator.validateNotNull(command, "command");
 
-        for (ChangeRequest request : ChangeRequest.values()) {
-            if (command.equals(request.getRequest())) {
-                return request;
-            }
-        }
-
-        return ChangeRequest.INVALID;
+        return BY_NAME.getOrDefault(command, INVALID);
     }
 }
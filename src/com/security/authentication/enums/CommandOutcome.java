@@ -0,0 +1,25 @@
+package com.security.authentication.enums;
+
+public enum CommandOutcome {
+    SUCCESS("success"),
+    INVALID_ARGUMENTS("invalid-arguments"),
+    INVALID_COMBINATION("invalid-combination"),
+    INVALID_SESSION("invalid-session"),
+    NOT_LOGGED_IN("not-logged-in"),
+    BLOCKED("blocked"),
+    FORBIDDEN("forbidden"),
+    NOT_FOUND("not-found"),
+    REJECTED("rejected"),
+    SYSTEM_PROBLEM("system-problem"),
+    UNKNOWN_COMMAND("unknown-command");
+
+    private final String outcome;
+
+    CommandOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+
+    public String getOutcome() {
+        return outcome;
+    }
+}
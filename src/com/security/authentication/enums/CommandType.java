@@ -2,6 +2,11 @@ package com.security.authentication.enums;
 
 import com.security.authentication.validator.Validator;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 public enum CommandType {
     REGISTER("register"),
     LOGIN("login"),
@@ -15,6 +20,10 @@ public enum CommandType {
 
     private final String command;
 
+    private static final CommandType[] VALUES = values();
+    private static final Map<String, CommandType> BY_NAME = Arrays.stream(VALUES)
+            .collect(Collectors.toUnmodifiableMap(CommandType::getMessage, Function.identity()));
+
     CommandType(String command) {
         this.command = command;
     }
@@ -26,7 +35,13 @@ public enum CommandType {
     public static CommandType getType(String command) {
         Validator.validateNotNull(command, "command");
 
-        for (CommandType commandType : CommandType.values()) {
+        CommandType exact = BY_NAME.get(command);
+
+        if (exact != null) {
+            return exact;
+        }
+
+        for (CommandType commandType : VALUES) {
             if (command.startsWith(commandType.getMessage())) {
                 return commandType;
             }
@@ -3,5 +3,6 @@ package com.security.authentication.enums;
 public enum LOGInfoType {
     UNSUCCESSFUL_LOGIN,
     ADDED_ADMIN_PRIVILEGES,
-    REMOVED_ADMIN_PRIVILEGES
+    REMOVED_ADMIN_PRIVILEGES,
+    RAW_EVENT
 }
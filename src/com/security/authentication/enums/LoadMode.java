@@ -0,0 +1,31 @@
+package com.security.authentication.enums;
+
+import com.security.authentication.validator.Validator;
+
+public enum LoadMode {
+    CLOSED("closed"),
+    OPEN("open"),
+    INVALID("");
+
+    private final String mode;
+
+    LoadMode(String mode) {
+        this.mode = mode;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public static LoadMode getType(String command) {
+        Validator.validateNotNull(command, "command");
+
+        for (LoadMode loadMode : LoadMode.values()) {
+            if (command.equals(loadMode.getMode())) {
+                return loadMode;
+            }
+        }
+
+        return INVALID;
+    }
+}
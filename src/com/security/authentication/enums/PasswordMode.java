@@ -0,0 +1,31 @@
+package com.security.authentication.enums;
+
+import com.security.authentication.validator.Validator;
+
+public enum PasswordMode {
+    ENCRYPTED("encrypted"),
+    HASHED("hashed"),
+    INVALID("");
+
+    private final String mode;
+
+    PasswordMode(String mode) {
+        this.mode = mode;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public static PasswordMode getType(String command) {
+        Validator.validateNotNull(command, "command");
+
+        for (PasswordMode passwordMode : PasswordMode.values()) {
+            if (command.equals(passwordMode.getMode())) {
+                return passwordMode;
+            }
+        }
+
+        return INVALID;
+    }
+}
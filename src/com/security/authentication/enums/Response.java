@@ -0,0 +1,70 @@
+package com.security.authentication.enums;
+
+import com.security.authentication.validator.Validator;
+
+public enum Response {
+    SYSTEM_PROBLEM("<A problem in the system has occurred, please try again>", CommandOutcome.SYSTEM_PROBLEM),
+    MISSING_DATA("<Missing authentication sentinel/data>", CommandOutcome.INVALID_ARGUMENTS),
+    WRONG_NUMBER_OF_ARGUMENTS("<Wrong number of arguments>", CommandOutcome.INVALID_ARGUMENTS),
+    WRONG_COMBINATION("<Wrong username/password combination>", CommandOutcome.INVALID_COMBINATION),
+    WRONG_SESSION_ID("<Wrong session id>", CommandOutcome.INVALID_SESSION),
+    NOT_LOGGED_IN("<You are not logged in>", CommandOutcome.NOT_LOGGED_IN),
+    BLOCKED("<You are currently blocked>", CommandOutcome.BLOCKED),
+    ADMIN_REQUIRED_TO_ADD_ADMIN("<Only a admin can add new admin>", CommandOutcome.FORBIDDEN),
+    ADMIN_REQUIRED_TO_REMOVE_ADMIN("<Only a admin can remove admin>", CommandOutcome.FORBIDDEN),
+    ADMIN_REQUIRED_TO_REMOVE_USER("<Only a admin can remove user>", CommandOutcome.FORBIDDEN),
+    USERNAME_TAKEN("<Username is taken, choose another one>", CommandOutcome.REJECTED),
+    ALREADY_LOGGED_IN("<You are already logged in>", CommandOutcome.REJECTED),
+    LOGGED_IN_CONNECTION("<You are logged in>", CommandOutcome.REJECTED),
+    NO_CHANGES("<You did not request any changes>", CommandOutcome.REJECTED),
+    USER_NOT_FOUND("<User with username <%s> does not exist>", CommandOutcome.NOT_FOUND),
+    ALREADY_ADMIN("<User with username <%s> is already admin>", CommandOutcome.REJECTED),
+    NOT_ADMIN("<User with username <%s> is not admin>", CommandOutcome.REJECTED),
+    UNKNOWN_COMMAND("<Unknown command>", CommandOutcome.UNKNOWN_COMMAND),
+    REGISTERED("<You have been successfully registered>", CommandOutcome.SUCCESS),
+    REGISTERED_AS_ADMIN("<You have been successfully registered. "
+            + "Since you are the first user in the system, you are admin>", CommandOutcome.SUCCESS),
+    LOGGED_IN("<You have been successfully logged in, your session id is <%s>>", CommandOutcome.SUCCESS),
+    PROFILE_UPDATED("<You successfully updated your profile>", CommandOutcome.SUCCESS),
+    PASSWORD_CHANGED("<You successfully changed your password to <%s>>", CommandOutcome.SUCCESS),
+    LOGGED_OUT("<You logged out successfully>", CommandOutcome.SUCCESS),
+    ADMIN_ADDED("<You successfully added new admin to the system>", CommandOutcome.SUCCESS),
+    ADMIN_REMOVED("<You removed a admin successfully>", CommandOutcome.SUCCESS),
+    USER_DELETED("<You deleted a user successfully>", CommandOutcome.SUCCESS);
+
+    private static final String PLACEHOLDER = "%s";
+
+    private final String message;
+    private final CommandOutcome outcome;
+
+    Response(String message, CommandOutcome outcome) {
+        this.message = message;
+        this.outcome = outcome;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public CommandOutcome getOutcome() {
+        return outcome;
+    }
+
+    public boolean isParameterized() {
+        return message.contains(PLACEHOLDER);
+    }
+
+    public String prefix() {
+        return isParameterized() ? message.substring(0, message.indexOf(PLACEHOLDER)) : message;
+    }
+
+    public String suffix() {
+        return isParameterized() ? message.substring(message.indexOf(PLACEHOLDER) + PLACEHOLDER.length()) : "";
+    }
+
+    public String format(String argument) {
+        Validator.validateNotNull(argument, "argument");
+
+        return message.replace(PLACEHOLDER, argument);
+    }
+}
@@ -0,0 +1,31 @@
+package com.security.authentication.enums;
+
+import com.security.authentication.validator.Validator;
+
+public enum ServerMode {
+    REACTOR("reactor"),
+    THREAD_PER_CONNECTION("thread-per-connection"),
+    INVALID("");
+
+    private final String mode;
+
+    ServerMode(String mode) {
+        this.mode = mode;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public static ServerMode getType(String command) {
+        Validator.validateNotNull(command, "command");
+
+        for (ServerMode serverMode : ServerMode.values()) {
+            if (command.equals(serverMode.getMode())) {
+                return serverMode;
+            }
+        }
+
+        return INVALID;
+    }
+}
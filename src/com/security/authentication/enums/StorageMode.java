@@ -0,0 +1,33 @@
+package com.security.authentication.enums;
+
+import com.security.authentication.validator.Validator;
+
+public enum StorageMode {
+    FILE_SYSTEM("file-system"),
+    INDEXED("indexed"),
+    LOG_STRUCTURED("log-structured"),
+    MAPPED("mapped"),
+    INVALID("");
+
+    private final String mode;
+
+    StorageMode(String mode) {
+        this.mode = mode;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public static StorageMode getType(String command) {
+        Validator.validateNotNull(command, "command");
+
+        for (StorageMode storageMode : StorageMode.values()) {
+            if (command.equals(storageMode.getMode())) {
+                return storageMode;
+            }
+        }
+
+        return INVALID;
+    }
+}
@@ -0,0 +1,20 @@
+package com.security.authentication.enums;
+
+public enum StorageOperation {
+    ADD("add"),
+    REMOVE("remove"),
+    UPDATE("update"),
+    HAS_STORED_INFO("has-stored-info"),
+    EXTRACT("extract"),
+    IS_EMPTY("is-empty");
+
+    private final String operation;
+
+    StorageOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+}
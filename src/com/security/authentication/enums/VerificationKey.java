@@ -2,12 +2,20 @@ package com.security.authentication.enums;
 
 import com.security.authentication.validator.Validator;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 public enum VerificationKey {
     SESSION_ID("--session-id"),
     INVALID("");
 
     private final String key;
 
+    private static final Map<String, VerificationKey> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(VerificationKey::getKey, Function.identity()));
+
     VerificationKey(String key) {
         this.key = key;
     }
@@ -19,12 +27,6 @@ public enum VerificationKey {
     public static VerificationKey getType(String command) {
         Validator.validateNotNull(command, "command");
 
-        for (VerificationKey verificationKey : VerificationKey.values()) {
-            if (command.equals(verificationKey.getKey())) {
-                return verificationKey;
-            }
-        }
-
-        return INVALID;
+        return BY_NAME.getOrDefault(command, INVALID);
     }
 }
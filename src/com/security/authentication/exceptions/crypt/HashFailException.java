@@ -0,0 +1,7 @@
+package com.security.authentication.exceptions.crypt;
+
+public class HashFailException extends Exception {
+    public HashFailException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.security.authentication.exceptions.crypt;
+
+public class PasswordResolveFailException extends RuntimeException {
+    public PasswordResolveFailException(String message, Exception e) {
+        super(message, e);
+    }
+}
@@ -0,0 +1,7 @@
+package com.security.authentication.exceptions.server;
+
+public class FrameTooLongException extends Exception {
+    public FrameTooLongException(String message) {
+        super(message);
+    }
+}
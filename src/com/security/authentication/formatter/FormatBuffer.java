@@ -0,0 +1,22 @@
+package com.security.authentication.formatter;
+
+public class FormatBuffer {
+    private static final int INITIAL_CAPACITY = 512;
+    private static final int MAX_RETAINED_CAPACITY = 8 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFERS =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+
+    public static StringBuilder acquire() {
+        StringBuilder buffer = BUFFERS.get();
+
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            buffer = new StringBuilder(INITIAL_CAPACITY);
+            BUFFERS.set(buffer);
+        }
+
+        buffer.setLength(0);
+
+        return buffer;
+    }
+}
@@ -5,6 +5,7 @@ import com.security.authentication.enums.LOGInfoType;
 import com.security.authentication.formatter.subformatters.AddedAdminFormatter;
 import com.security.authentication.formatter.subformatters.FailedLogInAttemptFormatter;
 import com.security.authentication.formatter.subformatters.RemovedAdminFormatter;
+import com.security.authentication.log.AuditEvent;
 import com.security.authentication.validator.Validator;
 
 public class LogFormatter {
@@ -38,4 +39,26 @@ public class LogFormatter {
             default -> System.lineSeparator() + "<Failed to log>" + System.lineSeparator();
         };
     }
+
+    public static String format(AuditEvent event) {
+        Validator.validateNotNull(event, "event");
+
+        return appendTo(FormatBuffer.acquire(), event).toString();
+    }
+
+    public static StringBuilder appendTo(StringBuilder builder, AuditEvent event) {
+        Validator.validateNotNull(builder, "builder");
+        Validator.validateNotNull(event, "event");
+
+        String timestamp = TimestampCache.render(event.timestamp());
+
+        return switch (event.type()) {
+            case UNSUCCESSFUL_LOGIN -> FailedLogInAttemptFormatter.appendTo(builder, timestamp, event.ip());
+            case REMOVED_ADMIN_PRIVILEGES -> RemovedAdminFormatter.appendTo(builder, timestamp, event.status(),
+                    event.ip(), event.perpetrator(), event.target(), event.succeeded());
+            case ADDED_ADMIN_PRIVILEGES -> AddedAdminFormatter.appendTo(builder, timestamp, event.status(),
+                    event.ip(), event.perpetrator(), event.target(), event.succeeded());
+            case RAW_EVENT -> builder.append(event.target());
+        };
+    }
 }
@@ -0,0 +1,92 @@
+package com.security.authentication.formatter;
+
+import com.security.authentication.enums.CommandOutcome;
+import com.security.authentication.enums.CommandType;
+import com.security.authentication.enums.StorageOperation;
+import com.security.authentication.metrics.CommandSnapshot;
+import com.security.authentication.metrics.Gauge;
+import com.security.authentication.metrics.LatencyHistogram;
+import com.security.authentication.metrics.MetricsSnapshot;
+import com.security.authentication.validator.Validator;
+
+public class PrometheusFormatter {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    public static String format(MetricsSnapshot snapshot) {
+        Validator.validateNotNull(snapshot, "snapshot");
+
+        StringBuilder text = new StringBuilder(16 * 1024);
+
+        header(text, "auth_command_duration_seconds", "Time spent executing a command.", "summary");
+
+        for (CommandType type : CommandType.values()) {
+            summary(text, "auth_command_duration_seconds", "command=\"" + type.getMessage() + "\"",
+                    snapshot.command(type).latencies());
+        }
+
+        header(text, "auth_command_outcomes_total", "Executed commands by outcome.", "counter");
+
+        for (CommandType type : CommandType.values()) {
+            CommandSnapshot command = snapshot.command(type);
+
+            for (CommandOutcome outcome : CommandOutcome.values()) {
+                sample(text, "auth_command_outcomes_total", "command=\"" + type.getMessage() + "\",outcome=\""
+                        + outcome.getOutcome() + "\"", Long.toString(command.count(outcome)));
+            }
+        }
+
+        header(text, "auth_storage_duration_seconds", "Time spent in a storage operation.", "summary");
+
+        for (StorageOperation operation : StorageOperation.values()) {
+            summary(text, "auth_storage_duration_seconds", "operation=\"" + operation.getOperation() + "\"",
+                    snapshot.storage(operation));
+        }
+
+        header(text, "auth_reactor_loop_seconds", "Busy time of one selector loop iteration.", "summary");
+        summary(text, "auth_reactor_loop_seconds", null, snapshot.loopLatencies());
+
+        header(text, "auth_connections_open", "Client connections currently open.", "gauge");
+        sample(text, "auth_connections_open", null, Long.toString(snapshot.openConnections()));
+
+        header(text, "auth_connections_accepted_total", "Client connections accepted since start.", "counter");
+        sample(text, "auth_connections_accepted_total", null, Long.toString(snapshot.acceptedConnections()));
+
+        for (Gauge gauge : snapshot.gauges()) {
+            header(text, gauge.name(), gauge.help(), gauge.isCounter() ? "counter" : "gauge");
+            sample(text, gauge.name(), null, Long.toString(gauge.value()));
+        }
+
+        return text.toString();
+    }
+
+    private static void summary(StringBuilder text, String name, String labels, LatencyHistogram latencies) {
+        String prefix = labels == null ? "" : labels + ",";
+
+        for (double quantile : QUANTILES) {
+            sample(text, name, prefix + "quantile=\"" + quantile + "\"", seconds(latencies.percentile(quantile * 100)));
+        }
+
+        sample(text, name + "_sum", labels, seconds(latencies.sum()));
+        sample(text, name + "_count", labels, Long.toString(latencies.count()));
+    }
+
+    private static void header(StringBuilder text, String name, String help, String type) {
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder text, String name, String labels, String value) {
+        text.append(name);
+
+        if (labels != null) {
+            text.append('{').append(labels).append('}');
+        }
+
+        text.append(' ').append(value).append('\n');
+    }
+
+    private static String seconds(long nanos) {
+        return Double.toString(nanos / NANOS_PER_SECOND);
+    }
+}
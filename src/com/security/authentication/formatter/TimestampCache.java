@@ -0,0 +1,33 @@
+package com.security.authentication.formatter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+public class TimestampCache {
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private static volatile Entry latest = new Entry(Long.MIN_VALUE, "");
+
+    public static String now() {
+        return render(System.currentTimeMillis());
+    }
+
+    public static String render(Instant instant) {
+        return render(instant.toEpochMilli());
+    }
+
+    public static String render(long epochMillis) {
+        Entry entry = latest;
+
+        if (entry.epochMillis() != epochMillis) {
+            entry = new Entry(epochMillis, LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZONE).toString());
+            latest = entry;
+        }
+
+        return entry.text();
+    }
+
+    private record Entry(long epochMillis, String text) {
+    }
+}
@@ -1,60 +1,65 @@
 package com.security.authentication.formatter.subformatters;
 
 import com.security.authentication.enums.LOGInfoStatus;
+import com.security.authentication.formatter.FormatBuffer;
+import com.security.authentication.formatter.TimestampCache;
 import com.security.authentication.validator.Validator;
 
 import java.time.LocalDateTime;
 
 public class AddedAdminFormatter {
+    private static final String SEPARATOR = "........................";
+    private static final String NEW_LINE = System.lineSeparator();
+
     public static String format(LOGInfoStatus status,
                                 String ip,
                                 String perpetrator,
                                 String target,
                                 boolean succeeded) {
-        Validator.validateNotNull(status, "status");
-        Validator.validateNotNull(ip, "ip");
-        Validator.validateNotNull(perpetrator, "perpetrator");
-        Validator.validateNotNull(target, "target");
+        validate(status, ip, perpetrator, target);
+
+        return appendTo(FormatBuffer.acquire(), TimestampCache.now(), status, ip, perpetrator, target, succeeded)
+                .toString();
+    }
+
+    public static String format(LocalDateTime timestamp,
+                                LOGInfoStatus status,
+                                String ip,
+                                String perpetrator,
+                                String target,
+                                boolean succeeded) {
+        Validator.validateNotNull(timestamp, "timestamp");
+        validate(status, ip, perpetrator, target);
 
-        return switch (status) {
-            case BEGIN -> formatBegin(ip, perpetrator, target);
-            case END -> formatEnd(ip, perpetrator, target, succeeded);
-        };
+        return appendTo(FormatBuffer.acquire(), timestamp.toString(), status, ip, perpetrator, target, succeeded)
+                .toString();
     }
 
-    private static String formatBegin(String ip, String perpetrator, String target) {
-        return "........................"
-                + System.lineSeparator()
-                + "Timestamp: " + LocalDateTime.now().toString()
-                + System.lineSeparator()
-                + "Type: Configuration change"
-                + System.lineSeparator()
-                + "Perpetrator: " + perpetrator + ", IP: " + ip
-                + System.lineSeparator()
-                + "Target: " + target
-                + System.lineSeparator()
-                + "Operation: ADD_ADMIN"
-                + System.lineSeparator()
-                + "........................"
-                + System.lineSeparator();
+    public static StringBuilder appendTo(StringBuilder builder,
+                                         CharSequence timestamp,
+                                         LOGInfoStatus status,
+                                         String ip,
+                                         String perpetrator,
+                                         String target,
+                                         boolean succeeded) {
+        builder.append(SEPARATOR).append(NEW_LINE)
+                .append("Timestamp: ").append(timestamp).append(NEW_LINE)
+                .append("Type: Configuration change").append(NEW_LINE)
+                .append("Perpetrator: ").append(perpetrator).append(", IP: ").append(ip).append(NEW_LINE)
+                .append("Target: ").append(target).append(NEW_LINE)
+                .append("Operation: ADD_ADMIN").append(NEW_LINE);
+
+        if (status == LOGInfoStatus.END) {
+            builder.append("Result: ").append(succeeded ? "Success" : "Fail").append(NEW_LINE);
+        }
+
+        return builder.append(SEPARATOR).append(NEW_LINE);
     }
 
-    private static String formatEnd(String ip, String perpetrator, String target, boolean succeeded) {
-        return "........................"
-                + System.lineSeparator()
-                + "Timestamp: " + LocalDateTime.now().toString()
-                + System.lineSeparator()
-                + "Type: Configuration change"
-                + System.lineSeparator()
-                + "Perpetrator: " + perpetrator + ", IP: " + ip
-                + System.lineSeparator()
-                + "Target: " + target
-                + System.lineSeparator()
-                + "Operation: ADD_ADMIN"
-                + System.lineSeparator()
-                + "Result: " + (succeeded ? "Success" : "Fail")
-                + System.lineSeparator()
-                + "........................"
-                + System.lineSeparator();
+    private static void validate(LOGInfoStatus status, String ip, String perpetrator, String target) {
+        Validator.validateNotNull(status, "status");
+        Validator.validateNotNull(ip, "ip");
+        Validator.validateNotNull(perpetrator, "perpetrator");
+        Validator.validateNotNull(target, "target");
     }
 }
@@ -1,22 +1,33 @@
 package com.security.authentication.formatter.subformatters;
 
+import com.security.authentication.formatter.FormatBuffer;
+import com.security.authentication.formatter.TimestampCache;
 import com.security.authentication.validator.Validator;
 
 import java.time.LocalDateTime;
 
 public class FailedLogInAttemptFormatter {
+    private static final String SEPARATOR = "........................";
+    private static final String NEW_LINE = System.lineSeparator();
+
     public static String format(String ip) {
         Validator.validateNotNull(ip, "ip");
 
-        return "........................"
-                + System.lineSeparator()
-                + "Timestamp: " + LocalDateTime.now().toString()
-                + System.lineSeparator()
-                + "Type: Failed log in attempt"
-                + System.lineSeparator()
-                + "IP: " + ip
-                + System.lineSeparator()
-                + "........................"
-                + System.lineSeparator();
+        return appendTo(FormatBuffer.acquire(), TimestampCache.now(), ip).toString();
+    }
+
+    public static String format(LocalDateTime timestamp, String ip) {
+        Validator.validateNotNull(timestamp, "timestamp");
+        Validator.validateNotNull(ip, "ip");
+
+        return appendTo(FormatBuffer.acquire(), timestamp.toString(), ip).toString();
+    }
+
+    public static StringBuilder appendTo(StringBuilder builder, CharSequence timestamp, String ip) {
+        return builder.append(SEPARATOR).append(NEW_LINE)
+                .append("Timestamp: ").append(timestamp).append(NEW_LINE)
+                .append("Type: Failed log in attempt").append(NEW_LINE)
+                .append("IP: ").append(ip).append(NEW_LINE)
+                .append(SEPARATOR).append(NEW_LINE);
     }
 }
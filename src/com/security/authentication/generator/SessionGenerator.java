@@ -1,10 +1,45 @@
 package com.security.authentication.generator;
 
-import java.util.UUID;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+public class SessionGenerator implements Generator<SessionId> {
+    private static final String NON_BLOCKING_ALGORITHM = "DRBG";
+    private static final int ID_BYTES = 16;
+
+    private final ThreadLocal<SecureRandom> randoms = ThreadLocal.withInitial(SessionGenerator::newRandom);
 
-public class SessionGenerator implements Generator<String> {
     @Override
-    public String generate() {
-        return UUID.randomUUID().toString();
+    public SessionId generate() {
+        byte[] bytes = new byte[ID_BYTES];
+        SecureRandom random = randoms.get();
+        long high;
+        long low;
+
+        do {
+            random.nextBytes(bytes);
+            high = toLong(bytes, 0);
+            low = toLong(bytes, Long.BYTES);
+        } while (high == 0 && low == 0);
+
+        return new SessionId(high, low);
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        long value = 0;
+
+        for (int i = offset; i < offset + Long.BYTES; i++) {
+            value = value << 8 | (bytes[i] & 0xFF);
+        }
+
+        return value;
+    }
+
+    private static SecureRandom newRandom() {
+        try {
+            return SecureRandom.getInstance(NON_BLOCKING_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
     }
 }
@@ -0,0 +1,63 @@
+package com.security.authentication.generator;
+
+public record SessionId(long high, long low) {
+    private static final int HALF_LENGTH = 16;
+    private static final int TEXT_LENGTH = 2 * HALF_LENGTH;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    public static SessionId parse(CharSequence text) {
+        if (text == null || text.length() != TEXT_LENGTH) {
+            return null;
+        }
+
+        long high = 0;
+        long low = 0;
+
+        for (int i = 0; i < HALF_LENGTH; i++) {
+            int highDigit = hexValue(text.charAt(i));
+            int lowDigit = hexValue(text.charAt(HALF_LENGTH + i));
+
+            if (highDigit < 0 || lowDigit < 0) {
+                return null;
+            }
+
+            high = high << 4 | highDigit;
+            low = low << 4 | lowDigit;
+        }
+
+        return new SessionId(high, low);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high ^ low);
+    }
+
+    @Override
+    public String toString() {
+        char[] text = new char[TEXT_LENGTH];
+
+        for (int i = HALF_LENGTH - 1, shift = 0; i >= 0; i--, shift += 4) {
+            text[i] = HEX_DIGITS[(int) (high >>> shift) & 0xF];
+            text[HALF_LENGTH + i] = HEX_DIGITS[(int) (low >>> shift) & 0xF];
+        }
+
+        return new String(text);
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+
+        return -1;
+    }
+}
@@ -1,45 +1,127 @@
 package com.security.authentication.handler;
 
 import com.security.authentication.generator.Generator;
+import com.security.authentication.generator.SessionId;
 import com.security.authentication.validator.Validator;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 
-public class SessionHandler {
-    private final Generator<String> sessionGenerator;
-    private final Map<String, LocalDateTime> sessions;
-    private static final int SESSION_TIME_TO_LIVE = 10;
+public class SessionHandler<V> {
+    private static final long SESSION_TIME_TO_LIVE = TimeUnit.SECONDS.toNanos(10);
+    private static final int LONGS_PER_EXPIRY = 3;
+    private static final int INITIAL_EXPIRIES = 64;
 
-    public SessionHandler(Generator<String> generator) {
-        this.sessions = new HashMap<>();
+    private final Generator<SessionId> sessionGenerator;
+    private final LongSupplier nanoClock;
+    private final Consumer<SessionId> expiryListener;
+    private final SessionTable<V> sessions;
+
+    private long[] expiries;
+    private int expiryHead;
+    private int expiryCount;
+
+    public SessionHandler(Generator<SessionId> generator) {
+        this(generator, System::nanoTime, sessionId -> {
+        });
+    }
+
+    public SessionHandler(Generator<SessionId> generator, LongSupplier nanoClock,
+                          Consumer<SessionId> expiryListener) {
+        Validator.validateNotNull(nanoClock, "nanoClock");
+        Validator.validateNotNull(expiryListener, "expiryListener");
+
+        this.sessions = new SessionTable<>();
+        this.expiries = new long[INITIAL_EXPIRIES * LONGS_PER_EXPIRY];
         this.sessionGenerator = generator;
+        this.nanoClock = nanoClock;
+        this.expiryListener = expiryListener;
     }
 
-    public String generate() {
-        String sessionId = sessionGenerator.generate();
-        sessions.put(sessionId, LocalDateTime.now());
+    public synchronized SessionId generate(V value) {
+        long now = nanoClock.getAsLong();
+        SessionId sessionId = sessionGenerator.generate();
+        long deadline = now + SESSION_TIME_TO_LIVE;
+
+        evictExpired(now);
+        sessions.put(sessionId.high(), sessionId.low(), deadline, value);
+        appendExpiry(sessionId.high(), sessionId.low(), deadline);
 
         return sessionId;
     }
 
-    public boolean isValid(String sessionId) {
+    public synchronized boolean isValid(SessionId sessionId) {
         Validator.validateNotNull(sessionId, "sessionId");
 
-        if (!sessions.containsKey(sessionId)) {
-            return false;
-        }
+        evictExpired(nanoClock.getAsLong());
 
-        LocalDateTime generatedTime = sessions.get(sessionId);
+        return sessions.deadline(sessionId.high(), sessionId.low()) != SessionTable.NO_DEADLINE;
+    }
 
-        return Math.abs(ChronoUnit.SECONDS.between(LocalDateTime.now(), generatedTime)) <= SESSION_TIME_TO_LIVE;
+    public synchronized V get(SessionId sessionId) {
+        Validator.validateNotNull(sessionId, "sessionId");
+
+        evictExpired(nanoClock.getAsLong());
+
+        return sessions.get(sessionId.high(), sessionId.low());
     }
 
-    public void invalidate(String sessionId) {
+    public synchronized void invalidate(SessionId sessionId) {
         Validator.validateNotNull(sessionId, "sessionId");
 
-        sessions.remove(sessionId);
+        sessions.remove(sessionId.high(), sessionId.low());
+    }
+
+    public synchronized int size() {
+        return sessions.size();
+    }
+
+    private void evictExpired(long now) {
+        while (expiryCount > 0) {
+            int offset = expiryHead * LONGS_PER_EXPIRY;
+            long high = expiries[offset];
+            long low = expiries[offset + 1];
+            long deadline = expiries[offset + 2];
+
+            if (now - deadline <= 0) {
+                return;
+            }
+
+            expiryHead = (expiryHead + 1) % capacity();
+            expiryCount--;
+
+            if (sessions.deadline(high, low) == deadline) {
+                sessions.remove(high, low);
+                expiryListener.accept(new SessionId(high, low));
+            }
+        }
+    }
+
+    private void appendExpiry(long high, long low, long deadline) {
+        if (expiryCount == capacity()) {
+            growExpiries();
+        }
+
+        int offset = ((expiryHead + expiryCount) % capacity()) * LONGS_PER_EXPIRY;
+
+        expiries[offset] = high;
+        expiries[offset + 1] = low;
+        expiries[offset + 2] = deadline;
+        expiryCount++;
+    }
+
+    private void growExpiries() {
+        int headOffset = expiryHead * LONGS_PER_EXPIRY;
+        long[] grown = Arrays.copyOfRange(expiries, headOffset, headOffset + 2 * expiries.length);
+
+        System.arraycopy(expiries, 0, grown, expiries.length - headOffset, headOffset);
+        expiries = grown;
+        expiryHead = 0;
+    }
+
+    private int capacity() {
+        return expiries.length / LONGS_PER_EXPIRY;
     }
 }
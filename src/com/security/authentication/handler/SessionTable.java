@@ -0,0 +1,178 @@
+package com.security.authentication.handler;
+
+public class SessionTable<V> {
+    public static final long NO_DEADLINE = Long.MIN_VALUE;
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private long[] highs;
+    private long[] lows;
+    private long[] deadlines;
+    private Object[] values;
+    private int mask;
+    private int size;
+
+    public SessionTable() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    public void put(long high, long low, long deadline, V value) {
+        if (isEmptyKey(high, low)) {
+            throw new IllegalArgumentException("session id must not be zero");
+        }
+
+        if (2 * (size + 1) > highs.length) {
+            resize(2 * highs.length);
+        }
+
+        int slot = slot(high, low);
+
+        while (!isFree(slot)) {
+            if (highs[slot] == high && lows[slot] == low) {
+                deadlines[slot] = deadline;
+                values[slot] = value;
+                return;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        highs[slot] = high;
+        lows[slot] = low;
+        deadlines[slot] = deadline;
+        values[slot] = value;
+        size++;
+    }
+
+    public long deadline(long high, long low) {
+        int slot = find(high, low);
+
+        return slot < 0 ? NO_DEADLINE : deadlines[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long high, long low) {
+        int slot = find(high, low);
+
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    public boolean remove(long high, long low) {
+        int slot = find(high, low);
+
+        if (slot < 0) {
+            return false;
+        }
+
+        int next = slot;
+
+        while (true) {
+            next = (next + 1) & mask;
+
+            if (isFree(next)) {
+                break;
+            }
+
+            int home = slot(highs[next], lows[next]);
+            boolean reachableWithoutHole = slot <= next
+                    ? slot < home && home <= next
+                    : slot < home || home <= next;
+
+            if (!reachableWithoutHole) {
+                move(next, slot);
+                slot = next;
+            }
+        }
+
+        clear(slot);
+        size--;
+
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int find(long high, long low) {
+        if (isEmptyKey(high, low)) {
+            return -1;
+        }
+
+        int slot = slot(high, low);
+
+        while (!isFree(slot)) {
+            if (highs[slot] == high && lows[slot] == low) {
+                return slot;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    private void resize(int capacity) {
+        long[] oldHighs = highs;
+        long[] oldLows = lows;
+        long[] oldDeadlines = deadlines;
+        Object[] oldValues = values;
+
+        allocate(capacity);
+
+        for (int i = 0; i < oldHighs.length; i++) {
+            if (!isEmptyKey(oldHighs[i], oldLows[i])) {
+                int slot = slot(oldHighs[i], oldLows[i]);
+
+                while (!isFree(slot)) {
+                    slot = (slot + 1) & mask;
+                }
+
+                highs[slot] = oldHighs[i];
+                lows[slot] = oldLows[i];
+                deadlines[slot] = oldDeadlines[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        highs = new long[capacity];
+        lows = new long[capacity];
+        deadlines = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private void move(int from, int to) {
+        highs[to] = highs[from];
+        lows[to] = lows[from];
+        deadlines[to] = deadlines[from];
+        values[to] = values[from];
+    }
+
+    private void clear(int slot) {
+        highs[slot] = 0;
+        lows[slot] = 0;
+        deadlines[slot] = 0;
+        values[slot] = null;
+    }
+
+    private boolean isFree(int slot) {
+        return isEmptyKey(highs[slot], lows[slot]);
+    }
+
+    private int slot(long high, long low) {
+        long hash = high * 0x9E3779B97F4A7C15L ^ low;
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+
+        return (int) hash & mask;
+    }
+
+    private static boolean isEmptyKey(long high, long low) {
+        return high == 0 && low == 0;
+    }
+}
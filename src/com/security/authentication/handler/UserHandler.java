@@ -1,11 +1,14 @@
 package com.security.authentication.handler;
 
+import com.security.authentication.connect.Connection;
 import com.security.authentication.connect.Connector;
+import com.security.authentication.crypt.PasswordVerifier;
 import com.security.authentication.enums.ChangeRequest;
 import com.security.authentication.enums.VerificationKey;
 import com.security.authentication.exceptions.authorize.AlreadyAuthorizedUserException;
 import com.security.authentication.exceptions.authorize.AlreadyNotAuthorizedUserException;
 import com.security.authentication.exceptions.authorize.NotAuthorizedUserException;
+import com.security.authentication.exceptions.crypt.PasswordResolveFailException;
 import com.security.authentication.exceptions.login.AlreadyLoggedInException;
 import com.security.authentication.exceptions.login.InvalidCombinationException;
 import com.security.authentication.exceptions.login.InvalidSessionIdException;
@@ -18,42 +21,49 @@ import com.security.authentication.exceptions.storage.UserNotFoundException;
 import com.security.authentication.exceptions.update.NoUpdateRequestException;
 import com.security.authentication.exceptions.update.UpdateFailException;
 import com.security.authentication.generator.SessionGenerator;
+import com.security.authentication.generator.SessionId;
 import com.security.authentication.storage.Storage;
 import com.security.authentication.token.RequestExtractor;
 import com.security.authentication.user.Admin;
 import com.security.authentication.user.AuthenticatedUser;
 import com.security.authentication.user.RegularUser;
+import com.security.authentication.user.UnauthenticatedUser;
 import com.security.authentication.user.User;
 import com.security.authentication.user.creator.UserCreator;
+import com.security.authentication.user.info.AccountInfo;
 import com.security.authentication.validator.Validator;
 
-import java.nio.channels.SocketChannel;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 
 public class UserHandler {
-    private final SessionHandler sessionHandler;
-    private final Map<String, AuthenticatedUser> sessionSemantics;
+    private final SessionHandler<AuthenticatedUser> sessionHandler;
     private final Connector connector;
     private final Storage storage;
+    private final PasswordVerifier passwordVerifier;
+    private final Object storageLock = new Object();
 
     public UserHandler(Storage storage) {
+        this(storage, null);
+    }
+
+    public UserHandler(Storage storage, PasswordVerifier passwordVerifier) {
         this.storage = storage;
-        this.sessionHandler = new SessionHandler(new SessionGenerator());
-        this.sessionSemantics = new HashMap<>();
+        this.passwordVerifier = passwordVerifier;
+        this.sessionHandler = new SessionHandler<>(new SessionGenerator());
         this.connector = new Connector();
     }
 
-    public boolean register(List<String> parameters, SocketChannel channel)
+    public boolean register(List<String> parameters, Connection connection)
             throws UserAlreadyRegisteredException,
             AlreadyLoggedInException,
             EmptyStorageException,
             StorageFailException {
         Validator.validateNotNull(parameters, "parameters");
-        Validator.validateNotNull(channel, "channel");
+        Validator.validateNotNull(connection, "connection");
 
-        checkValidConnection(channel);
+        checkValidConnection(connection);
 
         User user = UserCreator.create(parameters);
 
@@ -61,127 +71,149 @@ public class UserHandler {
             throw new UserAlreadyRegisteredException("user with that username already exists");
         }
 
-        if (storage.isEmpty()) {
-            storage.add(new Admin(user.getAccountInfo(), user.getPersonalInfo()));
-            throw new EmptyStorageException("empty storage");
+        if (passwordVerifier != null) {
+            AccountInfo accountInfo = user.getAccountInfo();
+            String hash = hashPassword(accountInfo.getPassword());
+
+            user = new UnauthenticatedUser(new AccountInfo(accountInfo.getUsername(), hash), user.getPersonalInfo());
         }
 
-        storage.add(user);
+        synchronized (storageLock) {
+            if (storage.hasStoredInfo(user)) {
+                throw new UserAlreadyRegisteredException("user with that username already exists");
+            }
+
+            if (storage.isEmpty()) {
+                storage.add(new Admin(user.getAccountInfo(), user.getPersonalInfo()));
+                throw new EmptyStorageException("empty storage");
+            }
+
+            storage.add(user);
+        }
 
         return true;
     }
 
-    public String logIn(List<String> parameters, SocketChannel channel)
+    public String logIn(List<String> parameters, Connection connection)
             throws InvalidCombinationException,
             InvalidSessionIdException,
             AlreadyLoggedInException,
             StorageFailException {
         Validator.validateNotNull(parameters, "parameters");
-        Validator.validateNotNull(channel, "channel");
+        Validator.validateNotNull(connection, "connection");
 
         if (VerificationKey.getType(parameters.get(0)) == VerificationKey.SESSION_ID) {
-            return logInWithSession(parameters, channel);
+            return logInWithSession(parameters, connection);
         }
 
-        return logInWithCombination(parameters, channel);
+        return logInWithCombination(parameters, connection);
     }
 
-    public boolean logOut(List<String> parameters, SocketChannel channel)
+    public boolean logOut(List<String> parameters, Connection connection)
             throws NotLoggedInException,
             InvalidSessionIdException {
         Validator.validateNotNull(parameters, "parameters");
-        Validator.validateNotNull(channel, "channel");
+        Validator.validateNotNull(connection, "connection");
 
-        checkExpiredSessionId(channel);
+        checkExpiredSessionId(connection);
 
-        if (!connector.isConnected(channel)) {
+        if (!connector.isConnected(connection)) {
             throw new NotLoggedInException("not logged in");
         }
 
         String inputSessionId = parameters.get(1);
-        String actualSessionId = connector.getSession(channel);
+        SessionId actualSessionId = connector.getSession(connection);
 
-        if (sessionHandler.isValid(actualSessionId) && !sessionHandler.isValid(inputSessionId)) {
+        if (sessionHandler.isValid(actualSessionId) && !isValid(inputSessionId)) {
             throw new InvalidSessionIdException("session is invalid");
         }
 
-        connector.disconnect(channel);
-        sessionSemantics.remove(actualSessionId);
+        connector.disconnect(connection);
+        sessionHandler.invalidate(actualSessionId);
 
         return true;
     }
 
-    public boolean updateAccountPassword(List<String> parameters, SocketChannel channel)
+    public boolean updateAccountPassword(List<String> parameters, Connection connection)
             throws NotLoggedInException,
             InvalidCombinationException,
             InvalidSessionIdException,
             StorageFailException {
         Validator.validateNotNull(parameters, "parameters");
-        Validator.validateNotNull(channel, "channel");
+        Validator.validateNotNull(connection, "connection");
 
-        checkExpiredSessionId(channel);
+        checkExpiredSessionId(connection);
 
         String sessionId = parameters.get(1);
 
-        if (!connector.isConnected(channel)) {
+        if (!connector.isConnected(connection)) {
             throw new NotLoggedInException("not logged in");
         }
 
-        if (!sessionHandler.isValid(sessionId)) {
+        if (!isValid(sessionId)) {
             throw new InvalidSessionIdException("session is invalid");
         }
 
         String username = parameters.get(3);
         String oldPassword = parameters.get(5);
 
-        AuthenticatedUser user = connector.getUser(channel);
+        AuthenticatedUser user = connector.getUser(connection);
 
-        if (!user.getAccountInfo().getUsername().equals(username)
-                || !user.getAccountInfo().getPassword().equals(oldPassword)) {
+        if (!user.getAccountInfo().getUsername().equals(username) || !passwordMatches(oldPassword, user)) {
             throw new InvalidCombinationException("invalid username/password");
         }
 
-        String newPassword = parameters.get(7);
+        String newPassword = passwordVerifier != null ? hashPassword(parameters.get(7)) : parameters.get(7);
 
-        try {
-            storage.update(user, Map.of(ChangeRequest.NEW_PASSWORD, newPassword));
-        } catch (UpdateFailException | NoUpdateRequestException e) {
-            throw new StorageFailException("storage failed");
+        synchronized (storageLock) {
+            try {
+                storage.update(user, Map.of(ChangeRequest.NEW_PASSWORD, newPassword));
+            } catch (UpdateFailException | NoUpdateRequestException e) {
+                throw new StorageFailException("storage failed");
+            }
         }
 
         return true;
     }
 
-    public boolean updatePersonalInfo(List<String> parameters, SocketChannel channel)
+    public boolean updatePersonalInfo(List<String> parameters, Connection connection)
             throws InvalidSessionIdException,
             NotLoggedInException,
             StorageFailException,
             NoUpdateRequestException {
         Validator.validateNotNull(parameters, "parameters");
-        Validator.validateNotNull(channel, "channel");
+        Validator.validateNotNull(connection, "connection");
 
-        checkExpiredSessionId(channel);
+        checkExpiredSessionId(connection);
 
-        if (!connector.isConnected(channel)) {
+        if (!connector.isConnected(connection)) {
             throw new NotLoggedInException("not logged in");
         }
 
         String sessionId = parameters.get(1);
 
-        if (!sessionHandler.isValid(sessionId)) {
+        if (!isValid(sessionId)) {
             throw new InvalidSessionIdException("session is invalid");
         }
 
-        try {
-            storage.update(connector.getUser(channel), RequestExtractor.extract(parameters));
-        } catch (UpdateFailException e) {
-            throw new StorageFailException("storage failed");
+        Map<ChangeRequest, String> requests = RequestExtractor.extract(parameters);
+
+        if (passwordVerifier != null && requests.containsKey(ChangeRequest.NEW_PASSWORD)) {
+            requests.put(ChangeRequest.NEW_PASSWORD, hashPassword(requests.get(ChangeRequest.NEW_PASSWORD)));
+        }
+
+        synchronized (storageLock) {
+            try {
+                storage.update(connector.getUser(connection), requests);
+            } catch (UpdateFailException e) {
+                throw new StorageFailException("storage failed");
+            }
         }
 
         return true;
     }
 
-    public boolean makeAdmin(List<String> parameters, SocketChannel channel)
+    public boolean makeAdmin(List<String> parameters, Connection connection)
             throws UserNotFoundException,
             NotAuthorizedUserException,
             AlreadyAuthorizedUserException,
@@ -189,21 +221,21 @@ public class UserHandler {
             NotLoggedInException,
             InvalidSessionIdException {
         Validator.validateNotNull(parameters, "parameters");
-        Validator.validateNotNull(channel, "channel");
+        Validator.validateNotNull(connection, "connection");
 
-        checkExpiredSessionId(channel);
+        checkExpiredSessionId(connection);
 
-        if (!connector.isConnected(channel)) {
+        if (!connector.isConnected(connection)) {
             throw new NotLoggedInException("not logged in");
         }
 
         String sessionId = parameters.get(1);
 
-        if (!sessionHandler.isValid(sessionId)) {
+        if (!isValid(sessionId)) {
             throw new InvalidSessionIdException("session is invalid");
         }
 
-        User admin = storage.extract(connector.getUser(channel).getAccountInfo().getUsername());
+        User admin = storage.extract(connector.getUser(connection).getAccountInfo().getUsername());
 
         if (!admin.isAuthorized()) {
             throw new NotAuthorizedUserException("not admin");
@@ -211,22 +243,24 @@ public class UserHandler {
 
         String username = parameters.get(3);
 
-        User user = storage.extract(username);
+        synchronized (storageLock) {
+            User user = storage.extract(username);
 
-        if (user.isAuthorized()) {
-            throw new AlreadyAuthorizedUserException("user is already admin");
-        }
+            if (user.isAuthorized()) {
+                throw new AlreadyAuthorizedUserException("user is already admin");
+            }
 
-        try {
-            storage.remove(user);
-        } catch (RemoveFailException e) {
-            throw new StorageFailException("storage failed");
-        }
+            try {
+                storage.remove(user);
+            } catch (RemoveFailException e) {
+                throw new StorageFailException("storage failed");
+            }
 
-        return storage.add(new Admin(user.getAccountInfo(), user.getPersonalInfo()));
+            return storage.add(new Admin(user.getAccountInfo(), user.getPersonalInfo()));
+        }
     }
 
-    public boolean removeAdmin(List<String> parameters, SocketChannel channel)
+    public boolean removeAdmin(List<String> parameters, Connection connection)
             throws UserNotFoundException,
             NotAuthorizedUserException,
             StorageFailException,
@@ -234,124 +268,130 @@ public class UserHandler {
             NotLoggedInException,
             InvalidSessionIdException {
         Validator.validateNotNull(parameters, "parameters");
-        Validator.validateNotNull(channel, "channel");
+        Validator.validateNotNull(connection, "connection");
 
-        checkExpiredSessionId(channel);
+        checkExpiredSessionId(connection);
 
-        if (!connector.isConnected(channel)) {
+        if (!connector.isConnected(connection)) {
             throw new NotLoggedInException("not logged in");
         }
 
         String sessionId = parameters.get(1);
 
-        if (!sessionHandler.isValid(sessionId)) {
+        if (!isValid(sessionId)) {
             throw new InvalidSessionIdException("session is invalid");
         }
 
-        User admin = storage.extract(connector.getUser(channel).getAccountInfo().getUsername());
+        User admin = storage.extract(connector.getUser(connection).getAccountInfo().getUsername());
 
         if (!admin.isAuthorized()) {
             throw new NotAuthorizedUserException("not admin");
         }
 
         String username = parameters.get(3);
-        User user = storage.extract(username);
+        synchronized (storageLock) {
+            User user = storage.extract(username);
 
-        if (!user.isAuthorized()) {
-            throw new AlreadyNotAuthorizedUserException("user already not authorized");
-        }
+            if (!user.isAuthorized()) {
+                throw new AlreadyNotAuthorizedUserException("user already not authorized");
+            }
 
-        try {
-            storage.remove(user);
-        } catch (RemoveFailException e) {
-            throw new StorageFailException("storage failed");
-        }
+            try {
+                storage.remove(user);
+            } catch (RemoveFailException e) {
+                throw new StorageFailException("storage failed");
+            }
 
-        return storage.add(new RegularUser(user.getAccountInfo(), user.getPersonalInfo()));
+            return storage.add(new RegularUser(user.getAccountInfo(), user.getPersonalInfo()));
+        }
     }
 
-    public boolean isLoggedIn(SocketChannel channel) {
-        Validator.validateNotNull(channel, "channel");
+    public boolean isLoggedIn(Connection connection) {
+        Validator.validateNotNull(connection, "connection");
+
+        return connector.isConnected(connection);
+    }
 
-        return connector.isConnected(channel);
+    public int sessionCount() {
+        return sessionHandler.size();
     }
 
     public boolean isSessionValid(String sessionId) {
         Validator.validateNotNull(sessionId, "sessionId");
 
-        return sessionHandler.isValid(sessionId);
+        return isValid(sessionId);
     }
 
-    public boolean removeUser(List<String> parameters, SocketChannel channel)
+    public boolean removeUser(List<String> parameters, Connection connection)
             throws UserNotFoundException,
             NotLoggedInException,
             NotAuthorizedUserException,
             InvalidSessionIdException,
             StorageFailException {
         Validator.validateNotNull(parameters, "parameters");
-        Validator.validateNotNull(channel, "channel");
+        Validator.validateNotNull(connection, "connection");
 
-        checkExpiredSessionId(channel);
+        checkExpiredSessionId(connection);
 
-        if (!connector.isConnected(channel)) {
+        if (!connector.isConnected(connection)) {
             throw new NotLoggedInException("not logged in");
         }
 
         String sessionId = parameters.get(1);
 
-        if (!sessionHandler.isValid(sessionId)) {
+        if (!isValid(sessionId)) {
             throw new InvalidSessionIdException("session is invalid");
         }
 
-        User admin = storage.extract(connector.getUser(channel).getAccountInfo().getUsername());
+        User admin = storage.extract(connector.getUser(connection).getAccountInfo().getUsername());
 
         if (!admin.isAuthorized()) {
             throw new NotAuthorizedUserException("not admin");
         }
 
         String username = parameters.get(3);
-        try {
-            storage.remove(storage.extract(username));
-        } catch (RemoveFailException e) {
-            throw new StorageFailException("failed to delete user");
+        synchronized (storageLock) {
+            try {
+                storage.remove(storage.extract(username));
+            } catch (RemoveFailException e) {
+                throw new StorageFailException("failed to delete user");
+            }
         }
 
-        sessionHandler.invalidate(sessionId);
+        sessionHandler.invalidate(SessionId.parse(sessionId));
 
         return true;
     }
 
-    public User extract(SocketChannel channel) {
-        Validator.validateNotNull(channel, "channel");
+    public User extract(Connection connection) {
+        Validator.validateNotNull(connection, "connection");
 
-        return connector.getUser(channel);
+        return connector.getUser(connection);
     }
 
-    private String logInWithSession(List<String> parameters, SocketChannel channel)
+    private String logInWithSession(List<String> parameters, Connection connection)
             throws InvalidSessionIdException,
             AlreadyLoggedInException {
-        checkValidConnection(channel);
+        checkValidConnection(connection);
 
-        String sessionId = parameters.get(1);
+        SessionId sessionId = SessionId.parse(parameters.get(1));
+        AuthenticatedUser user = sessionId == null ? null : sessionHandler.get(sessionId);
 
-        if (!sessionHandler.isValid(sessionId)) {
+        if (user == null) {
             throw new InvalidSessionIdException("session is invalid");
         }
 
-        AuthenticatedUser user = sessionSemantics.get(sessionId);
+        connector.connect(connection, sessionId, user);
 
-        connector.connect(channel, sessionId, user);
-        sessionSemantics.put(sessionId, user);
-
-        return sessionId;
+        return sessionId.toString();
     }
 
-    private String logInWithCombination(List<String> parameters, SocketChannel channel)
+    private String logInWithCombination(List<String> parameters, Connection connection)
             throws InvalidCombinationException,
             AlreadyLoggedInException,
             StorageFailException {
 
-        checkValidConnection(channel);
+        checkValidConnection(connection);
 
         String username = parameters.get(1);
         User user;
@@ -370,39 +410,72 @@ public class UserHandler {
 
         String password = parameters.get(3);
 
-        if (!password.equals(user.getAccountInfo().getPassword())) {
+        if (!passwordMatches(password, user)) {
             throw new InvalidCombinationException("invalid combination");
         }
 
-        String newSessionId = sessionHandler.generate();
+        SessionId newSessionId = sessionHandler.generate((AuthenticatedUser) user);
 
-        connector.disconnect(channel);
-        connector.connect(channel, newSessionId, (AuthenticatedUser) user);
-        sessionSemantics.put(newSessionId, (AuthenticatedUser) user);
+        connector.disconnect(connection);
+        connector.connect(connection, newSessionId, (AuthenticatedUser) user);
 
-        return newSessionId;
+        return newSessionId.toString();
     }
 
-    private void checkValidConnection(SocketChannel channel) throws AlreadyLoggedInException {
-        if (connector.isConnected(channel)) {
-            String sessionId = connector.getSession(channel);
+    private void checkValidConnection(Connection connection) throws AlreadyLoggedInException {
+        if (connector.isConnected(connection)) {
+            SessionId sessionId = connector.getSession(connection);
             if (sessionHandler.isValid(sessionId)) {
                 throw new AlreadyLoggedInException("already logged in");
             } else {
                 sessionHandler.invalidate(sessionId);
-                connector.disconnect(channel);
+                connector.disconnect(connection);
             }
         }
     }
 
-    private void checkExpiredSessionId(SocketChannel channel) throws NotLoggedInException {
-        if (connector.isConnected(channel)) {
-            String sessionId = connector.getSession(channel);
+    private void checkExpiredSessionId(Connection connection) throws NotLoggedInException {
+        if (connector.isConnected(connection)) {
+            SessionId sessionId = connector.getSession(connection);
             if (!sessionHandler.isValid(sessionId)) {
-                connector.disconnect(channel);
+                connector.disconnect(connection);
                 sessionHandler.invalidate(sessionId);
                 throw new NotLoggedInException("not logged in");
             }
         }
     }
+
+    private boolean isValid(String sessionId) {
+        SessionId parsed = SessionId.parse(sessionId);
+
+        return parsed != null && sessionHandler.isValid(parsed);
+    }
+
+    private boolean passwordMatches(String password, User user) throws StorageFailException {
+        String storedPassword;
+
+        try {
+            storedPassword = user.getAccountInfo().getPassword();
+        } catch (PasswordResolveFailException e) {
+            throw new StorageFailException("failed to resolve password");
+        }
+
+        if (passwordVerifier == null) {
+            return password.equals(storedPassword);
+        }
+
+        try {
+            return passwordVerifier.verify(password, storedPassword).join();
+        } catch (CompletionException e) {
+            throw new StorageFailException("failed to verify password");
+        }
+    }
+
+    private String hashPassword(String password) throws StorageFailException {
+        try {
+            return passwordVerifier.hash(password).join();
+        } catch (CompletionException e) {
+            throw new StorageFailException("failed to hash password");
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.security.authentication.load;
+
+import com.security.authentication.enums.CommandType;
+import com.security.authentication.validator.Validator;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+public class CommandMix {
+    public static final String DEFAULT_MIX = "register=1,login=3,update-user=3,reset-password=1,logout=2";
+
+    private static final Set<CommandType> SUPPORTED = Set.of(CommandType.REGISTER, CommandType.LOGIN,
+            CommandType.UPDATE_USER, CommandType.RESET_PASSWORD, CommandType.LOGOUT);
+
+    private final CommandType[] types;
+    private final int[] cumulativeWeights;
+
+    private CommandMix(Map<CommandType, Integer> weights) {
+        this.types = new CommandType[weights.size()];
+        this.cumulativeWeights = new int[weights.size()];
+
+        int total = 0;
+        int i = 0;
+
+        for (Map.Entry<CommandType, Integer> entry : weights.entrySet()) {
+            total = Math.addExact(total, entry.getValue());
+            types[i] = entry.getKey();
+            cumulativeWeights[i] = total;
+            i++;
+        }
+    }
+
+    public static CommandMix parse(String specification) {
+        Validator.validateNotNull(specification, "specification");
+
+        Map<CommandType, Integer> weights = new EnumMap<>(CommandType.class);
+
+        for (String part : specification.split(",")) {
+            int separator = part.indexOf('=');
+
+            if (separator < 0) {
+                throw new IllegalArgumentException("expected command=weight but got " + part);
+            }
+
+            CommandType type = CommandType.getType(part.substring(0, separator).trim());
+            int weight = Integer.parseInt(part.substring(separator + 1).trim());
+
+            if (!SUPPORTED.contains(type)) {
+                throw new IllegalArgumentException("unsupported command in mix: " + part);
+            }
+
+            if (weight < 0) {
+                throw new IllegalArgumentException("weights must not be negative");
+            }
+
+            if (weight > 0) {
+                weights.merge(type, weight, Math::addExact);
+            }
+        }
+
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("mix needs at least one positive weight");
+        }
+
+        return new CommandMix(weights);
+    }
+
+    public CommandType pick(SplittableRandom random) {
+        Validator.validateNotNull(random, "random");
+
+        int ticket = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return types[i];
+            }
+        }
+
+        throw new IllegalStateException("weights are not cumulative");
+    }
+
+    public double share(CommandType type) {
+        Validator.validateNotNull(type, "type");
+
+        int previous = 0;
+
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == type) {
+                return (double) (cumulativeWeights[i] - previous) / cumulativeWeights[types.length - 1];
+            }
+
+            previous = cumulativeWeights[i];
+        }
+
+        return 0;
+    }
+}
@@ -0,0 +1,85 @@
+package com.security.authentication.load;
+
+import com.security.authentication.enums.LoadMode;
+import com.security.authentication.validator.Validator;
+
+import java.util.concurrent.TimeUnit;
+
+public record LoadConfiguration(String host, int port, LoadMode mode, int connections, int threads,
+                                double rate, long warmup, long duration, long interval, CommandMix mix,
+                                long seed) {
+    public static final String DEFAULT_HOST = "localhost";
+    public static final int DEFAULT_PORT = 4444;
+    public static final int DEFAULT_CONNECTIONS = 1000;
+    public static final double DEFAULT_RATE = 10_000;
+    public static final long DEFAULT_WARMUP = TimeUnit.SECONDS.toNanos(5);
+    public static final long DEFAULT_DURATION = TimeUnit.SECONDS.toNanos(30);
+
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+
+    public LoadConfiguration {
+        Validator.validateNotNull(host, "host");
+        Validator.validateNotNull(mode, "mode");
+        Validator.validateNotNull(mix, "mix");
+
+        if (mode == LoadMode.INVALID) {
+            throw new IllegalArgumentException("unknown load mode");
+        }
+
+        if (connections < 1 || threads < 1) {
+            throw new IllegalArgumentException("connection and thread counts must be positive");
+        }
+
+        if (!(rate > 0) || Double.isInfinite(rate)) {
+            throw new IllegalArgumentException("rate must be a positive number");
+        }
+
+        if (warmup < 0 || duration < 1 || interval < 0) {
+            throw new IllegalArgumentException("invalid load timing");
+        }
+    }
+
+    public static LoadConfiguration defaults() {
+        return new LoadConfiguration(DEFAULT_HOST, DEFAULT_PORT, LoadMode.CLOSED, DEFAULT_CONNECTIONS, CORES,
+                DEFAULT_RATE, DEFAULT_WARMUP, DEFAULT_DURATION, 0, CommandMix.parse(CommandMix.DEFAULT_MIX), 0);
+    }
+
+    public static LoadConfiguration fromArguments(String[] arguments) {
+        Validator.validateNotNull(arguments, "arguments");
+
+        LoadConfiguration defaults = defaults();
+        String host = defaults.host();
+        int port = defaults.port();
+        LoadMode mode = defaults.mode();
+        int connections = defaults.connections();
+        int threads = defaults.threads();
+        double rate = defaults.rate();
+        long warmup = defaults.warmup();
+        long duration = defaults.duration();
+        long interval = defaults.interval();
+        CommandMix mix = defaults.mix();
+        long seed = defaults.seed();
+
+        for (int i = 0; i < arguments.length - 1; i += 2) {
+            String value = arguments[i + 1];
+
+            switch (arguments[i]) {
+                case "--host" -> host = value;
+                case "--port" -> port = Integer.parseInt(value);
+                case "--mode" -> mode = LoadMode.getType(value);
+                case "--connections" -> connections = Integer.parseInt(value);
+                case "--threads" -> threads = Integer.parseInt(value);
+                case "--rate" -> rate = Double.parseDouble(value);
+                case "--warmup" -> warmup = TimeUnit.SECONDS.toNanos(Long.parseLong(value));
+                case "--duration" -> duration = TimeUnit.SECONDS.toNanos(Long.parseLong(value));
+                case "--interval-ms" -> interval = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(value));
+                case "--mix" -> mix = CommandMix.parse(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                default -> throw new IllegalArgumentException("unknown option " + arguments[i]);
+            }
+        }
+
+        return new LoadConfiguration(host, port, mode, connections, Math.min(threads, connections), rate, warmup,
+                duration, interval, mix, seed);
+    }
+}
@@ -0,0 +1,90 @@
+package com.security.authentication.load;
+
+import com.security.authentication.exceptions.server.OpenFailException;
+import com.security.authentication.validator.Validator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+public class LoadGenerator {
+    private static final long START_DELAY = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final LoadConfiguration configuration;
+
+    public LoadGenerator(LoadConfiguration configuration) {
+        Validator.validateNotNull(configuration, "configuration");
+
+        this.configuration = configuration;
+    }
+
+    public static void main(String[] args) {
+        LoadConfiguration configuration = LoadConfiguration.fromArguments(args);
+
+        System.out.print(LoadReport.format(configuration, new LoadGenerator(configuration).run()));
+    }
+
+    public LoadStatistics run() {
+        List<LoadWorker> workers = createWorkers();
+
+        try {
+            for (LoadWorker worker : workers) {
+                worker.connect();
+            }
+        } catch (IOException e) {
+            throw new OpenFailException("failed to connect load clients", e);
+        }
+
+        long start = System.nanoTime() + START_DELAY;
+        List<Thread> threads = new ArrayList<>(workers.size());
+
+        for (int i = 0; i < workers.size(); i++) {
+            LoadWorker worker = workers.get(i);
+
+            worker.schedule(start);
+            threads.add(new Thread(worker, "load-worker-" + i));
+        }
+
+        threads.forEach(Thread::start);
+
+        LoadStatistics statistics = new LoadStatistics();
+
+        for (int i = 0; i < threads.size(); i++) {
+            try {
+                threads.get(i).join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            statistics.add(workers.get(i).statistics());
+        }
+
+        return statistics;
+    }
+
+    private List<LoadWorker> createWorkers() {
+        int threads = configuration.threads();
+        List<List<VirtualClient>> clients = new ArrayList<>(threads);
+        SplittableRandom random = new SplittableRandom(configuration.seed());
+        String runId = "load" + Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+        for (int i = 0; i < threads; i++) {
+            clients.add(new ArrayList<>());
+        }
+
+        for (int i = 0; i < configuration.connections(); i++) {
+            clients.get(i % threads).add(new VirtualClient(runId + "c" + i, configuration.mix(), random.split()));
+        }
+
+        List<LoadWorker> workers = new ArrayList<>(threads);
+
+        for (int i = 0; i < threads; i++) {
+            workers.add(new LoadWorker(configuration, i, clients.get(i)));
+        }
+
+        return workers;
+    }
+}
@@ -0,0 +1,70 @@
+package com.security.authentication.load;
+
+import com.security.authentication.enums.CommandType;
+import com.security.authentication.enums.LoadMode;
+import com.security.authentication.metrics.LatencyHistogram;
+import com.security.authentication.validator.Validator;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+public class LoadReport {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+    private static final double NANOS_PER_MICRO = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final String NEW_LINE = System.lineSeparator();
+
+    public static String format(LoadConfiguration configuration, LoadStatistics statistics) {
+        Validator.validateNotNull(configuration, "configuration");
+        Validator.validateNotNull(statistics, "statistics");
+
+        double seconds = (double) configuration.duration() / TimeUnit.SECONDS.toNanos(1);
+        StringBuilder report = new StringBuilder();
+
+        report.append(String.format(Locale.ROOT, "Mode: %s, connections: %d, threads: %d, measured: %.1f s%n",
+                configuration.mode().getMode(), configuration.connections(), configuration.threads(), seconds));
+
+        if (configuration.mode() == LoadMode.OPEN) {
+            report.append(String.format(Locale.ROOT, "Target rate: %.1f req/s%n", configuration.rate()));
+        }
+
+        report.append(String.format(Locale.ROOT, "Throughput: %.1f req/s, unanswered: %d, disconnects: %d%n",
+                statistics.completed() / seconds, statistics.unanswered(), statistics.disconnects()));
+
+        for (CommandType type : CommandType.values()) {
+            long completed = statistics.completed(type);
+
+            if (completed > 0) {
+                report.append(String.format(Locale.ROOT, "  %-16s completed: %10d, succeeded: %10d%n",
+                        type.getMessage(), completed, statistics.succeeded(type)));
+            }
+        }
+
+        appendLatencies(report, "Response time (from intended start, us)", statistics.responseTime());
+        appendLatencies(report, "Service time (from send, us)", statistics.serviceTime());
+
+        if (configuration.mode() == LoadMode.CLOSED && configuration.interval() == 0) {
+            report.append("Note: closed loop without --interval-ms has no intended schedule, so response time")
+                    .append(" equals service time and is not corrected for coordinated omission")
+                    .append(NEW_LINE);
+        }
+
+        return report.toString();
+    }
+
+    private static void appendLatencies(StringBuilder report, String title, LatencyHistogram histogram) {
+        report.append(title).append(':').append(NEW_LINE);
+        report.append(String.format(Locale.ROOT, "  count: %d, mean: %.1f%n", histogram.count(),
+                histogram.mean() / NANOS_PER_MICRO));
+
+        for (double percentile : PERCENTILES) {
+            report.append(String.format(Locale.ROOT, "  p%-6s %12.1f%n", percentile(percentile),
+                    histogram.percentile(percentile) / NANOS_PER_MICRO));
+        }
+
+        report.append(String.format(Locale.ROOT, "  max     %12.1f%n", histogram.max() / NANOS_PER_MICRO));
+    }
+
+    private static String percentile(double percentile) {
+        return percentile == Math.rint(percentile) ? Long.toString((long) percentile) : Double.toString(percentile);
+    }
+}
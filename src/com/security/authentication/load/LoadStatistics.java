@@ -0,0 +1,86 @@
+package com.security.authentication.load;
+
+import com.security.authentication.enums.CommandType;
+import com.security.authentication.metrics.LatencyHistogram;
+import com.security.authentication.validator.Validator;
+
+public class LoadStatistics {
+    private static final int COMMAND_TYPES = CommandType.values().length;
+
+    private final LatencyHistogram serviceTime = new LatencyHistogram();
+    private final LatencyHistogram responseTime = new LatencyHistogram();
+    private final long[] completed = new long[COMMAND_TYPES];
+    private final long[] succeeded = new long[COMMAND_TYPES];
+    private long unanswered;
+    private long disconnects;
+
+    public void record(CommandType type, boolean isSuccess, long serviceNanos, long responseNanos) {
+        Validator.validateNotNull(type, "type");
+
+        serviceTime.record(serviceNanos);
+        responseTime.record(responseNanos);
+        completed[type.ordinal()]++;
+
+        if (isSuccess) {
+            succeeded[type.ordinal()]++;
+        }
+    }
+
+    public void recordUnanswered(long responseNanos) {
+        responseTime.record(responseNanos);
+        unanswered++;
+    }
+
+    public void recordDisconnect() {
+        disconnects++;
+    }
+
+    public void add(LoadStatistics other) {
+        Validator.validateNotNull(other, "other");
+
+        serviceTime.add(other.serviceTime);
+        responseTime.add(other.responseTime);
+
+        for (int i = 0; i < COMMAND_TYPES; i++) {
+            completed[i] += other.completed[i];
+            succeeded[i] += other.succeeded[i];
+        }
+
+        unanswered += other.unanswered;
+        disconnects += other.disconnects;
+    }
+
+    public LatencyHistogram serviceTime() {
+        return serviceTime;
+    }
+
+    public LatencyHistogram responseTime() {
+        return responseTime;
+    }
+
+    public long completed(CommandType type) {
+        return completed[type.ordinal()];
+    }
+
+    public long succeeded(CommandType type) {
+        return succeeded[type.ordinal()];
+    }
+
+    public long completed() {
+        long total = 0;
+
+        for (long count : completed) {
+            total += count;
+        }
+
+        return total;
+    }
+
+    public long unanswered() {
+        return unanswered;
+    }
+
+    public long disconnects() {
+        return disconnects;
+    }
+}
@@ -0,0 +1,348 @@
+package com.security.authentication.load;
+
+import com.security.authentication.enums.CommandType;
+import com.security.authentication.enums.LoadMode;
+import com.security.authentication.validator.Validator;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+public class LoadWorker implements Runnable {
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final long NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final LoadConfiguration configuration;
+    private final List<ClientConnection> connections;
+    private final LoadStatistics statistics;
+    private final ArrayDeque<ClientConnection> idle;
+    private final PriorityQueue<ClientConnection> scheduled;
+    private final ByteBuffer readBuffer;
+    private final double arrivalPeriod;
+    private final double arrivalOffset;
+    private Selector selector;
+    private long start;
+    private long measureFrom;
+    private long end;
+    private long arrived;
+    private long dispatched;
+
+    public LoadWorker(LoadConfiguration configuration, int index, List<VirtualClient> clients) {
+        Validator.validateNotNull(configuration, "configuration");
+        Validator.validateNotNull(clients, "clients");
+
+        this.configuration = configuration;
+        this.connections = new ArrayList<>(clients.size());
+        this.statistics = new LoadStatistics();
+        this.idle = new ArrayDeque<>();
+        this.scheduled = new PriorityQueue<>(Comparator.comparingLong(connection -> connection.intendedAt));
+        this.readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+        this.arrivalPeriod = TimeUnit.SECONDS.toNanos(1) * (double) configuration.threads() / configuration.rate();
+        this.arrivalOffset = TimeUnit.SECONDS.toNanos(1) * (double) index / configuration.rate();
+
+        for (VirtualClient client : clients) {
+            connections.add(new ClientConnection(client));
+        }
+    }
+
+    public void connect() throws IOException {
+        selector = Selector.open();
+
+        InetSocketAddress address = new InetSocketAddress(configuration.host(), configuration.port());
+
+        for (ClientConnection connection : connections) {
+            SocketChannel channel = SocketChannel.open(address);
+
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.configureBlocking(false);
+            connection.channel = channel;
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+        }
+    }
+
+    public void schedule(long start) {
+        this.start = start;
+        this.measureFrom = start + configuration.warmup();
+        this.end = measureFrom + configuration.duration();
+    }
+
+    public LoadStatistics statistics() {
+        return statistics;
+    }
+
+    @Override
+    public void run() {
+        try {
+            prepare();
+
+            for (long now = System.nanoTime(); now - end < 0; now = System.nanoTime()) {
+                dispatch(now);
+                await(now);
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key);
+                }
+            }
+
+            recordUnanswered(System.nanoTime());
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            close();
+        }
+    }
+
+    private void prepare() {
+        int count = connections.size();
+
+        for (int i = 0; i < count; i++) {
+            ClientConnection connection = connections.get(i);
+
+            if (configuration.mode() == LoadMode.OPEN) {
+                idle.add(connection);
+            } else {
+                connection.intendedAt = start + configuration.interval() * i / count;
+                scheduled.add(connection);
+            }
+        }
+    }
+
+    private void dispatch(long now) {
+        if (configuration.mode() == LoadMode.OPEN) {
+            while (now - arrivalTime(arrived) >= 0) {
+                arrived++;
+            }
+
+            while (dispatched < arrived && !idle.isEmpty()) {
+                send(idle.poll(), arrivalTime(dispatched++), now);
+            }
+
+            return;
+        }
+
+        while (!scheduled.isEmpty() && now - scheduled.peek().intendedAt >= 0) {
+            ClientConnection connection = scheduled.poll();
+
+            send(connection, connection.intendedAt, now);
+        }
+    }
+
+    private void await(long now) throws IOException {
+        long next = end;
+
+        if (configuration.mode() == LoadMode.OPEN) {
+            next = Math.min(next, arrivalTime(arrived));
+        } else if (!scheduled.isEmpty()) {
+            next = Math.min(next, scheduled.peek().intendedAt);
+        }
+
+        long timeout = (next - now) / NANOS_PER_MILLI;
+
+        if (timeout < 1) {
+            selector.selectNow();
+        } else {
+            selector.select(timeout);
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        ClientConnection connection = (ClientConnection) key.attachment();
+
+        try {
+            if (key.isValid() && key.isWritable()) {
+                flush(connection);
+            }
+
+            if (key.isValid() && key.isReadable()) {
+                read(connection);
+            }
+        } catch (IOException e) {
+            disconnect(connection);
+        }
+    }
+
+    private void send(ClientConnection connection, long intendedAt, long now) {
+        connection.intendedAt = intendedAt;
+        connection.sentAt = now;
+        connection.output = ByteBuffer.wrap(connection.client.nextCommand().getBytes(StandardCharsets.UTF_8));
+
+        try {
+            flush(connection);
+        } catch (IOException e) {
+            disconnect(connection);
+        }
+    }
+
+    private void flush(ClientConnection connection) throws IOException {
+        connection.channel.write(connection.output);
+
+        int interest = connection.output.hasRemaining()
+                ? SelectionKey.OP_READ | SelectionKey.OP_WRITE
+                : SelectionKey.OP_READ;
+
+        connection.key.interestOps(interest);
+    }
+
+    private void read(ClientConnection connection) throws IOException {
+        readBuffer.clear();
+
+        if (connection.channel.read(readBuffer) < 0) {
+            disconnect(connection);
+            return;
+        }
+
+        readBuffer.flip();
+
+        while (readBuffer.hasRemaining()) {
+            byte next = readBuffer.get();
+
+            if (next != '\n') {
+                connection.append(next);
+                continue;
+            }
+
+            complete(connection, connection.takeLine(), System.nanoTime());
+        }
+    }
+
+    private void complete(ClientConnection connection, String response, long now) {
+        CommandType type = connection.client.pending();
+
+        if (type == null) {
+            return;
+        }
+
+        boolean isSuccess = connection.client.accept(response);
+
+        if (now - measureFrom >= 0) {
+            statistics.record(type, isSuccess, now - connection.sentAt, now - connection.intendedAt);
+        }
+
+        if (configuration.mode() == LoadMode.OPEN) {
+            idle.add(connection);
+        } else {
+            connection.intendedAt = configuration.interval() == 0 ? now
+                    : connection.intendedAt + configuration.interval();
+            scheduled.add(connection);
+        }
+    }
+
+    private void recordUnanswered(long now) {
+        for (long slot = dispatched; slot < arrived; slot++) {
+            statistics.recordUnanswered(now - arrivalTime(slot));
+        }
+
+        for (ClientConnection connection : connections) {
+            boolean isInFlight = connection.client.pending() != null;
+
+            if (isInFlight) {
+                statistics.recordUnanswered(now - connection.intendedAt);
+            }
+
+            if (configuration.mode() == LoadMode.OPEN || configuration.interval() == 0 || !connection.isOpen()) {
+                continue;
+            }
+
+            long slot = isInFlight ? connection.intendedAt + configuration.interval() : connection.intendedAt;
+
+            for (; now - slot > 0; slot += configuration.interval()) {
+                statistics.recordUnanswered(now - slot);
+            }
+        }
+    }
+
+    private long arrivalTime(long slot) {
+        return start + (long) (arrivalOffset + slot * arrivalPeriod);
+    }
+
+    private void disconnect(ClientConnection connection) {
+        long now = System.nanoTime();
+
+        if (connection.client.pending() != null && now - measureFrom >= 0) {
+            statistics.recordUnanswered(now - connection.intendedAt);
+        }
+
+        statistics.recordDisconnect();
+        connection.client.disconnect();
+        connection.key.cancel();
+        idle.remove(connection);
+        scheduled.remove(connection);
+
+        try {
+            connection.channel.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void close() {
+        for (ClientConnection connection : connections) {
+            try {
+                if (connection.channel != null) {
+                    connection.channel.close();
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        try {
+            if (selector != null) {
+                selector.close();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static class ClientConnection {
+        private final VirtualClient client;
+        private SocketChannel channel;
+        private SelectionKey key;
+        private ByteBuffer output;
+        private byte[] line = new byte[256];
+        private int lineLength;
+        private long intendedAt;
+        private long sentAt;
+
+        private ClientConnection(VirtualClient client) {
+            this.client = client;
+        }
+
+        private boolean isOpen() {
+            return channel != null && channel.isOpen();
+        }
+
+        private void append(byte next) {
+            if (lineLength == line.length) {
+                line = Arrays.copyOf(line, 2 * line.length);
+            }
+
+            line[lineLength++] = next;
+        }
+
+        private String takeLine() {
+            int length = lineLength > 0 && line[lineLength - 1] == '\r' ? lineLength - 1 : lineLength;
+            lineLength = 0;
+
+            return new String(line, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+}
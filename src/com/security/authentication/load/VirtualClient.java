@@ -0,0 +1,165 @@
+package com.security.authentication.load;
+
+import com.security.authentication.enums.CommandType;
+import com.security.authentication.enums.Response;
+import com.security.authentication.validator.Validator;
+
+import java.util.SplittableRandom;
+
+public class VirtualClient {
+    private static final String LOGGED_IN_PREFIX = Response.LOGGED_IN.prefix();
+    private static final String LOGGED_IN_SUFFIX = Response.LOGGED_IN.suffix();
+    private static final String PASSWORD_CHANGED_PREFIX = Response.PASSWORD_CHANGED.prefix();
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789";
+
+    private final String namePrefix;
+    private final CommandMix mix;
+    private final SplittableRandom random;
+
+    private int identities;
+    private String username;
+    private String password;
+    private String newPassword;
+    private String sessionId;
+    private boolean isRegistered;
+    private boolean isSessionStale;
+    private CommandType pending;
+
+    public VirtualClient(String namePrefix, CommandMix mix, SplittableRandom random) {
+        Validator.validateNotNull(namePrefix, "namePrefix");
+        Validator.validateNotNull(mix, "mix");
+        Validator.validateNotNull(random, "random");
+
+        this.namePrefix = namePrefix;
+        this.mix = mix;
+        this.random = random;
+    }
+
+    public String nextCommand() {
+        if (pending != null) {
+            throw new IllegalStateException("a command is already in flight");
+        }
+
+        CommandType wanted = mix.pick(random);
+        boolean isLoggedIn = sessionId != null;
+
+        if (!isRegistered || (wanted == CommandType.REGISTER && !isLoggedIn)) {
+            return register();
+        }
+
+        if (isLoggedIn && (isSessionStale || wanted == CommandType.REGISTER || wanted == CommandType.LOGIN)) {
+            return send(CommandType.LOGOUT, "logout --session-id " + sessionId);
+        }
+
+        if (!isLoggedIn) {
+            return send(CommandType.LOGIN, "login --username " + username + " --password " + password);
+        }
+
+        return switch (wanted) {
+            case UPDATE_USER -> send(CommandType.UPDATE_USER,
+                    "update-user --session-id " + sessionId + " --new-first-name " + word(8));
+            case RESET_PASSWORD -> resetPassword();
+            default -> send(CommandType.LOGOUT, "logout --session-id " + sessionId);
+        };
+    }
+
+    public CommandType pending() {
+        return pending;
+    }
+
+    public boolean accept(String response) {
+        Validator.validateNotNull(response, "response");
+
+        if (pending == null) {
+            throw new IllegalStateException("no command is in flight");
+        }
+
+        CommandType answered = pending;
+        pending = null;
+
+        if (response.equals(Response.WRONG_SESSION_ID.getMessage())
+                || response.equals(Response.NOT_LOGGED_IN.getMessage())) {
+            sessionId = null;
+            isSessionStale = false;
+            return false;
+        }
+
+        return switch (answered) {
+            case REGISTER -> isRegistered = response.equals(Response.REGISTERED.getMessage())
+                    || response.equals(Response.REGISTERED_AS_ADMIN.getMessage());
+            case LOGIN -> acceptLogIn(response);
+            case UPDATE_USER -> response.equals(Response.PROFILE_UPDATED.getMessage());
+            case RESET_PASSWORD -> acceptPasswordChange(response);
+            case LOGOUT -> acceptLogOut(response);
+            default -> false;
+        };
+    }
+
+    public void disconnect() {
+        sessionId = null;
+        isSessionStale = false;
+        pending = null;
+    }
+
+    private String register() {
+        username = namePrefix + "-" + identities++;
+        password = word(12);
+        isRegistered = false;
+        sessionId = null;
+
+        return send(CommandType.REGISTER, "register --username " + username + " --password " + password
+                + " --first-name " + word(8) + " --last-name " + word(10) + " --email " + word(8) + "@load.test");
+    }
+
+    private String resetPassword() {
+        newPassword = word(12);
+
+        return send(CommandType.RESET_PASSWORD, "reset-password --session-id " + sessionId + " --username "
+                + username + " --old-password " + password + " --new-password " + newPassword);
+    }
+
+    private boolean acceptLogIn(String response) {
+        if (!response.startsWith(LOGGED_IN_PREFIX) || !response.endsWith(LOGGED_IN_SUFFIX)) {
+            isRegistered = false;
+            return false;
+        }
+
+        sessionId = response.substring(LOGGED_IN_PREFIX.length(), response.length() - LOGGED_IN_SUFFIX.length());
+
+        return true;
+    }
+
+    private boolean acceptPasswordChange(String response) {
+        if (!response.startsWith(PASSWORD_CHANGED_PREFIX)) {
+            return false;
+        }
+
+        password = newPassword;
+        isSessionStale = true;
+
+        return true;
+    }
+
+    private boolean acceptLogOut(String response) {
+        sessionId = null;
+        isSessionStale = false;
+
+        return response.equals(Response.LOGGED_OUT.getMessage());
+    }
+
+    private String send(CommandType type, String command) {
+        pending = type;
+
+        return command + "\n";
+    }
+
+    private String word(int length) {
+        StringBuilder word = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++) {
+            word.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+
+        return word.toString();
+    }
+}
@@ -0,0 +1,245 @@
+package com.security.authentication.log;
+
+import com.security.authentication.exceptions.server.OpenFailException;
+import com.security.authentication.formatter.LogFormatter;
+import com.security.authentication.validator.Validator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AsyncAuditLog implements Log, Closeable {
+    public static final long SYNC_EVERY_BATCH = 0;
+    public static final long NEVER_SYNC = Long.MAX_VALUE;
+    public static final int DEFAULT_CAPACITY = 64 * 1024;
+    public static final long DEFAULT_OFFER_TIMEOUT = TimeUnit.MILLISECONDS.toNanos(5);
+    public static final long DEFAULT_SYNC_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private static final int MAX_BATCH_EVENTS = 4096;
+    private static final long IDLE_POLL_MILLIS = 50;
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final FileChannel channel;
+    private final BlockingQueue<Object> events;
+    private final long offerTimeout;
+    private final long syncInterval;
+    private final AtomicLong droppedEvents;
+    private final Thread writerThread;
+    private final StringBuilder text;
+    private final CharsetEncoder encoder;
+    private final ByteBuffer output;
+    private volatile boolean isOpen;
+    private boolean hasUnsyncedWrites;
+    private long lastSync;
+
+    public AsyncAuditLog(Path file) {
+        this(file, DEFAULT_CAPACITY, DEFAULT_OFFER_TIMEOUT, DEFAULT_SYNC_INTERVAL);
+    }
+
+    public AsyncAuditLog(Path file, int capacity, long offerTimeout, long syncInterval) {
+        Validator.validateNotNull(file, "file");
+
+        if (capacity < 1 || offerTimeout < 0 || syncInterval < 0) {
+            throw new IllegalArgumentException("invalid audit log bounds");
+        }
+
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            this.reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new OpenFailException("failed to open audit log", e);
+        }
+
+        this.events = new ArrayBlockingQueue<>(capacity);
+        this.offerTimeout = offerTimeout;
+        this.syncInterval = syncInterval;
+        this.droppedEvents = new AtomicLong();
+        this.text = new StringBuilder(OUTPUT_BUFFER_SIZE);
+        this.encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.output = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE);
+        this.lastSync = System.nanoTime();
+        this.isOpen = true;
+        this.writerThread = new Thread(this::drain, "audit-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @Override
+    public void write(String event) {
+        Validator.validateNotNull(event, "event");
+
+        enqueue(event);
+    }
+
+    @Override
+    public void write(AuditEvent event) {
+        Validator.validateNotNull(event, "event");
+
+        enqueue(event);
+    }
+
+    @Override
+    public Reader read() {
+        return reader;
+    }
+
+    public int queueDepth() {
+        return events.size();
+    }
+
+    public long droppedEvents() {
+        return droppedEvents.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        isOpen = false;
+
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<Object> remaining = new ArrayList<>();
+        events.drainTo(remaining);
+
+        try (channel; reader) {
+            if (!remaining.isEmpty()) {
+                writeRemaining(remaining);
+            }
+
+            if (hasUnsyncedWrites && syncInterval != NEVER_SYNC) {
+                channel.force(false);
+            }
+        }
+    }
+
+    private void enqueue(Object event) {
+        if (!isOpen) {
+            droppedEvents.incrementAndGet();
+            return;
+        }
+
+        try {
+            if (!events.offer(event, offerTimeout, TimeUnit.NANOSECONDS)) {
+                droppedEvents.incrementAndGet();
+            } else if (!isOpen && events.remove(event)) {
+                droppedEvents.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            droppedEvents.incrementAndGet();
+        }
+    }
+
+    private void drain() {
+        List<Object> batch = new ArrayList<>(MAX_BATCH_EVENTS);
+
+        while (isOpen || !events.isEmpty()) {
+            Object first;
+
+            try {
+                first = events.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            try {
+                if (first != null) {
+                    batch.add(first);
+                    events.drainTo(batch, MAX_BATCH_EVENTS - 1);
+                    writeBatch(batch);
+                    batch.clear();
+                }
+
+                syncIfDue();
+            } catch (IOException e) {
+                e.printStackTrace();
+                droppedEvents.addAndGet(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeRemaining(List<Object> remaining) throws IOException {
+        try {
+            writeBatch(remaining);
+        } catch (IOException e) {
+            droppedEvents.addAndGet(remaining.size());
+            throw e;
+        }
+    }
+
+    private void writeBatch(List<Object> batch) throws IOException {
+        text.setLength(0);
+
+        for (Object event : batch) {
+            if (event instanceof AuditEvent auditEvent) {
+                LogFormatter.appendTo(text, auditEvent);
+            } else {
+                text.append((String) event);
+            }
+        }
+
+        CharBuffer chars = CharBuffer.wrap(text);
+        CoderResult result;
+
+        encoder.reset();
+
+        do {
+            result = encoder.encode(chars, output, true);
+
+            if (result.isOverflow()) {
+                flushOutput();
+            }
+        } while (result.isOverflow());
+
+        while (encoder.flush(output).isOverflow()) {
+            flushOutput();
+        }
+
+        flushOutput();
+        hasUnsyncedWrites = true;
+    }
+
+    private void flushOutput() throws IOException {
+        output.flip();
+
+        while (output.hasRemaining()) {
+            channel.write(output);
+        }
+
+        output.clear();
+    }
+
+    private void syncIfDue() throws IOException {
+        long now = System.nanoTime();
+
+        if (hasUnsyncedWrites && syncInterval != NEVER_SYNC && now - lastSync >= syncInterval) {
+            channel.force(false);
+            hasUnsyncedWrites = false;
+            lastSync = now;
+        }
+    }
+}
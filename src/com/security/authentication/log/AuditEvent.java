@@ -0,0 +1,35 @@
+package com.security.authentication.log;
+
+import com.security.authentication.enums.LOGInfoStatus;
+import com.security.authentication.enums.LOGInfoType;
+import com.security.authentication.validator.Validator;
+
+import java.time.Instant;
+
+public record AuditEvent(Instant timestamp, LOGInfoType type, LOGInfoStatus status, String ip,
+                         String perpetrator, String target, boolean succeeded) {
+    public AuditEvent {
+        Validator.validateNotNull(timestamp, "timestamp");
+        Validator.validateNotNull(type, "type");
+        Validator.validateNotNull(ip, "ip");
+        Validator.validateNotNull(perpetrator, "perpetrator");
+        Validator.validateNotNull(target, "target");
+    }
+
+    public static AuditEvent of(LOGInfoType type, String ip) {
+        return new AuditEvent(Instant.now(), type, null, ip, "", "", false);
+    }
+
+    public static AuditEvent raw(String text) {
+        Validator.validateNotNull(text, "text");
+
+        return new AuditEvent(Instant.now(), LOGInfoType.RAW_EVENT, null, "", "", text, false);
+    }
+
+    public static AuditEvent of(LOGInfoStatus status, LOGInfoType type, String ip, String perpetrator,
+                                String target, boolean succeeded) {
+        Validator.validateNotNull(status, "status");
+
+        return new AuditEvent(Instant.now(), type, status, ip, perpetrator, target, succeeded);
+    }
+}
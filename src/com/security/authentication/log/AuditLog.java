@@ -1,5 +1,6 @@
 package com.security.authentication.log;
 
+import com.security.authentication.formatter.LogFormatter;
 import com.security.authentication.validator.Validator;
 
 import java.io.IOException;
@@ -9,6 +10,8 @@ import java.io.Writer;
 public class AuditLog implements Log {
     private final Reader reader;
     private final Writer writer;
+    private final StringBuilder text = new StringBuilder(512);
+    private char[] chars = new char[512];
 
     public AuditLog(Reader reader, Writer writer) {
         this.reader = reader;
@@ -16,7 +19,7 @@ public class AuditLog implements Log {
     }
 
     @Override
-    public void write(String event) {
+    public synchronized void write(String event) {
         Validator.validateNotNull(event, "event");
 
         try {
@@ -26,6 +29,27 @@ public class AuditLog implements Log {
         }
     }
 
+    @Override
+    public synchronized void write(AuditEvent event) {
+        Validator.validateNotNull(event, "event");
+
+        text.setLength(0);
+        LogFormatter.appendTo(text, event);
+
+        if (chars.length < text.length()) {
+            chars = new char[text.capacity()];
+        }
+
+        text.getChars(0, text.length(), chars, 0);
+
+        try {
+            writer.write(chars, 0, text.length());
+            writer.flush();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
     @Override
     public Reader read() {
         return this.reader;
@@ -0,0 +1,125 @@
+package com.security.authentication.log;
+
+import com.security.authentication.enums.LOGInfoStatus;
+import com.security.authentication.enums.LOGInfoType;
+import com.security.authentication.validator.Validator;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+public class AuditRecord {
+    public static final int LENGTH_OFFSET = 0;
+    public static final int TIMESTAMP_OFFSET = 4;
+    public static final int TYPE_OFFSET = 12;
+    public static final int STATUS_OFFSET = 13;
+    public static final int SUCCEEDED_OFFSET = 14;
+    public static final int IP_LENGTH_OFFSET = 15;
+    public static final int PERPETRATOR_LENGTH_OFFSET = 19;
+    public static final int TARGET_LENGTH_OFFSET = 23;
+    public static final int HEADER_SIZE = 27;
+
+    private static final byte NO_STATUS = -1;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final LOGInfoType[] TYPES = LOGInfoType.values();
+    private static final LOGInfoStatus[] STATUSES = LOGInfoStatus.values();
+
+    public static byte[] encode(AuditEvent event) {
+        Validator.validateNotNull(event, "event");
+
+        byte[] ip = event.ip().getBytes(StandardCharsets.UTF_8);
+        byte[] perpetrator = event.perpetrator().getBytes(StandardCharsets.UTF_8);
+        byte[] target = event.target().getBytes(StandardCharsets.UTF_8);
+        int length = HEADER_SIZE + ip.length + perpetrator.length + target.length;
+
+        return ByteBuffer.allocate(length)
+                .putInt(length)
+                .putLong(toNanos(event.timestamp()))
+                .put((byte) event.type().ordinal())
+                .put(event.status() == null ? NO_STATUS : (byte) event.status().ordinal())
+                .put((byte) (event.succeeded() ? 1 : 0))
+                .putInt(ip.length)
+                .putInt(perpetrator.length)
+                .putInt(target.length)
+                .put(ip)
+                .put(perpetrator)
+                .put(target)
+                .array();
+    }
+
+    public static AuditEvent decode(ByteBuffer buffer, int offset) {
+        Validator.validateNotNull(buffer, "buffer");
+
+        int ipLength = buffer.getInt(offset + IP_LENGTH_OFFSET);
+        int perpetratorLength = buffer.getInt(offset + PERPETRATOR_LENGTH_OFFSET);
+        int targetLength = buffer.getInt(offset + TARGET_LENGTH_OFFSET);
+        int ipOffset = offset + HEADER_SIZE;
+        int perpetratorOffset = ipOffset + ipLength;
+        int targetOffset = perpetratorOffset + perpetratorLength;
+        byte status = buffer.get(offset + STATUS_OFFSET);
+
+        return new AuditEvent(timestamp(buffer, offset),
+                TYPES[buffer.get(offset + TYPE_OFFSET)],
+                status == NO_STATUS ? null : STATUSES[status],
+                string(buffer, ipOffset, ipLength),
+                string(buffer, perpetratorOffset, perpetratorLength),
+                string(buffer, targetOffset, targetLength),
+                buffer.get(offset + SUCCEEDED_OFFSET) == 1);
+    }
+
+    public static int length(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset + LENGTH_OFFSET);
+    }
+
+    public static long timestampNanos(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + TIMESTAMP_OFFSET);
+    }
+
+    public static boolean isComplete(ByteBuffer buffer, int offset, int limit) {
+        if (limit - offset < HEADER_SIZE) {
+            return false;
+        }
+
+        int length = length(buffer, offset);
+        int ipLength = buffer.getInt(offset + IP_LENGTH_OFFSET);
+        int perpetratorLength = buffer.getInt(offset + PERPETRATOR_LENGTH_OFFSET);
+        int targetLength = buffer.getInt(offset + TARGET_LENGTH_OFFSET);
+        byte type = buffer.get(offset + TYPE_OFFSET);
+        byte status = buffer.get(offset + STATUS_OFFSET);
+
+        return length >= HEADER_SIZE && length <= limit - offset
+                && ipLength >= 0 && perpetratorLength >= 0 && targetLength >= 0
+                && (long) HEADER_SIZE + ipLength + perpetratorLength + targetLength == length
+                && type >= 0 && type < TYPES.length
+                && status >= NO_STATUS && status < STATUSES.length;
+    }
+
+    public static int ipHash(String ip) {
+        Validator.validateNotNull(ip, "ip");
+
+        return ip.hashCode();
+    }
+
+    public static long toNanos(Instant instant) {
+        Validator.validateNotNull(instant, "instant");
+
+        try {
+            return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+        } catch (ArithmeticException e) {
+            return instant.getEpochSecond() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    private static Instant timestamp(ByteBuffer buffer, int offset) {
+        long nanos = timestampNanos(buffer, offset);
+
+        return Instant.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND), Math.floorMod(nanos, NANOS_PER_SECOND));
+    }
+
+    private static String string(ByteBuffer buffer, int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,387 @@
+package com.security.authentication.log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class AuditSegment implements Closeable {
+    public static final int RECORDS_PER_BLOCK = 64;
+
+    private static final int BLOCK_ENTRY_SIZE = 28;
+    private static final int IP_ENTRY_SIZE = 12;
+    private static final int INITIAL_BLOCKS = 64;
+
+    private final long id;
+    private final FileChannel data;
+    private final FileChannel blockIndex;
+    private final FileChannel ipIndex;
+
+    private long[] blockOffsets = new long[INITIAL_BLOCKS];
+    private long[] blockMinimums = new long[INITIAL_BLOCKS];
+    private long[] blockMaximums = new long[INITIAL_BLOCKS];
+    private long[] blockFirstRecords = new long[INITIAL_BLOCKS];
+    private int sealedBlocks;
+    private long sealedRecords;
+
+    private final int[] openHashes = new int[RECORDS_PER_BLOCK];
+    private final long[] openOffsets = new long[RECORDS_PER_BLOCK];
+    private int openRecords;
+    private long openMinimum;
+    private long openMaximum;
+
+    private long size;
+    private long minimum = Long.MAX_VALUE;
+    private long maximum = Long.MIN_VALUE;
+
+    private AuditSegment(long id, FileChannel data, FileChannel blockIndex, FileChannel ipIndex) {
+        this.id = id;
+        this.data = data;
+        this.blockIndex = blockIndex;
+        this.ipIndex = ipIndex;
+    }
+
+    public static AuditSegment open(Path directory, long id, boolean isActive) throws IOException {
+        FileChannel data = FileChannel.open(dataPath(directory, id), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel blockIndex = FileChannel.open(directory.resolve(name(id) + ".tidx"), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel ipIndex = FileChannel.open(directory.resolve(name(id) + ".ipx"), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        AuditSegment segment = new AuditSegment(id, data, blockIndex, ipIndex);
+
+        if (isActive || !segment.loadIndexes()) {
+            segment.rebuildIndexes();
+        }
+
+        return segment;
+    }
+
+    public static Path dataPath(Path directory, long id) {
+        return directory.resolve(name(id) + ".seg");
+    }
+
+    public long id() {
+        return id;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public void append(byte[] record, long timestamp, int ipHash) throws IOException {
+        write(data, ByteBuffer.wrap(record), size);
+        index(record.length, timestamp, ipHash);
+    }
+
+    public void seal() throws IOException {
+        if (openRecords == 0) {
+            return;
+        }
+
+        ByteBuffer hashes = ByteBuffer.allocate(openRecords * IP_ENTRY_SIZE);
+
+        for (int i = 0; i < openRecords; i++) {
+            hashes.putInt(openHashes[i]).putLong(openOffsets[i]);
+        }
+
+        write(ipIndex, hashes.flip(), sealedRecords * IP_ENTRY_SIZE);
+
+        ByteBuffer entry = ByteBuffer.allocate(BLOCK_ENTRY_SIZE)
+                .putLong(openOffsets[0])
+                .putInt(openRecords)
+                .putLong(openMinimum)
+                .putLong(openMaximum);
+
+        write(blockIndex, entry.flip(), (long) sealedBlocks * BLOCK_ENTRY_SIZE);
+        addBlock(openOffsets[0], openMinimum, openMaximum);
+        sealedRecords += openRecords;
+        openRecords = 0;
+    }
+
+    public void force() throws IOException {
+        data.force(false);
+        blockIndex.force(false);
+        ipIndex.force(false);
+    }
+
+    public View view() {
+        return new View(blockOffsets, blockMinimums, blockMaximums, blockFirstRecords, sealedBlocks, sealedRecords,
+                openRecords == 0 ? size : openOffsets[0], openMinimum, openMaximum, openRecords, size,
+                minimum, maximum);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (data; blockIndex; ipIndex) {
+            seal();
+            force();
+        }
+    }
+
+    public final class View {
+        private final long[] offsets;
+        private final long[] minimums;
+        private final long[] maximums;
+        private final long[] firstRecords;
+        private final int blocks;
+        private final long indexedRecords;
+        private final long openOffset;
+        private final long openMinimum;
+        private final long openMaximum;
+        private final int openRecords;
+        private final long end;
+        private final long minimum;
+        private final long maximum;
+
+        private View(long[] offsets, long[] minimums, long[] maximums, long[] firstRecords, int blocks,
+                     long indexedRecords, long openOffset, long openMinimum, long openMaximum, int openRecords,
+                     long end, long minimum, long maximum) {
+            this.offsets = offsets;
+            this.minimums = minimums;
+            this.maximums = maximums;
+            this.firstRecords = firstRecords;
+            this.blocks = blocks;
+            this.indexedRecords = indexedRecords;
+            this.openOffset = openOffset;
+            this.openMinimum = openMinimum;
+            this.openMaximum = openMaximum;
+            this.openRecords = openRecords;
+            this.end = end;
+            this.minimum = minimum;
+            this.maximum = maximum;
+        }
+
+        public boolean overlaps(long from, long to) {
+            return minimum <= to && maximum >= from;
+        }
+
+        public Stream<AuditEvent> events(long from, long to) {
+            if (!overlaps(from, to)) {
+                return Stream.empty();
+            }
+
+            Stream<AuditEvent> sealed = IntStream.range(0, blocks)
+                    .filter(block -> overlaps(block, from, to))
+                    .mapToObj(block -> readBlock(offsets[block], blockEnd(block)).stream())
+                    .flatMap(events -> events);
+            Stream<AuditEvent> open = openRecords > 0 && openMinimum <= to && openMaximum >= from
+                    ? Stream.of(openOffset).flatMap(offset -> readBlock(offset, end).stream())
+                    : Stream.empty();
+
+            return Stream.concat(sealed, open).filter(event -> isWithin(event, from, to));
+        }
+
+        public Stream<AuditEvent> events(String ip, long from, long to) {
+            if (!overlaps(from, to)) {
+                return Stream.empty();
+            }
+
+            int hash = AuditRecord.ipHash(ip);
+            Stream<AuditEvent> sealed = Stream.of(hash)
+                    .flatMap(wanted -> indexedOffsets(wanted, from, to).stream())
+                    .map(this::readRecord);
+            Stream<AuditEvent> open = openRecords > 0 && openMinimum <= to && openMaximum >= from
+                    ? Stream.of(openOffset).flatMap(offset -> readBlock(offset, end).stream())
+                    : Stream.empty();
+
+            return Stream.concat(sealed, open)
+                    .filter(event -> event.ip().equals(ip) && isWithin(event, from, to));
+        }
+
+        private long blockEnd(int block) {
+            return block + 1 < blocks ? offsets[block + 1] : openOffset;
+        }
+
+        private List<Long> indexedOffsets(int hash, long from, long to) {
+            List<Long> matches = new ArrayList<>();
+            int block = 0;
+
+            while (block < blocks) {
+                if (!overlaps(block, from, to)) {
+                    block++;
+                    continue;
+                }
+
+                int runStart = block;
+
+                while (block < blocks && overlaps(block, from, to)) {
+                    block++;
+                }
+
+                long firstRecord = firstRecords[runStart];
+                long lastRecord = block < blocks ? firstRecords[block] : indexedRecords;
+                ByteBuffer entries = read(ipIndex, firstRecord * IP_ENTRY_SIZE,
+                        (lastRecord - firstRecord) * IP_ENTRY_SIZE);
+
+                while (entries.hasRemaining()) {
+                    int entryHash = entries.getInt();
+                    long offset = entries.getLong();
+
+                    if (entryHash == hash) {
+                        matches.add(offset);
+                    }
+                }
+            }
+
+            return matches;
+        }
+
+        private boolean overlaps(int block, long from, long to) {
+            return minimums[block] <= to && maximums[block] >= from;
+        }
+
+        private AuditEvent readRecord(long offset) {
+            int length = read(data, offset, Integer.BYTES).getInt(0);
+
+            return AuditRecord.decode(read(data, offset, length), 0);
+        }
+    }
+
+    private boolean loadIndexes() throws IOException {
+        long entries = blockIndex.size() / BLOCK_ENTRY_SIZE;
+        ByteBuffer index = read(blockIndex, 0, entries * BLOCK_ENTRY_SIZE);
+
+        while (index.hasRemaining()) {
+            long offset = index.getLong();
+            int records = index.getInt();
+            long blockMinimum = index.getLong();
+            long blockMaximum = index.getLong();
+
+            addBlock(offset, blockMinimum, blockMaximum);
+            sealedRecords += records;
+            minimum = Math.min(minimum, blockMinimum);
+            maximum = Math.max(maximum, blockMaximum);
+        }
+
+        size = data.size();
+
+        boolean isConsistent = blockIndex.size() == entries * BLOCK_ENTRY_SIZE
+                && ipIndex.size() == sealedRecords * IP_ENTRY_SIZE
+                && (sealedBlocks == 0 ? size == 0 : blockOffsets[sealedBlocks - 1] < size);
+
+        if (!isConsistent) {
+            resetIndexes();
+        }
+
+        return isConsistent;
+    }
+
+    private void rebuildIndexes() throws IOException {
+        resetIndexes();
+        blockIndex.truncate(0);
+        ipIndex.truncate(0);
+
+        ByteBuffer records = read(data, 0, data.size());
+        int offset = 0;
+
+        while (AuditRecord.isComplete(records, offset, records.limit())) {
+            int recordLength = AuditRecord.length(records, offset);
+
+            index(recordLength, AuditRecord.timestampNanos(records, offset),
+                    AuditRecord.ipHash(AuditRecord.decode(records, offset).ip()));
+            offset += recordLength;
+        }
+
+        data.truncate(offset);
+    }
+
+    private void index(int length, long timestamp, int ipHash) throws IOException {
+        if (openRecords == 0) {
+            openMinimum = timestamp;
+            openMaximum = timestamp;
+        }
+
+        openHashes[openRecords] = ipHash;
+        openOffsets[openRecords] = size;
+        openRecords++;
+        openMinimum = Math.min(openMinimum, timestamp);
+        openMaximum = Math.max(openMaximum, timestamp);
+        minimum = Math.min(minimum, timestamp);
+        maximum = Math.max(maximum, timestamp);
+        size += length;
+
+        if (openRecords == RECORDS_PER_BLOCK) {
+            seal();
+        }
+    }
+
+    private void resetIndexes() {
+        sealedBlocks = 0;
+        sealedRecords = 0;
+        openRecords = 0;
+        size = 0;
+        minimum = Long.MAX_VALUE;
+        maximum = Long.MIN_VALUE;
+    }
+
+    private void addBlock(long offset, long blockMinimum, long blockMaximum) {
+        if (sealedBlocks == blockOffsets.length) {
+            blockOffsets = Arrays.copyOf(blockOffsets, 2 * sealedBlocks);
+            blockMinimums = Arrays.copyOf(blockMinimums, 2 * sealedBlocks);
+            blockMaximums = Arrays.copyOf(blockMaximums, 2 * sealedBlocks);
+            blockFirstRecords = Arrays.copyOf(blockFirstRecords, 2 * sealedBlocks);
+        }
+
+        blockOffsets[sealedBlocks] = offset;
+        blockMinimums[sealedBlocks] = blockMinimum;
+        blockMaximums[sealedBlocks] = blockMaximum;
+        blockFirstRecords[sealedBlocks] = sealedRecords;
+        sealedBlocks++;
+    }
+
+    private List<AuditEvent> readBlock(long from, long to) {
+        ByteBuffer block = read(data, from, to - from);
+        List<AuditEvent> events = new ArrayList<>(RECORDS_PER_BLOCK);
+
+        for (int offset = 0; offset < block.limit(); offset += AuditRecord.length(block, offset)) {
+            events.add(AuditRecord.decode(block, offset));
+        }
+
+        return events;
+    }
+
+    private static boolean isWithin(AuditEvent event, long from, long to) {
+        long timestamp = AuditRecord.toNanos(event.timestamp());
+
+        return timestamp >= from && timestamp <= to;
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, long length) {
+        if (length > Integer.MAX_VALUE) {
+            throw new UncheckedIOException(new IOException("audit index is too large"));
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) length);
+
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("unexpected end of audit segment");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return buffer.flip();
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static String name(long id) {
+        return String.format("audit-%010d", id);
+    }
+}
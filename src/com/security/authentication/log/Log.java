@@ -1,9 +1,15 @@
 package com.security.authentication.log;
 
+import com.security.authentication.formatter.LogFormatter;
+
 import java.io.Reader;
 
 public interface Log {
     void write(String event);
 
     Reader read();
+
+    default void write(AuditEvent event) {
+        write(LogFormatter.format(event));
+    }
 }
@@ -0,0 +1,10 @@
+package com.security.authentication.log;
+
+import java.time.Instant;
+import java.util.stream.Stream;
+
+public interface QueryableLog extends Log {
+    Stream<AuditEvent> query(Instant from, Instant to);
+
+    Stream<AuditEvent> query(String ip, Instant from, Instant to);
+}
@@ -0,0 +1,203 @@
+package com.security.authentication.log;
+
+import com.security.authentication.exceptions.server.OpenFailException;
+import com.security.authentication.formatter.LogFormatter;
+import com.security.authentication.validator.Validator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+public class SegmentedAuditLog implements QueryableLog, Closeable {
+    public static final long DEFAULT_MAX_SEGMENT_BYTES = 64L * 1024 * 1024;
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("audit-(\\d{10})\\.seg");
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+    private final List<AuditSegment> segments;
+    private AuditSegment active;
+
+    public SegmentedAuditLog(Path directory) {
+        this(directory, DEFAULT_MAX_SEGMENT_BYTES);
+    }
+
+    public SegmentedAuditLog(Path directory, long maxSegmentBytes) {
+        Validator.validateNotNull(directory, "directory");
+
+        if (maxSegmentBytes < AuditRecord.HEADER_SIZE) {
+            throw new IllegalArgumentException("invalid audit segment size");
+        }
+
+        this.directory = directory;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.segments = new ArrayList<>();
+
+        try {
+            Files.createDirectories(directory);
+
+            List<Long> ids = segmentIds(directory);
+
+            for (int i = 0; i < ids.size(); i++) {
+                segments.add(AuditSegment.open(directory, ids.get(i), i == ids.size() - 1));
+            }
+
+            if (segments.isEmpty()) {
+                segments.add(AuditSegment.open(directory, 0, true));
+            }
+        } catch (IOException | RuntimeException e) {
+            closeSegments();
+            throw new OpenFailException("failed to open audit log", e);
+        }
+
+        this.active = segments.get(segments.size() - 1);
+    }
+
+    @Override
+    public void write(String event) {
+        Validator.validateNotNull(event, "event");
+
+        write(AuditEvent.raw(event));
+    }
+
+    @Override
+    public synchronized void write(AuditEvent event) {
+        Validator.validateNotNull(event, "event");
+
+        byte[] record = AuditRecord.encode(event);
+
+        try {
+            if (active.size() > 0 && active.size() + record.length > maxSegmentBytes) {
+                rotate();
+            }
+
+            active.append(record, AuditRecord.toNanos(event.timestamp()), AuditRecord.ipHash(event.ip()));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public Reader read() {
+        return new EventReader(query(Instant.MIN, Instant.MAX).iterator());
+    }
+
+    @Override
+    public Stream<AuditEvent> query(Instant from, Instant to) {
+        Validator.validateNotNull(from, "from");
+        Validator.validateNotNull(to, "to");
+
+        long fromNanos = AuditRecord.toNanos(from);
+        long toNanos = AuditRecord.toNanos(to);
+
+        return views().stream().flatMap(view -> view.events(fromNanos, toNanos));
+    }
+
+    @Override
+    public Stream<AuditEvent> query(String ip, Instant from, Instant to) {
+        Validator.validateNotNull(ip, "ip");
+        Validator.validateNotNull(from, "from");
+        Validator.validateNotNull(to, "to");
+
+        long fromNanos = AuditRecord.toNanos(from);
+        long toNanos = AuditRecord.toNanos(to);
+
+        return views().stream().flatMap(view -> view.events(ip, fromNanos, toNanos));
+    }
+
+    public synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closeSegments();
+    }
+
+    private synchronized List<AuditSegment.View> views() {
+        List<AuditSegment.View> views = new ArrayList<>(segments.size());
+
+        for (AuditSegment segment : segments) {
+            views.add(segment.view());
+        }
+
+        return views;
+    }
+
+    private void rotate() throws IOException {
+        active.seal();
+        active.force();
+        active = AuditSegment.open(directory, active.id() + 1, true);
+        segments.add(active);
+    }
+
+    private void closeSegments() {
+        for (AuditSegment segment : segments) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private static List<Long> segmentIds(Path directory) throws IOException {
+        List<Long> ids = new ArrayList<>();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+
+                if (matcher.matches()) {
+                    ids.add(Long.parseLong(matcher.group(1)));
+                }
+            });
+        }
+
+        ids.sort(Long::compare);
+
+        return ids;
+    }
+
+    private static class EventReader extends Reader {
+        private final Iterator<AuditEvent> events;
+        private String current = "";
+        private int position;
+
+        private EventReader(Iterator<AuditEvent> events) {
+            this.events = events;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            while (position == current.length()) {
+                if (!events.hasNext()) {
+                    return -1;
+                }
+
+                current = LogFormatter.format(events.next());
+                position = 0;
+            }
+
+            int count = Math.min(length, current.length() - position);
+
+            current.getChars(position, position + count, buffer, offset);
+            position += count;
+
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.security.authentication.metrics;
+
+import com.security.authentication.enums.CommandOutcome;
+import com.security.authentication.enums.CommandType;
+import com.security.authentication.validator.Validator;
+
+import java.util.Map;
+
+public record CommandSnapshot(CommandType type, LatencyHistogram latencies, Map<CommandOutcome, Long> outcomes) {
+    public long count() {
+        return latencies.count();
+    }
+
+    public long count(CommandOutcome outcome) {
+        Validator.validateNotNull(outcome, "outcome");
+
+        return outcomes.getOrDefault(outcome, 0L);
+    }
+
+    public long percentile(double percentile) {
+        return latencies.percentile(percentile);
+    }
+}
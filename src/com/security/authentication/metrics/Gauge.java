@@ -0,0 +1,4 @@
+package com.security.authentication.metrics;
+
+public record Gauge(String name, String help, boolean isCounter, long value) {
+}
@@ -0,0 +1,128 @@
+package com.security.authentication.metrics;
+
+import com.security.authentication.validator.Validator;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+    private static final int BUCKETS = index(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalValue = new LongAdder();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    public void record(long value) {
+        long recorded = Math.max(value, 0);
+
+        counts.incrementAndGet(index(recorded));
+        totalCount.increment();
+        totalValue.add(recorded);
+        updateMax(recorded);
+    }
+
+    public void add(LatencyHistogram other) {
+        Validator.validateNotNull(other, "other");
+
+        for (int i = 0; i < BUCKETS; i++) {
+            long count = other.counts.get(i);
+
+            if (count != 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+
+        totalCount.add(other.totalCount.sum());
+        totalValue.add(other.totalValue.sum());
+        updateMax(other.maxValue.get());
+    }
+
+    public LatencyHistogram snapshot() {
+        LatencyHistogram snapshot = new LatencyHistogram();
+
+        snapshot.add(this);
+
+        return snapshot;
+    }
+
+    public long count() {
+        return totalCount.sum();
+    }
+
+    public long sum() {
+        return totalValue.sum();
+    }
+
+    public long max() {
+        return maxValue.get();
+    }
+
+    public double mean() {
+        long count = totalCount.sum();
+
+        return count == 0 ? 0 : (double) totalValue.sum() / count;
+    }
+
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+
+        long count = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts.get(i);
+        }
+
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), maxValue.get());
+            }
+        }
+
+        return maxValue.get();
+    }
+
+    private void updateMax(long value) {
+        long current = maxValue.get();
+
+        while (value > current && !maxValue.compareAndSet(current, value)) {
+            current = maxValue.get();
+        }
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + (int) ((value >>> shift) - HALF_SUB_BUCKETS);
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int shift = (index - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+        long mantissa = (index - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,132 @@
+package com.security.authentication.metrics;
+
+import com.security.authentication.enums.CommandOutcome;
+import com.security.authentication.enums.CommandType;
+import com.security.authentication.enums.StorageOperation;
+import com.security.authentication.validator.Validator;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+public class MetricsRegistry {
+    private static final CommandType[] TYPES = CommandType.values();
+    private static final CommandOutcome[] OUTCOMES = CommandOutcome.values();
+    private static final StorageOperation[] OPERATIONS = StorageOperation.values();
+
+    private final LatencyHistogram[] latencies;
+    private final LongAdder[] outcomes;
+    private final LatencyHistogram[] storageLatencies;
+    private final LatencyHistogram loopLatencies;
+    private final LongAdder openedConnections;
+    private final LongAdder closedConnections;
+    private final List<Registration> registrations;
+
+    public MetricsRegistry() {
+        this.latencies = new LatencyHistogram[TYPES.length];
+        this.outcomes = new LongAdder[TYPES.length * OUTCOMES.length];
+        this.storageLatencies = new LatencyHistogram[OPERATIONS.length];
+        this.loopLatencies = new LatencyHistogram();
+        this.openedConnections = new LongAdder();
+        this.closedConnections = new LongAdder();
+        this.registrations = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new LatencyHistogram();
+        }
+
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] = new LongAdder();
+        }
+
+        for (int i = 0; i < storageLatencies.length; i++) {
+            storageLatencies[i] = new LatencyHistogram();
+        }
+    }
+
+    public void record(CommandType type, CommandOutcome outcome, long latencyNanos) {
+        Validator.validateNotNull(type, "type");
+        Validator.validateNotNull(outcome, "outcome");
+
+        latencies[type.ordinal()].record(latencyNanos);
+        outcomes[type.ordinal() * OUTCOMES.length + outcome.ordinal()].increment();
+    }
+
+    public void recordStorage(StorageOperation operation, long latencyNanos) {
+        Validator.validateNotNull(operation, "operation");
+
+        storageLatencies[operation.ordinal()].record(latencyNanos);
+    }
+
+    public void recordLoop(long latencyNanos) {
+        loopLatencies.record(latencyNanos);
+    }
+
+    public void connectionOpened() {
+        openedConnections.increment();
+    }
+
+    public void connectionClosed() {
+        closedConnections.increment();
+    }
+
+    public void registerGauge(String name, String help, LongSupplier value) {
+        register(name, help, false, value);
+    }
+
+    public void registerCounter(String name, String help, LongSupplier value) {
+        register(name, help, true, value);
+    }
+
+    public MetricsSnapshot snapshot() {
+        Map<CommandType, CommandSnapshot> commands = new EnumMap<>(CommandType.class);
+
+        for (CommandType type : TYPES) {
+            Map<CommandOutcome, Long> counts = new EnumMap<>(CommandOutcome.class);
+
+            for (CommandOutcome outcome : OUTCOMES) {
+                counts.put(outcome, outcomes[type.ordinal() * OUTCOMES.length + outcome.ordinal()].sum());
+            }
+
+            commands.put(type, new CommandSnapshot(type, latencies[type.ordinal()].snapshot(),
+                    Collections.unmodifiableMap(counts)));
+        }
+
+        Map<StorageOperation, LatencyHistogram> storage = new EnumMap<>(StorageOperation.class);
+
+        for (StorageOperation operation : OPERATIONS) {
+            storage.put(operation, storageLatencies[operation.ordinal()].snapshot());
+        }
+
+        List<Gauge> gauges = new ArrayList<>(registrations.size());
+
+        for (Registration registration : registrations) {
+            gauges.add(new Gauge(registration.name(), registration.help(), registration.isCounter(),
+                    registration.value().getAsLong()));
+        }
+
+        long closed = closedConnections.sum();
+        long opened = openedConnections.sum();
+
+        return new MetricsSnapshot(Instant.now(), Collections.unmodifiableMap(commands),
+                Collections.unmodifiableMap(storage), loopLatencies.snapshot(), Math.max(0, opened - closed), opened,
+                List.copyOf(gauges));
+    }
+
+    private void register(String name, String help, boolean isCounter, LongSupplier value) {
+        Validator.validateNotNull(name, "name");
+        Validator.validateNotNull(help, "help");
+        Validator.validateNotNull(value, "value");
+
+        registrations.add(new Registration(name, help, isCounter, value));
+    }
+
+    private record Registration(String name, String help, boolean isCounter, LongSupplier value) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.security.authentication.metrics;
+
+import com.security.authentication.enums.CommandType;
+import com.security.authentication.enums.StorageOperation;
+import com.security.authentication.validator.Validator;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public record MetricsSnapshot(Instant takenAt, Map<CommandType, CommandSnapshot> commands,
+                              Map<StorageOperation, LatencyHistogram> storage, LatencyHistogram loopLatencies,
+                              long openConnections, long acceptedConnections, List<Gauge> gauges) {
+    public CommandSnapshot command(CommandType type) {
+        Validator.validateNotNull(type, "type");
+
+        return commands.get(type);
+    }
+
+    public LatencyHistogram storage(StorageOperation operation) {
+        Validator.validateNotNull(operation, "operation");
+
+        return storage.get(operation);
+    }
+}
@@ -1,23 +1,35 @@
 package com.security.authentication.server;
 
-import com.security.authentication.command.CommandCreator;
 import com.security.authentication.command.CommandExecutor;
+import com.security.authentication.crypt.PBKDF2Hasher;
+import com.security.authentication.crypt.PasswordVerifier;
 import com.security.authentication.defend.Defender;
+import com.security.authentication.enums.AuditLogMode;
+import com.security.authentication.enums.PasswordMode;
+import com.security.authentication.enums.StorageMode;
 import com.security.authentication.exceptions.server.AcceptConnectionFailException;
-import com.security.authentication.exceptions.server.ReadFailException;
 import com.security.authentication.exceptions.server.ServerConfigurationFailException;
 import com.security.authentication.exceptions.server.StorageConfigurationFailException;
-import com.security.authentication.exceptions.server.WriteFailException;
 import com.security.authentication.generator.Generator;
 import com.security.authentication.generator.SecretKeyGenerator;
 import com.security.authentication.handler.UserHandler;
+import com.security.authentication.log.AsyncAuditLog;
 import com.security.authentication.log.AuditLog;
 import com.security.authentication.log.Log;
+import com.security.authentication.log.SegmentedAuditLog;
+import com.security.authentication.metrics.MetricsRegistry;
 import com.security.authentication.storage.FileSystemStorage;
+import com.security.authentication.storage.IndexedStorage;
+import com.security.authentication.storage.LogStructuredStorage;
+import com.security.authentication.storage.MappedFileStorage;
+import com.security.authentication.storage.MeteredStorage;
+import com.security.authentication.storage.Storage;
+import com.security.authentication.validator.Validator;
 
 import javax.crypto.SecretKey;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.Closeable;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.FileReader;
@@ -26,53 +38,134 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.net.InetSocketAddress;
-import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousCloseException;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class AuthenticationServer {
-    private boolean isServerWorking;
+    private volatile boolean isServerWorking;
     private Selector selector;
-    private ByteBuffer buffer;
-    private static final int BUFFER_SIZE = 2048;
-    private final int port;
+    private volatile ServerSocketChannel acceptingChannel;
     private static final String HOST = "localhost";
+    private static final int PASSWORD_VERIFIER_QUEUE_CAPACITY = 1024;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+    private final ServerConfiguration configuration;
     private final CommandExecutor commandExecutor;
     private final UserHandler userHandler;
-    private Log log;
+    private final Executor commandWorkers;
+    private final ExecutorService ownedCommandWorkers;
+    private IOReactor[] reactors;
+    private int nextReactor;
+    private final Log log;
+    private final MetricsRegistry metrics;
+    private final Storage storage;
+    private final PasswordVerifier passwordVerifier;
+
+    public AuthenticationServer(int port) {
+        this(ServerConfiguration.defaults(port));
+    }
+
+    public AuthenticationServer(ServerConfiguration configuration) {
+        this(configuration, null);
+    }
+
+    public AuthenticationServer(ServerConfiguration configuration, Executor commandWorkers) {
+        Validator.validateNotNull(configuration, "configuration");
+
+        Defender defender = new Defender();
+
+        this.configuration = configuration;
 
-    {
         try {
             this.configureStorages();
         } catch (Exception e) {
             throw new StorageConfigurationFailException("failed to configure storages", e);
         }
+
+        this.metrics = new MetricsRegistry();
+        this.log = createLog(configuration.auditLogMode());
+        this.storage = new MeteredStorage(createStorage(configuration.storageMode(),
+                extractKey(dataFile("secretKey.txt"))), metrics);
+        this.passwordVerifier = createPasswordVerifier(configuration.passwordMode());
+        this.userHandler = new UserHandler(storage, passwordVerifier);
+        this.commandExecutor = new CommandExecutor(log, userHandler, defender, metrics);
+        this.ownedCommandWorkers = commandWorkers == null ? createCommandWorkers(configuration.workerThreads()) : null;
+        this.commandWorkers = commandWorkers == null ? ownedCommandWorkers : commandWorkers;
+
+        registerGauges(defender);
     }
 
-    public AuthenticationServer(int port) {
-        this.userHandler = new UserHandler(new FileSystemStorage(Path.of("users.txt"), extractKey("secretKey.txt")));
-        this.commandExecutor = new CommandExecutor(log, userHandler, new Defender());
-        this.port = port;
+    public MetricsRegistry metrics() {
+        return metrics;
     }
 
     public void start() {
+        MetricsEndpoint metricsEndpoint = startMetricsEndpoint();
+
+        try {
+            switch (configuration.serverMode()) {
+                case REACTOR -> startReactor();
+                case THREAD_PER_CONNECTION -> startThreadPerConnection();
+            }
+        } finally {
+            if (metricsEndpoint != null) {
+                metricsEndpoint.close();
+            }
+        }
+    }
+
+    private MetricsEndpoint startMetricsEndpoint() {
+        if (configuration.metricsPort() == ServerConfiguration.METRICS_DISABLED) {
+            return null;
+        }
+
+        MetricsEndpoint metricsEndpoint = new MetricsEndpoint(HOST, configuration.metricsPort(), metrics,
+                this::isRunning);
+
+        metricsEndpoint.start();
+
+        return metricsEndpoint;
+    }
+
+    private void registerGauges(Defender defender) {
+        metrics.registerGauge("auth_sessions", "Authenticated sessions held in the session map.",
+                userHandler::sessionCount);
+        metrics.registerGauge("auth_defender_blocked_addresses",
+                "Addresses in the defender block list, including expired entries not yet evicted.",
+                defender::blockedCount);
+        metrics.registerCounter("auth_defender_blocks_total", "Addresses blocked after repeated invalid logins.",
+                defender::blockCount);
+
+        if (log instanceof AsyncAuditLog asyncLog) {
+            metrics.registerGauge("auth_audit_queue_depth", "Audit events waiting for the writer thread.",
+                    asyncLog::queueDepth);
+            metrics.registerCounter("auth_audit_dropped_total", "Audit events dropped on a full queue.",
+                    asyncLog::droppedEvents);
+        }
+    }
+
+    private void startReactor() {
         try (ServerSocketChannel serverSocketChannel = ServerSocketChannel.open()) {
             selector = Selector.open();
 
             try {
                 configureServerSocketChannel(serverSocketChannel, selector);
+                startReactors();
             } catch (IOException e) {
                 throw new ServerConfigurationFailException("Server failed to load", e);
             }
 
-            buffer = ByteBuffer.allocate(BUFFER_SIZE);
             isServerWorking = true;
 
             while (isServerWorking) {
@@ -87,68 +180,80 @@ public class AuthenticationServer {
 
                 while (keyIterator.hasNext()) {
                     SelectionKey key = keyIterator.next();
-                    if (key.isReadable()) {
-                        readKey(key);
-                    } else if (key.isAcceptable()) {
+                    if (key.isAcceptable()) {
                         try {
                             acceptKey(key);
                         } catch (IOException e) {
                             throw new AcceptConnectionFailException("could not accept client", e);
                         }
-
                     }
                     keyIterator.remove();
                 }
             }
         } catch (IOException e) {
             throw new RuntimeException("Error occurred while loading the server", e);
+        } finally {
+            stopReactors();
+            closeResources();
         }
     }
 
-    public void stop() {
-        this.isServerWorking = false;
+    private void startThreadPerConnection() {
+        ExecutorService connectionThreads = createConnectionThreads();
 
-        if (selector.isOpen()) {
-            selector.wakeup();
-        }
-    }
+        try (ServerSocketChannel serverSocketChannel = ServerSocketChannel.open()) {
+            acceptingChannel = serverSocketChannel;
 
-    private void writeClientOutput(SocketChannel channel, String output) throws IOException {
-        this.buffer.clear();
-        this.buffer.put((output + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
-        this.buffer.flip();
-        channel.write(buffer);
-    }
+            try {
+                serverSocketChannel.bind(new InetSocketAddress(HOST, configuration.port()));
+            } catch (IOException e) {
+                throw new ServerConfigurationFailException("Server failed to load", e);
+            }
+
+            isServerWorking = true;
 
-    private String getClientInput(SocketChannel channel) throws IOException {
-        buffer.clear();
-        int readBytes = channel.read(buffer);
+            while (isServerWorking) {
+                SocketChannel channel;
+
+                try {
+                    channel = serverSocketChannel.accept();
+                } catch (AsynchronousCloseException e) {
+                    break;
+                } catch (IOException e) {
+                    throw new AcceptConnectionFailException("could not accept client", e);
+                }
 
-        if (readBytes == -1) {
-            return null;
+                connectionThreads.execute(new BlockingConnectionHandler(channel, commandExecutor, metrics));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error occurred while loading the server", e);
+        } finally {
+            connectionThreads.shutdownNow();
+
+            if (ownedCommandWorkers != null) {
+                ownedCommandWorkers.shutdown();
+            }
+
+            closeResources();
         }
+    }
 
-        buffer.flip();
-        return StandardCharsets.UTF_8.decode(buffer).toString().trim();
+    public boolean isRunning() {
+        return isServerWorking;
     }
 
-    private void readKey(SelectionKey key) {
-        SocketChannel channel = (SocketChannel) key.channel();
-        String clientInput;
+    public void stop() {
+        this.isServerWorking = false;
 
-        try {
-            clientInput = getClientInput(channel);
-        } catch (IOException e) {
-            throw new ReadFailException("Failed to read input from client", e);
+        if (selector != null && selector.isOpen()) {
+            selector.wakeup();
         }
 
-        if (clientInput != null) {
-            String output = commandExecutor.execute(CommandCreator.newCommand(clientInput), channel);
-
+        if (acceptingChannel != null) {
             try {
-                writeClientOutput(channel, output);
+                acceptingChannel.close();
             } catch (IOException e) {
-                throw new WriteFailException("Failed to write to client", e);
+                e.printStackTrace();
             }
         }
     }
@@ -156,43 +261,166 @@ public class AuthenticationServer {
     private void acceptKey(SelectionKey key) throws IOException {
         ServerSocketChannel ssc = (ServerSocketChannel) key.channel();
         SocketChannel channel = ssc.accept();
+
+        if (channel == null) {
+            return;
+        }
+
         channel.configureBlocking(false);
-        channel.register(selector, SelectionKey.OP_READ);
+        reactors[nextReactor].register(channel);
+        nextReactor = (nextReactor + 1) % reactors.length;
+    }
+
+    private void startReactors() throws IOException {
+        reactors = new IOReactor[configuration.ioThreads()];
+
+        for (int i = 0; i < reactors.length; i++) {
+            reactors[i] = new IOReactor(commandExecutor, commandWorkers, configuration.writeHighWaterMark(),
+                    metrics);
+
+            Thread reactorThread = new Thread(reactors[i], "io-reactor-" + (i + 1));
+            reactorThread.setDaemon(true);
+            reactorThread.start();
+        }
+    }
+
+    private void stopReactors() {
+        if (reactors != null) {
+            for (IOReactor reactor : reactors) {
+                if (reactor != null) {
+                    reactor.close();
+                }
+            }
+        }
+
+        if (ownedCommandWorkers != null) {
+            ownedCommandWorkers.shutdown();
+        }
+    }
+
+    private ExecutorService createConnectionThreads() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger threadNumber = new AtomicInteger();
+
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "connection-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private ExecutorService createCommandWorkers(int workerThreads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        return Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "command-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     private void configureServerSocketChannel(ServerSocketChannel channel, Selector selector) throws IOException {
-        channel.bind(new InetSocketAddress(HOST, this.port));
+        channel.bind(new InetSocketAddress(HOST, configuration.port()));
         channel.configureBlocking(false);
         channel.register(selector, SelectionKey.OP_ACCEPT);
     }
 
     private void configureStorages() throws Exception {
-        if (!Files.exists(Path.of("users.txt"))) {
-            Files.createFile(Path.of("users.txt"));
+        Files.createDirectories(configuration.dataDirectory().toAbsolutePath());
+
+        if (!Files.exists(dataFile("users.txt"))) {
+            Files.createFile(dataFile("users.txt"));
         }
 
-        if (!Files.exists(Path.of("LOG.txt"))) {
-            Files.createFile(Path.of("LOG.txt"));
+        if (!Files.exists(dataFile("LOG.txt"))) {
+            Files.createFile(dataFile("LOG.txt"));
         }
 
-        if (!Files.exists(Path.of("secretKey.txt"))) {
-            Files.createFile(Path.of("secretKey.txt"));
+        if (!Files.exists(dataFile("secretKey.txt"))) {
+            Files.createFile(dataFile("secretKey.txt"));
 
             Generator<SecretKey> secretKeyGenerator = new SecretKeyGenerator();
             SecretKey secretKey = secretKeyGenerator.generate();
-            FileOutputStream fileOut = new FileOutputStream("secretKey.txt");
+            FileOutputStream fileOut = new FileOutputStream(dataFile("secretKey.txt").toFile());
             ObjectOutputStream objectOut = new ObjectOutputStream(fileOut);
             objectOut.writeObject(secretKey);
             objectOut.close();
         }
+    }
+
+    private Log createLog(AuditLogMode auditLogMode) {
+        Validator.validateNotNull(auditLogMode, "auditLogMode");
+
+        try {
+            return switch (auditLogMode) {
+                case SYNC -> new AuditLog(new BufferedReader(new FileReader(dataFile("LOG.txt").toFile())),
+                        new BufferedWriter(new FileWriter(dataFile("LOG.txt").toFile(), true)));
+                case ASYNC -> new AsyncAuditLog(dataFile("LOG.txt"));
+                case BINARY -> new SegmentedAuditLog(dataFile("audit"));
+                case INVALID -> throw new IllegalArgumentException("unknown audit log mode");
+            };
+        } catch (IOException e) {
+            throw new ServerConfigurationFailException("failed to open audit log", e);
+        }
+    }
+
+    private void closeResources() {
+        if (ownedCommandWorkers != null) {
+            try {
+                ownedCommandWorkers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        closeQuietly(log);
+        closeQuietly(storage);
+        closeQuietly(passwordVerifier);
+    }
+
+    private void closeQuietly(Object resource) {
+        if (resource instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private Path dataFile(String name) {
+        return configuration.dataDirectory().resolve(name);
+    }
+
+    private Storage createStorage(StorageMode storageMode, SecretKey secretKey) {
+        Validator.validateNotNull(storageMode, "storageMode");
+
+        return switch (storageMode) {
+            case FILE_SYSTEM -> new FileSystemStorage(dataFile("users.txt"), secretKey);
+            case INDEXED -> new IndexedStorage(dataFile("users.txt"), secretKey);
+            case LOG_STRUCTURED -> new LogStructuredStorage(dataFile("users"), secretKey);
+            case MAPPED -> new MappedFileStorage(dataFile("users.bin"), secretKey);
+            case INVALID -> throw new IllegalArgumentException("unknown storage mode");
+        };
+    }
+
+    private PasswordVerifier createPasswordVerifier(PasswordMode passwordMode) {
+        Validator.validateNotNull(passwordMode, "passwordMode");
 
-        log = new AuditLog(new BufferedReader(new FileReader("LOG.txt")),
-                new BufferedWriter(new FileWriter("LOG.txt", true)));
+        return switch (passwordMode) {
+            case ENCRYPTED -> null;
+            case HASHED -> new PasswordVerifier(new PBKDF2Hasher(), Runtime.getRuntime().availableProcessors(),
+                    PASSWORD_VERIFIER_QUEUE_CAPACITY);
+            case INVALID -> throw new IllegalArgumentException("unknown password mode");
+        };
     }
 
-    private SecretKey extractKey(String path) {
+    private SecretKey extractKey(Path path) {
         try {
-            FileInputStream fileIn = new FileInputStream(path);
+            FileInputStream fileIn = new FileInputStream(path.toFile());
             ObjectInputStream objectIn = new ObjectInputStream(fileIn);
 
             Object obj = objectIn.readObject();
@@ -207,8 +435,8 @@ public class AuthenticationServer {
     }
 
     public static void main(String[] args) {
-        AuthenticationServer server = new AuthenticationServer(4444);
+        AuthenticationServer server = new AuthenticationServer(ServerConfiguration.fromArguments(args));
         Thread serverThread = new Thread(server::start);
         serverThread.start();
     }
-}
\ No newline at end of file
+}
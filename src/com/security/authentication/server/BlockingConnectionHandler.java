@@ -0,0 +1,71 @@
+package com.security.authentication.server;
+
+import com.security.authentication.command.CommandCreator;
+import com.security.authentication.command.CommandExecutor;
+import com.security.authentication.connect.Connection;
+import com.security.authentication.enums.Response;
+import com.security.authentication.exceptions.server.FrameTooLongException;
+import com.security.authentication.metrics.MetricsRegistry;
+import com.security.authentication.validator.Validator;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+public class BlockingConnectionHandler implements Runnable {
+    private final SocketChannel channel;
+    private final CommandExecutor commandExecutor;
+    private final MetricsRegistry metrics;
+
+    public BlockingConnectionHandler(SocketChannel channel, CommandExecutor commandExecutor) {
+        this(channel, commandExecutor, new MetricsRegistry());
+    }
+
+    public BlockingConnectionHandler(SocketChannel channel, CommandExecutor commandExecutor,
+                                     MetricsRegistry metrics) {
+        Validator.validateNotNull(channel, "channel");
+        Validator.validateNotNull(commandExecutor, "commandExecutor");
+        Validator.validateNotNull(metrics, "metrics");
+
+        this.channel = channel;
+        this.commandExecutor = commandExecutor;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void run() {
+        Connection connection = new Connection(channel);
+        FrameAccumulator accumulator = new FrameAccumulator(IOReactor.MAX_FRAME_LENGTH);
+        ByteBuffer buffer = ByteBuffer.allocate(IOReactor.BUFFER_SIZE);
+
+        metrics.connectionOpened();
+
+        try (channel;
+             PrintWriter writer = new PrintWriter(Channels.newOutputStream(channel), false, StandardCharsets.UTF_8)) {
+            while (channel.read(buffer.clear()) != -1) {
+                for (String frame : accumulator.append(buffer.flip())) {
+                    writer.print(execute(frame, connection) + System.lineSeparator());
+                }
+
+                writer.flush();
+            }
+        } catch (IOException | FrameTooLongException e) {
+            // the client went away or sent an oversized command, the connection is dropped like in the reactor
+        } finally {
+            connection.release();
+
+            metrics.connectionClosed();
+        }
+    }
+
+    private String execute(String frame, Connection connection) {
+        try {
+            return commandExecutor.execute(CommandCreator.newCommand(frame), connection);
+        } catch (RuntimeException e) {
+            return Response.SYSTEM_PROBLEM.getMessage();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.security.authentication.server;
+
+import com.security.authentication.validator.Validator;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+public class BufferPool {
+    private final int bufferSize;
+    private final int maxPooledBuffers;
+    private final Deque<ByteBuffer> free;
+
+    public BufferPool(int bufferSize, int maxPooledBuffers) {
+        if (bufferSize < 1 || maxPooledBuffers < 0) {
+            throw new IllegalArgumentException("invalid buffer pool size");
+        }
+
+        this.bufferSize = bufferSize;
+        this.maxPooledBuffers = maxPooledBuffers;
+        this.free = new ArrayDeque<>();
+    }
+
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = free.poll();
+
+        return buffer != null ? buffer.clear() : ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    public void release(ByteBuffer buffer) {
+        Validator.validateNotNull(buffer, "buffer");
+
+        if (buffer.isReadOnly() || !buffer.isDirect() || buffer.capacity() != bufferSize) {
+            return;
+        }
+
+        if (free.size() < maxPooledBuffers) {
+            free.push(buffer);
+        }
+    }
+
+    public int available() {
+        return free.size();
+    }
+}
@@ -0,0 +1,118 @@
+package com.security.authentication.server;
+
+import com.security.authentication.connect.Connection;
+import com.security.authentication.validator.Validator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+public class ConnectionContext extends Connection {
+    private final FrameAccumulator accumulator;
+    private final BufferPool bufferPool;
+    private final Queue<ByteBuffer> outbound;
+    private final int highWaterMark;
+    private final int lowWaterMark;
+    private long queuedBytes;
+    private boolean isCommandInFlight;
+    private boolean isReadingPaused;
+
+    public ConnectionContext(SocketChannel channel, int maxFrameLength, int highWaterMark, BufferPool bufferPool) {
+        super(channel);
+
+        Validator.validateNotNull(bufferPool, "bufferPool");
+
+        if (highWaterMark < 1) {
+            throw new IllegalArgumentException("high water mark must be positive");
+        }
+
+        this.accumulator = new FrameAccumulator(maxFrameLength);
+        this.bufferPool = bufferPool;
+        this.outbound = new ArrayDeque<>();
+        this.highWaterMark = highWaterMark;
+        this.lowWaterMark = highWaterMark / 2;
+    }
+
+    public FrameAccumulator getAccumulator() {
+        return accumulator;
+    }
+
+    public void enqueue(ByteBuffer output) {
+        Validator.validateNotNull(output, "output");
+
+        if (!output.hasRemaining()) {
+            bufferPool.release(output);
+            return;
+        }
+
+        outbound.add(output);
+        queuedBytes += output.remaining();
+
+        if (queuedBytes >= highWaterMark) {
+            isReadingPaused = true;
+        }
+    }
+
+    public boolean flush() throws IOException {
+        SocketChannel channel = getChannel();
+        ByteBuffer head;
+
+        while ((head = outbound.peek()) != null) {
+            queuedBytes -= channel.write(head);
+
+            if (head.hasRemaining()) {
+                break;
+            }
+
+            bufferPool.release(outbound.poll());
+        }
+
+        if (queuedBytes <= lowWaterMark) {
+            isReadingPaused = false;
+        }
+
+        return outbound.isEmpty();
+    }
+
+    public int interestOps() {
+        int ops = 0;
+
+        if (!isCommandInFlight && !isReadingPaused) {
+            ops |= SelectionKey.OP_READ;
+        }
+
+        if (!outbound.isEmpty()) {
+            ops |= SelectionKey.OP_WRITE;
+        }
+
+        return ops;
+    }
+
+    @Override
+    public void release() {
+        super.release();
+
+        ByteBuffer queued;
+
+        while ((queued = outbound.poll()) != null) {
+            bufferPool.release(queued);
+        }
+
+        queuedBytes = 0;
+    }
+
+    public void setCommandInFlight(boolean isCommandInFlight) {
+        this.isCommandInFlight = isCommandInFlight;
+    }
+
+    public long getQueuedBytes() {
+        return queuedBytes;
+    }
+
+    public boolean isReadingPaused() {
+        return isReadingPaused;
+    }
+}
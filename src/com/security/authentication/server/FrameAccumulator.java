@@ -0,0 +1,70 @@
+package com.security.authentication.server;
+
+import com.security.authentication.exceptions.server.FrameTooLongException;
+import com.security.authentication.validator.Validator;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class FrameAccumulator {
+    private static final int INITIAL_CAPACITY = 256;
+    private static final byte DELIMITER = '\n';
+
+    private final int maxFrameLength;
+    private byte[] pending;
+    private int size;
+
+    public FrameAccumulator(int maxFrameLength) {
+        if (maxFrameLength < 1) {
+            throw new IllegalArgumentException("max frame length must be positive");
+        }
+
+        this.maxFrameLength = maxFrameLength;
+        this.pending = new byte[Math.min(INITIAL_CAPACITY, maxFrameLength)];
+    }
+
+    public List<String> append(ByteBuffer input) throws FrameTooLongException {
+        Validator.validateNotNull(input, "input");
+
+        int scanFrom = size;
+        int incoming = input.remaining();
+
+        if (size + incoming > pending.length) {
+            pending = Arrays.copyOf(pending, Math.max(size + incoming, 2 * pending.length));
+        }
+
+        input.get(pending, size, incoming);
+        size += incoming;
+
+        List<String> frames = new ArrayList<>();
+        int frameStart = 0;
+
+        for (int i = scanFrom; i < size; i++) {
+            if (pending[i] == DELIMITER) {
+                String frame = new String(pending, frameStart, i - frameStart, StandardCharsets.UTF_8).trim();
+
+                if (!frame.isEmpty()) {
+                    frames.add(frame);
+                }
+
+                frameStart = i + 1;
+            }
+        }
+
+        size -= frameStart;
+        System.arraycopy(pending, frameStart, pending, 0, size);
+
+        if (size > maxFrameLength) {
+            throw new FrameTooLongException("command exceeds " + maxFrameLength + " bytes");
+        }
+
+        return frames;
+    }
+
+    public int pendingBytes() {
+        return size;
+    }
+}
@@ -0,0 +1,242 @@
+package com.security.authentication.server;
+
+import com.security.authentication.command.CommandCreator;
+import com.security.authentication.command.CommandExecutor;
+import com.security.authentication.enums.Response;
+import com.security.authentication.exceptions.server.FrameTooLongException;
+import com.security.authentication.metrics.MetricsRegistry;
+import com.security.authentication.validator.Validator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+public class IOReactor implements Runnable, Closeable {
+    static final int BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_POOLED_BUFFERS = 256;
+    static final int MAX_FRAME_LENGTH = 64 * 1024;
+    private static final String SYSTEM_PROBLEM = Response.SYSTEM_PROBLEM.getMessage();
+
+    private final Selector selector;
+    private final ByteBuffer buffer;
+    private final BufferPool bufferPool;
+    private final ResponseEncoder responseEncoder;
+    private final Queue<Runnable> pendingTasks;
+    private final CommandExecutor commandExecutor;
+    private final Executor commandWorkers;
+    private final int writeHighWaterMark;
+    private final MetricsRegistry metrics;
+    private volatile boolean isRunning;
+
+    public IOReactor(CommandExecutor commandExecutor, Executor commandWorkers, int writeHighWaterMark)
+            throws IOException {
+        this(commandExecutor, commandWorkers, writeHighWaterMark, new MetricsRegistry());
+    }
+
+    public IOReactor(CommandExecutor commandExecutor, Executor commandWorkers, int writeHighWaterMark,
+                     MetricsRegistry metrics) throws IOException {
+        Validator.validateNotNull(commandExecutor, "commandExecutor");
+        Validator.validateNotNull(commandWorkers, "commandWorkers");
+        Validator.validateNotNull(metrics, "metrics");
+
+        this.selector = Selector.open();
+        this.bufferPool = new BufferPool(BUFFER_SIZE, MAX_POOLED_BUFFERS);
+        this.buffer = bufferPool.acquire();
+        this.responseEncoder = new ResponseEncoder(bufferPool);
+        this.pendingTasks = new ConcurrentLinkedQueue<>();
+        this.commandExecutor = commandExecutor;
+        this.commandWorkers = commandWorkers;
+        this.writeHighWaterMark = writeHighWaterMark;
+        this.metrics = metrics;
+        this.isRunning = true;
+    }
+
+    public void register(SocketChannel channel) {
+        Validator.validateNotNull(channel, "channel");
+
+        submit(() -> {
+            try {
+                channel.register(selector, SelectionKey.OP_READ,
+                        new ConnectionContext(channel, MAX_FRAME_LENGTH, writeHighWaterMark, bufferPool));
+
+                metrics.connectionOpened();
+            } catch (ClosedChannelException e) {
+                closeQuietly(channel);
+            }
+        });
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (isRunning) {
+                selector.select();
+
+                long loopStart = System.nanoTime();
+
+                runPendingTasks();
+
+                Iterator<SelectionKey> keyIterator = selector.selectedKeys().iterator();
+
+                while (keyIterator.hasNext()) {
+                    SelectionKey key = keyIterator.next();
+                    keyIterator.remove();
+
+                    if (key.isValid() && key.isWritable()) {
+                        writeKey(key);
+                    }
+
+                    if (key.isValid() && key.isReadable()) {
+                        readKey(key);
+                    }
+                }
+
+                metrics.recordLoop(System.nanoTime() - loopStart);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error occurred in the io reactor", e);
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                if (key.isValid() && key.attachment() instanceof ConnectionContext) {
+                    metrics.connectionClosed();
+                }
+
+                closeQuietly(key.channel());
+            }
+
+            closeQuietly(selector);
+        }
+    }
+
+    @Override
+    public void close() {
+        isRunning = false;
+        selector.wakeup();
+    }
+
+    private void submit(Runnable task) {
+        pendingTasks.add(task);
+        selector.wakeup();
+    }
+
+    private void runPendingTasks() {
+        Runnable task;
+
+        while ((task = pendingTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private void readKey(SelectionKey key) {
+        ConnectionContext context = (ConnectionContext) key.attachment();
+        List<String> frames;
+
+        try {
+            buffer.clear();
+
+            if (context.getChannel().read(buffer) == -1) {
+                closeKey(key);
+                return;
+            }
+
+            buffer.flip();
+            frames = context.getAccumulator().append(buffer);
+        } catch (IOException | FrameTooLongException e) {
+            closeKey(key);
+            return;
+        }
+
+        if (frames.isEmpty()) {
+            return;
+        }
+
+        context.setCommandInFlight(true);
+        key.interestOps(context.interestOps());
+
+        CompletableFuture<List<String>> output;
+
+        try {
+            output = CompletableFuture.supplyAsync(() -> executeBatch(frames, context), commandWorkers);
+        } catch (RejectedExecutionException e) {
+            output = CompletableFuture.completedFuture(Collections.nCopies(frames.size(), SYSTEM_PROBLEM));
+        }
+
+        output.whenComplete((responses, error) -> submit(() ->
+                respond(key, error == null ? responses : Collections.nCopies(frames.size(), SYSTEM_PROBLEM))));
+    }
+
+    private List<String> executeBatch(List<String> frames, ConnectionContext context) {
+        List<String> responses = new ArrayList<>(frames.size());
+
+        for (String frame : frames) {
+            try {
+                responses.add(commandExecutor.execute(CommandCreator.newCommand(frame), context));
+            } catch (RuntimeException e) {
+                responses.add(SYSTEM_PROBLEM);
+            }
+        }
+
+        return responses;
+    }
+
+    private void respond(SelectionKey key, List<String> responses) {
+        if (!key.isValid()) {
+            return;
+        }
+
+        ConnectionContext context = (ConnectionContext) key.attachment();
+
+        context.setCommandInFlight(false);
+
+        for (String response : responses) {
+            responseEncoder.encode(response, context);
+        }
+
+        writeKey(key);
+    }
+
+    private void writeKey(SelectionKey key) {
+        ConnectionContext context = (ConnectionContext) key.attachment();
+
+        try {
+            context.flush();
+        } catch (IOException e) {
+            closeKey(key);
+            return;
+        }
+
+        key.interestOps(context.interestOps());
+    }
+
+    private void closeKey(SelectionKey key) {
+        if (key.attachment() instanceof ConnectionContext context) {
+            context.release();
+
+            metrics.connectionClosed();
+        }
+
+        key.cancel();
+        closeQuietly(key.channel());
+    }
+
+    private void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.security.authentication.server;
+
+import com.security.authentication.exceptions.server.ServerConfigurationFailException;
+import com.security.authentication.formatter.PrometheusFormatter;
+import com.security.authentication.metrics.MetricsRegistry;
+import com.security.authentication.validator.Validator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+
+public class MetricsEndpoint implements Closeable {
+    private static final String METRICS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String TEXT_CONTENT_TYPE = "text/plain; charset=utf-8";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final MetricsRegistry metrics;
+    private final BooleanSupplier isHealthy;
+
+    public MetricsEndpoint(String host, int port, MetricsRegistry metrics, BooleanSupplier isHealthy) {
+        Validator.validateNotNull(host, "host");
+        Validator.validateNotNull(metrics, "metrics");
+        Validator.validateNotNull(isHealthy, "isHealthy");
+
+        this.metrics = metrics;
+        this.isHealthy = isHealthy;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-endpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(host, port), 0);
+        } catch (IOException e) {
+            executor.shutdown();
+            throw new ServerConfigurationFailException("failed to bind metrics endpoint", e);
+        }
+
+        server.createContext("/metrics", this::handleMetrics);
+        server.createContext("/health", this::handleHealth);
+        server.setExecutor(executor);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        if (isRejected(exchange)) {
+            return;
+        }
+
+        respond(exchange, 200, METRICS_CONTENT_TYPE, PrometheusFormatter.format(metrics.snapshot()));
+    }
+
+    private void handleHealth(HttpExchange exchange) throws IOException {
+        if (isRejected(exchange)) {
+            return;
+        }
+
+        boolean isUp = isHealthy.getAsBoolean();
+
+        respond(exchange, isUp ? 200 : 503, TEXT_CONTENT_TYPE, isUp ? "UP\n" : "DOWN\n");
+    }
+
+    private boolean isRejected(HttpExchange exchange) throws IOException {
+        String context = exchange.getHttpContext().getPath();
+
+        if (!exchange.getRequestURI().getPath().equals(context)) {
+            respond(exchange, 404, TEXT_CONTENT_TYPE, "Not Found\n");
+            return true;
+        }
+
+        if (!exchange.getRequestMethod().equals("GET") && !exchange.getRequestMethod().equals("HEAD")) {
+            exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+            respond(exchange, 405, TEXT_CONTENT_TYPE, "Method Not Allowed\n");
+            return true;
+        }
+
+        return false;
+    }
+
+    private void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        boolean hasBody = !exchange.getRequestMethod().equals("HEAD");
+
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, hasBody ? bytes.length : -1);
+
+        try (OutputStream output = exchange.getResponseBody()) {
+            if (hasBody) {
+                output.write(bytes);
+            }
+        }
+    }
+}
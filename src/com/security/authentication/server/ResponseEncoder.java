@@ -0,0 +1,82 @@
+package com.security.authentication.server;
+
+import com.security.authentication.enums.Response;
+import com.security.authentication.validator.Validator;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class ResponseEncoder {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final byte[] LINE_SEPARATOR_BYTES = LINE_SEPARATOR.getBytes(StandardCharsets.US_ASCII);
+    private static final Map<String, ByteBuffer> FIXED_RESPONSES = Arrays.stream(Response.values())
+            .filter(response -> !response.isParameterized())
+            .map(Response::getMessage)
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), ResponseEncoder::preEncode));
+
+    private final BufferPool bufferPool;
+    private final CharsetEncoder encoder;
+
+    public ResponseEncoder(BufferPool bufferPool) {
+        Validator.validateNotNull(bufferPool, "bufferPool");
+
+        this.bufferPool = bufferPool;
+        this.encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    public void encode(String response, ConnectionContext context) {
+        Validator.validateNotNull(response, "response");
+        Validator.validateNotNull(context, "context");
+
+        ByteBuffer fixed = FIXED_RESPONSES.get(response);
+
+        if (fixed != null) {
+            context.enqueue(fixed.duplicate());
+            return;
+        }
+
+        encoder.reset();
+
+        CharBuffer input = CharBuffer.wrap(response);
+        ByteBuffer output = bufferPool.acquire();
+
+        while (encoder.encode(input, output, true).isOverflow()) {
+            output = next(output, context);
+        }
+
+        while (encoder.flush(output).isOverflow()) {
+            output = next(output, context);
+        }
+
+        for (byte separatorByte : LINE_SEPARATOR_BYTES) {
+            if (!output.hasRemaining()) {
+                output = next(output, context);
+            }
+
+            output.put(separatorByte);
+        }
+
+        context.enqueue(output.flip());
+    }
+
+    private ByteBuffer next(ByteBuffer full, ConnectionContext context) {
+        context.enqueue(full.flip());
+
+        return bufferPool.acquire();
+    }
+
+    private static ByteBuffer preEncode(String response) {
+        byte[] bytes = (response + LINE_SEPARATOR).getBytes(StandardCharsets.UTF_8);
+
+        return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip().asReadOnlyBuffer();
+    }
+}
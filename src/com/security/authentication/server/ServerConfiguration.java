@@ -0,0 +1,102 @@
+package com.security.authentication.server;
+
+import com.security.authentication.enums.AuditLogMode;
+import com.security.authentication.enums.PasswordMode;
+import com.security.authentication.enums.ServerMode;
+import com.security.authentication.enums.StorageMode;
+import com.security.authentication.validator.Validator;
+
+import java.nio.file.Path;
+
+public record ServerConfiguration(int port, ServerMode serverMode, StorageMode storageMode,
+                                  PasswordMode passwordMode, AuditLogMode auditLogMode, int ioThreads,
+                                  int workerThreads, int writeHighWaterMark, int metricsPort,
+                                  Path dataDirectory) {
+    public static final int DEFAULT_PORT = 4444;
+    public static final int DEFAULT_WRITE_HIGH_WATER_MARK = 256 * 1024;
+    public static final int METRICS_DISABLED = 0;
+
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+
+    public ServerConfiguration {
+        Validator.validateNotNull(serverMode, "serverMode");
+        Validator.validateNotNull(storageMode, "storageMode");
+        Validator.validateNotNull(passwordMode, "passwordMode");
+        Validator.validateNotNull(auditLogMode, "auditLogMode");
+        Validator.validateNotNull(dataDirectory, "dataDirectory");
+
+        if (serverMode == ServerMode.INVALID || storageMode == StorageMode.INVALID
+                || passwordMode == PasswordMode.INVALID || auditLogMode == AuditLogMode.INVALID) {
+            throw new IllegalArgumentException("unknown server configuration mode");
+        }
+
+        if (ioThreads < 1 || workerThreads < 1) {
+            throw new IllegalArgumentException("thread counts must be positive");
+        }
+
+        if (writeHighWaterMark < 1) {
+            throw new IllegalArgumentException("write high water mark must be positive");
+        }
+
+        if (metricsPort < 0) {
+            throw new IllegalArgumentException("metrics port must not be negative");
+        }
+    }
+
+    public static ServerConfiguration defaults(int port) {
+        return new ServerConfiguration(port, ServerMode.REACTOR, StorageMode.INDEXED, PasswordMode.ENCRYPTED,
+                AuditLogMode.SYNC, CORES, 2 * CORES, DEFAULT_WRITE_HIGH_WATER_MARK, METRICS_DISABLED,
+                Path.of(""));
+    }
+
+    public static ServerConfiguration fromArguments(String[] arguments) {
+        Validator.validateNotNull(arguments, "arguments");
+
+        ServerConfiguration defaults = defaults(DEFAULT_PORT);
+        int port = defaults.port();
+        ServerMode serverMode = defaults.serverMode();
+        StorageMode storageMode = defaults.storageMode();
+        PasswordMode passwordMode = defaults.passwordMode();
+        AuditLogMode auditLogMode = defaults.auditLogMode();
+        int ioThreads = defaults.ioThreads();
+        int workerThreads = defaults.workerThreads();
+        int writeHighWaterMark = defaults.writeHighWaterMark();
+        int metricsPort = defaults.metricsPort();
+        Path dataDirectory = defaults.dataDirectory();
+
+        for (int i = 0; i < arguments.length; i += 2) {
+            String option = arguments[i];
+
+            if (i + 1 == arguments.length) {
+                throw new IllegalArgumentException("missing value for option " + option);
+            }
+
+            String value = arguments[i + 1];
+
+            switch (option) {
+                case "--port" -> port = Integer.parseInt(value);
+                case "--server-mode" -> serverMode = known(ServerMode.getType(value), ServerMode.INVALID, option, value);
+                case "--storage" -> storageMode = known(StorageMode.getType(value), StorageMode.INVALID, option, value);
+                case "--password-mode" -> passwordMode = known(PasswordMode.getType(value), PasswordMode.INVALID, option, value);
+                case "--audit-log" -> auditLogMode = known(AuditLogMode.getType(value), AuditLogMode.INVALID, option, value);
+                case "--io-threads" -> ioThreads = Integer.parseInt(value);
+                case "--worker-threads" -> workerThreads = Integer.parseInt(value);
+                case "--write-high-water-mark" -> writeHighWaterMark = Integer.parseInt(value);
+                case "--metrics-port" -> metricsPort = Integer.parseInt(value);
+                case "--data-dir" -> dataDirectory = Path.of(value);
+                default -> throw new IllegalArgumentException("unknown option " + option);
+            }
+        }
+
+        return new ServerConfiguration(port, serverMode, storageMode, passwordMode, auditLogMode, ioThreads,
+                workerThreads, writeHighWaterMark, metricsPort, dataDirectory);
+    }
+
+    private static <T> T known(T parsed, T invalid, String option, String value) {
+        if (parsed == invalid) {
+            throw new IllegalArgumentException("invalid value " + value + " for option " + option);
+        }
+
+        return parsed;
+    }
+}
@@ -0,0 +1,138 @@
+package com.security.authentication.storage;
+
+import com.security.authentication.user.Admin;
+import com.security.authentication.user.RegularUser;
+import com.security.authentication.user.User;
+import com.security.authentication.user.info.AccountInfo;
+import com.security.authentication.user.info.PersonalInfo;
+import com.security.authentication.validator.Validator;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class BinaryUserRecord {
+    public static final int LENGTH_OFFSET = 0;
+    public static final int FLAGS_OFFSET = 4;
+    public static final int USERNAME_LENGTH_OFFSET = 5;
+    public static final int PASSWORD_LENGTH_OFFSET = 7;
+    public static final int FIRST_NAME_LENGTH_OFFSET = 9;
+    public static final int LAST_NAME_LENGTH_OFFSET = 11;
+    public static final int EMAIL_LENGTH_OFFSET = 13;
+    public static final int HEADER_SIZE = 15;
+
+    private static final byte LIVE_FLAG = 1;
+    private static final byte ADMIN_FLAG = 2;
+    private static final int MAX_FIELD_LENGTH = Short.MAX_VALUE;
+
+    public static byte[] encode(User user) {
+        Validator.validateNotNull(user, "user");
+
+        byte[] username = bytes(user.getAccountInfo().getUsername());
+        byte[] password = bytes(user.getAccountInfo().getPassword());
+        byte[] firstName = bytes(user.getPersonalInfo().getFirstName());
+        byte[] lastName = bytes(user.getPersonalInfo().getLastName());
+        byte[] email = bytes(user.getPersonalInfo().getEmail());
+
+        int length = HEADER_SIZE + username.length + password.length + firstName.length
+                + lastName.length + email.length;
+        byte flags = (byte) (LIVE_FLAG | (user.isAuthorized() ? ADMIN_FLAG : 0));
+
+        return ByteBuffer.allocate(length)
+                .putInt(length)
+                .put(flags)
+                .putShort((short) username.length)
+                .putShort((short) password.length)
+                .putShort((short) firstName.length)
+                .putShort((short) lastName.length)
+                .putShort((short) email.length)
+                .put(username)
+                .put(password)
+                .put(firstName)
+                .put(lastName)
+                .put(email)
+                .array();
+    }
+
+    public static User decode(ByteBuffer buffer, int offset) {
+        Validator.validateNotNull(buffer, "buffer");
+
+        int usernameLength = buffer.getShort(offset + USERNAME_LENGTH_OFFSET);
+        int passwordLength = buffer.getShort(offset + PASSWORD_LENGTH_OFFSET);
+        int firstNameLength = buffer.getShort(offset + FIRST_NAME_LENGTH_OFFSET);
+        int lastNameLength = buffer.getShort(offset + LAST_NAME_LENGTH_OFFSET);
+        int emailLength = buffer.getShort(offset + EMAIL_LENGTH_OFFSET);
+
+        int position = offset + HEADER_SIZE;
+
+        String username = string(buffer, position, usernameLength);
+        position += usernameLength;
+        String password = string(buffer, position, passwordLength);
+        position += passwordLength;
+        String firstName = string(buffer, position, firstNameLength);
+        position += firstNameLength;
+        String lastName = string(buffer, position, lastNameLength);
+        position += lastNameLength;
+        String email = string(buffer, position, emailLength);
+
+        AccountInfo accountInfo = new AccountInfo(username, password);
+        PersonalInfo personalInfo = new PersonalInfo(firstName, lastName, email);
+
+        if (isAdmin(buffer, offset)) {
+            return new Admin(accountInfo, personalInfo);
+        }
+
+        return new RegularUser(accountInfo, personalInfo);
+    }
+
+    public static boolean hasUsername(ByteBuffer buffer, int offset, byte[] username) {
+        Validator.validateNotNull(buffer, "buffer");
+        Validator.validateNotNull(username, "username");
+
+        if (buffer.getShort(offset + USERNAME_LENGTH_OFFSET) != username.length) {
+            return false;
+        }
+
+        int start = offset + HEADER_SIZE;
+
+        for (int i = 0; i < username.length; i++) {
+            if (buffer.get(start + i) != username[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public static int length(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset + LENGTH_OFFSET);
+    }
+
+    public static boolean isLive(ByteBuffer buffer, int offset) {
+        return (buffer.get(offset + FLAGS_OFFSET) & LIVE_FLAG) != 0;
+    }
+
+    public static boolean isAdmin(ByteBuffer buffer, int offset) {
+        return (buffer.get(offset + FLAGS_OFFSET) & ADMIN_FLAG) != 0;
+    }
+
+    public static void markDeleted(ByteBuffer buffer, int offset) {
+        buffer.put(offset + FLAGS_OFFSET, (byte) (buffer.get(offset + FLAGS_OFFSET) & ~LIVE_FLAG));
+    }
+
+    public static byte[] bytes(String field) {
+        byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+
+        if (bytes.length > MAX_FIELD_LENGTH) {
+            throw new IllegalArgumentException("field is too long");
+        }
+
+        return bytes;
+    }
+
+    private static String string(ByteBuffer buffer, int position, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,167 @@
+package com.security.authentication.storage;
+
+import com.security.authentication.validator.Validator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class BloomFilter implements Closeable {
+    private static final int MAGIC = 0x424C4F4D;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int HASHES_OFFSET = 4;
+    private static final int BITS_OFFSET = 8;
+    private static final int SOURCE_SIZE_OFFSET = 16;
+    private static final int STATE_OFFSET = 24;
+    private static final int HEADER_SIZE = 32;
+    private static final int CLEAN = 1;
+    private static final int DIRTY = 0;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long numBits;
+    private final int numHashes;
+
+    private BloomFilter(FileChannel channel, MappedByteBuffer buffer, long numBits, int numHashes) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.numBits = numBits;
+        this.numHashes = numHashes;
+    }
+
+    public static BloomFilter open(Path path, long sourceSize) throws IOException {
+        Validator.validateNotNull(path, "path");
+
+        if (!Files.exists(path) || Files.size(path) <= HEADER_SIZE) {
+            return null;
+        }
+
+        long size = Files.size(path);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+        long numBits = buffer.getLong(BITS_OFFSET);
+        int numHashes = buffer.getInt(HASHES_OFFSET);
+
+        boolean reusable = buffer.getInt(MAGIC_OFFSET) == MAGIC
+                && buffer.getInt(STATE_OFFSET) == CLEAN
+                && buffer.getLong(SOURCE_SIZE_OFFSET) == sourceSize
+                && numBits > 0
+                && numHashes > 0
+                && HEADER_SIZE + (numBits + 7) / 8 == size;
+
+        if (!reusable) {
+            channel.close();
+            return null;
+        }
+
+        markDirty(buffer);
+
+        return new BloomFilter(channel, buffer, numBits, numHashes);
+    }
+
+    public static BloomFilter create(Path path, long expectedInsertions, double falsePositiveRate)
+            throws IOException {
+        Validator.validateNotNull(path, "path");
+
+        long numBits = optimalNumBits(expectedInsertions, falsePositiveRate);
+        int numHashes = optimalNumHashes(expectedInsertions, numBits);
+
+        Files.deleteIfExists(path);
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (numBits + 7) / 8);
+
+        buffer.putInt(MAGIC_OFFSET, MAGIC);
+        buffer.putInt(HASHES_OFFSET, numHashes);
+        buffer.putLong(BITS_OFFSET, numBits);
+        markDirty(buffer);
+
+        return new BloomFilter(channel, buffer, numBits, numHashes);
+    }
+
+    public void put(String key) {
+        Validator.validateNotNull(key, "key");
+
+        long hash = hash(key);
+        int first = (int) hash;
+        int second = (int) (hash >>> 32);
+
+        for (int i = 1; i <= numHashes; i++) {
+            long bit = Integer.toUnsignedLong(first + i * second) % numBits;
+            int index = HEADER_SIZE + (int) (bit >>> 3);
+
+            buffer.put(index, (byte) (buffer.get(index) | (1 << (bit & 7))));
+        }
+    }
+
+    public boolean mightContain(String key) {
+        Validator.validateNotNull(key, "key");
+
+        long hash = hash(key);
+        int first = (int) hash;
+        int second = (int) (hash >>> 32);
+
+        for (int i = 1; i <= numHashes; i++) {
+            long bit = Integer.toUnsignedLong(first + i * second) % numBits;
+            int index = HEADER_SIZE + (int) (bit >>> 3);
+
+            if ((buffer.get(index) & (1 << (bit & 7))) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public void setSourceSize(long sourceSize) {
+        buffer.putLong(SOURCE_SIZE_OFFSET, sourceSize);
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        buffer.putInt(STATE_OFFSET, CLEAN);
+        buffer.force();
+        channel.close();
+    }
+
+    private static void markDirty(MappedByteBuffer buffer) {
+        buffer.putInt(STATE_OFFSET, DIRTY);
+        buffer.force();
+    }
+
+    private static long optimalNumBits(long expectedInsertions, double falsePositiveRate) {
+        long insertions = Math.max(1, expectedInsertions);
+
+        return Math.max(64, (long) (-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+    }
+
+    private static int optimalNumHashes(long expectedInsertions, long numBits) {
+        long insertions = Math.max(1, expectedInsertions);
+
+        return Math.max(1, (int) Math.round((double) numBits / insertions * Math.log(2)));
+    }
+
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+}
@@ -1,75 +1,81 @@
 package com.security.authentication.storage;
 
 import com.google.gson.Gson;
-import com.security.authentication.crypt.PasswordCrypter;
+import com.security.authentication.crypt.PooledPasswordCrypter;
+import com.security.authentication.crypt.UserCrypter;
 import com.security.authentication.enums.ChangeRequest;
-import com.security.authentication.exceptions.crypt.DecryptFailException;
 import com.security.authentication.exceptions.crypt.EncryptFailException;
+import com.security.authentication.exceptions.server.StorageConfigurationFailException;
 import com.security.authentication.exceptions.storage.RemoveFailException;
 import com.security.authentication.exceptions.storage.StorageFailException;
 import com.security.authentication.exceptions.storage.UserNotFoundException;
 import com.security.authentication.exceptions.update.NoUpdateRequestException;
 import com.security.authentication.exceptions.update.UpdateFailException;
-import com.security.authentication.user.Admin;
-import com.security.authentication.user.RegularUser;
 import com.security.authentication.user.User;
 import com.security.authentication.user.creator.UserCreator;
-import com.security.authentication.user.info.AccountInfo;
-import com.security.authentication.user.info.PersonalInfo;
 import com.security.authentication.validator.Validator;
 
 import javax.crypto.SecretKey;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.Closeable;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
-public class FileSystemStorage implements Storage {
+public class FileSystemStorage implements Storage, Closeable {
+    private static final long MIN_EXPECTED_USERS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
     private final Gson gson = new Gson();
     private final Path usersPath;
-    private final PasswordCrypter passwordCrypter;
+    private final UserCrypter userCrypter;
+    private final BloomFilter usernameFilter;
 
     public FileSystemStorage(Path usersFile, SecretKey secretKey) {
+        PooledPasswordCrypter passwordCrypter = new PooledPasswordCrypter(secretKey);
+
         usersPath = usersFile;
-        passwordCrypter = new PasswordCrypter(secretKey);
+        userCrypter = new UserCrypter(passwordCrypter, passwordCrypter);
+
+        try {
+            usernameFilter = openUsernameFilter(Path.of(usersFile + ".bloom"));
+        } catch (IOException e) {
+            throw new StorageConfigurationFailException("failed to load username filter", e);
+        }
     }
 
     @Override
-    public boolean add(User user) throws StorageFailException {
+    public synchronized boolean add(User user) throws StorageFailException {
         Validator.validateNotNull(user, "user");
 
-        String cryptedPassword;
+        User toBeAdded;
 
         try {
-            cryptedPassword = passwordCrypter.encrypt(user.getAccountInfo().getPassword());
+            toBeAdded = userCrypter.encrypt(user);
         } catch (EncryptFailException e) {
             throw new StorageFailException("failed to encrypt password while adding");
         }
 
-        AccountInfo newAccountInfo = new AccountInfo(user.getAccountInfo().getUsername(), cryptedPassword);
-        User toBeAdded;
-
-        if (user.isAuthorized()) {
-            toBeAdded = new Admin(newAccountInfo, user.getPersonalInfo());
-        } else {
-            toBeAdded = new RegularUser(newAccountInfo, user.getPersonalInfo());
-        }
-
         try (var writer = new FileWriter(usersPath.toString(), true)) {
             writer.append(gson.toJson(toBeAdded, User.class)).append(System.lineSeparator()).flush();
         } catch (IOException e) {
             throw new StorageFailException("storage failed");
         }
 
+        usernameFilter.put(toBeAdded.getAccountInfo().getUsername());
+        syncUsernameFilter();
+
         return true;
     }
 
     @Override
-    public boolean remove(User user) throws RemoveFailException {
+    public synchronized boolean remove(User user) throws RemoveFailException {
         Validator.validateNotNull(user, "user");
 
         boolean hasOtherAdmin;
@@ -90,19 +96,15 @@ public class FileSystemStorage implements Storage {
             BufferedReader reader = new BufferedReader(new FileReader(usersPath.toString()));
             BufferedWriter writer = new BufferedWriter(new FileWriter(tempPath.toString()));
 
-            User toBeRemoved = extract(user.getAccountInfo().getUsername());
+            String username = user.getAccountInfo().getUsername();
+            extract(username);
+
             String currentLine;
 
             while ((currentLine = reader.readLine()) != null) {
-                User decrypted;
-
-                try {
-                    decrypted = extractUserWithDecryptedPassword(gson.fromJson(currentLine, User.class));
-                } catch (DecryptFailException e) {
-                    throw new RemoveFailException("removing failed");
-                }
+                User currentUser = gson.fromJson(currentLine, User.class);
 
-                if (decrypted.equals(toBeRemoved)) {
+                if (username.equals(currentUser.getAccountInfo().getUsername())) {
                     continue;
                 }
 
@@ -114,6 +116,7 @@ public class FileSystemStorage implements Storage {
             String userFileName = usersPath.toString();
             Files.delete(usersPath);
             Files.move(tempPath, Path.of(userFileName));
+            syncUsernameFilter();
         } catch (IOException e) {
             throw new RemoveFailException("failed to remove user1");
         } catch (UserNotFoundException e) {
@@ -145,7 +148,7 @@ public class FileSystemStorage implements Storage {
     }
 
     @Override
-    public boolean update(User user, Map<ChangeRequest, String> requests)
+    public synchronized boolean update(User user, Map<ChangeRequest, String> requests)
             throws UpdateFailException,
             NoUpdateRequestException {
         Validator.validateNotNull(user, "user");
@@ -161,6 +164,8 @@ public class FileSystemStorage implements Storage {
             throw new NoUpdateRequestException("no updates requested");
         }
 
+        User updated = UserCreator.createUpdated(user, requests);
+
         try {
             remove(user);
         } catch (RemoveFailException e) {
@@ -168,7 +173,7 @@ public class FileSystemStorage implements Storage {
         }
 
         try {
-            add(changeUserData(user, requests));
+            add(updated);
         } catch (StorageFailException e) {
             throw new UpdateFailException("storage failed");
         }
@@ -176,40 +181,14 @@ public class FileSystemStorage implements Storage {
         return true;
     }
 
-    private User changeUserData(User user, Map<ChangeRequest, String> requests) {
-        String newPassword = null;
-        String newFirstName = null;
-        String newLastName = null;
-        String newEmail = null;
-        String newUsername = null;
-
-        for (Map.Entry<ChangeRequest, String> entry : requests.entrySet()) {
-            switch (entry.getKey()) {
-                case NEW_EMAIL -> newEmail = entry.getValue();
-                case NEW_PASSWORD -> newPassword = entry.getValue();
-                case NEW_FIRST_NAME -> newFirstName = entry.getValue();
-                case NEW_USERNAME -> newUsername = entry.getValue();
-                case NEW_LAST_NAME -> newLastName = entry.getValue();
-                default -> throw new RuntimeException("unreachable");
-            }
-        }
-
-        String finalUsername = newUsername != null ? newUsername : user.getAccountInfo().getUsername();
-        String finalPassword = newPassword != null ? newPassword : user.getAccountInfo().getPassword();
-        String finalFirstName = newFirstName != null ? newFirstName : user.getPersonalInfo().getFirstName();
-        String finalLastName = newLastName != null ? newLastName : user.getPersonalInfo().getLastName();
-        String finalEmail = newEmail != null ? newEmail : user.getPersonalInfo().getEmail();
-
-        AccountInfo accountInfo = new AccountInfo(finalUsername, finalPassword);
-        PersonalInfo personalInfo = new PersonalInfo(finalFirstName, finalLastName, finalEmail);
-
-        return UserCreator.create(accountInfo, personalInfo);
-    }
-
     @Override
-    public boolean hasStoredInfo(User user) throws StorageFailException {
+    public synchronized boolean hasStoredInfo(User user) throws StorageFailException {
         Validator.validateNotNull(user, "user");
 
+        if (!usernameFilter.mightContain(user.getAccountInfo().getUsername())) {
+            return false;
+        }
+
         String line;
 
         try (var r = new BufferedReader(new FileReader(usersPath.toString()))) {
@@ -227,24 +206,21 @@ public class FileSystemStorage implements Storage {
     }
 
     @Override
-    public User extract(String username) throws UserNotFoundException, StorageFailException {
+    public synchronized User extract(String username) throws UserNotFoundException, StorageFailException {
         Validator.validateNotNull(username, "username");
 
+        if (!usernameFilter.mightContain(username)) {
+            throw new UserNotFoundException("user not found");
+        }
+
         String line;
 
         try (var r = new BufferedReader(new FileReader(usersPath.toString()))) {
             while ((line = r.readLine()) != null) {
                 User currentUser = gson.fromJson(line, User.class);
 
-                User decrypted;
-                try {
-                    decrypted = extractUserWithDecryptedPassword(currentUser);
-                } catch (DecryptFailException e) {
-                    throw new StorageFailException("storage failed");
-                }
-
-                if (username.equals(decrypted.getAccountInfo().getUsername())) {
-                    return decrypted;
+                if (username.equals(currentUser.getAccountInfo().getUsername())) {
+                    return userCrypter.decryptLazily(currentUser);
                 }
             }
         } catch (IOException e) {
@@ -255,7 +231,7 @@ public class FileSystemStorage implements Storage {
     }
 
     @Override
-    public boolean isEmpty() {
+    public synchronized boolean isEmpty() {
         try (var r = new BufferedReader(new FileReader(usersPath.toString()))) {
             return r.readLine() == null;
         } catch (IOException e) {
@@ -265,14 +241,47 @@ public class FileSystemStorage implements Storage {
         return false;
     }
 
-    private User extractUserWithDecryptedPassword(User user) throws DecryptFailException {
-        String decryptedPassword = passwordCrypter.decrypt(user.getAccountInfo().getPassword());
-        AccountInfo newAccountInfo = new AccountInfo(user.getAccountInfo().getUsername(), decryptedPassword);
+    @Override
+    public synchronized void close() throws IOException {
+        usernameFilter.close();
+    }
+
+    private BloomFilter openUsernameFilter(Path filterPath) throws IOException {
+        long usersSize = Files.exists(usersPath) ? Files.size(usersPath) : 0;
+        BloomFilter filter = BloomFilter.open(filterPath, usersSize);
 
-        if (user.isAuthorized()) {
-            return new Admin(newAccountInfo, user.getPersonalInfo());
+        if (filter != null) {
+            return filter;
         }
 
-        return new RegularUser(newAccountInfo, user.getPersonalInfo());
+        List<String> usernames = new ArrayList<>();
+        String line;
+
+        if (Files.exists(usersPath)) {
+            try (var r = new BufferedReader(new FileReader(usersPath.toString()))) {
+                while ((line = r.readLine()) != null) {
+                    usernames.add(gson.fromJson(line, User.class).getAccountInfo().getUsername());
+                }
+            }
+        }
+
+        filter = BloomFilter.create(filterPath, Math.max(MIN_EXPECTED_USERS, 2L * usernames.size()),
+                FALSE_POSITIVE_RATE);
+
+        for (String username : usernames) {
+            filter.put(username);
+        }
+
+        filter.setSourceSize(usersSize);
+
+        return filter;
+    }
+
+    private void syncUsernameFilter() {
+        try {
+            usernameFilter.setSourceSize(Files.size(usersPath));
+        } catch (IOException e) {
+            usernameFilter.setSourceSize(-1);
+        }
     }
 }
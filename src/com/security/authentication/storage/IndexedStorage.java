@@ -0,0 +1,186 @@
+package com.security.authentication.storage;
+
+import com.google.gson.Gson;
+import com.security.authentication.crypt.PooledPasswordCrypter;
+import com.security.authentication.crypt.UserCrypter;
+import com.security.authentication.enums.ChangeRequest;
+import com.security.authentication.exceptions.crypt.EncryptFailException;
+import com.security.authentication.exceptions.server.StorageConfigurationFailException;
+import com.security.authentication.exceptions.storage.RemoveFailException;
+import com.security.authentication.exceptions.storage.StorageFailException;
+import com.security.authentication.exceptions.storage.UserNotFoundException;
+import com.security.authentication.exceptions.update.NoUpdateRequestException;
+import com.security.authentication.exceptions.update.UpdateFailException;
+import com.security.authentication.user.User;
+import com.security.authentication.user.creator.UserCreator;
+import com.security.authentication.validator.Validator;
+
+import javax.crypto.SecretKey;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+public class IndexedStorage implements Storage {
+    private final Gson gson = new Gson();
+    private final Path usersPath;
+    private final UserCrypter userCrypter;
+    private final UserIndex users;
+
+    public IndexedStorage(Path usersFile, SecretKey secretKey) {
+        PooledPasswordCrypter passwordCrypter = new PooledPasswordCrypter(secretKey);
+
+        this.usersPath = usersFile;
+        this.userCrypter = new UserCrypter(passwordCrypter, passwordCrypter);
+        this.users = new UserIndex();
+
+        try {
+            load();
+        } catch (IOException e) {
+            throw new StorageConfigurationFailException("failed to load users", e);
+        }
+    }
+
+    @Override
+    public boolean add(User user) throws StorageFailException {
+        Validator.validateNotNull(user, "user");
+
+        User toBeAdded;
+
+        try {
+            toBeAdded = userCrypter.encrypt(user);
+        } catch (EncryptFailException e) {
+            throw new StorageFailException("failed to encrypt password while adding");
+        }
+
+        String record = gson.toJson(toBeAdded, User.class) + System.lineSeparator();
+
+        synchronized (this) {
+            try (var writer = Files.newBufferedWriter(usersPath, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.append(record).flush();
+            } catch (IOException e) {
+                throw new StorageFailException("storage failed");
+            }
+
+            users.put(toBeAdded);
+        }
+
+        return true;
+    }
+
+    @Override
+    public synchronized boolean remove(User user) throws RemoveFailException {
+        Validator.validateNotNull(user, "user");
+
+        String username = user.getAccountInfo().getUsername();
+
+        if (user.isAuthorized() && !users.hasOtherAdmin(username)) {
+            throw new RemoveFailException("");
+        }
+
+        if (!users.contains(username)) {
+            throw new RemoveFailException("failed to remove user");
+        }
+
+        Path tempPath;
+
+        try {
+            tempPath = Files.createTempFile(usersPath.toAbsolutePath().getParent(), "users", ".tmp");
+
+            try (BufferedWriter writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+                for (User stored : users.snapshot()) {
+                    if (username.equals(stored.getAccountInfo().getUsername())) {
+                        continue;
+                    }
+
+                    writer.write(gson.toJson(stored, User.class) + System.lineSeparator());
+                }
+            }
+
+            Files.move(tempPath, usersPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RemoveFailException("failed to remove user");
+        }
+
+        users.remove(username);
+
+        return true;
+    }
+
+    @Override
+    public synchronized boolean update(User user, Map<ChangeRequest, String> requests)
+            throws UpdateFailException,
+            NoUpdateRequestException {
+        Validator.validateNotNull(user, "user");
+        Validator.validateNotNull(requests, "requests");
+
+        if (requests.size() == 0) {
+            throw new NoUpdateRequestException("no updates requested");
+        }
+
+        User updated = UserCreator.createUpdated(user, requests);
+
+        try {
+            remove(user);
+        } catch (RemoveFailException e) {
+            throw new UpdateFailException("update failed");
+        }
+
+        try {
+            add(updated);
+        } catch (StorageFailException e) {
+            throw new UpdateFailException("storage failed");
+        }
+
+        return true;
+    }
+
+    @Override
+    public synchronized boolean hasStoredInfo(User user) {
+        Validator.validateNotNull(user, "user");
+
+        return users.contains(user.getAccountInfo().getUsername());
+    }
+
+    @Override
+    public synchronized User extract(String username) throws UserNotFoundException, StorageFailException {
+        Validator.validateNotNull(username, "username");
+
+        User stored = users.get(username);
+
+        if (stored == null) {
+            throw new UserNotFoundException("user not found");
+        }
+
+        return userCrypter.decryptLazily(stored);
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return users.isEmpty();
+    }
+
+    private void load() throws IOException {
+        if (!Files.exists(usersPath)) {
+            return;
+        }
+
+        String line;
+
+        try (BufferedReader reader = Files.newBufferedReader(usersPath, StandardCharsets.UTF_8)) {
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                users.put(gson.fromJson(line, User.class));
+            }
+        }
+    }
+}
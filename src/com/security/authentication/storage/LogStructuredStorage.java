@@ -0,0 +1,355 @@
+package com.security.authentication.storage;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.security.authentication.crypt.PooledPasswordCrypter;
+import com.security.authentication.crypt.UserCrypter;
+import com.security.authentication.enums.ChangeRequest;
+import com.security.authentication.exceptions.crypt.EncryptFailException;
+import com.security.authentication.exceptions.server.StorageConfigurationFailException;
+import com.security.authentication.exceptions.storage.RemoveFailException;
+import com.security.authentication.exceptions.storage.StorageFailException;
+import com.security.authentication.exceptions.storage.UserNotFoundException;
+import com.security.authentication.exceptions.update.NoUpdateRequestException;
+import com.security.authentication.exceptions.update.UpdateFailException;
+import com.security.authentication.user.User;
+import com.security.authentication.user.creator.UserCreator;
+import com.security.authentication.validator.Validator;
+
+import javax.crypto.SecretKey;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class LogStructuredStorage implements Storage, Closeable {
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d+)\\.log");
+    private static final long DEFAULT_MAX_SEGMENT_BYTES = 64L * 1024 * 1024;
+    private static final long DEFAULT_COMPACTION_INTERVAL_SECONDS = 60;
+    private static final int MIN_STALE_RECORDS_FOR_COMPACTION = 1024;
+
+    private final Gson gson = new Gson();
+    private final Path directory;
+    private final UserCrypter userCrypter;
+    private final UserIndex users;
+    private final long maxSegmentBytes;
+    private final Object compactionLock = new Object();
+    private final ScheduledExecutorService compactor;
+
+    private BufferedWriter activeWriter;
+    private long activeSegmentId;
+    private long activeSegmentBytes;
+    private long staleRecords;
+
+    public LogStructuredStorage(Path directory, SecretKey secretKey) {
+        this(directory, secretKey, DEFAULT_MAX_SEGMENT_BYTES, DEFAULT_COMPACTION_INTERVAL_SECONDS);
+    }
+
+    public LogStructuredStorage(Path directory, SecretKey secretKey, long maxSegmentBytes,
+                                long compactionIntervalSeconds) {
+        PooledPasswordCrypter passwordCrypter = new PooledPasswordCrypter(secretKey);
+
+        this.directory = directory;
+        this.userCrypter = new UserCrypter(passwordCrypter, passwordCrypter);
+        this.users = new UserIndex();
+        this.maxSegmentBytes = maxSegmentBytes;
+
+        try {
+            Files.createDirectories(directory);
+            load();
+        } catch (IOException e) {
+            throw new StorageConfigurationFailException("failed to load user segments", e);
+        }
+
+        this.compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-segment-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.compactor.scheduleWithFixedDelay(this::compactIfNeeded,
+                compactionIntervalSeconds, compactionIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public synchronized boolean add(User user) throws StorageFailException {
+        Validator.validateNotNull(user, "user");
+
+        User toBeAdded;
+
+        try {
+            toBeAdded = userCrypter.encrypt(user);
+        } catch (EncryptFailException e) {
+            throw new StorageFailException("failed to encrypt password while adding");
+        }
+
+        try {
+            append(UserRecord.of(toBeAdded));
+        } catch (IOException e) {
+            throw new StorageFailException("storage failed");
+        }
+
+        if (users.put(toBeAdded) != null) {
+            staleRecords++;
+        }
+
+        return true;
+    }
+
+    @Override
+    public synchronized boolean remove(User user) throws RemoveFailException {
+        Validator.validateNotNull(user, "user");
+
+        String username = user.getAccountInfo().getUsername();
+
+        if (user.isAuthorized() && !users.hasOtherAdmin(username)) {
+            throw new RemoveFailException("");
+        }
+
+        if (!users.contains(username)) {
+            throw new RemoveFailException("failed to remove user");
+        }
+
+        try {
+            append(UserRecord.tombstone(username));
+        } catch (IOException e) {
+            throw new RemoveFailException("failed to remove user");
+        }
+
+        users.remove(username);
+        staleRecords += 2;
+
+        return true;
+    }
+
+    @Override
+    public synchronized boolean update(User user, Map<ChangeRequest, String> requests)
+            throws UpdateFailException,
+            NoUpdateRequestException {
+        Validator.validateNotNull(user, "user");
+        Validator.validateNotNull(requests, "requests");
+
+        if (requests.size() == 0) {
+            throw new NoUpdateRequestException("no updates requested");
+        }
+
+        User updated = UserCreator.createUpdated(user, requests);
+
+        try {
+            remove(user);
+        } catch (RemoveFailException e) {
+            throw new UpdateFailException("update failed");
+        }
+
+        try {
+            add(updated);
+        } catch (StorageFailException e) {
+            throw new UpdateFailException("storage failed");
+        }
+
+        return true;
+    }
+
+    @Override
+    public synchronized boolean hasStoredInfo(User user) {
+        Validator.validateNotNull(user, "user");
+
+        return users.contains(user.getAccountInfo().getUsername());
+    }
+
+    @Override
+    public synchronized User extract(String username) throws UserNotFoundException, StorageFailException {
+        Validator.validateNotNull(username, "username");
+
+        User stored = users.get(username);
+
+        if (stored == null) {
+            throw new UserNotFoundException("user not found");
+        }
+
+        return userCrypter.decryptLazily(stored);
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return users.isEmpty();
+    }
+
+    public void compact() throws IOException {
+        synchronized (compactionLock) {
+            long compactedSegmentId;
+            List<User> live;
+
+            synchronized (this) {
+                compactedSegmentId = activeSegmentId + 1;
+                live = users.snapshot();
+                staleRecords = 0;
+                openActiveSegment(compactedSegmentId + 1);
+            }
+
+            Path tempPath = Files.createTempFile(directory, "segment", ".tmp");
+
+            try (BufferedWriter writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+                for (User user : live) {
+                    writer.write(gson.toJson(UserRecord.of(user)) + System.lineSeparator());
+                }
+            }
+
+            Files.move(tempPath, segmentPath(compactedSegmentId), StandardCopyOption.ATOMIC_MOVE);
+
+            for (long segmentId : listSegmentIds()) {
+                if (segmentId < compactedSegmentId) {
+                    Files.deleteIfExists(segmentPath(segmentId));
+                }
+            }
+        }
+    }
+
+    public int segmentCount() throws IOException {
+        return listSegmentIds().size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        compactor.shutdownNow();
+
+        synchronized (this) {
+            activeWriter.close();
+        }
+    }
+
+    private void compactIfNeeded() {
+        boolean needed;
+
+        synchronized (this) {
+            needed = staleRecords >= MIN_STALE_RECORDS_FOR_COMPACTION && staleRecords >= users.size();
+        }
+
+        if (!needed) {
+            return;
+        }
+
+        try {
+            compact();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void append(UserRecord record) throws IOException {
+        String line = gson.toJson(record) + System.lineSeparator();
+
+        activeWriter.write(line);
+        activeWriter.flush();
+        activeSegmentBytes += line.getBytes(StandardCharsets.UTF_8).length;
+
+        if (activeSegmentBytes >= maxSegmentBytes) {
+            openActiveSegment(activeSegmentId + 1);
+        }
+    }
+
+    private void load() throws IOException {
+        List<Long> segmentIds = listSegmentIds();
+
+        for (int i = 0; i < segmentIds.size(); i++) {
+            replay(segmentPath(segmentIds.get(i)), i == segmentIds.size() - 1);
+        }
+
+        long lastSegmentId = segmentIds.isEmpty() ? 0 : segmentIds.get(segmentIds.size() - 1);
+        openActiveSegment(lastSegmentId + 1);
+    }
+
+    private void replay(Path segment, boolean isNewest) throws IOException {
+        byte[] bytes = Files.readAllBytes(segment);
+        int lineStart = 0;
+
+        while (lineStart < bytes.length) {
+            int lineEnd = lineEnd(bytes, lineStart);
+            int nextLineStart = Math.min(lineEnd + 1, bytes.length);
+            String line = new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+
+            if (!line.isBlank()) {
+                UserRecord record;
+
+                try {
+                    record = gson.fromJson(line, UserRecord.class);
+                } catch (JsonParseException e) {
+                    if (isNewest && isBlank(bytes, nextLineStart)) {
+                        truncate(segment, lineStart);
+                        return;
+                    }
+
+                    throw new IOException("corrupt record in " + segment.getFileName(), e);
+                }
+
+                User previous = record.isTombstone()
+                        ? users.remove(record.getUsername())
+                        : users.put(record.getUser());
+
+                if (previous != null) {
+                    staleRecords++;
+                }
+            }
+
+            lineStart = nextLineStart;
+        }
+    }
+
+    private static int lineEnd(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+
+        return bytes.length;
+    }
+
+    private static boolean isBlank(byte[] bytes, int from) {
+        return new String(bytes, from, bytes.length - from, StandardCharsets.UTF_8).isBlank();
+    }
+
+    private static void truncate(Path segment, long length) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+        }
+    }
+
+    private void openActiveSegment(long segmentId) throws IOException {
+        if (activeWriter != null) {
+            activeWriter.close();
+        }
+
+        activeSegmentId = segmentId;
+        activeSegmentBytes = 0;
+        activeWriter = Files.newBufferedWriter(segmentPath(segmentId), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private List<Long> listSegmentIds() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> SEGMENT_NAME.matcher(path.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Long.parseLong(matcher.group(1)))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private Path segmentPath(long segmentId) {
+        return directory.resolve(String.format("segment-%010d.log", segmentId));
+    }
+}
@@ -0,0 +1,302 @@
+package com.security.authentication.storage;
+
+import com.security.authentication.crypt.PooledPasswordCrypter;
+import com.security.authentication.crypt.UserCrypter;
+import com.security.authentication.enums.ChangeRequest;
+import com.security.authentication.exceptions.crypt.EncryptFailException;
+import com.security.authentication.exceptions.server.StorageConfigurationFailException;
+import com.security.authentication.exceptions.storage.RemoveFailException;
+import com.security.authentication.exceptions.storage.StorageFailException;
+import com.security.authentication.exceptions.storage.UserNotFoundException;
+import com.security.authentication.exceptions.update.NoUpdateRequestException;
+import com.security.authentication.exceptions.update.UpdateFailException;
+import com.security.authentication.user.User;
+import com.security.authentication.user.creator.UserCreator;
+import com.security.authentication.validator.Validator;
+
+import javax.crypto.SecretKey;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+public class MappedFileStorage implements Storage, Closeable {
+    private static final int INITIAL_CAPACITY = 1024 * 1024;
+    private static final int MIN_DEAD_BYTES_FOR_COMPACTION = 64 * 1024;
+    private static final int NOT_FOUND = -1;
+
+    private final Path usersFile;
+    private final UserCrypter userCrypter;
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    private int end;
+    private int deadBytes;
+
+    public MappedFileStorage(Path usersFile, SecretKey secretKey) {
+        PooledPasswordCrypter passwordCrypter = new PooledPasswordCrypter(secretKey);
+
+        this.usersFile = usersFile;
+        this.userCrypter = new UserCrypter(passwordCrypter, passwordCrypter);
+
+        try {
+            open();
+            compactIfNeeded();
+        } catch (IOException | IllegalArgumentException e) {
+            throw new StorageConfigurationFailException("failed to map users", e);
+        }
+    }
+
+    @Override
+    public synchronized boolean add(User user) throws StorageFailException {
+        Validator.validateNotNull(user, "user");
+
+        byte[] record;
+
+        try {
+            record = BinaryUserRecord.encode(userCrypter.encrypt(user));
+        } catch (EncryptFailException e) {
+            throw new StorageFailException("failed to encrypt password while adding");
+        } catch (IllegalArgumentException e) {
+            throw new StorageFailException("user data is too long");
+        }
+
+        try {
+            ensureCapacity((long) end + record.length + BinaryUserRecord.HEADER_SIZE);
+        } catch (IOException e) {
+            throw new StorageFailException("storage failed");
+        }
+
+        mapped.put(end, record);
+        mapped.force(end, record.length);
+        end += record.length;
+
+        return true;
+    }
+
+    @Override
+    public synchronized boolean remove(User user) throws RemoveFailException {
+        Validator.validateNotNull(user, "user");
+
+        byte[] username = key(user.getAccountInfo().getUsername());
+
+        if (username == null) {
+            throw new RemoveFailException("failed to remove user");
+        }
+
+        if (user.isAuthorized() && !hasOtherAdmin(username)) {
+            throw new RemoveFailException("");
+        }
+
+        int offset = find(username);
+
+        if (offset == NOT_FOUND) {
+            throw new RemoveFailException("failed to remove user");
+        }
+
+        BinaryUserRecord.markDeleted(mapped, offset);
+        mapped.force(offset, BinaryUserRecord.HEADER_SIZE);
+        deadBytes += BinaryUserRecord.length(mapped, offset);
+
+        try {
+            compactIfNeeded();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return true;
+    }
+
+    @Override
+    public synchronized boolean update(User user, Map<ChangeRequest, String> requests)
+            throws UpdateFailException,
+            NoUpdateRequestException {
+        Validator.validateNotNull(user, "user");
+        Validator.validateNotNull(requests, "requests");
+
+        if (requests.size() == 0) {
+            throw new NoUpdateRequestException("no updates requested");
+        }
+
+        User updated = UserCreator.createUpdated(user, requests);
+
+        try {
+            remove(user);
+        } catch (RemoveFailException e) {
+            throw new UpdateFailException("update failed");
+        }
+
+        try {
+            add(updated);
+        } catch (StorageFailException e) {
+            throw new UpdateFailException("storage failed");
+        }
+
+        return true;
+    }
+
+    @Override
+    public synchronized boolean hasStoredInfo(User user) {
+        Validator.validateNotNull(user, "user");
+
+        byte[] username = key(user.getAccountInfo().getUsername());
+
+        return username != null && find(username) != NOT_FOUND;
+    }
+
+    @Override
+    public synchronized User extract(String username) throws UserNotFoundException, StorageFailException {
+        Validator.validateNotNull(username, "username");
+
+        byte[] key = key(username);
+        int offset = key == null ? NOT_FOUND : find(key);
+
+        if (offset == NOT_FOUND) {
+            throw new UserNotFoundException("user not found");
+        }
+
+        return userCrypter.decryptLazily(BinaryUserRecord.decode(mapped, offset));
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        for (int offset = 0; offset < end; offset += BinaryUserRecord.length(mapped, offset)) {
+            if (BinaryUserRecord.isLive(mapped, offset)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        mapped.force();
+        channel.close();
+    }
+
+    private void open() throws IOException {
+        channel = FileChannel.open(usersFile, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        map((int) Math.max(channel.size(), INITIAL_CAPACITY));
+        end = findEnd();
+        deadBytes = countDeadBytes();
+    }
+
+    private void compactIfNeeded() throws IOException {
+        if (deadBytes < MIN_DEAD_BYTES_FOR_COMPACTION || deadBytes <= end - deadBytes) {
+            return;
+        }
+
+        ByteBuffer live = ByteBuffer.allocate(end - deadBytes);
+
+        for (int offset = 0; offset < end; offset += BinaryUserRecord.length(mapped, offset)) {
+            if (BinaryUserRecord.isLive(mapped, offset)) {
+                live.put(mapped.slice(offset, BinaryUserRecord.length(mapped, offset)));
+            }
+        }
+
+        Path tempPath = Files.createTempFile(usersFile.toAbsolutePath().getParent(), "users", ".tmp");
+
+        try (FileChannel temp = FileChannel.open(tempPath, StandardOpenOption.WRITE)) {
+            live.flip();
+
+            while (live.hasRemaining()) {
+                temp.write(live);
+            }
+
+            temp.force(true);
+        }
+
+        mapped.force();
+        channel.close();
+
+        try {
+            Files.move(tempPath, usersFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            open();
+        }
+    }
+
+    private int countDeadBytes() {
+        int dead = 0;
+
+        for (int offset = 0; offset < end; offset += BinaryUserRecord.length(mapped, offset)) {
+            if (!BinaryUserRecord.isLive(mapped, offset)) {
+                dead += BinaryUserRecord.length(mapped, offset);
+            }
+        }
+
+        return dead;
+    }
+
+    private boolean hasOtherAdmin(byte[] username) {
+        for (int offset = 0; offset < end; offset += BinaryUserRecord.length(mapped, offset)) {
+            if (BinaryUserRecord.isLive(mapped, offset)
+                    && BinaryUserRecord.isAdmin(mapped, offset)
+                    && !BinaryUserRecord.hasUsername(mapped, offset, username)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private int find(byte[] username) {
+        for (int offset = 0; offset < end; offset += BinaryUserRecord.length(mapped, offset)) {
+            if (BinaryUserRecord.isLive(mapped, offset) && BinaryUserRecord.hasUsername(mapped, offset, username)) {
+                return offset;
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+    private int findEnd() {
+        int offset = 0;
+
+        while (offset + BinaryUserRecord.HEADER_SIZE <= mapped.capacity()) {
+            int length = BinaryUserRecord.length(mapped, offset);
+
+            if (length <= 0) {
+                break;
+            }
+
+            offset += length;
+        }
+
+        return offset;
+    }
+
+    private static byte[] key(String username) {
+        try {
+            return BinaryUserRecord.bytes(username);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void ensureCapacity(long needed) throws IOException {
+        if (needed <= mapped.capacity()) {
+            return;
+        }
+
+        if (needed > Integer.MAX_VALUE) {
+            throw new IOException("users file is full");
+        }
+
+        long doubled = Math.min(2L * mapped.capacity(), Integer.MAX_VALUE);
+
+        mapped.force();
+        map((int) Math.max(needed, doubled));
+    }
+
+    private void map(int capacity) throws IOException {
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+}
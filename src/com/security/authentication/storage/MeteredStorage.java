@@ -0,0 +1,104 @@
+package com.security.authentication.storage;
+
+import com.security.authentication.enums.ChangeRequest;
+import com.security.authentication.enums.StorageOperation;
+import com.security.authentication.exceptions.storage.RemoveFailException;
+import com.security.authentication.exceptions.storage.StorageFailException;
+import com.security.authentication.exceptions.storage.UserNotFoundException;
+import com.security.authentication.exceptions.update.NoUpdateRequestException;
+import com.security.authentication.exceptions.update.UpdateFailException;
+import com.security.authentication.metrics.MetricsRegistry;
+import com.security.authentication.user.User;
+import com.security.authentication.validator.Validator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+public class MeteredStorage implements Storage, Closeable {
+    private final Storage storage;
+    private final MetricsRegistry metrics;
+
+    public MeteredStorage(Storage storage, MetricsRegistry metrics) {
+        Validator.validateNotNull(storage, "storage");
+        Validator.validateNotNull(metrics, "metrics");
+
+        this.storage = storage;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean add(User user) throws StorageFailException {
+        long start = System.nanoTime();
+
+        try {
+            return storage.add(user);
+        } finally {
+            metrics.recordStorage(StorageOperation.ADD, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean remove(User user) throws RemoveFailException {
+        long start = System.nanoTime();
+
+        try {
+            return storage.remove(user);
+        } finally {
+            metrics.recordStorage(StorageOperation.REMOVE, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean update(User user, Map<ChangeRequest, String> requestSet)
+            throws UpdateFailException,
+            NoUpdateRequestException {
+        long start = System.nanoTime();
+
+        try {
+            return storage.update(user, requestSet);
+        } finally {
+            metrics.recordStorage(StorageOperation.UPDATE, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean hasStoredInfo(User user) throws StorageFailException {
+        long start = System.nanoTime();
+
+        try {
+            return storage.hasStoredInfo(user);
+        } finally {
+            metrics.recordStorage(StorageOperation.HAS_STORED_INFO, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public User extract(String username) throws UserNotFoundException, StorageFailException {
+        long start = System.nanoTime();
+
+        try {
+            return storage.extract(username);
+        } finally {
+            metrics.recordStorage(StorageOperation.EXTRACT, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        long start = System.nanoTime();
+
+        try {
+            return storage.isEmpty();
+        } finally {
+            metrics.recordStorage(StorageOperation.IS_EMPTY, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (storage instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+}
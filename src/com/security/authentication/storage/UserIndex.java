@@ -0,0 +1,75 @@
+package com.security.authentication.storage;
+
+import com.security.authentication.user.User;
+import com.security.authentication.validator.Validator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class UserIndex {
+    private final Map<String, User> users = new LinkedHashMap<>();
+    private int admins;
+
+    public User put(User user) {
+        Validator.validateNotNull(user, "user");
+
+        User previous = users.put(user.getAccountInfo().getUsername(), user);
+
+        if (previous != null && previous.isAuthorized()) {
+            admins--;
+        }
+
+        if (user.isAuthorized()) {
+            admins++;
+        }
+
+        return previous;
+    }
+
+    public User remove(String username) {
+        Validator.validateNotNull(username, "username");
+
+        User removed = users.remove(username);
+
+        if (removed != null && removed.isAuthorized()) {
+            admins--;
+        }
+
+        return removed;
+    }
+
+    public User get(String username) {
+        Validator.validateNotNull(username, "username");
+
+        return users.get(username);
+    }
+
+    public boolean contains(String username) {
+        Validator.validateNotNull(username, "username");
+
+        return users.containsKey(username);
+    }
+
+    public boolean hasOtherAdmin(String username) {
+        Validator.validateNotNull(username, "username");
+
+        User stored = users.get(username);
+        int otherAdmins = stored != null && stored.isAuthorized() ? admins - 1 : admins;
+
+        return otherAdmins > 0;
+    }
+
+    public List<User> snapshot() {
+        return new ArrayList<>(users.values());
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    public boolean isEmpty() {
+        return users.isEmpty();
+    }
+}
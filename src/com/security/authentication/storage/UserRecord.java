@@ -0,0 +1,38 @@
+package com.security.authentication.storage;
+
+import com.security.authentication.user.User;
+import com.security.authentication.validator.Validator;
+
+public class UserRecord {
+    private final String username;
+    private final User user;
+
+    private UserRecord(String username, User user) {
+        this.username = username;
+        this.user = user;
+    }
+
+    public static UserRecord of(User user) {
+        Validator.validateNotNull(user, "user");
+
+        return new UserRecord(user.getAccountInfo().getUsername(), user);
+    }
+
+    public static UserRecord tombstone(String username) {
+        Validator.validateNotNull(username, "username");
+
+        return new UserRecord(username, null);
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public boolean isTombstone() {
+        return user == null;
+    }
+}
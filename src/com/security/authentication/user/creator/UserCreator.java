@@ -1,11 +1,16 @@
 package com.security.authentication.user.creator;
 
+import com.security.authentication.enums.ChangeRequest;
+import com.security.authentication.exceptions.crypt.PasswordResolveFailException;
+import com.security.authentication.exceptions.update.UpdateFailException;
 import com.security.authentication.user.UnauthenticatedUser;
+import com.security.authentication.user.User;
 import com.security.authentication.user.info.AccountInfo;
 import com.security.authentication.user.info.PersonalInfo;
 import com.security.authentication.validator.Validator;
 
 import java.util.List;
+import java.util.Map;
 
 public class UserCreator {
     public static UnauthenticatedUser create(List<String> parameters) {
@@ -23,4 +28,45 @@ public class UserCreator {
 
         return new UnauthenticatedUser(accountInfo, personalInfo);
     }
+
+    public static UnauthenticatedUser createUpdated(User user, Map<ChangeRequest, String> requests)
+            throws UpdateFailException {
+        Validator.validateNotNull(user, "user");
+        Validator.validateNotNull(requests, "requests");
+
+        String newPassword = null;
+        String newFirstName = null;
+        String newLastName = null;
+        String newEmail = null;
+        String newUsername = null;
+
+        for (Map.Entry<ChangeRequest, String> entry : requests.entrySet()) {
+            switch (entry.getKey()) {
+                case NEW_EMAIL -> newEmail = entry.getValue();
+                case NEW_PASSWORD -> newPassword = entry.getValue();
+                case NEW_FIRST_NAME -> newFirstName = entry.getValue();
+                case NEW_USERNAME -> newUsername = entry.getValue();
+                case NEW_LAST_NAME -> newLastName = entry.getValue();
+                default -> throw new RuntimeException("unreachable");
+            }
+        }
+
+        String finalUsername = newUsername != null ? newUsername : user.getAccountInfo().getUsername();
+        String finalPassword;
+
+        try {
+            finalPassword = newPassword != null ? newPassword : user.getAccountInfo().getPassword();
+        } catch (PasswordResolveFailException e) {
+            throw new UpdateFailException("failed to resolve password");
+        }
+
+        String finalFirstName = newFirstName != null ? newFirstName : user.getPersonalInfo().getFirstName();
+        String finalLastName = newLastName != null ? newLastName : user.getPersonalInfo().getLastName();
+        String finalEmail = newEmail != null ? newEmail : user.getPersonalInfo().getEmail();
+
+        AccountInfo accountInfo = new AccountInfo(finalUsername, finalPassword);
+        PersonalInfo personalInfo = new PersonalInfo(finalFirstName, finalLastName, finalEmail);
+
+        return create(accountInfo, personalInfo);
+    }
 }
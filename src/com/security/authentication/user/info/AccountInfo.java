@@ -1,22 +1,41 @@
 package com.security.authentication.user.info;
 
+import com.security.authentication.exceptions.crypt.PasswordResolveFailException;
+
+import java.util.function.Supplier;
+
 public class AccountInfo {
     private final String username;
-    private final String password;
+    private String password;
+    private transient Supplier<String> passwordResolver;
 
     public AccountInfo(String username, String password) {
         this.username = username;
         this.password = password;
     }
 
+    public AccountInfo(String username, Supplier<String> passwordResolver) {
+        this.username = username;
+        this.passwordResolver = passwordResolver;
+    }
+
     public String getUsername() {
         return this.username;
     }
 
-    public String getPassword() {
+    public synchronized String getPassword() {
+        if (passwordResolver != null) {
+            password = passwordResolver.get();
+            passwordResolver = null;
+        }
+
         return this.password;
     }
 
+    public synchronized boolean isPasswordResolved() {
+        return passwordResolver == null;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == null) {
@@ -29,6 +48,11 @@ public class AccountInfo {
 
         AccountInfo otherAccountInfo = (AccountInfo) other;
 
-        return username.equals(otherAccountInfo.getUsername()) && password.equals(otherAccountInfo.getPassword());
+        try {
+            return username.equals(otherAccountInfo.getUsername())
+                    && getPassword().equals(otherAccountInfo.getPassword());
+        } catch (PasswordResolveFailException e) {
+            return false;
+        }
     }
 }
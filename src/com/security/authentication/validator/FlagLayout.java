@@ -0,0 +1,49 @@
+package com.security.authentication.validator;
+
+import com.security.authentication.command.TokenList;
+
+import java.util.List;
+
+public class FlagLayout {
+    private final String[] flags;
+
+    private FlagLayout(String[] flags) {
+        this.flags = flags;
+    }
+
+    public static FlagLayout of(String... flags) {
+        Validator.validateNotNull(flags, "flags");
+
+        for (String flag : flags) {
+            Validator.validateNotNull(flag, "flag");
+        }
+
+        return new FlagLayout(flags.clone());
+    }
+
+    public boolean matches(List<String> arguments) {
+        Validator.validateNotNull(arguments, "arguments");
+
+        if (arguments.size() < 2 * flags.length) {
+            return false;
+        }
+
+        if (arguments instanceof TokenList tokens) {
+            for (int i = 0; i < flags.length; i++) {
+                if (!tokens.tokenEquals(2 * i, flags[i])) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        for (int i = 0; i < flags.length; i++) {
+            if (!flags[i].equals(arguments.get(2 * i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
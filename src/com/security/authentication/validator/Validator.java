@@ -1,6 +1,7 @@
 package com.security.authentication.validator;
 
 import com.security.authentication.command.Command;
+import com.security.authentication.enums.Response;
 import com.security.authentication.exceptions.general.InvalidNumberOfArgumentsException;
 import com.security.authentication.exceptions.register.InvalidDataException;
 import com.security.authentication.validator.subvalidators.AddAdminValidator;
@@ -30,7 +31,7 @@ public class Validator {
         }
     }
 
-    public static String validateCommand(Command command) {
+    public static Response validateCommand(Command command) {
         validateNotNull(command, "command");
 
         return switch (command.type()) {
@@ -46,97 +47,97 @@ public class Validator {
         };
     }
 
-    private static String validateRegisterCommand(Command command) {
+    private static Response validateRegisterCommand(Command command) {
         try {
             RegisterValidator.validate(command.parameters());
         } catch (InvalidDataException e) {
-            return "<Missing authentication sentinel/data>";
+            return Response.MISSING_DATA;
         } catch (InvalidNumberOfArgumentsException e) {
-            return "<Wrong number of arguments>";
+            return Response.WRONG_NUMBER_OF_ARGUMENTS;
         }
 
         return null;
     }
 
-    private static String validateLogInCommand(Command command) {
+    private static Response validateLogInCommand(Command command) {
         try {
             LogInValidator.validate(command.parameters());
         } catch (InvalidDataException e) {
-            return "<Missing authentication sentinel/data>";
+            return Response.MISSING_DATA;
         } catch (InvalidNumberOfArgumentsException e) {
-            return "<Wrong number of arguments>";
+            return Response.WRONG_NUMBER_OF_ARGUMENTS;
         }
 
         return null;
     }
 
-    private static String validateLogOutCommand(Command command) {
+    private static Response validateLogOutCommand(Command command) {
         try {
             LogOutValidator.validate(command.parameters());
         } catch (InvalidDataException e) {
-            return "<Missing authentication sentinel/data>";
+            return Response.MISSING_DATA;
         } catch (InvalidNumberOfArgumentsException e) {
-            return "<Wrong number of arguments>";
+            return Response.WRONG_NUMBER_OF_ARGUMENTS;
         }
 
         return null;
     }
 
-    private static String validateAddAdminCommand(Command command) {
+    private static Response validateAddAdminCommand(Command command) {
         try {
             AddAdminValidator.validate(command.parameters());
         } catch (InvalidDataException e) {
-            return "<Missing authentication sentinel/data>";
+            return Response.MISSING_DATA;
         } catch (InvalidNumberOfArgumentsException e) {
-            return "<Wrong number of arguments>";
+            return Response.WRONG_NUMBER_OF_ARGUMENTS;
         }
 
         return null;
     }
 
-    private static String validateDeleteUserCommand(Command command) {
+    private static Response validateDeleteUserCommand(Command command) {
         try {
             DeleteUserValidator.validate(command.parameters());
         } catch (InvalidDataException e) {
-            return "<Missing authentication sentinel/data>";
+            return Response.MISSING_DATA;
         } catch (InvalidNumberOfArgumentsException e) {
-            return "<Wrong number of arguments>";
+            return Response.WRONG_NUMBER_OF_ARGUMENTS;
         }
 
         return null;
     }
 
-    private static String validateRemoveAdminCommand(Command command) {
+    private static Response validateRemoveAdminCommand(Command command) {
         try {
             RemoveAdminValidator.validate(command.parameters());
         } catch (InvalidDataException e) {
-            return "<Missing authentication sentinel/data>";
+            return Response.MISSING_DATA;
         } catch (InvalidNumberOfArgumentsException e) {
-            return "<Wrong number of arguments>";
+            return Response.WRONG_NUMBER_OF_ARGUMENTS;
         }
 
         return null;
     }
 
-    private static String validateResetPasswordCommand(Command command) {
+    private static Response validateResetPasswordCommand(Command command) {
         try {
             ResetPasswordValidator.validate(command.parameters());
         } catch (InvalidDataException e) {
-            return "<Missing authentication sentinel/data>";
+            return Response.MISSING_DATA;
         } catch (InvalidNumberOfArgumentsException e) {
-            return "<Wrong number of arguments>";
+            return Response.WRONG_NUMBER_OF_ARGUMENTS;
         }
 
         return null;
     }
 
-    private static String validateUpdateUserCommand(Command command) {
+    private static Response validateUpdateUserCommand(Command command) {
         try {
             UpdateUserValidator.validate(command.parameters());
         } catch (InvalidDataException e) {
-            return "<Missing authentication sentinel/data>";
+            return Response.MISSING_DATA;
         } catch (InvalidNumberOfArgumentsException e) {
-            return "<Wrong number of arguments>";
+            return Response.WRONG_NUMBER_OF_ARGUMENTS;
         }
 
         return null;
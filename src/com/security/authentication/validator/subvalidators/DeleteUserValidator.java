@@ -4,32 +4,23 @@ import com.security.authentication.enums.AuthenticationInterest;
 import com.security.authentication.enums.VerificationKey;
 import com.security.authentication.exceptions.general.InvalidNumberOfArgumentsException;
 import com.security.authentication.exceptions.register.InvalidDataException;
+import com.security.authentication.validator.FlagLayout;
 import com.security.authentication.validator.Validator;
 
 import java.util.List;
 
 public class DeleteUserValidator {
     private static final int NECESSARY_ARGUMENTS_NUMBER = 4;
+    private static final FlagLayout FLAG_LAYOUT = FlagLayout.of(VerificationKey.SESSION_ID.getKey(),
+            AuthenticationInterest.USERNAME.getInterest());
 
     public static void validate(List<String> arguments) throws InvalidDataException,
             InvalidNumberOfArgumentsException {
         Validator.validateNotNull(arguments, "arguments");
         Validator.validateEnoughArguments(arguments, NECESSARY_ARGUMENTS_NUMBER);
 
-        String sessionToken = arguments.get(0);
-        String usernameToken = arguments.get(2);
-
-        if (!validateUsernameToken(usernameToken)
-                || !validateSessionToken(sessionToken)) {
+        if (!FLAG_LAYOUT.matches(arguments)) {
             throw new InvalidDataException("missing register token");
         }
     }
-
-    private static boolean validateUsernameToken(String argument) {
-        return AuthenticationInterest.getType(argument) == AuthenticationInterest.USERNAME;
-    }
-
-    private static boolean validateSessionToken(String argument) {
-        return VerificationKey.getType(argument) == VerificationKey.SESSION_ID;
-    }
 }
@@ -4,6 +4,7 @@ import com.security.authentication.enums.AuthenticationInterest;
 import com.security.authentication.enums.VerificationKey;
 import com.security.authentication.exceptions.general.InvalidNumberOfArgumentsException;
 import com.security.authentication.exceptions.register.InvalidDataException;
+import com.security.authentication.validator.FlagLayout;
 import com.security.authentication.validator.Validator;
 
 import java.util.List;
@@ -11,6 +12,10 @@ import java.util.List;
 public class LogInValidator {
     private static final int LOGIN_NECESSARY_ARGUMENTS_NUMBER = 4;
     private static final int LOGIN_SESSION_ARGUMENTS_NUMBER = 2;
+    private static final FlagLayout COMBINATION_FLAG_LAYOUT = FlagLayout.of(
+            AuthenticationInterest.USERNAME.getInterest(),
+            AuthenticationInterest.PASSWORD.getInterest());
+    private static final FlagLayout SESSION_FLAG_LAYOUT = FlagLayout.of(VerificationKey.SESSION_ID.getKey());
 
     public static void validate(List<String> arguments) throws InvalidDataException, InvalidNumberOfArgumentsException {
         Validator.validateNotNull(arguments, "arguments");
@@ -20,31 +25,12 @@ public class LogInValidator {
             throw new InvalidNumberOfArgumentsException("Wrong number of arguments");
         }
 
-        if (arguments.size() == LOGIN_NECESSARY_ARGUMENTS_NUMBER) {
-            String usernameToken = arguments.get(0);
-            String passwordToken = arguments.get(2);
+        FlagLayout flagLayout = arguments.size() == LOGIN_NECESSARY_ARGUMENTS_NUMBER
+                ? COMBINATION_FLAG_LAYOUT
+                : SESSION_FLAG_LAYOUT;
 
-            if (!validateUsernameToken(usernameToken)
-                    || !validatePasswordToken(passwordToken)) {
-                throw new InvalidDataException("missing token");
-            }
-        } else {
-            String sessionId = arguments.get(0);
-            if (!validateSessionToken(sessionId)) {
-                throw new InvalidDataException("missing token");
-            }
+        if (!flagLayout.matches(arguments)) {
+            throw new InvalidDataException("missing token");
         }
     }
-
-    private static boolean validateUsernameToken(String argument) {
-        return AuthenticationInterest.getType(argument) == AuthenticationInterest.USERNAME;
-    }
-
-    private static boolean validatePasswordToken(String argument) {
-        return AuthenticationInterest.getType(argument) == AuthenticationInterest.PASSWORD;
-    }
-
-    private static boolean validateSessionToken(String argument) {
-        return VerificationKey.getType(argument) == VerificationKey.SESSION_ID;
-    }
 }
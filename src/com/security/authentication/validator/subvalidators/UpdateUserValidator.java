@@ -3,12 +3,13 @@ package com.security.authentication.validator.subvalidators;
 import com.security.authentication.enums.VerificationKey;
 import com.security.authentication.exceptions.general.InvalidNumberOfArgumentsException;
 import com.security.authentication.exceptions.register.InvalidDataException;
+import com.security.authentication.validator.FlagLayout;
 import com.security.authentication.validator.Validator;
 
 import java.util.List;
 
 public class UpdateUserValidator {
-
+    private static final FlagLayout FLAG_LAYOUT = FlagLayout.of(VerificationKey.SESSION_ID.getKey());
 
     public static void validate(List<String> arguments) throws InvalidDataException,
             InvalidNumberOfArgumentsException {
@@ -21,14 +22,8 @@ public class UpdateUserValidator {
             throw new InvalidNumberOfArgumentsException("Wrong number of arguments");
         }
 
-        String sessionToken = arguments.get(0);
-
-        if (!validateSessionToken(sessionToken)) {
+        if (!FLAG_LAYOUT.matches(arguments)) {
             throw new InvalidDataException("missing register token");
         }
     }
-
-    private static boolean validateSessionToken(String argument) {
-        return VerificationKey.getType(argument) == VerificationKey.SESSION_ID;
-    }
 }
@@ -1,6 +1,8 @@
 package com.security.authentication.command;
 
+import com.security.authentication.connect.Connection;
 import com.security.authentication.defend.Defender;
+import com.security.authentication.enums.CommandOutcome;
 import com.security.authentication.enums.CommandType;
 import com.security.authentication.exceptions.authorize.AlreadyAuthorizedUserException;
 import com.security.authentication.exceptions.authorize.AlreadyNotAuthorizedUserException;
@@ -16,13 +18,17 @@ import com.security.authentication.exceptions.storage.UserNotFoundException;
 import com.security.authentication.exceptions.update.NoUpdateRequestException;
 import com.security.authentication.handler.UserHandler;
 import com.security.authentication.log.Log;
+import com.security.authentication.metrics.MetricsRegistry;
+import com.security.authentication.metrics.MetricsSnapshot;
 import com.security.authentication.user.UnauthenticatedUser;
 import com.security.authentication.user.info.AccountInfo;
 import com.security.authentication.user.info.PersonalInfo;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.IOException;
@@ -31,6 +37,7 @@ import java.nio.channels.SocketChannel;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.when;
 
@@ -47,18 +54,28 @@ public class CommandExecutorTest {
     @Mock
     private Defender defender;
 
+    @Spy
+    private MetricsRegistry metricsRegistry = new MetricsRegistry();
+
     @InjectMocks
     private CommandExecutor commandExecutor;
 
     @Mock
-    private SocketChannel channel;
+    private SocketChannel socketChannel;
+
+    private Connection connection;
+
+    @Before
+    public void setUp() {
+        connection = new Connection(socketChannel);
+    }
 
     @Mock
     private SocketAddress socketAddress;
 
     @Test
     public void testExecuteExpectedServerProblemResponseWhenCommandIsNull() {
-        String actual = commandExecutor.execute(null, channel);
+        String actual = commandExecutor.execute(null, connection);
         String expected = "<A problem in the system has occurred, please try again>";
 
         assertEquals("expecting exact same answer", expected, actual);
@@ -78,7 +95,7 @@ public class CommandExecutorTest {
                 "-password", "pass",
                 "--first-name", "fname",
                 "--last-name", "lname",
-                "--email", "email")), channel);
+                "--email", "email")), connection);
 
         String expected = "<Missing authentication sentinel/data>";
 
@@ -90,7 +107,7 @@ public class CommandExecutorTest {
         String actual = commandExecutor.execute(new Command(CommandType.REGISTER, List.of("--username", "user",
                 "-password", "pass",
                 "--first-name", "fname",
-                "--last-name", "lname")), channel);
+                "--last-name", "lname")), connection);
 
         String expected = "<Wrong number of arguments>";
 
@@ -105,7 +122,7 @@ public class CommandExecutorTest {
                 "--password", "pass",
                 "--first-name", "fname",
                 "--last-name", "lname",
-                "--email", "email")), channel);
+                "--email", "email")), connection);
 
         String expected = "<You are currently blocked>";
 
@@ -125,7 +142,7 @@ public class CommandExecutorTest {
                 "--password", "pass",
                 "--first-name", "fname",
                 "--last-name", "lname",
-                "--email", "email")), channel);
+                "--email", "email")), connection);
 
         String expected = "<Username is taken, choose another one>";
 
@@ -145,7 +162,7 @@ public class CommandExecutorTest {
                 "--password", "pass",
                 "--first-name", "fname",
                 "--last-name", "lname",
-                "--email", "email")), channel);
+                "--email", "email")), connection);
 
         String expected = "<You are logged in>";
 
@@ -165,7 +182,7 @@ public class CommandExecutorTest {
                 "--password", "pass",
                 "--first-name", "fname",
                 "--last-name", "lname",
-                "--email", "email")), channel);
+                "--email", "email")), connection);
 
         String expected = "<A problem in the system has occurred, please try again>";
 
@@ -185,7 +202,7 @@ public class CommandExecutorTest {
                 "--password", "pass",
                 "--first-name", "fname",
                 "--last-name", "lname",
-                "--email", "email")), channel);
+                "--email", "email")), connection);
 
         String expected =
                 "<You have been successfully registered. Since you are the first user in the system, you are admin>";
@@ -206,7 +223,7 @@ public class CommandExecutorTest {
                 "--password", "pass",
                 "--first-name", "fname",
                 "--last-name", "lname",
-                "--email", "email")), channel);
+                "--email", "email")), connection);
 
         String expected = "<You have been successfully registered>";
 
@@ -216,7 +233,7 @@ public class CommandExecutorTest {
     @Test
     public void testExecuteLogInExpectedMissingSentinelOrData() {
         String actual = commandExecutor.execute(new Command(CommandType.LOGIN, List.of("--username", "user",
-                "-password", "pass")), channel);
+                "-password", "pass")), connection);
 
         String expected = "<Missing authentication sentinel/data>";
 
@@ -226,7 +243,7 @@ public class CommandExecutorTest {
     @Test
     public void testExecuteLogInExpectedInvalidNumberOfArguments() {
         String actual = commandExecutor
-                .execute(new Command(CommandType.REGISTER, List.of("--username", "user")), channel);
+                .execute(new Command(CommandType.REGISTER, List.of("--username", "user")), connection);
 
         String expected = "<Wrong number of arguments>";
 
@@ -238,7 +255,7 @@ public class CommandExecutorTest {
         when(defender.isBlocked(any())).thenReturn(true);
 
         String actual = commandExecutor.execute(new Command(CommandType.LOGIN, List.of("--username", "user",
-                "--password", "pass")), channel);
+                "--password", "pass")), connection);
 
         String expected = "<You are currently blocked>";
 
@@ -254,11 +271,11 @@ public class CommandExecutorTest {
             IOException {
         when(defender.isBlocked(any())).thenReturn(false);
         when(userHandler.logIn(any(), any())).thenThrow(InvalidCombinationException.class);
-        when(channel.getRemoteAddress()).thenReturn(socketAddress);
-        when(channel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
+        when(socketChannel.getRemoteAddress()).thenReturn(socketAddress);
+        when(socketChannel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
 
         String actual = commandExecutor.execute(new Command(CommandType.LOGIN, List.of("--username", "user",
-                "--password", "pass")), channel);
+                "--password", "pass")), connection);
 
         String expected = "<Wrong username/password combination>";
 
@@ -274,11 +291,11 @@ public class CommandExecutorTest {
             IOException {
         when(defender.isBlocked(any())).thenReturn(false);
         when(userHandler.logIn(any(), any())).thenThrow(InvalidSessionIdException.class);
-        when(channel.getRemoteAddress()).thenReturn(socketAddress);
-        when(channel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
+        when(socketChannel.getRemoteAddress()).thenReturn(socketAddress);
+        when(socketChannel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
 
         String actual = commandExecutor.execute(new Command(CommandType.LOGIN, List.of("--username", "user",
-                "--password", "pass")), channel);
+                "--password", "pass")), connection);
 
         String expected = "<Wrong session id>";
 
@@ -295,7 +312,7 @@ public class CommandExecutorTest {
         when(userHandler.logIn(any(), any())).thenThrow(AlreadyLoggedInException.class);
 
         String actual = commandExecutor.execute(new Command(CommandType.LOGIN, List.of("--username", "user",
-                "--password", "pass")), channel);
+                "--password", "pass")), connection);
 
         String expected = "<You are already logged in>";
 
@@ -312,7 +329,7 @@ public class CommandExecutorTest {
         when(userHandler.logIn(any(), any())).thenThrow(StorageFailException.class);
 
         String actual = commandExecutor.execute(new Command(CommandType.LOGIN, List.of("--username", "user",
-                "--password", "pass")), channel);
+                "--password", "pass")), connection);
 
         String expected = "<A problem in the system has occurred, please try again>";
 
@@ -330,7 +347,7 @@ public class CommandExecutorTest {
         when(userHandler.logIn(any(), any())).thenReturn(sessionId);
 
         String actual = commandExecutor.execute(new Command(CommandType.LOGIN, List.of("--username", "user",
-                "--password", "pass")), channel);
+                "--password", "pass")), connection);
 
         String expected = "<You have been successfully logged in, your session id is <" + sessionId + ">>";
 
@@ -340,7 +357,7 @@ public class CommandExecutorTest {
     @Test
     public void testExecuteLogOutExpectedMissingSentinelOrData() {
         String actual = commandExecutor
-                .execute(new Command(CommandType.LOGOUT, List.of("--username", "user")), channel);
+                .execute(new Command(CommandType.LOGOUT, List.of("--username", "user")), connection);
 
         String expected = "<Missing authentication sentinel/data>";
 
@@ -350,7 +367,7 @@ public class CommandExecutorTest {
     @Test
     public void testExecuteLogOutExpectedInvalidNumberOfArguments() {
         String actual = commandExecutor
-                .execute(new Command(CommandType.LOGOUT, List.of("--username", "user", "asd")), channel);
+                .execute(new Command(CommandType.LOGOUT, List.of("--username", "user", "asd")), connection);
 
         String expected = "<Wrong number of arguments>";
 
@@ -364,7 +381,7 @@ public class CommandExecutorTest {
         when(userHandler.logOut(any(), any())).thenThrow(NotLoggedInException.class);
 
         String actual = commandExecutor
-                .execute(new Command(CommandType.LOGOUT, List.of("--session-id", "haha")), channel);
+                .execute(new Command(CommandType.LOGOUT, List.of("--session-id", "haha")), connection);
 
         String expected = "<You are not logged in>";
 
@@ -378,7 +395,7 @@ public class CommandExecutorTest {
         when(userHandler.logOut(any(), any())).thenThrow(NotLoggedInException.class);
 
         String actual = commandExecutor
-                .execute(new Command(CommandType.LOGOUT, List.of("--session-id", "haha")), channel);
+                .execute(new Command(CommandType.LOGOUT, List.of("--session-id", "haha")), connection);
 
         String expected = "<You are not logged in>";
 
@@ -392,7 +409,7 @@ public class CommandExecutorTest {
         when(userHandler.logOut(any(), any())).thenReturn(true);
 
         String actual = commandExecutor
-                .execute(new Command(CommandType.LOGOUT, List.of("--session-id", "haha")), channel);
+                .execute(new Command(CommandType.LOGOUT, List.of("--session-id", "haha")), connection);
 
         String expected = "<You logged out successfully>";
 
@@ -402,7 +419,7 @@ public class CommandExecutorTest {
     @Test
     public void testExecuteUpdateUserExpectedMissingSentinelOrData() {
         String actual = commandExecutor
-                .execute(new Command(CommandType.UPDATE_USER, List.of("--username", "user")), channel);
+                .execute(new Command(CommandType.UPDATE_USER, List.of("--username", "user")), connection);
 
         String expected = "<Missing authentication sentinel/data>";
 
@@ -411,7 +428,7 @@ public class CommandExecutorTest {
 
     @Test
     public void testExecuteUpdateUserExpectedInvalidNumberOfArguments() {
-        String actual = commandExecutor.execute(new Command(CommandType.UPDATE_USER, List.of("asd")), channel);
+        String actual = commandExecutor.execute(new Command(CommandType.UPDATE_USER, List.of("asd")), connection);
 
         String expected = "<Wrong number of arguments>";
 
@@ -427,7 +444,7 @@ public class CommandExecutorTest {
         when(userHandler.updatePersonalInfo(any(), any())).thenThrow(InvalidSessionIdException.class);
 
         String actual = commandExecutor
-                .execute(new Command(CommandType.UPDATE_USER, List.of("--session-id", "ses")), channel);
+                .execute(new Command(CommandType.UPDATE_USER, List.of("--session-id", "ses")), connection);
 
         String expected = "<Wrong session id>";
 
@@ -443,7 +460,7 @@ public class CommandExecutorTest {
         when(userHandler.updatePersonalInfo(any(), any())).thenThrow(NotLoggedInException.class);
 
         String actual = commandExecutor
-                .execute(new Command(CommandType.UPDATE_USER, List.of("--session-id", "ses")), channel);
+                .execute(new Command(CommandType.UPDATE_USER, List.of("--session-id", "ses")), connection);
 
         String expected = "<You are not logged in>";
 
@@ -459,7 +476,7 @@ public class CommandExecutorTest {
         when(userHandler.updatePersonalInfo(any(), any())).thenThrow(StorageFailException.class);
 
         String actual = commandExecutor
-                .execute(new Command(CommandType.UPDATE_USER, List.of("--session-id", "ses")), channel);
+                .execute(new Command(CommandType.UPDATE_USER, List.of("--session-id", "ses")), connection);
 
         String expected = "<A problem in the system has occurred, please try again>";
 
@@ -475,7 +492,7 @@ public class CommandExecutorTest {
         when(userHandler.updatePersonalInfo(any(), any())).thenThrow(NoUpdateRequestException.class);
 
         String actual = commandExecutor
-                .execute(new Command(CommandType.UPDATE_USER, List.of("--session-id", "ses")), channel);
+                .execute(new Command(CommandType.UPDATE_USER, List.of("--session-id", "ses")), connection);
 
         String expected = "<You did not request any changes>";
 
@@ -491,7 +508,7 @@ public class CommandExecutorTest {
         when(userHandler.updatePersonalInfo(any(), any())).thenReturn(true);
 
         String actual = commandExecutor
-                .execute(new Command(CommandType.UPDATE_USER, List.of("--session-id", "ses")), channel);
+                .execute(new Command(CommandType.UPDATE_USER, List.of("--session-id", "ses")), connection);
 
         String expected = "<You successfully updated your profile>";
 
@@ -503,7 +520,7 @@ public class CommandExecutorTest {
         String actual = commandExecutor.execute(new Command(CommandType.RESET_PASSWORD, List.of("--session-id", "user",
                 "--username", "user",
                 "--old--pasword", "oldpass",
-                "newPass", "newPass")), channel);
+                "newPass", "newPass")), connection);
 
         String expected = "<Missing authentication sentinel/data>";
 
@@ -513,7 +530,7 @@ public class CommandExecutorTest {
     @Test
     public void testExecuteResetPasswordExpectedInvalidNumberOfArguments() {
         String actual = commandExecutor
-                .execute(new Command(CommandType.RESET_PASSWORD, List.of("--username", "user")), channel);
+                .execute(new Command(CommandType.RESET_PASSWORD, List.of("--username", "user")), connection);
 
         String expected = "<Wrong number of arguments>";
 
@@ -531,7 +548,7 @@ public class CommandExecutorTest {
         String actual = commandExecutor.execute(new Command(CommandType.RESET_PASSWORD, List.of("--session-id", "ses",
                 "--username", "user",
                 "--old-password", "oldpass",
-                "--new-password", "newPass")), channel);
+                "--new-password", "newPass")), connection);
 
         String expected = "<You are not logged in>";
 
@@ -549,7 +566,7 @@ public class CommandExecutorTest {
         String actual = commandExecutor.execute(new Command(CommandType.RESET_PASSWORD, List.of("--session-id", "ses",
                 "--username", "user",
                 "--old-password", "oldpass",
-                "--new-password", "newPass")), channel);
+                "--new-password", "newPass")), connection);
 
         String expected = "<Wrong username/password combination>";
 
@@ -567,7 +584,7 @@ public class CommandExecutorTest {
         String actual = commandExecutor.execute(new Command(CommandType.RESET_PASSWORD, List.of("--session-id", "ses",
                 "--username", "user",
                 "--old-password", "oldpass",
-                "--new-password", "newPass")), channel);
+                "--new-password", "newPass")), connection);
 
         String expected = "<Wrong session id>";
 
@@ -585,7 +602,7 @@ public class CommandExecutorTest {
         String actual = commandExecutor.execute(new Command(CommandType.RESET_PASSWORD, List.of("--session-id", "ses",
                 "--username", "user",
                 "--old-password", "oldpass",
-                "--new-password", "newPass")), channel);
+                "--new-password", "newPass")), connection);
 
         String expected = "<A problem in the system has occurred, please try again>";
 
@@ -603,7 +620,7 @@ public class CommandExecutorTest {
         String actual = commandExecutor.execute(new Command(CommandType.RESET_PASSWORD, List.of("--session-id", "ses",
                 "--username", "user",
                 "--old-password", "oldpass",
-                "--new-password", "newPass")), channel);
+                "--new-password", "newPass")), connection);
 
         String expected = "<You successfully changed your password to <newPass>>";
 
@@ -613,7 +630,7 @@ public class CommandExecutorTest {
     @Test
     public void testExecuteAddAdminExpectedMissingSentinelOrData() {
         String actual = commandExecutor.execute(new Command(CommandType.ADD_ADMIN_USER, List.of("--session-id", "user",
-                "--password", "user")), channel);
+                "--password", "user")), connection);
 
         String expected = "<Missing authentication sentinel/data>";
 
@@ -623,7 +640,7 @@ public class CommandExecutorTest {
     @Test
     public void testExecuteAddAdminExpectedInvalidNumberOfArguments() {
         String actual = commandExecutor
-                .execute(new Command(CommandType.ADD_ADMIN_USER, List.of("--username", "user")), channel);
+                .execute(new Command(CommandType.ADD_ADMIN_USER, List.of("--username", "user")), connection);
 
         String expected = "<Wrong number of arguments>";
 
@@ -633,7 +650,7 @@ public class CommandExecutorTest {
     @Test
     public void testExecuteAddAdminExpectedNotLoggedIn() {
         String actual = commandExecutor.execute(new Command(CommandType.ADD_ADMIN_USER, List.of("--session-id", "ses",
-                "--username", "user")), channel);
+                "--username", "user")), connection);
 
         String expected = "<You are not logged in>";
 
@@ -646,7 +663,7 @@ public class CommandExecutorTest {
         when(userHandler.isSessionValid(any())).thenReturn(false);
 
         String actual = commandExecutor.execute(new Command(CommandType.ADD_ADMIN_USER, List.of("--session-id", "ses",
-                "--username", "user")), channel);
+                "--username", "user")), connection);
 
         String expected = "<Wrong session id>";
 
@@ -667,11 +684,11 @@ public class CommandExecutorTest {
         when(userHandler.makeAdmin(any(), any())).thenThrow(UserNotFoundException.class);
         when(userHandler.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("u", "p"),
                 new PersonalInfo("f", "l", "e")));
-        when(channel.getRemoteAddress()).thenReturn(socketAddress);
-        when(channel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
+        when(socketChannel.getRemoteAddress()).thenReturn(socketAddress);
+        when(socketChannel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
 
         String actual = commandExecutor.execute(new Command(CommandType.ADD_ADMIN_USER, List.of("--session-id", "ses",
-                "--username", "user")), channel);
+                "--username", "user")), connection);
 
         String expected = "<User with username <user> does not exist>";
 
@@ -692,11 +709,11 @@ public class CommandExecutorTest {
         when(userHandler.makeAdmin(any(), any())).thenThrow(NotAuthorizedUserException.class);
         when(userHandler.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("u", "p"),
                 new PersonalInfo("f", "l", "e")));
-        when(channel.getRemoteAddress()).thenReturn(socketAddress);
-        when(channel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
+        when(socketChannel.getRemoteAddress()).thenReturn(socketAddress);
+        when(socketChannel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
 
         String actual = commandExecutor.execute(new Command(CommandType.ADD_ADMIN_USER, List.of("--session-id", "ses",
-                "--username", "user")), channel);
+                "--username", "user")), connection);
 
         String expected = "<Only a admin can add new admin>";
 
@@ -717,11 +734,11 @@ public class CommandExecutorTest {
         when(userHandler.makeAdmin(any(), any())).thenThrow(AlreadyAuthorizedUserException.class);
         when(userHandler.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("u", "p"),
                 new PersonalInfo("f", "l", "e")));
-        when(channel.getRemoteAddress()).thenReturn(socketAddress);
-        when(channel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
+        when(socketChannel.getRemoteAddress()).thenReturn(socketAddress);
+        when(socketChannel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
 
         String actual = commandExecutor.execute(new Command(CommandType.ADD_ADMIN_USER, List.of("--session-id", "ses",
-                "--username", "user")), channel);
+                "--username", "user")), connection);
 
         String expected = "<User with username <user> is already admin>";
 
@@ -742,11 +759,11 @@ public class CommandExecutorTest {
         when(userHandler.makeAdmin(any(), any())).thenThrow(StorageFailException.class);
         when(userHandler.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("u", "p"),
                 new PersonalInfo("f", "l", "e")));
-        when(channel.getRemoteAddress()).thenReturn(socketAddress);
-        when(channel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
+        when(socketChannel.getRemoteAddress()).thenReturn(socketAddress);
+        when(socketChannel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
 
         String actual = commandExecutor.execute(new Command(CommandType.ADD_ADMIN_USER, List.of("--session-id", "ses",
-                "--username", "user")), channel);
+                "--username", "user")), connection);
 
         String expected = "<A problem in the system has occurred, please try again>";
 
@@ -767,11 +784,11 @@ public class CommandExecutorTest {
         when(userHandler.makeAdmin(any(), any())).thenReturn(true);
         when(userHandler.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("u", "p"),
                 new PersonalInfo("f", "l", "e")));
-        when(channel.getRemoteAddress()).thenReturn(socketAddress);
-        when(channel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
+        when(socketChannel.getRemoteAddress()).thenReturn(socketAddress);
+        when(socketChannel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
 
         String actual = commandExecutor.execute(new Command(CommandType.ADD_ADMIN_USER, List.of("--session-id", "ses",
-                "--username", "user")), channel);
+                "--username", "user")), connection);
 
         String expected = "<You successfully added new admin to the system>";
 
@@ -782,7 +799,7 @@ public class CommandExecutorTest {
     public void testExecuteRemoveAdminExpectedMissingSentinelOrData() {
         String actual =
                 commandExecutor.execute(new Command(CommandType.REMOVE_ADMIN_USER, List.of("--session-id", "user",
-                        "--password", "user")), channel);
+                        "--password", "user")), connection);
 
         String expected = "<Missing authentication sentinel/data>";
 
@@ -792,7 +809,7 @@ public class CommandExecutorTest {
     @Test
     public void testExecuteRemoveAdminExpectedInvalidNumberOfArguments() {
         String actual = commandExecutor
-                .execute(new Command(CommandType.REMOVE_ADMIN_USER, List.of("--username", "user")), channel);
+                .execute(new Command(CommandType.REMOVE_ADMIN_USER, List.of("--username", "user")), connection);
 
         String expected = "<Wrong number of arguments>";
 
@@ -803,7 +820,7 @@ public class CommandExecutorTest {
     public void testExecuteRemoveAdminExpectedNotLoggedIn() {
         String actual =
                 commandExecutor.execute(new Command(CommandType.REMOVE_ADMIN_USER, List.of("--session-id", "ses",
-                        "--username", "user")), channel);
+                        "--username", "user")), connection);
 
         String expected = "<You are not logged in>";
 
@@ -817,7 +834,7 @@ public class CommandExecutorTest {
 
         String actual =
                 commandExecutor.execute(new Command(CommandType.REMOVE_ADMIN_USER, List.of("--session-id", "ses",
-                        "--username", "user")), channel);
+                        "--username", "user")), connection);
 
         String expected = "<Wrong session id>";
 
@@ -838,12 +855,12 @@ public class CommandExecutorTest {
         when(userHandler.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("u", "p"),
                 new PersonalInfo("f", "l", "e")));
         when(userHandler.removeAdmin(any(), any())).thenThrow(NotAuthorizedUserException.class);
-        when(channel.getRemoteAddress()).thenReturn(socketAddress);
-        when(channel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
+        when(socketChannel.getRemoteAddress()).thenReturn(socketAddress);
+        when(socketChannel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
 
         String actual =
                 commandExecutor.execute(new Command(CommandType.REMOVE_ADMIN_USER, List.of("--session-id", "ses",
-                        "--username", "user")), channel);
+                        "--username", "user")), connection);
 
         String expected = "<Only a admin can remove admin>";
 
@@ -864,12 +881,12 @@ public class CommandExecutorTest {
         when(userHandler.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("u", "p"),
                 new PersonalInfo("f", "l", "e")));
         when(userHandler.removeAdmin(any(), any())).thenThrow(UserNotFoundException.class);
-        when(channel.getRemoteAddress()).thenReturn(socketAddress);
-        when(channel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
+        when(socketChannel.getRemoteAddress()).thenReturn(socketAddress);
+        when(socketChannel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
 
         String actual =
                 commandExecutor.execute(new Command(CommandType.REMOVE_ADMIN_USER, List.of("--session-id", "ses",
-                        "--username", "user")), channel);
+                        "--username", "user")), connection);
 
         String expected = "<User with username <user> does not exist>";
 
@@ -890,12 +907,12 @@ public class CommandExecutorTest {
         when(userHandler.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("u", "p"),
                 new PersonalInfo("f", "l", "e")));
         when(userHandler.removeAdmin(any(), any())).thenThrow(StorageFailException.class);
-        when(channel.getRemoteAddress()).thenReturn(socketAddress);
-        when(channel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
+        when(socketChannel.getRemoteAddress()).thenReturn(socketAddress);
+        when(socketChannel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
 
         String actual =
                 commandExecutor.execute(new Command(CommandType.REMOVE_ADMIN_USER, List.of("--session-id", "ses",
-                        "--username", "user")), channel);
+                        "--username", "user")), connection);
 
         String expected = "<A problem in the system has occurred, please try again>";
 
@@ -916,12 +933,12 @@ public class CommandExecutorTest {
         when(userHandler.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("u", "p"),
                 new PersonalInfo("f", "l", "e")));
         when(userHandler.removeAdmin(any(), any())).thenThrow(AlreadyNotAuthorizedUserException.class);
-        when(channel.getRemoteAddress()).thenReturn(socketAddress);
-        when(channel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
+        when(socketChannel.getRemoteAddress()).thenReturn(socketAddress);
+        when(socketChannel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
 
         String actual =
                 commandExecutor.execute(new Command(CommandType.REMOVE_ADMIN_USER, List.of("--session-id", "ses",
-                        "--username", "user")), channel);
+                        "--username", "user")), connection);
 
         String expected = "<User with username <user> is not admin>";
 
@@ -942,12 +959,12 @@ public class CommandExecutorTest {
         when(userHandler.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("u", "p"),
                 new PersonalInfo("f", "l", "e")));
         when(userHandler.removeAdmin(any(), any())).thenReturn(true);
-        when(channel.getRemoteAddress()).thenReturn(socketAddress);
-        when(channel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
+        when(socketChannel.getRemoteAddress()).thenReturn(socketAddress);
+        when(socketChannel.getRemoteAddress().toString()).thenReturn(REMOTE_USER_INFO);
 
         String actual =
                 commandExecutor.execute(new Command(CommandType.REMOVE_ADMIN_USER, List.of("--session-id", "ses",
-                        "--username", "user")), channel);
+                        "--username", "user")), connection);
 
         String expected = "<You removed a admin successfully>";
 
@@ -957,7 +974,7 @@ public class CommandExecutorTest {
     @Test
     public void testExecuteDeleteUserExpectedMissingSentinelOrData() {
         String actual = commandExecutor.execute(new Command(CommandType.DELETE_USER, List.of("--session-id", "user",
-                "--password", "user")), channel);
+                "--password", "user")), connection);
 
         String expected = "<Missing authentication sentinel/data>";
 
@@ -967,7 +984,7 @@ public class CommandExecutorTest {
     @Test
     public void testExecuteDeleteUserExpectedInvalidNumberOfArguments() {
         String actual = commandExecutor
-                .execute(new Command(CommandType.DELETE_USER, List.of("--username", "user")), channel);
+                .execute(new Command(CommandType.DELETE_USER, List.of("--username", "user")), connection);
 
         String expected = "<Wrong number of arguments>";
 
@@ -977,7 +994,7 @@ public class CommandExecutorTest {
     @Test
     public void testExecuteDeleteUserExpectedNotLoggedIn() {
         String actual = commandExecutor.execute(new Command(CommandType.DELETE_USER, List.of("--session-id", "user",
-                "--username", "user")), channel);
+                "--username", "user")), connection);
 
         String expected = "<You are not logged in>";
 
@@ -996,7 +1013,7 @@ public class CommandExecutorTest {
         when(userHandler.isSessionValid(any())).thenReturn(true);
 
         String actual = commandExecutor.execute(new Command(CommandType.DELETE_USER, List.of("--session-id", "user",
-                "--username", "user")), channel);
+                "--username", "user")), connection);
 
         String expected = "<Only a admin can remove user>";
 
@@ -1015,7 +1032,7 @@ public class CommandExecutorTest {
         when(userHandler.isSessionValid(any())).thenReturn(true);
 
         String actual = commandExecutor.execute(new Command(CommandType.DELETE_USER, List.of("--session-id", "user",
-                "--username", "user")), channel);
+                "--username", "user")), connection);
 
         String expected = "<User with username <user> does not exist>";
 
@@ -1034,7 +1051,7 @@ public class CommandExecutorTest {
         when(userHandler.isSessionValid(any())).thenReturn(true);
 
         String actual = commandExecutor.execute(new Command(CommandType.DELETE_USER, List.of("--session-id", "user",
-                "--username", "user")), channel);
+                "--username", "user")), connection);
 
         String expected = "<A problem in the system has occurred, please try again>";
 
@@ -1053,7 +1070,7 @@ public class CommandExecutorTest {
         when(userHandler.isSessionValid(any())).thenReturn(true);
 
         String actual = commandExecutor.execute(new Command(CommandType.DELETE_USER, List.of("--session-id", "user",
-                "--username", "user")), channel);
+                "--username", "user")), connection);
 
         String expected = "<You deleted a user successfully>";
 
@@ -1062,9 +1079,43 @@ public class CommandExecutorTest {
 
     @Test
     public void testExecuteInvalidCommand() {
-        String actual = commandExecutor.execute(new Command(CommandType.INVALID, null), channel);
+        String actual = commandExecutor.execute(new Command(CommandType.INVALID, null), connection);
         String expected = "<Unknown command>";
 
         assertEquals("expecting exact same response", expected, actual);
     }
+
+    @Test
+    public void testExecuteExpectedRecordedMetrics() {
+        MetricsRegistry metrics = new MetricsRegistry();
+        CommandExecutor executor = new CommandExecutor(log, userHandler, defender, metrics);
+
+        executor.execute(new Command(CommandType.INVALID, null), connection);
+        executor.execute(new Command(CommandType.LOGOUT, List.of("--username", "user")), connection);
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+
+        assertEquals("expecting one unknown command", 1,
+                snapshot.command(CommandType.INVALID).count(CommandOutcome.UNKNOWN_COMMAND));
+        assertEquals("expecting one invalid logout", 1,
+                snapshot.command(CommandType.LOGOUT).count(CommandOutcome.INVALID_ARGUMENTS));
+        assertEquals("expecting one logout latency sample", 1, snapshot.command(CommandType.LOGOUT).count());
+    }
+
+    @Test
+    public void testExecuteExpectedSystemProblemRecordedWhenHandlerThrows()
+            throws NotLoggedInException, InvalidSessionIdException {
+        MetricsRegistry metrics = new MetricsRegistry();
+        CommandExecutor executor = new CommandExecutor(log, userHandler, defender, metrics);
+
+        when(userHandler.logOut(any(), any())).thenThrow(new IllegalStateException("broken"));
+
+        try {
+            executor.execute(new Command(CommandType.LOGOUT, List.of("--session-id", "id")), connection);
+            fail("expecting the failure to reach the caller");
+        } catch (IllegalStateException e) {
+            assertEquals("expecting one system problem", 1,
+                    metrics.snapshot().command(CommandType.LOGOUT).count(CommandOutcome.SYSTEM_PROBLEM));
+        }
+    }
 }
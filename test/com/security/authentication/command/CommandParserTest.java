@@ -0,0 +1,82 @@
+package com.security.authentication.command;
+
+import com.security.authentication.enums.CommandType;
+import com.security.authentication.token.Tokenizer;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class CommandParserTest {
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseExpectedIllegalArgumentException() {
+        CommandParser.parse(null);
+    }
+
+    @Test
+    public void testParseExpectedInvalidWithoutParametersWhenNoSpace() {
+        Command actual = CommandParser.parse("logout");
+
+        assertEquals("expecting invalid command", CommandType.INVALID, actual.type());
+        assertNull("expecting no parameters", actual.parameters());
+    }
+
+    @Test
+    public void testParseExpectedEveryCommandType() {
+        for (CommandType commandType : CommandType.values()) {
+            if (commandType == CommandType.INVALID) {
+                continue;
+            }
+
+            Command actual = CommandParser.parse(commandType.getMessage() + " --session-id id");
+
+            assertEquals("expecting command type " + commandType, commandType, actual.type());
+        }
+    }
+
+    @Test
+    public void testParseExpectedPrefixMatchedCommandType() {
+        assertEquals("expecting prefix match like startsWith",
+                CommandType.LOGIN, CommandParser.parse("loginx --username user").type());
+    }
+
+    @Test
+    public void testParseExpectedInvalidCommandType() {
+        assertEquals("expecting invalid type", CommandType.INVALID, CommandParser.parse("log --username a").type());
+        assertEquals("expecting invalid type", CommandType.INVALID, CommandParser.parse(" login --a b").type());
+        assertEquals("expecting invalid type", CommandType.INVALID, CommandParser.parse("LOGIN --a b").type());
+    }
+
+    @Test
+    public void testParseExpectedSameParametersAsSplit() {
+        List<String> inputs = List.of("register --username user --password pass",
+                "login  --session-id  id",
+                "logout --session-id id   ",
+                " login --username user",
+                "update-user --session-id id --new-email e --new-first-name f");
+
+        for (String input : inputs) {
+            List<String> expected = Tokenizer.split(input);
+            expected.remove(0);
+
+            assertEquals("expecting split compatible parameters for <" + input + ">",
+                    expected, CommandParser.parse(input).parameters());
+        }
+    }
+
+    @Test
+    public void testParseExpectedEqualToListOf() {
+        Command actual = CommandParser.parse("login --session-id asdfgh");
+        Command expected = new Command(CommandType.LOGIN, List.of("--session-id", "asdfgh"));
+
+        assertEquals("expecting equal commands", expected, actual);
+        assertEquals("expecting equal hash codes", expected.hashCode(), actual.hashCode());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testParseExpectedIndexOutOfBoundsException() {
+        CommandParser.parse("login --session-id").parameters().get(1);
+    }
+}
@@ -1,7 +1,9 @@
 package com.security.authentication.connect;
 
+import com.security.authentication.generator.SessionId;
 import com.security.authentication.user.AuthenticatedUser;
 import com.security.authentication.user.User;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -20,7 +22,14 @@ public class ConnectorTest {
     @Mock
     private SocketChannel socketChannel;
 
-    private final String sessionId = "session-id";
+    private Connection connection;
+
+    @Before
+    public void setUp() {
+        connection = new Connection(socketChannel);
+    }
+
+    private final SessionId sessionId = new SessionId(1, 2);
 
     @Mock
     private AuthenticatedUser authenticatedUser;
@@ -32,12 +41,12 @@ public class ConnectorTest {
 
     @Test(expected = IllegalArgumentException.class)
     public void testConnectExpectedIllegalArgumentExceptionWhenSessionNull() {
-        connector.connect(socketChannel, null, authenticatedUser);
+        connector.connect(connection, null, authenticatedUser);
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void testConnectExpectedIllegalArgumentExceptionWhenUserNull() {
-        connector.connect(socketChannel, sessionId, null);
+        connector.connect(connection, sessionId, null);
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -62,35 +71,35 @@ public class ConnectorTest {
 
     @Test
     public void testConnectExpectedSuccess() {
-        assertFalse(connector.isConnected(socketChannel));
+        assertFalse(connector.isConnected(connection));
 
-        connector.connect(socketChannel, sessionId, authenticatedUser);
+        connector.connect(connection, sessionId, authenticatedUser);
 
-        assertTrue(connector.isConnected(socketChannel));
+        assertTrue(connector.isConnected(connection));
     }
 
     @Test
     public void testDisconnectExpectedSuccess() {
-        connector.connect(socketChannel, sessionId, authenticatedUser);
-        assertTrue(connector.isConnected(socketChannel));
+        connector.connect(connection, sessionId, authenticatedUser);
+        assertTrue(connector.isConnected(connection));
 
-        connector.disconnect(socketChannel);
-        assertFalse(connector.isConnected(socketChannel));
+        connector.disconnect(connection);
+        assertFalse(connector.isConnected(connection));
     }
 
     @Test
     public void testGetSessionExpectedSuccess() {
-        connector.connect(socketChannel, sessionId, authenticatedUser);
+        connector.connect(connection, sessionId, authenticatedUser);
 
-        String actualSessionId = connector.getSession(socketChannel);
+        SessionId actualSessionId = connector.getSession(connection);
         assertEquals("expecting same session id", sessionId, actualSessionId);
     }
 
     @Test
     public void testGetUserExpectedSuccess() {
-        connector.connect(socketChannel, sessionId, authenticatedUser);
+        connector.connect(connection, sessionId, authenticatedUser);
 
-        User actualUser = connector.getUser(socketChannel);
+        User actualUser = connector.getUser(connection);
         assertEquals("expecting same user", authenticatedUser, actualUser);
     }
 }
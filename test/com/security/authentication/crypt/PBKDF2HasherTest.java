@@ -0,0 +1,54 @@
+package com.security.authentication.crypt;
+
+import com.security.authentication.exceptions.crypt.HashFailException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PBKDF2HasherTest {
+    private final PBKDF2Hasher hasher = new PBKDF2Hasher(1000);
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorExpectedIllegalArgumentExceptionWhenIterationsNotPositive() {
+        new PBKDF2Hasher(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHashExpectedIllegalArgumentException() throws HashFailException {
+        hasher.hash(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMatchesExpectedIllegalArgumentExceptionWhenHashNull() throws HashFailException {
+        hasher.matches("password", null);
+    }
+
+    @Test
+    public void testMatchesExpectedTrue() throws HashFailException {
+        assertTrue("expecting password to match its hash", hasher.matches("password", hasher.hash("password")));
+    }
+
+    @Test
+    public void testMatchesExpectedFalseWhenPasswordDiffers() throws HashFailException {
+        assertFalse("expecting different password not to match", hasher.matches("pass", hasher.hash("password")));
+    }
+
+    @Test
+    public void testMatchesExpectedFalseWhenHashMalformed() throws HashFailException {
+        assertFalse("expecting malformed hash not to match", hasher.matches("password", "password"));
+    }
+
+    @Test
+    public void testMatchesExpectedTrueWhenHashedWithOtherIterations() throws HashFailException {
+        String hash = new PBKDF2Hasher(10).hash("password");
+
+        assertTrue("expecting iterations to be read from the hash", hasher.matches("password", hash));
+    }
+
+    @Test
+    public void testHashExpectedDifferentSalts() throws HashFailException {
+        assertNotEquals("expecting salted hashes to differ", hasher.hash("password"), hasher.hash("password"));
+    }
+}
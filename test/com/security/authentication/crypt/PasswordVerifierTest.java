@@ -0,0 +1,97 @@
+package com.security.authentication.crypt;
+
+import com.security.authentication.exceptions.crypt.HashFailException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PasswordVerifierTest {
+    @Mock
+    private Hasher hasher;
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorExpectedIllegalArgumentException() {
+        new PasswordVerifier(null, 1, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testVerifyExpectedIllegalArgumentException() {
+        try (PasswordVerifier passwordVerifier = new PasswordVerifier(hasher, 1, 1)) {
+            passwordVerifier.verify(null, "hash");
+        }
+    }
+
+    @Test
+    public void testVerifyExpectedTrue() throws HashFailException {
+        when(hasher.matches("password", "hash")).thenReturn(true);
+
+        try (PasswordVerifier passwordVerifier = new PasswordVerifier(hasher, 1, 1)) {
+            assertTrue("expecting matching password", passwordVerifier.verify("password", "hash").join());
+        }
+    }
+
+    @Test
+    public void testHashExpectedHash() throws HashFailException {
+        when(hasher.hash("password")).thenReturn("hash");
+
+        try (PasswordVerifier passwordVerifier = new PasswordVerifier(hasher, 1, 1)) {
+            assertEquals("expecting hashed password", "hash", passwordVerifier.hash("password").join());
+        }
+    }
+
+    @Test(expected = CompletionException.class)
+    public void testVerifyExpectedCompletionExceptionWhenHashFails() throws HashFailException {
+        when(hasher.matches("password", "hash")).thenThrow(new HashFailException("failed"));
+
+        try (PasswordVerifier passwordVerifier = new PasswordVerifier(hasher, 1, 1)) {
+            passwordVerifier.verify("password", "hash").join();
+        }
+    }
+
+    @Test
+    public void testVerifyExpectedRejectedWhenQueueFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(hasher.matches("password", "hash")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return true;
+        });
+
+        try (PasswordVerifier passwordVerifier = new PasswordVerifier(hasher, 1, 1)) {
+            CompletableFuture<Boolean> running = passwordVerifier.verify("password", "hash");
+            started.await();
+            CompletableFuture<Boolean> queued = passwordVerifier.verify("password", "hash");
+            CompletableFuture<Boolean> rejected = passwordVerifier.verify("password", "hash");
+
+            assertTrue("expecting saturated pool to reject verification", rejected.isCompletedExceptionally());
+
+            try {
+                rejected.join();
+            } catch (CompletionException e) {
+                assertTrue("expecting rejection cause", e.getCause() instanceof RejectedExecutionException);
+            }
+
+            assertEquals("expecting one queued verification", 1, passwordVerifier.queueDepth());
+
+            release.countDown();
+
+            assertTrue("expecting running verification to complete", running.join());
+            assertTrue("expecting queued verification to complete", queued.join());
+            assertFalse("expecting queued verification not to fail", queued.isCompletedExceptionally());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.security.authentication.crypt;
+
+import com.security.authentication.exceptions.crypt.DecryptFailException;
+import com.security.authentication.exceptions.crypt.EncryptFailException;
+import com.security.authentication.generator.SecretKeyGenerator;
+import org.junit.Test;
+
+import javax.crypto.SecretKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+
+public class PooledPasswordCrypterTest {
+    private final SecretKey secretKey = new SecretKeyGenerator().generate();
+    private final PooledPasswordCrypter pooledPasswordCrypter = new PooledPasswordCrypter(secretKey, 2);
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEncryptExpectedIllegalArgumentException() throws EncryptFailException {
+        pooledPasswordCrypter.encrypt(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecryptExpectedIllegalArgumentException() throws DecryptFailException {
+        pooledPasswordCrypter.decrypt(null);
+    }
+
+    @Test
+    public void testEncryptExpectedCompatibleWithPasswordCrypter() throws EncryptFailException,
+            DecryptFailException {
+        PasswordCrypter passwordCrypter = new PasswordCrypter(secretKey);
+
+        assertEquals("expecting same password", "password",
+                passwordCrypter.decrypt(pooledPasswordCrypter.encrypt("password")));
+        assertEquals("expecting same password", "password",
+                pooledPasswordCrypter.decrypt(passwordCrypter.encrypt("password")));
+    }
+
+    @Test
+    public void testDecryptExpectedSamePasswordsFromManyThreads() throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<String>> tasks = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            String password = "password" + i;
+            tasks.add(() -> pooledPasswordCrypter.decrypt(pooledPasswordCrypter.encrypt(password)));
+        }
+
+        List<Future<String>> results = executor.invokeAll(tasks);
+        executor.shutdown();
+
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals("expecting same password", "password" + i, results.get(i).get());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.security.authentication.crypt;
+
+import com.security.authentication.exceptions.crypt.DecryptFailException;
+import com.security.authentication.exceptions.crypt.EncryptFailException;
+import com.security.authentication.exceptions.crypt.PasswordResolveFailException;
+import com.security.authentication.generator.SecretKeyGenerator;
+import com.security.authentication.user.Admin;
+import com.security.authentication.user.RegularUser;
+import com.security.authentication.user.User;
+import com.security.authentication.user.info.AccountInfo;
+import com.security.authentication.user.info.PersonalInfo;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class UserCrypterTest {
+    private final PasswordCrypter passwordCrypter = new PasswordCrypter(new SecretKeyGenerator().generate());
+    private final UserCrypter userCrypter = new UserCrypter(passwordCrypter, passwordCrypter);
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEncryptExpectedIllegalArgumentException() throws EncryptFailException {
+        userCrypter.encrypt(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecryptExpectedIllegalArgumentException() throws DecryptFailException {
+        userCrypter.decrypt(null);
+    }
+
+    @Test
+    public void testEncryptDecryptExpectedSameAdmin() throws EncryptFailException, DecryptFailException {
+        User admin = new Admin(new AccountInfo("user", "password"), new PersonalInfo("fname", "lname", "email"));
+
+        User encrypted = userCrypter.encrypt(admin);
+
+        assertNotEquals("expecting encrypted password", "password", encrypted.getAccountInfo().getPassword());
+        assertEquals("expecting same admin", admin, userCrypter.decrypt(encrypted));
+    }
+
+    @Test
+    public void testEncryptDecryptExpectedSameRegularUser() throws EncryptFailException, DecryptFailException {
+        User user = new RegularUser(new AccountInfo("user", "password"), new PersonalInfo("fname", "lname", "email"));
+
+        assertEquals("expecting same user", user, userCrypter.decrypt(userCrypter.encrypt(user)));
+    }
+
+    @Test
+    public void testDecryptLazilyExpectedSingleDecryptOnFirstAccess() throws DecryptFailException {
+        Decrypter decrypter = mock(Decrypter.class);
+        when(decrypter.decrypt("encrypted")).thenReturn("password");
+        UserCrypter lazyCrypter = new UserCrypter(passwordCrypter, decrypter);
+        User stored = new RegularUser(new AccountInfo("user", "encrypted"), new PersonalInfo("fname", "lname", "email"));
+
+        User actual = lazyCrypter.decryptLazily(stored);
+
+        verify(decrypter, never()).decrypt(any());
+        assertFalse("expecting unresolved password", actual.getAccountInfo().isPasswordResolved());
+        assertEquals("expecting decrypted password", "password", actual.getAccountInfo().getPassword());
+        assertEquals("expecting decrypted password", "password", actual.getAccountInfo().getPassword());
+        assertTrue("expecting resolved password", actual.getAccountInfo().isPasswordResolved());
+        verify(decrypter, times(1)).decrypt("encrypted");
+    }
+
+    @Test(expected = PasswordResolveFailException.class)
+    public void testDecryptLazilyExpectedPasswordResolveFailException() throws DecryptFailException {
+        Decrypter decrypter = mock(Decrypter.class);
+        when(decrypter.decrypt("encrypted")).thenThrow(new DecryptFailException("failed"));
+        UserCrypter lazyCrypter = new UserCrypter(passwordCrypter, decrypter);
+        User stored = new RegularUser(new AccountInfo("user", "encrypted"), new PersonalInfo("fname", "lname", "email"));
+
+        lazyCrypter.decryptLazily(stored).getAccountInfo().getPassword();
+    }
+
+    @Test(expected = EncryptFailException.class)
+    public void testEncryptExpectedEncryptFailExceptionWhenPasswordUnresolvable()
+            throws DecryptFailException, EncryptFailException {
+        Decrypter decrypter = mock(Decrypter.class);
+        when(decrypter.decrypt("encrypted")).thenThrow(new DecryptFailException("failed"));
+        UserCrypter lazyCrypter = new UserCrypter(passwordCrypter, decrypter);
+        User stored = new RegularUser(new AccountInfo("user", "encrypted"), new PersonalInfo("fname", "lname", "email"));
+
+        lazyCrypter.encrypt(lazyCrypter.decryptLazily(stored));
+    }
+
+    @Test
+    public void testEqualsExpectedFalseWhenPasswordUnresolvable() throws DecryptFailException {
+        Decrypter decrypter = mock(Decrypter.class);
+        when(decrypter.decrypt("encrypted")).thenThrow(new DecryptFailException("failed"));
+        UserCrypter lazyCrypter = new UserCrypter(passwordCrypter, decrypter);
+        User stored = new RegularUser(new AccountInfo("user", "encrypted"), new PersonalInfo("fname", "lname", "email"));
+        User user = new RegularUser(new AccountInfo("user", "encrypted"), new PersonalInfo("fname", "lname", "email"));
+
+        assertFalse("expecting unequal accounts", lazyCrypter.decryptLazily(stored).getAccountInfo()
+                .equals(user.getAccountInfo()));
+    }
+}
@@ -1,14 +1,24 @@
 package com.security.authentication.defend;
 
+import com.security.authentication.connect.Connection;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.nio.channels.SocketChannel;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class DefenderTest {
@@ -18,6 +28,13 @@ public class DefenderTest {
     @Mock
     private SocketChannel socketChannel;
 
+    private Connection connection;
+
+    @Before
+    public void setUp() {
+        connection = new Connection(socketChannel);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testRegisterInvalidTryExpectedIllegalArgumentException() {
         defender.registerInvalidTry(null);
@@ -33,20 +50,72 @@ public class DefenderTest {
         defender.registerInvalidTry(null);
     }
 
+    @Test
+    public void testBlockCountExpectedOneBlockAfterThreeFailedLogInAttempts() {
+        defender.registerInvalidTry(connection);
+        defender.registerInvalidTry(connection);
+        defender.registerInvalidTry(connection);
+
+        assertEquals("expecting one block", 1, defender.blockCount());
+        assertEquals("expecting one blocked address", 1, defender.blockedCount());
+    }
+
     @Test
     public void testIsBlockedExpectedBlockedChannelAfterThreeFailedLogInAttempts() {
-        defender.registerInvalidTry(socketChannel);
-        defender.registerInvalidTry(socketChannel);
-        defender.registerInvalidTry(socketChannel);
+        defender.registerInvalidTry(connection);
+        defender.registerInvalidTry(connection);
+        defender.registerInvalidTry(connection);
 
-        assertTrue("expecting channel to be blocked", defender.isBlocked(socketChannel));
+        assertTrue("expecting channel to be blocked", defender.isBlocked(connection));
     }
 
     @Test
     public void testIsBlockedExpectedNotBlockedChannelAfterLessThanThreeFailedLogInAttempts() {
-        defender.registerInvalidTry(socketChannel);
-        defender.registerInvalidTry(socketChannel);
+        defender.registerInvalidTry(connection);
+        defender.registerInvalidTry(connection);
+
+        assertFalse("expecting channel to not be blocked", defender.isBlocked(connection));
+    }
+
+    @Test
+    public void testIsBlockedExpectedBlockedAfterReconnectFromSameAddress() throws IOException {
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), 50000);
+        SocketChannel reconnected = mock(SocketChannel.class);
+        when(socketChannel.getRemoteAddress()).thenReturn(address);
+        when(reconnected.getRemoteAddress()).thenReturn(new InetSocketAddress(address.getAddress(), 50001));
+
+        defender.registerInvalidTry(connection);
+        defender.registerInvalidTry(connection);
+        defender.registerInvalidTry(new Connection(reconnected));
+
+        assertTrue("expecting address to stay blocked across connections",
+                defender.isBlocked(new Connection(reconnected)));
+    }
+
+    @Test
+    public void testIsBlockedExpectedNotBlockedWhenAttemptsOutsideWindow() {
+        AtomicLong clock = new AtomicLong();
+        Defender timedDefender = new Defender(clock::get);
+
+        timedDefender.registerInvalidTry(connection);
+        timedDefender.registerInvalidTry(connection);
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        timedDefender.registerInvalidTry(connection);
+
+        assertFalse("expecting stale attempts to be forgotten", timedDefender.isBlocked(connection));
+    }
+
+    @Test
+    public void testIsBlockedExpectedUnblockedAfterSuspendTime() {
+        AtomicLong clock = new AtomicLong();
+        Defender timedDefender = new Defender(clock::get);
+
+        for (int i = 0; i < 3; i++) {
+            timedDefender.registerInvalidTry(connection);
+        }
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(15));
 
-        assertFalse("expecting channel to not be blocked", defender.isBlocked(socketChannel));
+        assertFalse("expecting suspension to end", timedDefender.isBlocked(connection));
     }
 }
@@ -1,21 +1,22 @@
 package com.security.authentication.defend.schedule;
 
 import org.junit.Test;
-import org.junit.runner.RunWith;
-import org.mockito.Mock;
-import org.mockito.junit.MockitoJUnitRunner;
 
-import java.nio.channels.SocketChannel;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
-@RunWith(MockitoJUnitRunner.class)
 public class TemporaryBlockedUserSchedulerTest {
-    Scheduler scheduler = new TemporaryBlockedUserScheduler();
+    private static final long SUSPEND_TIME = TimeUnit.SECONDS.toNanos(15);
 
-    @Mock
-    private SocketChannel channel;
+    private final AtomicLong clock = new AtomicLong();
+    private final Scheduler<String> scheduler = new TemporaryBlockedUserScheduler<>();
+    private final TemporaryBlockedUserScheduler<String> timedScheduler =
+            new TemporaryBlockedUserScheduler<>(clock::get, SUSPEND_TIME, 2);
+    private final String ip = "127.0.0.1";
 
     @Test(expected = IllegalArgumentException.class)
     public void testSuspendExpectedIllegalArgumentException() {
@@ -34,33 +35,100 @@ public class TemporaryBlockedUserSchedulerTest {
 
     @Test
     public void testSuspendBlocksChannel() {
-        assertFalse("expecting ip to not be blocked", scheduler.isSuspended(channel));
+        assertFalse("expecting ip to not be blocked", scheduler.isSuspended(ip));
 
-        scheduler.suspend(channel);
+        scheduler.suspend(ip);
 
-        assertTrue("expecting ip to be blocked", scheduler.isSuspended(channel));
+        assertTrue("expecting ip to be blocked", scheduler.isSuspended(ip));
     }
 
     @Test
     public void testReleaseUnblocksChannel() {
-        scheduler.suspend(channel);
+        scheduler.suspend(ip);
 
-        assertTrue("expecting ip to be blocked", scheduler.isSuspended(channel));
+        assertTrue("expecting ip to be blocked", scheduler.isSuspended(ip));
 
-        scheduler.release(channel);
+        scheduler.release(ip);
 
-        assertFalse("expecting ip to not be blocked", scheduler.isSuspended(channel));
+        assertFalse("expecting ip to not be blocked", scheduler.isSuspended(ip));
     }
 
     @Test
     public void testIsSuspendedIsTrue() {
-        scheduler.suspend(channel);
+        scheduler.suspend(ip);
 
-        assertTrue(scheduler.isSuspended(channel));
+        assertTrue(scheduler.isSuspended(ip));
     }
 
     @Test
     public void testIsSuspendedIsFalse() {
-        assertFalse(scheduler.isSuspended(channel));
+        assertFalse(scheduler.isSuspended(ip));
+    }
+
+    @Test
+    public void testIsSuspendedExpectedExpiredSuspensionDropped() {
+        timedScheduler.suspend(ip);
+        clock.addAndGet(SUSPEND_TIME - 1);
+
+        assertTrue("expecting ip to be blocked until the suspension ends", timedScheduler.isSuspended(ip));
+
+        clock.incrementAndGet();
+
+        assertFalse("expecting ip to not be blocked", timedScheduler.isSuspended(ip));
+        assertEquals("expecting expired suspension dropped", 0, timedScheduler.size());
+    }
+
+    @Test
+    public void testSuspendExpectedExpiredSuspensionsSweptWhenFull() {
+        timedScheduler.suspend("10.0.0.1");
+        timedScheduler.suspend("10.0.0.2");
+        clock.addAndGet(SUSPEND_TIME);
+        timedScheduler.suspend("10.0.0.3");
+
+        assertTrue("expecting new ip to be blocked", timedScheduler.isSuspended("10.0.0.3"));
+        assertEquals("expecting suspended keys to stay bounded", 1, timedScheduler.size());
+    }
+
+    @Test
+    public void testSuspendExpectedOldestSuspensionEvictedWhenFull() {
+        timedScheduler.suspend("10.0.0.1");
+        clock.incrementAndGet();
+        timedScheduler.suspend("10.0.0.2");
+        clock.incrementAndGet();
+        timedScheduler.suspend("10.0.0.3");
+
+        assertTrue("expecting new ip to be blocked", timedScheduler.isSuspended("10.0.0.3"));
+        assertTrue("expecting newer ip to stay blocked", timedScheduler.isSuspended("10.0.0.2"));
+        assertFalse("expecting oldest ip to be evicted", timedScheduler.isSuspended("10.0.0.1"));
+        assertEquals("expecting suspended keys to stay bounded", 2, timedScheduler.size());
+    }
+
+    @Test
+    public void testSuspendExpectedResuspendedKeyKeptOverOlderKey() {
+        timedScheduler.suspend("10.0.0.1");
+        clock.incrementAndGet();
+        timedScheduler.suspend("10.0.0.2");
+        clock.incrementAndGet();
+        timedScheduler.suspend("10.0.0.1");
+        clock.incrementAndGet();
+        timedScheduler.suspend("10.0.0.3");
+
+        assertTrue("expecting re-suspended ip to stay blocked", timedScheduler.isSuspended("10.0.0.1"));
+        assertFalse("expecting oldest deadline to be evicted", timedScheduler.isSuspended("10.0.0.2"));
+        assertTrue("expecting new ip to be blocked", timedScheduler.isSuspended("10.0.0.3"));
+    }
+
+    @Test
+    public void testSuspendExpectedBoundedWhenSameKeySuspendedRepeatedly() {
+        for (int i = 0; i < 100; i++) {
+            timedScheduler.suspend(ip);
+            clock.incrementAndGet();
+        }
+
+        timedScheduler.suspend("10.0.0.2");
+        timedScheduler.suspend("10.0.0.3");
+
+        assertFalse("expecting oldest deadline to be evicted", timedScheduler.isSuspended(ip));
+        assertEquals("expecting suspended keys to stay bounded", 2, timedScheduler.size());
     }
 }
@@ -1,20 +1,19 @@
 package com.security.authentication.defend.tracker;
 
 import org.junit.Test;
-import org.junit.runner.RunWith;
-import org.mockito.Mock;
-import org.mockito.junit.MockitoJUnitRunner;
 
-import java.nio.channels.SocketChannel;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.Assert.assertEquals;
 
-@RunWith(MockitoJUnitRunner.class)
 public class BruteForceTrackerTest {
-    Tracker tracker = new BruteForceTracker();
+    private static final long WINDOW = TimeUnit.MINUTES.toNanos(1);
 
-    @Mock
-    private SocketChannel channel;
+    private final AtomicLong clock = new AtomicLong();
+    private final Tracker<String> tracker = new BruteForceTracker<>();
+    private final BruteForceTracker<String> windowedTracker = new BruteForceTracker<>(clock::get, WINDOW, 3, 2);
+    private final String ip = "127.0.0.1";
 
     @Test(expected = IllegalArgumentException.class)
     public void testIncrementExpectedIllegalArgumentException() {
@@ -23,17 +22,22 @@ public class BruteForceTrackerTest {
 
     @Test(expected = IllegalArgumentException.class)
     public void testRemoveExpectedIllegalArgumentException() {
-        tracker.increment(null);
+        tracker.remove(null);
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void testGetTrackCountExpectedIllegalArgumentException() {
-        tracker.remove(null);
+        tracker.getTrackCount(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorExpectedIllegalArgumentExceptionWhenUnbounded() {
+        new BruteForceTracker<String>(clock::get, WINDOW, 3, 0);
     }
 
     @Test
     public void testGetTrackCountExpectedZero() {
-        int actual = tracker.getTrackCount(channel);
+        int actual = tracker.getTrackCount(ip);
 
         assertEquals("expected 0 tracks", 0, actual);
     }
@@ -41,12 +45,12 @@ public class BruteForceTrackerTest {
     @Test
     public void testIncrementExpectedOneMore() {
         int actual;
-        actual = tracker.getTrackCount(channel);
+        actual = tracker.getTrackCount(ip);
 
         assertEquals("expected 0 tracks at the beginning", 0, actual);
 
-        tracker.increment(channel);
-        actual = tracker.getTrackCount(channel);
+        tracker.increment(ip);
+        actual = tracker.getTrackCount(ip);
 
         assertEquals("expected 1 track", 1, actual);
     }
@@ -55,13 +59,13 @@ public class BruteForceTrackerTest {
     public void testRemoveExpectedNoMoreTracks() {
         int actual;
 
-        tracker.increment(channel);
-        actual = tracker.getTrackCount(channel);
+        tracker.increment(ip);
+        actual = tracker.getTrackCount(ip);
 
         assertEquals("expected 1 track", 1, actual);
 
-        tracker.remove(channel);
-        actual = tracker.getTrackCount(channel);
+        tracker.remove(ip);
+        actual = tracker.getTrackCount(ip);
 
         assertEquals("expected 0 tracks", 0, actual);
     }
@@ -69,11 +73,48 @@ public class BruteForceTrackerTest {
     @Test
     public void testGetTrackCountExpectedThree() {
         for (int i = 0; i < 3; i++) {
-            tracker.increment(channel);
+            tracker.increment(ip);
         }
 
-        int actual = tracker.getTrackCount(channel);
+        int actual = tracker.getTrackCount(ip);
 
         assertEquals("expected 3 tracks", 3, actual);
     }
+
+    @Test
+    public void testGetTrackCountExpectedOnlyAttemptsWithinWindow() {
+        windowedTracker.increment(ip);
+        clock.addAndGet(WINDOW / 2);
+        windowedTracker.increment(ip);
+        clock.addAndGet(WINDOW / 2);
+
+        assertEquals("expected oldest attempt to slide out of the window", 1, windowedTracker.getTrackCount(ip));
+
+        clock.addAndGet(WINDOW / 2);
+
+        assertEquals("expected no attempts within the window", 0, windowedTracker.getTrackCount(ip));
+        assertEquals("expected idle key to be dropped", 0, windowedTracker.size());
+    }
+
+    @Test
+    public void testGetTrackCountExpectedCappedAtCountedAttempts() {
+        for (int i = 0; i < 10; i++) {
+            windowedTracker.increment(ip);
+            clock.incrementAndGet();
+        }
+
+        assertEquals("expected count capped at the counted attempts", 3, windowedTracker.getTrackCount(ip));
+    }
+
+    @Test
+    public void testIncrementExpectedLeastRecentlyUsedKeyEvicted() {
+        windowedTracker.increment("10.0.0.1");
+        windowedTracker.increment("10.0.0.2");
+        windowedTracker.getTrackCount("10.0.0.1");
+        windowedTracker.increment("10.0.0.3");
+
+        assertEquals("expected tracked keys to stay bounded", 2, windowedTracker.size());
+        assertEquals("expected least recently used key evicted", 0, windowedTracker.getTrackCount("10.0.0.2"));
+        assertEquals("expected recently used key kept", 1, windowedTracker.getTrackCount("10.0.0.1"));
+    }
 }
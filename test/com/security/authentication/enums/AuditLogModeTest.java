@@ -0,0 +1,44 @@
+package com.security.authentication.enums;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class AuditLogModeTest {
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetTypeExpectedIllegalArgumentException() {
+        AuditLogMode.getType(null);
+    }
+
+    @Test
+    public void testGetTypeExpectedAsync() {
+        AuditLogMode actual = AuditLogMode.getType("async");
+        AuditLogMode expected = AuditLogMode.ASYNC;
+
+        assertEquals("expecting async audit log mode", expected, actual);
+    }
+
+    @Test
+    public void testGetTypeExpectedBinary() {
+        AuditLogMode actual = AuditLogMode.getType("binary");
+        AuditLogMode expected = AuditLogMode.BINARY;
+
+        assertEquals("expecting binary audit log mode", expected, actual);
+    }
+
+    @Test
+    public void testGetTypeExpectedSync() {
+        AuditLogMode actual = AuditLogMode.getType("sync");
+        AuditLogMode expected = AuditLogMode.SYNC;
+
+        assertEquals("expecting sync audit log mode", expected, actual);
+    }
+
+    @Test
+    public void testGetTypeExpectedInvalid() {
+        AuditLogMode actual = AuditLogMode.getType("random");
+        AuditLogMode expected = AuditLogMode.INVALID;
+
+        assertEquals("expecting invalid audit log mode", expected, actual);
+    }
+}
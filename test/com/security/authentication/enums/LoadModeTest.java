@@ -0,0 +1,36 @@
+package com.security.authentication.enums;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class LoadModeTest {
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetTypeExpectedIllegalArgumentException() {
+        LoadMode.getType(null);
+    }
+
+    @Test
+    public void testGetTypeExpectedClosed() {
+        LoadMode actual = LoadMode.getType("closed");
+        LoadMode expected = LoadMode.CLOSED;
+
+        assertEquals("expecting closed load mode", expected, actual);
+    }
+
+    @Test
+    public void testGetTypeExpectedOpen() {
+        LoadMode actual = LoadMode.getType("open");
+        LoadMode expected = LoadMode.OPEN;
+
+        assertEquals("expecting open load mode", expected, actual);
+    }
+
+    @Test
+    public void testGetTypeExpectedInvalid() {
+        LoadMode actual = LoadMode.getType("random");
+        LoadMode expected = LoadMode.INVALID;
+
+        assertEquals("expecting invalid load mode", expected, actual);
+    }
+}
@@ -0,0 +1,36 @@
+package com.security.authentication.enums;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class PasswordModeTest {
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetTypeExpectedIllegalArgumentException() {
+        PasswordMode.getType(null);
+    }
+
+    @Test
+    public void testGetTypeExpectedHashed() {
+        PasswordMode actual = PasswordMode.getType("hashed");
+        PasswordMode expected = PasswordMode.HASHED;
+
+        assertEquals("expecting hashed password mode", expected, actual);
+    }
+
+    @Test
+    public void testGetTypeExpectedEncrypted() {
+        PasswordMode actual = PasswordMode.getType("encrypted");
+        PasswordMode expected = PasswordMode.ENCRYPTED;
+
+        assertEquals("expecting encrypted password mode", expected, actual);
+    }
+
+    @Test
+    public void testGetTypeExpectedInvalid() {
+        PasswordMode actual = PasswordMode.getType("random");
+        PasswordMode expected = PasswordMode.INVALID;
+
+        assertEquals("expecting invalid password mode", expected, actual);
+    }
+}
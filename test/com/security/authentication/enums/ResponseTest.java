@@ -0,0 +1,70 @@
+package com.security.authentication.enums;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ResponseTest {
+    @Test(expected = IllegalArgumentException.class)
+    public void testFormatExpectedIllegalArgumentException() {
+        Response.USER_NOT_FOUND.format(null);
+    }
+
+    @Test
+    public void testFormatExpectedArgumentInMessage() {
+        String actual = Response.LOGGED_IN.format("session");
+        String expected = "<You have been successfully logged in, your session id is <session>>";
+
+        assertEquals("expecting session id in message", expected, actual);
+    }
+
+    @Test
+    public void testIsParameterizedExpectedTrue() {
+        assertTrue("expecting parameterized response", Response.USER_NOT_FOUND.isParameterized());
+    }
+
+    @Test
+    public void testIsParameterizedExpectedFalse() {
+        assertFalse("expecting fixed response", Response.UNKNOWN_COMMAND.isParameterized());
+    }
+
+    @Test
+    public void testGetOutcomeExpectedSuccessForParameterizedResponse() {
+        CommandOutcome actual = Response.LOGGED_IN.getOutcome();
+        CommandOutcome expected = CommandOutcome.SUCCESS;
+
+        assertEquals("expecting success outcome", expected, actual);
+    }
+
+    @Test
+    public void testGetOutcomeExpectedNotLoggedInRatherThanSuccess() {
+        CommandOutcome actual = Response.NOT_LOGGED_IN.getOutcome();
+        CommandOutcome expected = CommandOutcome.NOT_LOGGED_IN;
+
+        assertEquals("expecting not logged in outcome", expected, actual);
+    }
+
+    @Test
+    public void testGetOutcomeExpectedNotFound() {
+        CommandOutcome actual = Response.USER_NOT_FOUND.getOutcome();
+        CommandOutcome expected = CommandOutcome.NOT_FOUND;
+
+        assertEquals("expecting not found outcome", expected, actual);
+    }
+
+    @Test
+    public void testPrefixExpectedTextBeforePlaceholder() {
+        String actual = Response.LOGGED_IN.prefix();
+        String expected = "<You have been successfully logged in, your session id is <";
+
+        assertEquals("expecting text before the session id", expected, actual);
+    }
+
+    @Test
+    public void testSuffixExpectedTextAfterPlaceholder() {
+        assertEquals("expecting text after the session id", ">>", Response.LOGGED_IN.suffix());
+        assertEquals("expecting no suffix for fixed response", "", Response.UNKNOWN_COMMAND.suffix());
+    }
+}
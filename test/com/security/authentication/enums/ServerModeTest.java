@@ -0,0 +1,36 @@
+package com.security.authentication.enums;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ServerModeTest {
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetTypeExpectedIllegalArgumentException() {
+        ServerMode.getType(null);
+    }
+
+    @Test
+    public void testGetTypeExpectedThreadPerConnection() {
+        ServerMode actual = ServerMode.getType("thread-per-connection");
+        ServerMode expected = ServerMode.THREAD_PER_CONNECTION;
+
+        assertEquals("expecting thread per connection server mode", expected, actual);
+    }
+
+    @Test
+    public void testGetTypeExpectedReactor() {
+        ServerMode actual = ServerMode.getType("reactor");
+        ServerMode expected = ServerMode.REACTOR;
+
+        assertEquals("expecting reactor server mode", expected, actual);
+    }
+
+    @Test
+    public void testGetTypeExpectedInvalid() {
+        ServerMode actual = ServerMode.getType("random");
+        ServerMode expected = ServerMode.INVALID;
+
+        assertEquals("expecting invalid server mode", expected, actual);
+    }
+}
@@ -0,0 +1,36 @@
+package com.security.authentication.enums;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class StorageModeTest {
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetTypeExpectedIllegalArgumentException() {
+        StorageMode.getType(null);
+    }
+
+    @Test
+    public void testGetTypeExpectedLogStructured() {
+        StorageMode actual = StorageMode.getType("log-structured");
+        StorageMode expected = StorageMode.LOG_STRUCTURED;
+
+        assertEquals("expecting log structured storage mode", expected, actual);
+    }
+
+    @Test
+    public void testGetTypeExpectedIndexed() {
+        StorageMode actual = StorageMode.getType("indexed");
+        StorageMode expected = StorageMode.INDEXED;
+
+        assertEquals("expecting indexed storage mode", expected, actual);
+    }
+
+    @Test
+    public void testGetTypeExpectedInvalid() {
+        StorageMode actual = StorageMode.getType("random");
+        StorageMode expected = StorageMode.INVALID;
+
+        assertEquals("expecting invalid storage mode", expected, actual);
+    }
+}
@@ -0,0 +1,26 @@
+package com.security.authentication.formatter;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class FormatBufferTest {
+    @Test
+    public void testAcquireExpectedSameClearedBuffer() {
+        StringBuilder first = FormatBuffer.acquire().append("event");
+        StringBuilder second = FormatBuffer.acquire();
+
+        assertSame("expecting reused buffer", first, second);
+        assertEquals("expecting cleared buffer", 0, second.length());
+    }
+
+    @Test
+    public void testAcquireExpectedOversizedBufferReplaced() {
+        StringBuilder first = FormatBuffer.acquire().append(new char[64 * 1024]);
+        StringBuilder second = FormatBuffer.acquire();
+
+        assertNotSame("expecting oversized buffer dropped", first, second);
+    }
+}
@@ -2,8 +2,13 @@ package com.security.authentication.formatter;
 
 import com.security.authentication.enums.LOGInfoStatus;
 import com.security.authentication.enums.LOGInfoType;
+import com.security.authentication.log.AuditEvent;
 import org.junit.Test;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
 import static org.junit.Assert.assertEquals;
 
 public class LogFormatterTest {
@@ -280,4 +285,24 @@ public class LogFormatterTest {
 
         assertEquals("expecting exact same log", expected, actual);
     }
+
+    @Test
+    public void testFormatAuditEventExpectedEventTimestamp() {
+        Instant timestamp = Instant.parse("2021-03-04T05:06:07Z");
+        AuditEvent event = new AuditEvent(timestamp, LOGInfoType.UNSUCCESSFUL_LOGIN, null, IP, "", "", false);
+
+        String actual = LogFormatter.format(event);
+        String expected = "........................"
+                + System.lineSeparator()
+                + "Timestamp: " + LocalDateTime.ofInstant(timestamp, ZoneId.systemDefault())
+                + System.lineSeparator()
+                + "Type: Failed log in attempt"
+                + System.lineSeparator()
+                + "IP: " + IP
+                + System.lineSeparator()
+                + "........................"
+                + System.lineSeparator();
+
+        assertEquals("expecting log stamped with the event time", expected, actual);
+    }
 }
@@ -0,0 +1,64 @@
+package com.security.authentication.formatter;
+
+import com.security.authentication.enums.CommandOutcome;
+import com.security.authentication.enums.CommandType;
+import com.security.authentication.enums.StorageOperation;
+import com.security.authentication.metrics.MetricsRegistry;
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+public class PrometheusFormatterTest {
+    @Test(expected = IllegalArgumentException.class)
+    public void testFormatExpectedIllegalArgumentException() {
+        PrometheusFormatter.format(null);
+    }
+
+    @Test
+    public void testFormatExpectedCommandSeries() {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        registry.record(CommandType.LOGIN, CommandOutcome.SUCCESS, 2_000_000);
+
+        String actual = PrometheusFormatter.format(registry.snapshot());
+
+        assertTrue("expecting summary type", actual.contains("# TYPE auth_command_duration_seconds summary\n"));
+        assertTrue("expecting login count",
+                actual.contains("auth_command_duration_seconds_count{command=\"login\"} 1\n"));
+        assertTrue("expecting login sum",
+                actual.contains("auth_command_duration_seconds_sum{command=\"login\"} 0.002\n"));
+        assertTrue("expecting outcome counter",
+                actual.contains("auth_command_outcomes_total{command=\"login\",outcome=\"success\"} 1\n"));
+    }
+
+    @Test
+    public void testFormatExpectedStorageLoopAndConnectionSeries() {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        registry.recordStorage(StorageOperation.EXTRACT, 1_000);
+        registry.recordLoop(1_000);
+        registry.connectionOpened();
+
+        String actual = PrometheusFormatter.format(registry.snapshot());
+
+        assertTrue("expecting storage count",
+                actual.contains("auth_storage_duration_seconds_count{operation=\"extract\"} 1\n"));
+        assertTrue("expecting unlabelled loop quantile",
+                actual.contains("auth_reactor_loop_seconds{quantile=\"0.5\"} 1.0E-6\n"));
+        assertTrue("expecting open connections", actual.contains("auth_connections_open 1\n"));
+    }
+
+    @Test
+    public void testFormatExpectedRegisteredGauges() {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        registry.registerGauge("auth_sessions", "Sessions.", () -> 4);
+        registry.registerCounter("auth_defender_blocks_total", "Blocks.", () -> 2);
+
+        String actual = PrometheusFormatter.format(registry.snapshot());
+
+        assertTrue("expecting gauge type", actual.contains("# TYPE auth_sessions gauge\nauth_sessions 4\n"));
+        assertTrue("expecting counter type",
+                actual.contains("# TYPE auth_defender_blocks_total counter\nauth_defender_blocks_total 2\n"));
+    }
+}
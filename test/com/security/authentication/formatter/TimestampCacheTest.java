@@ -0,0 +1,39 @@
+package com.security.authentication.formatter;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class TimestampCacheTest {
+    private static final Instant INSTANT = Instant.parse("2021-03-04T05:06:07.123456789Z");
+
+    @Test
+    public void testRenderExpectedLocalDateTimeToMillisecond() {
+        String actual = TimestampCache.render(INSTANT);
+        String expected = LocalDateTime.ofInstant(Instant.ofEpochMilli(INSTANT.toEpochMilli()), ZoneId.systemDefault())
+                .toString();
+
+        assertEquals("expecting local time truncated to milliseconds", expected, actual);
+    }
+
+    @Test
+    public void testRenderExpectedSameTextWithinMillisecond() {
+        String first = TimestampCache.render(INSTANT);
+        String second = TimestampCache.render(INSTANT.plusNanos(400_000));
+
+        assertSame("expecting cached rendering", first, second);
+    }
+
+    @Test
+    public void testRenderExpectedNewTextForNextMillisecond() {
+        String first = TimestampCache.render(INSTANT);
+        String second = TimestampCache.render(INSTANT.plusMillis(1));
+
+        assertEquals("expecting next millisecond", first.replace(".123", ".124"), second);
+    }
+}
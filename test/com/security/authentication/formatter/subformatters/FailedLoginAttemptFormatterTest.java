@@ -29,4 +29,25 @@ public class FailedLoginAttemptFormatterTest {
 
         assertEquals("expecting exact same log", expected, actual);
     }
+
+    @Test
+    public void testAppendToExpectedAppendedLog() {
+        StringBuilder builder = new StringBuilder("previous");
+
+        FailedLogInAttemptFormatter.appendTo(builder, "2021-03-04T05:06:07", IP);
+
+        String expected = "previous"
+                + "........................"
+                + System.lineSeparator()
+                + "Timestamp: 2021-03-04T05:06:07"
+                + System.lineSeparator()
+                + "Type: Failed log in attempt"
+                + System.lineSeparator()
+                + "IP: " + IP
+                + System.lineSeparator()
+                + "........................"
+                + System.lineSeparator();
+
+        assertEquals("expecting log appended after existing text", expected, builder.toString());
+    }
 }
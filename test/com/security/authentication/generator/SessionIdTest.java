@@ -0,0 +1,45 @@
+package com.security.authentication.generator;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+public class SessionIdTest {
+    @Test
+    public void testToStringExpectingFixedWidthLowercaseHex() {
+        SessionId sessionId = new SessionId(0x0123456789abcdefL, -1L);
+
+        assertEquals("expecting 32 hex digits", "0123456789abcdefffffffffffffffff", sessionId.toString());
+    }
+
+    @Test
+    public void testParseExpectingRoundTrip() {
+        SessionId sessionId = new SessionId(Long.MIN_VALUE, 42);
+
+        assertEquals("expecting same session id", sessionId, SessionId.parse(sessionId.toString()));
+    }
+
+    @Test
+    public void testParseExpectingUppercaseAccepted() {
+        assertEquals("expecting case insensitive parsing", new SessionId(0xABL, 0xCDL),
+                SessionId.parse("00000000000000AB00000000000000CD"));
+    }
+
+    @Test
+    public void testParseExpectingNullWhenMalformed() {
+        assertNull("expecting null for null text", SessionId.parse(null));
+        assertNull("expecting null for short text", SessionId.parse("asd"));
+        assertNull("expecting null for uuid text", SessionId.parse("123e4567-e89b-12d3-a456-426614174000"));
+        assertNull("expecting null for non hex digit", SessionId.parse("0000000000000000000000000000000g"));
+        assertNull("expecting null for signed text", SessionId.parse("+000000000000000000000000000000f"));
+    }
+
+    @Test
+    public void testGenerateExpectingDistinctIds() {
+        SessionGenerator generator = new SessionGenerator();
+
+        assertNotEquals("expecting distinct session ids", generator.generate(), generator.generate());
+    }
+}
@@ -1,14 +1,21 @@
 package com.security.authentication.handler;
 
 import com.security.authentication.generator.SessionGenerator;
+import com.security.authentication.generator.SessionId;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
@@ -17,8 +24,18 @@ public class SessionHandlerTest {
     @Mock
     private SessionGenerator generator;
 
-    @InjectMocks
-    private SessionHandler sessionHandler;
+    private final SessionId sessionId = new SessionId(1, 1);
+    private final SessionId first = new SessionId(1, 2);
+    private final SessionId second = new SessionId(2, 1);
+    private final SessionId third = new SessionId(2, 2);
+    private final AtomicLong clock = new AtomicLong();
+    private final List<SessionId> expired = new ArrayList<>();
+    private SessionHandler<String> sessionHandler;
+
+    @Before
+    public void setUp() {
+        sessionHandler = new SessionHandler<>(generator, clock::get, expired::add);
+    }
 
     @Test(expected = IllegalArgumentException.class)
     public void testIsValidExpectedIllegalArgumentException() {
@@ -32,42 +49,131 @@ public class SessionHandlerTest {
 
     @Test
     public void testGenerateExpectingSessionId() {
-        when(generator.generate()).thenReturn("sessionId");
+        when(generator.generate()).thenReturn(sessionId);
 
-        String actual = sessionHandler.generate();
-        String expected = "sessionId";
+        SessionId actual = sessionHandler.generate("user");
 
-        assertEquals("expecting generated session id", expected, actual);
+        assertEquals("expecting generated session id", sessionId, actual);
     }
 
     @Test
     public void testIsValidExpectingValidSessionId() {
-        when(generator.generate()).thenReturn("sessionId");
+        when(generator.generate()).thenReturn(sessionId);
 
-        sessionHandler.generate();
+        sessionHandler.generate("user");
 
-        assertTrue("expecting valid session id", sessionHandler.isValid("sessionId"));
+        assertTrue("expecting valid session id", sessionHandler.isValid(sessionId));
     }
 
     @Test
     public void testIsValidExpectingInValidSessionId() {
-        when(generator.generate()).thenReturn("sessionId");
+        when(generator.generate()).thenReturn(sessionId);
 
-        sessionHandler.generate();
+        sessionHandler.generate("user");
 
-        assertFalse("expecting invalid session id", sessionHandler.isValid("sessionId-1"));
+        assertFalse("expecting invalid session id", sessionHandler.isValid(first));
     }
 
     @Test
     public void testInvalidateExpectingWrongSessionId() {
-        when(generator.generate()).thenReturn("sessionId");
+        when(generator.generate()).thenReturn(sessionId);
+
+        sessionHandler.generate("user");
+
+        assertTrue("expecting valid session id", sessionHandler.isValid(sessionId));
+
+        sessionHandler.invalidate(sessionId);
+
+        assertFalse("expecting invalid session id", sessionHandler.isValid(sessionId));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorExpectedIllegalArgumentExceptionWhenClockNull() {
+        new SessionHandler<>(generator, null, expired::add);
+    }
+
+    @Test
+    public void testIsValidExpectingValidSessionIdAtTimeToLive() {
+        when(generator.generate()).thenReturn(sessionId);
+
+        sessionHandler.generate("user");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertTrue("expecting session id valid until its time to live", sessionHandler.isValid(sessionId));
+    }
+
+    @Test
+    public void testIsValidExpectingExpiredSessionIdEvicted() {
+        when(generator.generate()).thenReturn(sessionId);
+
+        sessionHandler.generate("user");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10) + 1);
+
+        assertFalse("expecting expired session id", sessionHandler.isValid(sessionId));
+        assertEquals("expecting expired session to be evicted", 0, sessionHandler.size());
+        assertEquals("expecting expiry to be reported", List.of(sessionId), expired);
+    }
+
+    @Test
+    public void testGenerateExpectingOnlyExpiredSessionsEvicted() {
+        when(generator.generate()).thenReturn(first, second, third);
+
+        sessionHandler.generate("user");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        sessionHandler.generate("user");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        sessionHandler.generate("user");
+
+        assertEquals("expecting live sessions only", 2, sessionHandler.size());
+        assertEquals("expecting oldest session evicted", List.of(first), expired);
+        assertTrue("expecting younger session valid", sessionHandler.isValid(second));
+    }
+
+    @Test
+    public void testInvalidateExpectingNoExpiryReported() {
+        when(generator.generate()).thenReturn(sessionId);
+
+        sessionHandler.generate("user");
+        sessionHandler.invalidate(sessionId);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(11));
+
+        assertFalse("expecting invalid session id", sessionHandler.isValid(sessionId));
+        assertTrue("expecting no expiry for invalidated session", expired.isEmpty());
+    }
+
+    @Test
+    public void testGetExpectingValueOfValidSession() {
+        when(generator.generate()).thenReturn(sessionId);
+
+        sessionHandler.generate("user");
+
+        assertEquals("expecting value bound to session", "user", sessionHandler.get(sessionId));
+    }
+
+    @Test
+    public void testGetExpectingNullForExpiredSession() {
+        when(generator.generate()).thenReturn(sessionId);
+
+        sessionHandler.generate("user");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(11));
+
+        assertNull("expecting no value for expired session", sessionHandler.get(sessionId));
+    }
+
+    @Test
+    public void testGenerateExpectingManySessionsTrackedUntilExpiry() {
+        when(generator.generate()).thenAnswer(invocation -> new SessionId(clock.incrementAndGet(), 7));
 
-        sessionHandler.generate();
+        for (int i = 0; i < 1000; i++) {
+            sessionHandler.generate("user");
+        }
 
-        assertTrue("expecting valid session id", sessionHandler.isValid("sessionId"));
+        assertEquals("expecting all sessions live", 1000, sessionHandler.size());
 
-        sessionHandler.invalidate("sessionId");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(11));
 
-        assertFalse("expecting invalid session id", sessionHandler.isValid("sessionId"));
+        assertFalse("expecting expired session", sessionHandler.isValid(new SessionId(1, 7)));
+        assertEquals("expecting all sessions evicted", 0, sessionHandler.size());
+        assertEquals("expecting every expiry reported in order", new SessionId(1000, 7), expired.get(999));
     }
 }
@@ -0,0 +1,66 @@
+package com.security.authentication.handler;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SessionTableTest {
+    private final SessionTable<String> table = new SessionTable<>();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPutExpectedIllegalArgumentExceptionWhenKeyZero() {
+        table.put(0, 0, 1, "user");
+    }
+
+    @Test
+    public void testGetExpectingStoredValueAndDeadline() {
+        table.put(1, 2, 10, "user");
+
+        assertEquals("expecting stored value", "user", table.get(1, 2));
+        assertEquals("expecting stored deadline", 10, table.deadline(1, 2));
+        assertEquals("expecting single entry", 1, table.size());
+    }
+
+    @Test
+    public void testPutExpectingExistingEntryReplaced() {
+        table.put(1, 2, 10, "user");
+        table.put(1, 2, 20, "other");
+
+        assertEquals("expecting replaced value", "other", table.get(1, 2));
+        assertEquals("expecting replaced deadline", 20, table.deadline(1, 2));
+        assertEquals("expecting single entry", 1, table.size());
+    }
+
+    @Test
+    public void testGetExpectingMissForUnknownAndZeroKey() {
+        table.put(1, 2, 10, "user");
+
+        assertNull("expecting no value for unknown key", table.get(2, 1));
+        assertNull("expecting no value for zero key", table.get(0, 0));
+        assertEquals("expecting no deadline", SessionTable.NO_DEADLINE, table.deadline(2, 1));
+    }
+
+    @Test
+    public void testRemoveExpectingOtherEntriesStillReachable() {
+        for (long i = 1; i <= 10_000; i++) {
+            table.put(i, i * 31, i, "user-" + i);
+        }
+
+        for (long i = 1; i <= 10_000; i += 2) {
+            assertTrue("expecting entry removed", table.remove(i, i * 31));
+        }
+
+        assertEquals("expecting half the entries", 5_000, table.size());
+
+        for (long i = 1; i <= 10_000; i++) {
+            String expected = i % 2 == 0 ? "user-" + i : null;
+
+            assertEquals("expecting entry reachable after removals", expected, table.get(i, i * 31));
+        }
+
+        assertFalse("expecting nothing to remove", table.remove(1, 31));
+    }
+}
@@ -1,8 +1,12 @@
 package com.security.authentication.handler;
 
+import com.security.authentication.connect.Connection;
+import com.security.authentication.crypt.PBKDF2Hasher;
+import com.security.authentication.crypt.PasswordVerifier;
 import com.security.authentication.exceptions.authorize.AlreadyAuthorizedUserException;
 import com.security.authentication.exceptions.authorize.AlreadyNotAuthorizedUserException;
 import com.security.authentication.exceptions.authorize.NotAuthorizedUserException;
+import com.security.authentication.exceptions.crypt.HashFailException;
 import com.security.authentication.exceptions.login.AlreadyLoggedInException;
 import com.security.authentication.exceptions.login.InvalidCombinationException;
 import com.security.authentication.exceptions.login.InvalidSessionIdException;
@@ -19,8 +23,10 @@ import com.security.authentication.user.UnauthenticatedUser;
 import com.security.authentication.user.User;
 import com.security.authentication.user.info.AccountInfo;
 import com.security.authentication.user.info.PersonalInfo;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -28,8 +34,11 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.nio.channels.SocketChannel;
 import java.util.List;
 
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -43,7 +52,14 @@ public class UserHandlerTest {
     private UserHandler userHandler;
 
     @Mock
-    private SocketChannel channel;
+    private SocketChannel socketChannel;
+
+    private Connection connection;
+
+    @Before
+    public void setUp() {
+        connection = new Connection(socketChannel);
+    }
 
     @Test(expected = IllegalArgumentException.class)
     public void testRegisterExpectedIllegalArgumentExceptionWhenParametersNull()
@@ -51,7 +67,7 @@ public class UserHandlerTest {
             AlreadyLoggedInException,
             EmptyStorageException,
             StorageFailException {
-        userHandler.register(null, channel);
+        userHandler.register(null, connection);
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -78,7 +94,7 @@ public class UserHandlerTest {
                 "--password", "password",
                 "--first-name", "fname",
                 "--last-name", "lname",
-                "--email", "email"), channel);
+                "--email", "email"), connection);
     }
 
     @Test(expected = UserAlreadyRegisteredException.class)
@@ -94,7 +110,7 @@ public class UserHandlerTest {
                 "--password", "password",
                 "--first-name", "fname",
                 "--last-name", "lname",
-                "--email", "email"), channel);
+                "--email", "email"), connection);
     }
 
     @Test(expected = AlreadyLoggedInException.class)
@@ -115,18 +131,18 @@ public class UserHandlerTest {
                 "--password", "password",
                 "--first-name", "fname",
                 "--last-name", "lname",
-                "--email", "email"), channel);
+                "--email", "email"), connection);
 
         when(storage.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("user", "password"),
                 new PersonalInfo("fname", "lname", "email")));
 
-        userHandler.logIn(List.of("--username", "user", "password", "password"), channel);
+        userHandler.logIn(List.of("--username", "user", "password", "password"), connection);
 
         userHandler.register(List.of("--username", "user2",
                 "--password", "password",
                 "--first-name", "fname",
                 "--last-name", "lname",
-                "--email", "email"), channel);
+                "--email", "email"), connection);
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -135,7 +151,7 @@ public class UserHandlerTest {
             StorageFailException,
             InvalidCombinationException,
             InvalidSessionIdException {
-        userHandler.logIn(null, channel);
+        userHandler.logIn(null, connection);
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -157,7 +173,7 @@ public class UserHandlerTest {
 
         when(storage.extract(any())).thenThrow(UserNotFoundException.class);
 
-        userHandler.logIn(List.of("--username", "user", "--password", "pass"), channel);
+        userHandler.logIn(List.of("--username", "user", "--password", "pass"), connection);
     }
 
     @Test(expected = InvalidCombinationException.class)
@@ -171,7 +187,7 @@ public class UserHandlerTest {
         when(storage.extract(any())).thenReturn(new Admin(new AccountInfo("user", "password"),
                 new PersonalInfo("fname", "lname", "email")));
 
-        userHandler.logIn(List.of("--username", "user", "--password", "pasdass"), channel);
+        userHandler.logIn(List.of("--username", "user", "--password", "pasdass"), connection);
     }
 
     @Test(expected = AlreadyLoggedInException.class)
@@ -185,9 +201,9 @@ public class UserHandlerTest {
         when(storage.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("user", "password"),
                 new PersonalInfo("fname", "lname", "email")));
 
-        userHandler.logIn(List.of("--username", "user", "--password", "password"), channel);
+        userHandler.logIn(List.of("--username", "user", "--password", "password"), connection);
 
-        userHandler.logIn(List.of("--username", "user", "--password", "password"), channel);
+        userHandler.logIn(List.of("--username", "user", "--password", "password"), connection);
     }
 
     @Test(expected = InvalidSessionIdException.class)
@@ -202,11 +218,11 @@ public class UserHandlerTest {
         when(storage.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("user", "password"),
                 new PersonalInfo("fname", "lname", "email")));
 
-        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), channel);
+        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), connection);
 
-        userHandler.logOut(List.of("--session-id", sessionId), channel);
+        userHandler.logOut(List.of("--session-id", sessionId), connection);
 
-        userHandler.logIn(List.of("--session-id", "asd"), channel);
+        userHandler.logIn(List.of("--session-id", "asd"), connection);
     }
 
     @Test(expected = AlreadyLoggedInException.class)
@@ -220,16 +236,16 @@ public class UserHandlerTest {
         when(storage.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("user", "password"),
                 new PersonalInfo("fname", "lname", "email")));
 
-        userHandler.logIn(List.of("--username", "user", "--password", "password"), channel);
+        userHandler.logIn(List.of("--username", "user", "--password", "password"), connection);
 
-        userHandler.logIn(List.of("--session-id", "asd"), channel);
+        userHandler.logIn(List.of("--session-id", "asd"), connection);
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void testLogOutExpectedIllegalArgumentExceptionWhenParametersNull()
             throws InvalidSessionIdException,
             NotLoggedInException {
-        userHandler.logOut(null, channel);
+        userHandler.logOut(null, connection);
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -252,9 +268,9 @@ public class UserHandlerTest {
                 new PersonalInfo("fname", "lname", "email")) {
         });
 
-        userHandler.logIn(List.of("--username", "user", "--password", "password"), channel);
+        userHandler.logIn(List.of("--username", "user", "--password", "password"), connection);
 
-        userHandler.logOut(List.of("--session-id", "random"), channel);
+        userHandler.logOut(List.of("--session-id", "random"), connection);
     }
 
     @Test(expected = NotLoggedInException.class)
@@ -262,7 +278,7 @@ public class UserHandlerTest {
             throws InvalidSessionIdException,
             NotLoggedInException {
 
-        userHandler.logOut(List.of("--session-id", "random"), channel);
+        userHandler.logOut(List.of("--session-id", "random"), connection);
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -271,7 +287,7 @@ public class UserHandlerTest {
             NotLoggedInException,
             StorageFailException,
             InvalidCombinationException {
-        userHandler.updateAccountPassword(null, channel);
+        userHandler.updateAccountPassword(null, connection);
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -293,7 +309,7 @@ public class UserHandlerTest {
         userHandler.updateAccountPassword(List.of("--session-id", "sessionId",
                 "--username", "username",
                 "--old-password", "oldPass",
-                "--new-password", "newPass"), channel);
+                "--new-password", "newPass"), connection);
     }
 
     @Test(expected = InvalidSessionIdException.class)
@@ -308,12 +324,12 @@ public class UserHandlerTest {
         when(storage.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("user", "password"),
                 new PersonalInfo("fname", "lname", "email")));
 
-        userHandler.logIn(List.of("--username", "user", "--password", "password"), channel);
+        userHandler.logIn(List.of("--username", "user", "--password", "password"), connection);
 
         userHandler.updateAccountPassword(List.of("--session-id", "a",
                 "--username", "username",
                 "--old-password", "oldPass",
-                "--new-password", "newPass"), channel);
+                "--new-password", "newPass"), connection);
     }
 
     @Test(expected = InvalidCombinationException.class)
@@ -328,12 +344,12 @@ public class UserHandlerTest {
         when(storage.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("user", "password"),
                 new PersonalInfo("fname", "lname", "email")));
 
-        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), channel);
+        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), connection);
 
         userHandler.updateAccountPassword(List.of("--session-id", sessionId,
                 "--username", "username1",
                 "--old-password", "password",
-                "--new-password", "newPass"), channel);
+                "--new-password", "newPass"), connection);
     }
 
     @Test(expected = InvalidCombinationException.class)
@@ -348,12 +364,12 @@ public class UserHandlerTest {
         when(storage.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("user", "password"),
                 new PersonalInfo("fname", "lname", "email")));
 
-        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), channel);
+        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), connection);
 
         userHandler.updateAccountPassword(List.of("--session-id", sessionId,
                 "--username", "username",
                 "--old-password", "oldPass",
-                "--new-password", "newPass"), channel);
+                "--new-password", "newPass"), connection);
     }
 
     @Test(expected = StorageFailException.class)
@@ -370,14 +386,14 @@ public class UserHandlerTest {
         when(storage.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("user", "password"),
                 new PersonalInfo("fname", "lname", "email")));
 
-        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), channel);
+        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), connection);
 
         when(storage.update(any(), any())).thenThrow(UpdateFailException.class);
 
         userHandler.updateAccountPassword(List.of("--session-id", sessionId,
                 "--username", "user",
                 "--old-password", "password",
-                "--new-password", "newPass"), channel);
+                "--new-password", "newPass"), connection);
     }
 
     @Test(expected = StorageFailException.class)
@@ -394,14 +410,14 @@ public class UserHandlerTest {
         when(storage.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("user", "password"),
                 new PersonalInfo("fname", "lname", "email")));
 
-        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), channel);
+        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), connection);
 
         when(storage.update(any(), any())).thenThrow(NoUpdateRequestException.class);
 
         userHandler.updateAccountPassword(List.of("--session-id", sessionId,
                 "--username", "user",
                 "--old-password", "password",
-                "--new-password", "newPass"), channel);
+                "--new-password", "newPass"), connection);
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -410,7 +426,7 @@ public class UserHandlerTest {
             NotLoggedInException,
             StorageFailException,
             InvalidCombinationException {
-        userHandler.updateAccountPassword(null, channel);
+        userHandler.updateAccountPassword(null, connection);
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -429,7 +445,7 @@ public class UserHandlerTest {
             StorageFailException,
             NoUpdateRequestException {
 
-        userHandler.updatePersonalInfo(List.of("--session-id", "sessionId", "--new-username", "username"), channel);
+        userHandler.updatePersonalInfo(List.of("--session-id", "sessionId", "--new-username", "username"), connection);
     }
 
     @Test(expected = InvalidSessionIdException.class)
@@ -445,9 +461,9 @@ public class UserHandlerTest {
         when(storage.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("user", "password"),
                 new PersonalInfo("fname", "lname", "email")));
 
-        userHandler.logIn(List.of("--username", "user", "--password", "password"), channel);
+        userHandler.logIn(List.of("--username", "user", "--password", "password"), connection);
 
-        userHandler.updatePersonalInfo(List.of("--session-id", "sessionId", "--new-username", "username"), channel);
+        userHandler.updatePersonalInfo(List.of("--session-id", "sessionId", "--new-username", "username"), connection);
     }
 
     @Test(expected = StorageFailException.class)
@@ -464,11 +480,11 @@ public class UserHandlerTest {
         when(storage.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("user", "password"),
                 new PersonalInfo("fname", "lname", "email")));
 
-        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), channel);
+        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), connection);
 
         when(storage.update(any(), any())).thenThrow(UpdateFailException.class);
 
-        userHandler.updatePersonalInfo(List.of("--session-id", sessionId, "--new-username", "username"), channel);
+        userHandler.updatePersonalInfo(List.of("--session-id", sessionId, "--new-username", "username"), connection);
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -479,7 +495,7 @@ public class UserHandlerTest {
             NotAuthorizedUserException,
             NotLoggedInException,
             InvalidSessionIdException {
-        userHandler.makeAdmin(null, channel);
+        userHandler.makeAdmin(null, connection);
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -506,9 +522,9 @@ public class UserHandlerTest {
         when(storage.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("user", "password"),
                 new PersonalInfo("fname", "lname", "email")));
 
-        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), channel);
+        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), connection);
 
-        userHandler.makeAdmin(List.of("--session-id", sessionId, "--username", "user23"), channel);
+        userHandler.makeAdmin(List.of("--session-id", sessionId, "--username", "user23"), connection);
     }
 
     @Test(expected = AlreadyAuthorizedUserException.class)
@@ -524,9 +540,9 @@ public class UserHandlerTest {
         when(storage.extract(any())).thenReturn(new Admin(new AccountInfo("user", "password"),
                 new PersonalInfo("fname", "lname", "email")));
 
-        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), channel);
+        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), connection);
 
-        userHandler.makeAdmin(List.of("--session-id", sessionId, "--username", "user23"), channel);
+        userHandler.makeAdmin(List.of("--session-id", sessionId, "--username", "user23"), connection);
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -537,7 +553,7 @@ public class UserHandlerTest {
             AlreadyNotAuthorizedUserException,
             NotLoggedInException,
             InvalidSessionIdException {
-        userHandler.removeAdmin(null, channel);
+        userHandler.removeAdmin(null, connection);
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -564,9 +580,9 @@ public class UserHandlerTest {
         when(storage.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("user", "password"),
                 new PersonalInfo("fname", "lname", "email")));
 
-        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), channel);
+        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), connection);
 
-        userHandler.removeAdmin(List.of("--session-id", sessionId, "--username", "user23"), channel);
+        userHandler.removeAdmin(List.of("--session-id", sessionId, "--username", "user23"), connection);
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -576,7 +592,7 @@ public class UserHandlerTest {
             NotAuthorizedUserException,
             NotLoggedInException,
             InvalidSessionIdException {
-        userHandler.removeUser(null, channel);
+        userHandler.removeUser(null, connection);
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -597,7 +613,7 @@ public class UserHandlerTest {
             UserNotFoundException,
             NotAuthorizedUserException {
 
-        userHandler.removeUser(List.of("--session-id", "sessionId", "--username", "username"), channel);
+        userHandler.removeUser(List.of("--session-id", "sessionId", "--username", "username"), connection);
     }
 
     @Test(expected = InvalidSessionIdException.class)
@@ -613,9 +629,9 @@ public class UserHandlerTest {
         when(storage.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("user", "password"),
                 new PersonalInfo("fname", "lname", "email")));
 
-        userHandler.logIn(List.of("--username", "user", "--password", "password"), channel);
+        userHandler.logIn(List.of("--username", "user", "--password", "password"), connection);
 
-        userHandler.removeUser(List.of("--session-id", "a", "--username", "username"), channel);
+        userHandler.removeUser(List.of("--session-id", "a", "--username", "username"), connection);
     }
 
     @Test(expected = NotAuthorizedUserException.class)
@@ -630,9 +646,9 @@ public class UserHandlerTest {
         when(storage.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("user", "password"),
                 new PersonalInfo("fname", "lname", "email")));
 
-        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), channel);
+        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), connection);
 
-        userHandler.removeUser(List.of("--session-id", sessionId, "--username", "user23"), channel);
+        userHandler.removeUser(List.of("--session-id", sessionId, "--username", "user23"), connection);
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -654,7 +670,7 @@ public class UserHandlerTest {
                 "--password", "password",
                 "--first-name", "fname",
                 "--last-name", "lname",
-                "--email", "email"), channel));
+                "--email", "email"), connection));
     }
 
     @Test
@@ -668,9 +684,9 @@ public class UserHandlerTest {
         when(storage.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("user", "password"),
                 new PersonalInfo("fname", "lname", "email")));
 
-        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), channel);
+        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), connection);
 
-        assertTrue("expected successful log out", userHandler.logOut(List.of("--session-id", sessionId), channel));
+        assertTrue("expected successful log out", userHandler.logOut(List.of("--session-id", sessionId), connection));
     }
 
     @Test
@@ -684,13 +700,13 @@ public class UserHandlerTest {
         when(storage.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("user", "password"),
                 new PersonalInfo("fname", "lname", "email")));
 
-        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), channel);
+        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), connection);
 
         assertTrue("expected successful password reset",
                 userHandler.updateAccountPassword(List.of("--session-id", sessionId,
                         "--username", "user",
                         "--old-password", "password",
-                        "--new-password", "newPass"), channel));
+                        "--new-password", "newPass"), connection));
     }
 
     @Test
@@ -706,13 +722,80 @@ public class UserHandlerTest {
         when(storage.extract(any())).thenReturn(new UnauthenticatedUser(new AccountInfo("user", "password"),
                 new PersonalInfo("fname", "lname", "email")));
 
-        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), channel);
+        String sessionId = userHandler.logIn(List.of("--username", "user", "--password", "password"), connection);
 
         when(storage.update(any(), any())).thenReturn(true);
 
         assertTrue("expecting successful personal info update",
-                userHandler
-                        .updatePersonalInfo(List.of("--session-id", sessionId, "--new-username", "username"), channel));
+                userHandler.updatePersonalInfo(List.of("--session-id", sessionId, "--new-username", "username"),
+                        connection));
+
+    }
+
+    @Test
+    public void testRegisterWithPasswordVerifierExpectedHashedPasswordStored()
+            throws UserAlreadyRegisteredException,
+            AlreadyLoggedInException,
+            EmptyStorageException,
+            StorageFailException {
+        try (PasswordVerifier passwordVerifier = new PasswordVerifier(new PBKDF2Hasher(1), 1, 1)) {
+            UserHandler hashingUserHandler = new UserHandler(storage, passwordVerifier);
+
+            when(storage.isEmpty()).thenReturn(false);
+            when(storage.hasStoredInfo(any())).thenReturn(false);
+
+            hashingUserHandler.register(List.of("--username", "user",
+                    "--password", "password",
+                    "--first-name", "fname",
+                    "--last-name", "lname",
+                    "--email", "email"), connection);
+
+            ArgumentCaptor<User> stored = ArgumentCaptor.forClass(User.class);
+            verify(storage).add(stored.capture());
+
+            assertNotEquals("expecting password not to be stored as plain text",
+                    "password", stored.getValue().getAccountInfo().getPassword());
+        }
+    }
+
+    @Test
+    public void testLogInWithPasswordVerifierExpectedSessionId()
+            throws AlreadyLoggedInException,
+            StorageFailException,
+            InvalidCombinationException,
+            InvalidSessionIdException,
+            UserNotFoundException,
+            HashFailException {
+        PBKDF2Hasher hasher = new PBKDF2Hasher(1);
+
+        try (PasswordVerifier passwordVerifier = new PasswordVerifier(hasher, 1, 1)) {
+            UserHandler hashingUserHandler = new UserHandler(storage, passwordVerifier);
+
+            when(storage.extract(any())).thenReturn(new UnauthenticatedUser(
+                    new AccountInfo("user", hasher.hash("password")), new PersonalInfo("fname", "lname", "email")));
+
+            assertNotNull("expecting session id",
+                    hashingUserHandler.logIn(List.of("--username", "user", "--password", "password"), connection));
+        }
+    }
+
+    @Test(expected = InvalidCombinationException.class)
+    public void testLogInWithPasswordVerifierExpectedInvalidCombinationException()
+            throws AlreadyLoggedInException,
+            StorageFailException,
+            InvalidCombinationException,
+            InvalidSessionIdException,
+            UserNotFoundException,
+            HashFailException {
+        PBKDF2Hasher hasher = new PBKDF2Hasher(1);
+
+        try (PasswordVerifier passwordVerifier = new PasswordVerifier(hasher, 1, 1)) {
+            UserHandler hashingUserHandler = new UserHandler(storage, passwordVerifier);
+
+            when(storage.extract(any())).thenReturn(new UnauthenticatedUser(
+                    new AccountInfo("user", hasher.hash("password")), new PersonalInfo("fname", "lname", "email")));
 
+            hashingUserHandler.logIn(List.of("--username", "user", "--password", "wrong"), connection);
+        }
     }
 }
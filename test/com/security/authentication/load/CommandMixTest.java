@@ -0,0 +1,55 @@
+package com.security.authentication.load;
+
+import com.security.authentication.enums.CommandType;
+import org.junit.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+
+public class CommandMixTest {
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseExpectedIllegalArgumentExceptionWhenNull() {
+        CommandMix.parse(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseExpectedIllegalArgumentExceptionWhenUnsupported() {
+        CommandMix.parse("login=1,delete-user=1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseExpectedIllegalArgumentExceptionWhenMalformed() {
+        CommandMix.parse("login");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseExpectedIllegalArgumentExceptionWhenNoWeight() {
+        CommandMix.parse("login=0,logout=0");
+    }
+
+    @Test
+    public void testShareExpectedWeightFraction() {
+        CommandMix mix = CommandMix.parse("login=3, logout=1, update-user=0");
+
+        assertEquals("expecting login share", 0.75, mix.share(CommandType.LOGIN), 0);
+        assertEquals("expecting logout share", 0.25, mix.share(CommandType.LOGOUT), 0);
+        assertEquals("expecting no update share", 0, mix.share(CommandType.UPDATE_USER), 0);
+    }
+
+    @Test
+    public void testPickExpectedWeightedDistribution() {
+        CommandMix mix = CommandMix.parse("login=3,logout=1");
+        SplittableRandom random = new SplittableRandom(7);
+        Map<CommandType, Integer> picks = new EnumMap<>(CommandType.class);
+
+        for (int i = 0; i < 40_000; i++) {
+            picks.merge(mix.pick(random), 1, Integer::sum);
+        }
+
+        assertEquals("expecting only mixed commands", 2, picks.size());
+        assertEquals("expecting login three times out of four", 30_000, picks.get(CommandType.LOGIN), 600);
+    }
+}
@@ -0,0 +1,59 @@
+package com.security.authentication.load;
+
+import com.security.authentication.enums.LoadMode;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+public class LoadConfigurationTest {
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromArgumentsExpectedIllegalArgumentExceptionWhenNull() {
+        LoadConfiguration.fromArguments(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromArgumentsExpectedIllegalArgumentExceptionWhenUnknownOption() {
+        LoadConfiguration.fromArguments(new String[]{"--unknown", "1"});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromArgumentsExpectedIllegalArgumentExceptionWhenUnknownMode() {
+        LoadConfiguration.fromArguments(new String[]{"--mode", "random"});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromArgumentsExpectedIllegalArgumentExceptionWhenRateNotPositive() {
+        LoadConfiguration.fromArguments(new String[]{"--rate", "0"});
+    }
+
+    @Test
+    public void testFromArgumentsExpectedDefaults() {
+        LoadConfiguration configuration = LoadConfiguration.fromArguments(new String[0]);
+
+        assertEquals("expecting closed loop by default", LoadMode.CLOSED, configuration.mode());
+        assertEquals("expecting default port", LoadConfiguration.DEFAULT_PORT, configuration.port());
+        assertEquals("expecting default connections", LoadConfiguration.DEFAULT_CONNECTIONS,
+                configuration.connections());
+        assertEquals("expecting no pacing by default", 0, configuration.interval());
+    }
+
+    @Test
+    public void testFromArgumentsExpectedParsedOptions() {
+        LoadConfiguration configuration = LoadConfiguration.fromArguments(new String[]{"--host", "127.0.0.1",
+                "--port", "5555", "--mode", "open", "--connections", "3", "--threads", "8", "--rate", "250.5",
+                "--warmup", "1", "--duration", "2", "--interval-ms", "20", "--mix", "login=1", "--seed", "42"});
+
+        assertEquals("expecting host", "127.0.0.1", configuration.host());
+        assertEquals("expecting port", 5555, configuration.port());
+        assertEquals("expecting open loop", LoadMode.OPEN, configuration.mode());
+        assertEquals("expecting connections", 3, configuration.connections());
+        assertEquals("expecting threads capped by connections", 3, configuration.threads());
+        assertEquals("expecting rate", 250.5, configuration.rate(), 0);
+        assertEquals("expecting warmup", TimeUnit.SECONDS.toNanos(1), configuration.warmup());
+        assertEquals("expecting duration", TimeUnit.SECONDS.toNanos(2), configuration.duration());
+        assertEquals("expecting interval", TimeUnit.MILLISECONDS.toNanos(20), configuration.interval());
+        assertEquals("expecting seed", 42, configuration.seed());
+    }
+}
@@ -0,0 +1,120 @@
+package com.security.authentication.load;
+
+import com.security.authentication.enums.CommandType;
+import com.security.authentication.enums.LoadMode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LoadGeneratorTest {
+    private static final long DURATION = TimeUnit.MILLISECONDS.toNanos(300);
+
+    private ServerSocket serverSocket;
+
+    @Before
+    public void setUp() throws IOException {
+        serverSocket = new ServerSocket(0);
+
+        Thread acceptor = new Thread(this::accept);
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        serverSocket.close();
+    }
+
+    @Test
+    public void testRunExpectedClosedLoopCompletesCommands() {
+        LoadStatistics statistics = run(LoadMode.CLOSED, 0);
+
+        assertTrue("expecting completed commands", statistics.completed() > 0);
+        assertEquals("expecting every log in to succeed", statistics.completed(CommandType.LOGIN),
+                statistics.succeeded(CommandType.LOGIN));
+        assertEquals("expecting no disconnects", 0, statistics.disconnects());
+    }
+
+    @Test
+    public void testRunExpectedOpenLoopKeepsArrivalRate() {
+        LoadStatistics statistics = run(LoadMode.OPEN, 0);
+        long expected = (long) (1000 * (double) DURATION / TimeUnit.SECONDS.toNanos(1));
+
+        assertEquals("expecting one response per scheduled arrival", expected,
+                statistics.completed() + statistics.unanswered(), expected / 5.0);
+    }
+
+    @Test
+    public void testRunExpectedPacedClosedLoopRecordsResponseTimes() {
+        LoadStatistics statistics = run(LoadMode.CLOSED, TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertEquals("expecting a response time for every completion", statistics.completed(),
+                statistics.serviceTime().count());
+        assertTrue("expecting response time to include service time",
+                statistics.responseTime().count() >= statistics.serviceTime().count());
+    }
+
+    private LoadStatistics run(LoadMode mode, long interval) {
+        LoadConfiguration configuration = new LoadConfiguration("localhost", serverSocket.getLocalPort(), mode, 4,
+                2, 1000, 0, DURATION, interval, CommandMix.parse(CommandMix.DEFAULT_MIX), 1);
+
+        return new LoadGenerator(configuration).run();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread responder = new Thread(() -> respond(socket));
+
+                responder.setDaemon(true);
+                responder.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void respond(Socket socket) {
+        try (socket;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                     StandardCharsets.UTF_8))) {
+            OutputStream output = socket.getOutputStream();
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                output.write((response(line) + "\r\n").getBytes(StandardCharsets.UTF_8));
+                output.flush();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static String response(String command) {
+        String[] tokens = command.split(" ");
+
+        return switch (tokens[0]) {
+            case "register" -> "<You have been successfully registered>";
+            case "login" -> "<You have been successfully logged in, your session id is <"
+                    + "0123456789abcdef0123456789abcdef>>";
+            case "update-user" -> "<You successfully updated your profile>";
+            case "reset-password" -> "<You successfully changed your password to <" + tokens[tokens.length - 1]
+                    + ">>";
+            case "logout" -> "<You logged out successfully>";
+            default -> "<Unknown command>";
+        };
+    }
+}
@@ -0,0 +1,97 @@
+package com.security.authentication.load;
+
+import com.security.authentication.enums.CommandType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class VirtualClientTest {
+    private static final String SESSION_ID = "0123456789abcdef0123456789abcdef";
+    private static final String LOGGED_IN = "<You have been successfully logged in, your session id is <"
+            + SESSION_ID + ">>";
+
+    private VirtualClient client;
+
+    @Before
+    public void setUp() {
+        client = new VirtualClient("load", CommandMix.parse("update-user=1"), new SplittableRandom(1));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAcceptExpectedIllegalStateExceptionWhenNothingSent() {
+        client.accept("<You logged out successfully>");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNextCommandExpectedIllegalStateExceptionWhenInFlight() {
+        client.nextCommand();
+        client.nextCommand();
+    }
+
+    @Test
+    public void testNextCommandExpectedRegisterThenLogInThenMixedCommand() {
+        assertTrue("expecting registration first", client.nextCommand().startsWith("register --username load-0 "));
+        assertTrue("expecting registration accepted", client.accept("<You have been successfully registered>"));
+
+        assertTrue("expecting log in before session commands", client.nextCommand().startsWith("login "));
+        assertTrue("expecting log in accepted", client.accept(LOGGED_IN));
+
+        String command = client.nextCommand();
+
+        assertEquals("expecting update in flight", CommandType.UPDATE_USER, client.pending());
+        assertTrue("expecting issued session id", command.startsWith("update-user --session-id " + SESSION_ID));
+    }
+
+    @Test
+    public void testNextCommandExpectedLogInAgainAfterSessionExpired() {
+        logIn();
+
+        client.nextCommand();
+        assertFalse("expecting expired session to fail", client.accept("<Wrong session id>"));
+
+        assertEquals("expecting log in again", CommandType.LOGIN, command());
+    }
+
+    @Test
+    public void testNextCommandExpectedRelogAfterPasswordChange() {
+        client = new VirtualClient("load", CommandMix.parse("reset-password=1"), new SplittableRandom(1));
+        logIn();
+
+        String reset = client.nextCommand();
+        String newPassword = reset.substring(reset.lastIndexOf(' ') + 1).trim();
+
+        assertTrue("expecting password change", client.accept("<You successfully changed your password to <"
+                + newPassword + ">>"));
+        assertEquals("expecting log out of the stale session", CommandType.LOGOUT, command());
+        assertTrue("expecting log out", client.accept("<You logged out successfully>"));
+        assertTrue("expecting log in with the new password", client.nextCommand().endsWith(newPassword + "\n"));
+    }
+
+    @Test
+    public void testNextCommandExpectedNewIdentityAfterRejectedLogIn() {
+        client.nextCommand();
+        client.accept("<You have been successfully registered>");
+        client.nextCommand();
+        client.accept("<Wrong username/password combination>");
+
+        assertTrue("expecting fresh identity", client.nextCommand().startsWith("register --username load-1 "));
+    }
+
+    private void logIn() {
+        client.nextCommand();
+        client.accept("<You have been successfully registered>");
+        client.nextCommand();
+        client.accept(LOGGED_IN);
+    }
+
+    private CommandType command() {
+        client.nextCommand();
+
+        return client.pending();
+    }
+}
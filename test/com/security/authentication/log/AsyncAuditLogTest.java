@@ -0,0 +1,132 @@
+package com.security.authentication.log;
+
+import com.security.authentication.enums.LOGInfoType;
+import com.security.authentication.formatter.LogFormatter;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+public class AsyncAuditLogTest {
+    private Path file;
+    private AsyncAuditLog auditLog;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("audit", ".log");
+        auditLog = new AsyncAuditLog(file, 16, TimeUnit.SECONDS.toNanos(1), AsyncAuditLog.SYNC_EVERY_BATCH);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        auditLog.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWriteExpectedIllegalArgumentException() {
+        auditLog.write((String) null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorExpectedIllegalArgumentExceptionWhenNoCapacity() {
+        new AsyncAuditLog(file, 0, 0, 0);
+    }
+
+    @Test
+    public void testCloseExpectedQueuedEventsWrittenInOrder() throws IOException {
+        List<String> expected = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            expected.add("event-" + i);
+            auditLog.write("event-" + i + System.lineSeparator());
+        }
+
+        auditLog.close();
+
+        assertEquals("expecting every event in order", expected, Files.readAllLines(file, StandardCharsets.UTF_8));
+        assertEquals("expecting no dropped events", 0, auditLog.droppedEvents());
+        assertEquals("expecting drained queue", 0, auditLog.queueDepth());
+    }
+
+    @Test
+    public void testCloseExpectedAuditEventsFormatted() throws IOException {
+        AuditEvent event = new AuditEvent(Instant.parse("2021-03-04T05:06:07Z"), LOGInfoType.UNSUCCESSFUL_LOGIN,
+                null, "196.124.0.1", "", "", false);
+
+        auditLog.write(event);
+        auditLog.write("between" + System.lineSeparator());
+        auditLog.write(event);
+        auditLog.close();
+
+        String expected = LogFormatter.format(event) + "between" + System.lineSeparator() + LogFormatter.format(event);
+
+        assertEquals("expecting events formatted in order", expected, Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testWriteExpectedEventDroppedAfterClose() throws IOException {
+        auditLog.close();
+        auditLog.write("late" + System.lineSeparator());
+
+        assertEquals("expecting late event to be dropped", 1, auditLog.droppedEvents());
+        assertEquals("expecting nothing written", 0, Files.size(file));
+    }
+
+    @Test
+    public void testCloseExpectedEveryEventWrittenOrDropped() throws IOException, InterruptedException {
+        List<Thread> writers = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            Thread writer = new Thread(() -> {
+                for (int j = 0; j < 5000; j++) {
+                    auditLog.write("event" + System.lineSeparator());
+                }
+            });
+
+            writers.add(writer);
+            writer.start();
+        }
+
+        Thread.sleep(5);
+        auditLog.close();
+
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        assertEquals("expecting every event written or counted as dropped", 20_000,
+                Files.readAllLines(file, StandardCharsets.UTF_8).size() + auditLog.droppedEvents());
+    }
+
+    @Test
+    public void testWriteExpectedFailedBatchCountedAsDropped() throws IOException, InterruptedException {
+        Path full = Path.of("/dev/full");
+
+        Assume.assumeTrue(Files.isWritable(full));
+
+        AsyncAuditLog failing = new AsyncAuditLog(full, 16, 0, AsyncAuditLog.NEVER_SYNC);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        failing.write("event" + System.lineSeparator());
+
+        while (failing.droppedEvents() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        failing.close();
+
+        assertEquals("expecting failed write counted as dropped", 1, failing.droppedEvents());
+    }
+}
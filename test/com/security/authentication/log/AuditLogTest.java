@@ -25,7 +25,7 @@ public class AuditLogTest {
 
     @Test(expected = IllegalArgumentException.class)
     public void testWriteExpectedIllegalArgumentException() {
-        auditLog.write(null);
+        auditLog.write((String) null);
     }
 
     @Test
@@ -0,0 +1,68 @@
+package com.security.authentication.log;
+
+import com.security.authentication.enums.LOGInfoStatus;
+import com.security.authentication.enums.LOGInfoType;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AuditRecordTest {
+    private static final AuditEvent EVENT = new AuditEvent(Instant.parse("2021-03-04T05:06:07.123456789Z"),
+            LOGInfoType.ADDED_ADMIN_PRIVILEGES, LOGInfoStatus.END, "196.124.0.1", "perpetrator",
+            "t\u00e9rget", true);
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEncodeExpectedIllegalArgumentException() {
+        AuditRecord.encode(null);
+    }
+
+    @Test
+    public void testDecodeExpectedSameEvent() {
+        ByteBuffer buffer = ByteBuffer.allocate(64 + AuditRecord.encode(EVENT).length);
+        buffer.position(64);
+        buffer.put(AuditRecord.encode(EVENT));
+
+        assertEquals("expecting round trip event", EVENT, AuditRecord.decode(buffer, 64));
+    }
+
+    @Test
+    public void testDecodeExpectedNullStatus() {
+        AuditEvent event = new AuditEvent(Instant.EPOCH, LOGInfoType.UNSUCCESSFUL_LOGIN, null, "ip", "", "",
+                false);
+
+        assertEquals("expecting event without status", event,
+                AuditRecord.decode(ByteBuffer.wrap(AuditRecord.encode(event)), 0));
+    }
+
+    @Test
+    public void testIsCompleteExpectedTrue() {
+        byte[] record = AuditRecord.encode(EVENT);
+
+        assertTrue("expecting complete record", AuditRecord.isComplete(ByteBuffer.wrap(record), 0, record.length));
+    }
+
+    @Test
+    public void testIsCompleteExpectedFalseWhenTorn() {
+        byte[] record = AuditRecord.encode(EVENT);
+
+        assertFalse("expecting torn record", AuditRecord.isComplete(ByteBuffer.wrap(record), 0, record.length - 1));
+    }
+
+    @Test
+    public void testIsCompleteExpectedFalseWhenZeroed() {
+        byte[] zeroes = new byte[AuditRecord.HEADER_SIZE * 2];
+
+        assertFalse("expecting zeroed tail", AuditRecord.isComplete(ByteBuffer.wrap(zeroes), 0, zeroes.length));
+    }
+
+    @Test
+    public void testToNanosExpectedSaturated() {
+        assertEquals("expecting saturated maximum", Long.MAX_VALUE, AuditRecord.toNanos(Instant.MAX));
+        assertEquals("expecting saturated minimum", Long.MIN_VALUE, AuditRecord.toNanos(Instant.MIN));
+    }
+}
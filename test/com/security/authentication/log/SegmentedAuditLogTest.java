@@ -0,0 +1,180 @@
+package com.security.authentication.log;
+
+import com.security.authentication.enums.LOGInfoStatus;
+import com.security.authentication.enums.LOGInfoType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SegmentedAuditLogTest {
+    private static final Instant START = Instant.parse("2021-03-04T05:06:07Z");
+    private static final int SEGMENT_BYTES = 4096;
+
+    private Path directory;
+    private SegmentedAuditLog auditLog;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("audit");
+        auditLog = new SegmentedAuditLog(directory, SEGMENT_BYTES);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        auditLog.close();
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWriteExpectedIllegalArgumentException() {
+        auditLog.write((AuditEvent) null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWriteExpectedIllegalArgumentExceptionForText() {
+        auditLog.write((String) null);
+    }
+
+    @Test
+    public void testWriteExpectedTextStoredAsRawEvent() throws IOException {
+        auditLog.write("first line" + System.lineSeparator() + "second line" + System.lineSeparator());
+
+        List<AuditEvent> events = auditLog.query(Instant.MIN, Instant.MAX).collect(Collectors.toList());
+        List<String> lines = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(auditLog.read())) {
+            reader.lines().forEach(lines::add);
+        }
+
+        assertEquals("expecting one raw event", LOGInfoType.RAW_EVENT, events.get(0).type());
+        assertEquals("expecting text read back unchanged", List.of("first line", "second line"), lines);
+    }
+
+    @Test
+    public void testQueryExpectedEventsInRange() {
+        List<AuditEvent> events = writeEvents(500);
+
+        List<AuditEvent> actual = auditLog.query(START.plusSeconds(100), START.plusSeconds(199))
+                .collect(Collectors.toList());
+
+        assertEquals("expecting events within range", events.subList(100, 200), actual);
+        assertTrue("expecting rotated segments", auditLog.segmentCount() > 1);
+    }
+
+    @Test
+    public void testQueryExpectedEventsOfAddress() {
+        List<AuditEvent> events = writeEvents(500);
+        List<AuditEvent> expected = events.stream()
+                .filter(event -> event.ip().equals("10.0.0.3"))
+                .filter(event -> !event.timestamp().isAfter(START.plusSeconds(300)))
+                .collect(Collectors.toList());
+
+        List<AuditEvent> actual = auditLog.query("10.0.0.3", START, START.plusSeconds(300))
+                .collect(Collectors.toList());
+
+        assertEquals("expecting events of address within range", expected, actual);
+    }
+
+    @Test
+    public void testQueryExpectedEventsOfAddressInNarrowRangeAfterReopen() throws IOException {
+        List<AuditEvent> events = writeEvents(500);
+        List<AuditEvent> expected = events.stream()
+                .filter(event -> event.ip().equals("10.0.0.4"))
+                .filter(event -> !event.timestamp().isBefore(START.plusSeconds(130)))
+                .filter(event -> !event.timestamp().isAfter(START.plusSeconds(140)))
+                .collect(Collectors.toList());
+
+        auditLog.close();
+        auditLog = new SegmentedAuditLog(directory, SEGMENT_BYTES);
+
+        List<AuditEvent> actual = auditLog.query("10.0.0.4", START.plusSeconds(130), START.plusSeconds(140))
+                .collect(Collectors.toList());
+
+        assertEquals("expecting events of address within narrow range", expected, actual);
+    }
+
+    @Test
+    public void testQueryExpectedEventsAfterReopen() throws IOException {
+        List<AuditEvent> events = writeEvents(300);
+
+        auditLog.close();
+        auditLog = new SegmentedAuditLog(directory, SEGMENT_BYTES);
+
+        List<AuditEvent> actual = auditLog.query(Instant.MIN, Instant.MAX).collect(Collectors.toList());
+
+        assertEquals("expecting every event after reopen", events, actual);
+    }
+
+    @Test
+    public void testQueryExpectedTornTailDropped() throws IOException {
+        List<AuditEvent> events = writeEvents(10);
+        Path active = AuditSegment.dataPath(directory, 0);
+
+        auditLog.close();
+
+        try (FileChannel channel = FileChannel.open(active, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        auditLog = new SegmentedAuditLog(directory, SEGMENT_BYTES);
+        auditLog.write(events.get(9));
+
+        List<AuditEvent> actual = auditLog.query(Instant.MIN, Instant.MAX).collect(Collectors.toList());
+
+        assertEquals("expecting torn record replaced", events, actual);
+    }
+
+    @Test
+    public void testReadExpectedFormattedEvents() throws IOException {
+        writeEvents(2);
+
+        List<String> lines = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(auditLog.read())) {
+            reader.lines().forEach(lines::add);
+        }
+
+        assertEquals("expecting one failed log in attempt", 1,
+                lines.stream().filter(line -> line.equals("Type: Failed log in attempt")).count());
+        assertEquals("expecting one configuration change", 1,
+                lines.stream().filter(line -> line.equals("Type: Configuration change")).count());
+    }
+
+    private List<AuditEvent> writeEvents(int count) {
+        List<AuditEvent> events = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            AuditEvent event = i % 2 == 0
+                    ? new AuditEvent(START.plusSeconds(i), LOGInfoType.UNSUCCESSFUL_LOGIN, null,
+                    "10.0.0." + i % 7, "", "", false)
+                    : new AuditEvent(START.plusSeconds(i), LOGInfoType.ADDED_ADMIN_PRIVILEGES, LOGInfoStatus.END,
+                    "10.0.0." + i % 7, "admin", "user" + i, true);
+
+            auditLog.write(event);
+            events.add(event);
+        }
+
+        return events;
+    }
+}
@@ -0,0 +1,95 @@
+package com.security.authentication.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+    @Test(expected = IllegalArgumentException.class)
+    public void testPercentileExpectedIllegalArgumentException() {
+        new LatencyHistogram().percentile(101);
+    }
+
+    @Test
+    public void testPercentileExpectedZeroWhenEmpty() {
+        assertEquals("expecting zero for empty histogram", 0, new LatencyHistogram().percentile(99));
+    }
+
+    @Test
+    public void testPercentileExpectedExactSmallValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals("expecting exact median", 50, histogram.percentile(50));
+        assertEquals("expecting exact p99", 99, histogram.percentile(99));
+        assertEquals("expecting exact maximum", 100, histogram.percentile(100));
+        assertEquals("expecting exact mean", 50.5, histogram.mean(), 0);
+    }
+
+    @Test
+    public void testPercentileExpectedBoundedRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (long value = 1_000; value <= 1_000_000_000L; value *= 3) {
+            histogram.record(value);
+
+            long reported = histogram.percentile(100);
+
+            assertTrue("expecting value not under-reported", reported >= value);
+            assertTrue("expecting error within two percent", reported - value <= value / 50);
+        }
+    }
+
+    @Test
+    public void testSnapshotExpectedIndependentCopy() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record(10);
+
+        LatencyHistogram snapshot = histogram.snapshot();
+
+        histogram.record(1_000);
+
+        assertEquals("expecting copied sample count", 1, snapshot.count());
+        assertEquals("expecting copied maximum", 10, snapshot.max());
+        assertEquals("expecting source unaffected", 2, histogram.count());
+    }
+
+    @Test
+    public void testIndexExpectedMonotonic() {
+        int previous = -1;
+
+        for (long value = 0; value < 1_000_000; value += 7) {
+            int index = LatencyHistogram.index(value);
+
+            assertTrue("expecting monotonic bucket index", index >= previous);
+            assertTrue("expecting value within its bucket", LatencyHistogram.highestEquivalentValue(index) >= value);
+            previous = index;
+        }
+    }
+
+    @Test
+    public void testHighestEquivalentValueExpectedLongMaxForLastBucket() {
+        assertEquals("expecting last bucket to end at Long.MAX_VALUE", Long.MAX_VALUE,
+                LatencyHistogram.highestEquivalentValue(LatencyHistogram.index(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testAddExpectedMergedCounts() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+
+        first.record(10);
+        second.record(20);
+        second.record(-5);
+        first.add(second);
+
+        assertEquals("expecting merged count", 3, first.count());
+        assertEquals("expecting merged maximum", 20, first.max());
+        assertEquals("expecting negative values clamped to zero", 0, first.percentile(1));
+    }
+}
@@ -0,0 +1,142 @@
+package com.security.authentication.metrics;
+
+import com.security.authentication.enums.CommandOutcome;
+import com.security.authentication.enums.CommandType;
+import com.security.authentication.enums.StorageOperation;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class MetricsRegistryTest {
+    @Test(expected = IllegalArgumentException.class)
+    public void testRecordExpectedIllegalArgumentExceptionWhenTypeIsNull() {
+        new MetricsRegistry().record(null, CommandOutcome.SUCCESS, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRecordExpectedIllegalArgumentExceptionWhenOutcomeIsNull() {
+        new MetricsRegistry().record(CommandType.LOGIN, null, 1);
+    }
+
+    @Test
+    public void testSnapshotExpectedEmptyCommands() {
+        MetricsSnapshot snapshot = new MetricsRegistry().snapshot();
+
+        assertEquals("expecting every command type", CommandType.values().length, snapshot.commands().size());
+        assertEquals("expecting no samples", 0, snapshot.command(CommandType.LOGIN).count());
+        assertEquals("expecting no outcomes", 0, snapshot.command(CommandType.LOGIN).count(CommandOutcome.SUCCESS));
+    }
+
+    @Test
+    public void testSnapshotExpectedSeparatedTypesAndOutcomes() {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        registry.record(CommandType.LOGIN, CommandOutcome.SUCCESS, 100);
+        registry.record(CommandType.LOGIN, CommandOutcome.INVALID_COMBINATION, 300);
+        registry.record(CommandType.LOGOUT, CommandOutcome.SUCCESS, 50);
+
+        MetricsSnapshot snapshot = registry.snapshot();
+        CommandSnapshot login = snapshot.command(CommandType.LOGIN);
+
+        assertEquals("expecting two login samples", 2, login.count());
+        assertEquals("expecting one successful login", 1, login.count(CommandOutcome.SUCCESS));
+        assertEquals("expecting one rejected login", 1, login.count(CommandOutcome.INVALID_COMBINATION));
+        assertEquals("expecting exact login maximum", 300, login.percentile(100));
+        assertEquals("expecting one logout sample", 1, snapshot.command(CommandType.LOGOUT).count());
+        assertEquals("expecting no register samples", 0, snapshot.command(CommandType.REGISTER).count());
+    }
+
+    @Test
+    public void testSnapshotExpectedUnaffectedByLaterRecords() {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        registry.record(CommandType.REGISTER, CommandOutcome.SUCCESS, 10);
+
+        MetricsSnapshot snapshot = registry.snapshot();
+
+        registry.record(CommandType.REGISTER, CommandOutcome.SUCCESS, 20);
+
+        assertEquals("expecting frozen sample count", 1, snapshot.command(CommandType.REGISTER).count());
+        assertEquals("expecting frozen outcome count", 1,
+                snapshot.command(CommandType.REGISTER).count(CommandOutcome.SUCCESS));
+    }
+
+    @Test
+    public void testRecordExpectedNoLostUpdatesUnderContention() throws InterruptedException {
+        MetricsRegistry registry = new MetricsRegistry();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    registry.record(CommandType.UPDATE_USER, CommandOutcome.SUCCESS, j);
+                }
+            });
+
+            threads.add(thread);
+            thread.start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        CommandSnapshot snapshot = registry.snapshot().command(CommandType.UPDATE_USER);
+
+        assertEquals("expecting every sample", 40_000, snapshot.count());
+        assertEquals("expecting every outcome", 40_000, snapshot.count(CommandOutcome.SUCCESS));
+    }
+
+    @Test
+    public void testSnapshotExpectedOpenAndAcceptedConnections() {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        registry.connectionOpened();
+        registry.connectionOpened();
+        registry.connectionClosed();
+
+        MetricsSnapshot snapshot = registry.snapshot();
+
+        assertEquals("expecting one open connection", 1, snapshot.openConnections());
+        assertEquals("expecting two accepted connections", 2, snapshot.acceptedConnections());
+    }
+
+    @Test
+    public void testSnapshotExpectedStorageAndLoopSamples() {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        registry.recordStorage(StorageOperation.EXTRACT, 1_000);
+        registry.recordLoop(500);
+
+        MetricsSnapshot snapshot = registry.snapshot();
+
+        assertEquals("expecting one extract sample", 1, snapshot.storage(StorageOperation.EXTRACT).count());
+        assertEquals("expecting no add samples", 0, snapshot.storage(StorageOperation.ADD).count());
+        assertEquals("expecting one loop sample", 1, snapshot.loopLatencies().count());
+    }
+
+    @Test
+    public void testSnapshotExpectedGaugesReadAtSnapshotTime() {
+        MetricsRegistry registry = new MetricsRegistry();
+        AtomicLong depth = new AtomicLong(3);
+
+        registry.registerGauge("queue_depth", "Queue depth.", depth::get);
+        depth.set(7);
+
+        Gauge gauge = registry.snapshot().gauges().get(0);
+
+        assertEquals("expecting gauge name", "queue_depth", gauge.name());
+        assertEquals("expecting current gauge value", 7, gauge.value());
+        assertFalse("expecting gauge type", gauge.isCounter());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegisterCounterExpectedIllegalArgumentExceptionWhenValueIsNull() {
+        new MetricsRegistry().registerCounter("drops_total", "Drops.", null);
+    }
+}
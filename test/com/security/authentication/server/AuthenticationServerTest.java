@@ -0,0 +1,67 @@
+package com.security.authentication.server;
+
+import com.security.authentication.enums.AuditLogMode;
+import com.security.authentication.enums.PasswordMode;
+import com.security.authentication.enums.ServerMode;
+import com.security.authentication.enums.StorageMode;
+import com.security.authentication.storage.BloomFilter;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class AuthenticationServerTest {
+    private static final List<String> MARKERS = List.of("marker-1", "marker-2", "marker-3", "marker-4", "marker-5");
+
+    @Test
+    public void testStartExpectedUsernameFilterReusedAfterRestart() throws IOException, InterruptedException {
+        Path dataDirectory = Files.createTempDirectory("server");
+        Path users = dataDirectory.resolve("users.txt");
+        Path filter = dataDirectory.resolve("users.txt.bloom");
+
+        runAndStop(dataDirectory);
+
+        try (BloomFilter cleanFilter = BloomFilter.open(filter, Files.size(users))) {
+            assertNotNull("expecting filter closed cleanly on shutdown", cleanFilter);
+
+            for (String marker : MARKERS) {
+                cleanFilter.put(marker);
+            }
+        }
+
+        runAndStop(dataDirectory);
+
+        try (BloomFilter reusedFilter = BloomFilter.open(filter, Files.size(users))) {
+            assertNotNull("expecting filter closed cleanly after restart", reusedFilter);
+
+            for (String marker : MARKERS) {
+                assertTrue("expecting filter reused instead of rebuilt", reusedFilter.mightContain(marker));
+            }
+        }
+    }
+
+    private void runAndStop(Path dataDirectory) throws InterruptedException {
+        AuthenticationServer server = new AuthenticationServer(new ServerConfiguration(0, ServerMode.REACTOR,
+                StorageMode.FILE_SYSTEM, PasswordMode.ENCRYPTED, AuditLogMode.SYNC, 1, 1,
+                ServerConfiguration.DEFAULT_WRITE_HIGH_WATER_MARK, ServerConfiguration.METRICS_DISABLED,
+                dataDirectory));
+        Thread serverThread = new Thread(server::start);
+
+        serverThread.start();
+
+        while (!server.isRunning() && serverThread.isAlive()) {
+            Thread.sleep(10);
+        }
+
+        server.stop();
+        serverThread.join(10_000);
+
+        assertFalse("expecting server thread to finish", serverThread.isAlive());
+    }
+}
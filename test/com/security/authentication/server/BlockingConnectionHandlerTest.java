@@ -0,0 +1,168 @@
+package com.security.authentication.server;
+
+import com.security.authentication.command.Command;
+import com.security.authentication.command.CommandExecutor;
+import com.security.authentication.connect.Connection;
+import com.security.authentication.enums.CommandType;
+import com.security.authentication.generator.SessionId;
+import com.security.authentication.user.RegularUser;
+import com.security.authentication.user.info.AccountInfo;
+import com.security.authentication.user.info.PersonalInfo;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BlockingConnectionHandlerTest {
+    @Mock
+    private CommandExecutor commandExecutor;
+
+    private ServerSocketChannel serverSocketChannel;
+
+    @Before
+    public void setUp() throws IOException {
+        serverSocketChannel = ServerSocketChannel.open();
+        serverSocketChannel.bind(new InetSocketAddress("localhost", 0));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        serverSocketChannel.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorExpectedIllegalArgumentException() {
+        new BlockingConnectionHandler(null, commandExecutor);
+    }
+
+    @Test
+    public void testRunExpectedResponsePerLineInOrder() throws IOException {
+        when(commandExecutor.execute(any(Command.class), any(Connection.class))).thenAnswer(invocation ->
+                invocation.<Command>getArgument(0).type() == CommandType.LOGIN ? "<Logged in>" : "<Logged out>");
+
+        try (Socket client = new Socket("localhost", serverSocketChannel.socket().getLocalPort())) {
+            Thread connectionThread = new Thread(new BlockingConnectionHandler(serverSocketChannel.accept(),
+                    commandExecutor));
+            connectionThread.setDaemon(true);
+            connectionThread.start();
+
+            PrintWriter writer = new PrintWriter(client.getOutputStream(), false, StandardCharsets.UTF_8);
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+
+            writer.print("login --username user --password password\nlogout --session-id id\n");
+            writer.flush();
+
+            assertEquals("expecting first response", "<Logged in>", reader.readLine());
+            assertEquals("expecting second response", "<Logged out>", reader.readLine());
+        }
+    }
+
+    @Test
+    public void testRunExpectedSystemProblemWhenExecutorThrows() throws IOException {
+        when(commandExecutor.execute(any(Command.class), any(Connection.class)))
+                .thenThrow(new IllegalStateException("broken"))
+                .thenReturn("<Logged out>");
+
+        try (Socket client = new Socket("localhost", serverSocketChannel.socket().getLocalPort())) {
+            startHandler();
+
+            PrintWriter writer = new PrintWriter(client.getOutputStream(), false, StandardCharsets.UTF_8);
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+
+            writer.print("login --username user --password password\nlogout --session-id id\n");
+            writer.flush();
+
+            assertEquals("expecting system problem response",
+                    "<A problem in the system has occurred, please try again>", reader.readLine());
+            assertEquals("expecting connection still served", "<Logged out>", reader.readLine());
+        }
+    }
+
+    @Test
+    public void testRunExpectedConnectionClosedWhenLineTooLong() throws IOException {
+        try (Socket client = new Socket("localhost", serverSocketChannel.socket().getLocalPort())) {
+            startHandler();
+
+            OutputStream output = client.getOutputStream();
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+
+            byte[] line = new byte[64 * 1024 + 1];
+            Arrays.fill(line, (byte) 'a');
+
+            output.write(line);
+            output.flush();
+
+            assertNull("expecting closed connection", reader.readLine());
+        }
+
+        verify(commandExecutor, never()).execute(any(Command.class), any(Connection.class));
+    }
+
+    @Test
+    public void testRunExpectedConnectionReleasedOnDisconnect() throws IOException, InterruptedException {
+        AtomicReference<Connection> served = new AtomicReference<>();
+
+        when(commandExecutor.execute(any(Command.class), any(Connection.class))).thenAnswer(invocation -> {
+            Connection connection = invocation.getArgument(1);
+            connection.bind(new SessionId(1, 2), new RegularUser(new AccountInfo("user", "password"),
+                    new PersonalInfo("fname", "lname", "email")));
+            served.set(connection);
+            return "<Logged in>";
+        });
+
+        Thread connectionThread;
+
+        try (Socket client = new Socket("localhost", serverSocketChannel.socket().getLocalPort())) {
+            connectionThread = startHandler();
+
+            PrintWriter writer = new PrintWriter(client.getOutputStream(), false, StandardCharsets.UTF_8);
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+
+            writer.print("login --username user --password password\n");
+            writer.flush();
+
+            assertEquals("expecting response", "<Logged in>", reader.readLine());
+        }
+
+        connectionThread.join(5000);
+
+        assertNull("expecting released session", served.get().getSessionId());
+        assertNull("expecting released user", served.get().getUser());
+    }
+
+    private Thread startHandler() throws IOException {
+        Thread connectionThread = new Thread(new BlockingConnectionHandler(serverSocketChannel.accept(),
+                commandExecutor));
+        connectionThread.setDaemon(true);
+        connectionThread.start();
+
+        return connectionThread;
+    }
+}
@@ -0,0 +1,64 @@
+package com.security.authentication.server;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class BufferPoolTest {
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorExpectedIllegalArgumentException() {
+        new BufferPool(0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReleaseExpectedIllegalArgumentException() {
+        new BufferPool(16, 1).release(null);
+    }
+
+    @Test
+    public void testAcquireExpectedDirectBuffer() {
+        ByteBuffer buffer = new BufferPool(16, 1).acquire();
+
+        assertTrue("expecting direct buffer", buffer.isDirect());
+        assertEquals("expecting configured capacity", 16, buffer.capacity());
+    }
+
+    @Test
+    public void testAcquireExpectedReleasedBufferReusedCleared() {
+        BufferPool pool = new BufferPool(16, 1);
+        ByteBuffer buffer = pool.acquire();
+        buffer.put((byte) 1).flip();
+
+        pool.release(buffer);
+        ByteBuffer reused = pool.acquire();
+
+        assertSame("expecting pooled buffer to be reused", buffer, reused);
+        assertEquals("expecting reused buffer to be cleared", 16, reused.remaining());
+    }
+
+    @Test
+    public void testReleaseExpectedPoolBounded() {
+        BufferPool pool = new BufferPool(16, 1);
+
+        pool.release(pool.acquire());
+        pool.release(pool.acquire().duplicate());
+        pool.release(ByteBuffer.allocateDirect(16));
+
+        assertEquals("expecting pool to stay within bound", 1, pool.available());
+    }
+
+    @Test
+    public void testReleaseExpectedForeignBuffersIgnored() {
+        BufferPool pool = new BufferPool(16, 4);
+
+        pool.release(ByteBuffer.allocate(16));
+        pool.release(ByteBuffer.allocateDirect(8));
+        pool.release(ByteBuffer.allocateDirect(16).asReadOnlyBuffer());
+
+        assertEquals("expecting foreign buffers not to be pooled", 0, pool.available());
+    }
+}
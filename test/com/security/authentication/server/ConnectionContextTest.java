@@ -0,0 +1,106 @@
+package com.security.authentication.server;
+
+import com.security.authentication.generator.SessionId;
+import com.security.authentication.user.AuthenticatedUser;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConnectionContextTest {
+    @Mock
+    private SocketChannel channel;
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorExpectedIllegalArgumentException() {
+        new ConnectionContext(channel, 64, 0, new BufferPool(16, 4));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEnqueueExpectedIllegalArgumentException() {
+        new ConnectionContext(channel, 64, 8, new BufferPool(16, 4)).enqueue(null);
+    }
+
+    @Test
+    public void testInterestOpsExpectedReadWhenIdle() {
+        ConnectionContext context = new ConnectionContext(channel, 64, 8, new BufferPool(16, 4));
+
+        assertEquals("expecting read interest only", SelectionKey.OP_READ, context.interestOps());
+    }
+
+    @Test
+    public void testInterestOpsExpectedNoReadWhileCommandInFlight() {
+        ConnectionContext context = new ConnectionContext(channel, 64, 8, new BufferPool(16, 4));
+        context.setCommandInFlight(true);
+
+        assertEquals("expecting no interest while command in flight", 0, context.interestOps());
+    }
+
+    @Test
+    public void testFlushExpectedWriteInterestWhilePartiallyWritten() throws IOException {
+        ConnectionContext context = new ConnectionContext(channel, 64, 8, new BufferPool(16, 4));
+        when(channel.write(any(ByteBuffer.class))).thenAnswer(invocation -> drain(invocation.getArgument(0), 2));
+
+        context.enqueue(ByteBuffer.wrap(new byte[5]));
+
+        assertFalse("expecting partial write", context.flush());
+        assertEquals("expecting remaining bytes queued", 3, context.getQueuedBytes());
+        assertEquals("expecting read and write interest",
+                SelectionKey.OP_READ | SelectionKey.OP_WRITE, context.interestOps());
+    }
+
+    @Test
+    public void testEnqueueExpectedReadingPausedAboveHighWaterMark() throws IOException {
+        ConnectionContext context = new ConnectionContext(channel, 64, 8, new BufferPool(16, 4));
+        when(channel.write(any(ByteBuffer.class))).thenReturn(0);
+
+        context.enqueue(ByteBuffer.wrap(new byte[10]));
+        context.flush();
+
+        assertTrue("expecting reading to pause", context.isReadingPaused());
+        assertEquals("expecting write interest only", SelectionKey.OP_WRITE, context.interestOps());
+    }
+
+    @Test
+    public void testFlushExpectedReadingResumedAtLowWaterMark() throws IOException {
+        ConnectionContext context = new ConnectionContext(channel, 64, 8, new BufferPool(16, 4));
+        when(channel.write(any(ByteBuffer.class))).thenAnswer(invocation -> drain(invocation.getArgument(0), 6));
+
+        context.enqueue(ByteBuffer.wrap(new byte[10]));
+        context.flush();
+
+        assertFalse("expecting reading to resume", context.isReadingPaused());
+    }
+
+    private int drain(ByteBuffer buffer, int bytes) {
+        int written = Math.min(bytes, buffer.remaining());
+        buffer.position(buffer.position() + written);
+
+        return written;
+    }
+
+    @Test
+    public void testReleaseExpectedConnectionStateCleared() {
+        ConnectionContext context = new ConnectionContext(channel, 64, 8, new BufferPool(16, 4));
+        context.bind(new SessionId(1, 2), mock(AuthenticatedUser.class));
+
+        context.release();
+
+        assertNull("expecting no user after release", context.getUser());
+        assertNull("expecting no session after release", context.getSessionId());
+    }
+}
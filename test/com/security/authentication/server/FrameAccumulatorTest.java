@@ -0,0 +1,76 @@
+package com.security.authentication.server;
+
+import com.security.authentication.exceptions.server.FrameTooLongException;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FrameAccumulatorTest {
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorExpectedIllegalArgumentException() {
+        new FrameAccumulator(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAppendExpectedIllegalArgumentException() throws FrameTooLongException {
+        new FrameAccumulator(16).append(null);
+    }
+
+    @Test
+    public void testAppendExpectedAllFramesOfCoalescedRead() throws FrameTooLongException {
+        FrameAccumulator accumulator = new FrameAccumulator(64);
+
+        List<String> actual = accumulator.append(bytes("login --username a\r\nlogout --session-id b\n"));
+
+        assertEquals("expecting both frames in order", List.of("login --username a", "logout --session-id b"), actual);
+        assertEquals("expecting nothing pending", 0, accumulator.pendingBytes());
+    }
+
+    @Test
+    public void testAppendExpectedFrameReassembledFromSplitReads() throws FrameTooLongException {
+        FrameAccumulator accumulator = new FrameAccumulator(64);
+
+        assertTrue("expecting no frame before delimiter", accumulator.append(bytes("login --user")).isEmpty());
+        assertEquals("expecting pending bytes", 12, accumulator.pendingBytes());
+
+        List<String> actual = accumulator.append(bytes("name a\nlog"));
+
+        assertEquals("expecting reassembled frame", List.of("login --username a"), actual);
+        assertEquals("expecting partial next frame pending", 3, accumulator.pendingBytes());
+    }
+
+    @Test
+    public void testAppendExpectedMultiByteCharacterSplitAcrossReads() throws FrameTooLongException {
+        FrameAccumulator accumulator = new FrameAccumulator(64);
+        byte[] encoded = "f\u00e9\n".getBytes(StandardCharsets.UTF_8);
+
+        accumulator.append(ByteBuffer.wrap(encoded, 0, 2));
+        List<String> actual = accumulator.append(ByteBuffer.wrap(encoded, 2, encoded.length - 2));
+
+        assertEquals("expecting character to be decoded whole", List.of("f\u00e9"), actual);
+    }
+
+    @Test
+    public void testAppendExpectedBlankLinesSkipped() throws FrameTooLongException {
+        List<String> actual = new FrameAccumulator(64).append(bytes("\n  \nlogin\n"));
+
+        assertEquals("expecting blank lines to be skipped", List.of("login"), actual);
+    }
+
+    @Test(expected = FrameTooLongException.class)
+    public void testAppendExpectedFrameTooLongException() throws FrameTooLongException {
+        FrameAccumulator accumulator = new FrameAccumulator(8);
+
+        accumulator.append(bytes("0123456"));
+        accumulator.append(bytes("789"));
+    }
+
+    private ByteBuffer bytes(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,154 @@
+package com.security.authentication.server;
+
+import com.security.authentication.command.Command;
+import com.security.authentication.command.CommandExecutor;
+import com.security.authentication.connect.Connection;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class IOReactorTest {
+    @Mock
+    private CommandExecutor commandExecutor;
+
+    private ServerSocketChannel serverSocketChannel;
+    private ExecutorService commandWorkers;
+    private IOReactor reactor;
+
+    @Before
+    public void setUp() throws IOException {
+        serverSocketChannel = ServerSocketChannel.open();
+        serverSocketChannel.bind(new InetSocketAddress("localhost", 0));
+        commandWorkers = Executors.newFixedThreadPool(2);
+        reactor = new IOReactor(commandExecutor, commandWorkers, 1024);
+
+        Thread reactorThread = new Thread(reactor);
+        reactorThread.setDaemon(true);
+        reactorThread.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        reactor.close();
+        commandWorkers.shutdownNow();
+        serverSocketChannel.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorExpectedIllegalArgumentException() throws IOException {
+        new IOReactor(null, commandWorkers, 1024);
+    }
+
+    @Test
+    public void testRegisterExpectedResponseWrittenByReactor() throws IOException {
+        String[] executingThread = new String[1];
+
+        when(commandExecutor.execute(any(Command.class), any(Connection.class))).thenAnswer(invocation -> {
+            executingThread[0] = Thread.currentThread().getName();
+            return "<Successful>";
+        });
+
+        try (Socket client = connect()) {
+            PrintWriter writer = new PrintWriter(client.getOutputStream(), true, StandardCharsets.UTF_8);
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+
+            writer.println("login --username user --password password");
+
+            assertEquals("expecting executor response", "<Successful>", reader.readLine());
+            assertNotEquals("expecting command not to run on the reactor thread",
+                    Thread.currentThread().getName(), executingThread[0]);
+        }
+    }
+
+    @Test
+    public void testRegisterExpectedSystemProblemWhenCommandFails() throws IOException {
+        when(commandExecutor.execute(any(Command.class), any(Connection.class)))
+                .thenThrow(new IllegalStateException("failed"));
+
+        try (Socket client = connect()) {
+            PrintWriter writer = new PrintWriter(client.getOutputStream(), true, StandardCharsets.UTF_8);
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+
+            writer.println("login --username user --password password");
+
+            assertEquals("expecting system problem response",
+                    "<A problem in the system has occurred, please try again>", reader.readLine());
+        }
+    }
+
+    @Test
+    public void testRegisterExpectedPipelinedCommandsAnsweredInOrder() throws IOException {
+        when(commandExecutor.execute(any(Command.class), any(Connection.class))).thenAnswer(invocation ->
+                "<" + invocation.<Command>getArgument(0).parameters().get(1) + ">");
+
+        try (Socket client = connect()) {
+            OutputStream output = client.getOutputStream();
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+
+            output.write("logout --session-id first\nlogout --session-id second\nlogout --sess".getBytes(
+                    StandardCharsets.UTF_8));
+            output.flush();
+
+            assertEquals("expecting first pipelined response", "<first>", reader.readLine());
+            assertEquals("expecting second pipelined response", "<second>", reader.readLine());
+
+            output.write("ion-id third\n".getBytes(StandardCharsets.UTF_8));
+            output.flush();
+
+            assertEquals("expecting reassembled command response", "<third>", reader.readLine());
+        }
+    }
+
+    @Test
+    public void testRegisterExpectedLargeResponseWrittenWhole() throws IOException {
+        String response = "x".repeat(512 * 1024);
+
+        when(commandExecutor.execute(any(Command.class), any(Connection.class))).thenReturn(response);
+
+        try (Socket client = connect()) {
+            PrintWriter writer = new PrintWriter(client.getOutputStream(), true, StandardCharsets.UTF_8);
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+
+            writer.println("logout --session-id first");
+            writer.println("logout --session-id second");
+
+            assertEquals("expecting first response untruncated", response, reader.readLine());
+            assertEquals("expecting second response untruncated", response, reader.readLine());
+        }
+    }
+
+    private Socket connect() throws IOException {
+        Socket client = new Socket("localhost", serverSocketChannel.socket().getLocalPort());
+        SocketChannel accepted = serverSocketChannel.accept();
+        accepted.configureBlocking(false);
+        reactor.register(accepted);
+
+        return client;
+    }
+}
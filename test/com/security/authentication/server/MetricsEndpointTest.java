@@ -0,0 +1,95 @@
+package com.security.authentication.server;
+
+import com.security.authentication.enums.CommandOutcome;
+import com.security.authentication.enums.CommandType;
+import com.security.authentication.metrics.MetricsRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsEndpointTest {
+    private final MetricsRegistry metrics = new MetricsRegistry();
+    private final AtomicBoolean isHealthy = new AtomicBoolean(true);
+    private MetricsEndpoint endpoint;
+
+    @Before
+    public void setUp() {
+        endpoint = new MetricsEndpoint("localhost", 0, metrics, isHealthy::get);
+        endpoint.start();
+    }
+
+    @After
+    public void tearDown() {
+        endpoint.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorExpectedIllegalArgumentException() {
+        new MetricsEndpoint("localhost", 0, null, isHealthy::get);
+    }
+
+    @Test
+    public void testMetricsExpectedPrometheusText() throws IOException {
+        metrics.record(CommandType.LOGOUT, CommandOutcome.SUCCESS, 1_000);
+
+        HttpURLConnection connection = open("/metrics", "GET");
+
+        assertEquals("expecting ok status", 200, connection.getResponseCode());
+        assertTrue("expecting prometheus content type",
+                connection.getContentType().startsWith("text/plain; version=0.0.4"));
+        assertTrue("expecting logout series",
+                body(connection).contains("auth_command_duration_seconds_count{command=\"logout\"} 1\n"));
+    }
+
+    @Test
+    public void testHealthExpectedUp() throws IOException {
+        HttpURLConnection connection = open("/health", "GET");
+
+        assertEquals("expecting ok status", 200, connection.getResponseCode());
+        assertEquals("expecting up body", "UP\n", body(connection));
+    }
+
+    @Test
+    public void testHealthExpectedServiceUnavailableWhenUnhealthy() throws IOException {
+        isHealthy.set(false);
+
+        assertEquals("expecting unavailable status", 503, open("/health", "GET").getResponseCode());
+    }
+
+    @Test
+    public void testMetricsExpectedMethodNotAllowed() throws IOException {
+        assertEquals("expecting method not allowed", 405, open("/metrics", "POST").getResponseCode());
+    }
+
+    @Test
+    public void testMetricsExpectedNotFoundForUnknownPath() throws IOException {
+        assertEquals("expecting not found", 404, open("/metrics/extra", "GET").getResponseCode());
+    }
+
+    private HttpURLConnection open(String path, String method) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + endpoint.port() + path)
+                .openConnection();
+
+        connection.setRequestMethod(method);
+        connection.setConnectTimeout(5_000);
+        connection.setReadTimeout(5_000);
+
+        return connection;
+    }
+
+    private String body(HttpURLConnection connection) throws IOException {
+        try (InputStream input = connection.getInputStream()) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
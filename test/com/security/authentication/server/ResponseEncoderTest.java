@@ -0,0 +1,71 @@
+package com.security.authentication.server;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ResponseEncoderTest {
+    @Mock
+    private SocketChannel channel;
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorExpectedIllegalArgumentException() {
+        new ResponseEncoder(null);
+    }
+
+    @Test
+    public void testEncodeExpectedFixedResponseWithoutPooledBuffers() throws IOException {
+        BufferPool pool = new BufferPool(8, 4);
+        ConnectionContext context = new ConnectionContext(channel, 64, 1024, pool);
+
+        new ResponseEncoder(pool).encode("<Unknown command>", context);
+
+        assertEquals("expecting pre-encoded response",
+                "<Unknown command>" + System.lineSeparator(), written(context));
+        assertEquals("expecting no pooled buffer to be used", 0, pool.available());
+    }
+
+    @Test
+    public void testEncodeExpectedResponseSpanningPooledBuffers() throws IOException {
+        BufferPool pool = new BufferPool(8, 8);
+        ConnectionContext context = new ConnectionContext(channel, 64, 1024, pool);
+        String response = "<Your session id is <\u00e9\u00e9\u00e9-session>>";
+
+        new ResponseEncoder(pool).encode(response, context);
+
+        assertEquals("expecting whole response", response + System.lineSeparator(), written(context));
+        assertTrue("expecting written buffers returned to the pool", pool.available() > 1);
+    }
+
+    private String written(ConnectionContext context) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        when(channel.write(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            ByteBuffer buffer = invocation.getArgument(0);
+            int written = buffer.remaining();
+
+            while (buffer.hasRemaining()) {
+                output.write(buffer.get());
+            }
+
+            return written;
+        });
+
+        context.flush();
+
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
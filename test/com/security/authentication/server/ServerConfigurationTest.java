@@ -0,0 +1,118 @@
+package com.security.authentication.server;
+
+import com.security.authentication.enums.AuditLogMode;
+import com.security.authentication.enums.PasswordMode;
+import com.security.authentication.enums.ServerMode;
+import com.security.authentication.enums.StorageMode;
+import org.junit.Test;
+
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class ServerConfigurationTest {
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorExpectedIllegalArgumentExceptionWhenStorageModeNull() {
+        new ServerConfiguration(4444, ServerMode.REACTOR, null, PasswordMode.ENCRYPTED, AuditLogMode.SYNC, 1, 1, 1, 0,
+                Path.of(""));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorExpectedIllegalArgumentExceptionWhenNoIoThreads() {
+        new ServerConfiguration(4444, ServerMode.REACTOR, StorageMode.INDEXED, PasswordMode.ENCRYPTED,
+                AuditLogMode.SYNC, 0, 1, 1, 0, Path.of(""));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorExpectedIllegalArgumentExceptionWhenNoWriteHighWaterMark() {
+        new ServerConfiguration(4444, ServerMode.REACTOR, StorageMode.INDEXED, PasswordMode.ENCRYPTED,
+                AuditLogMode.SYNC, 1, 1, 0, 0, Path.of(""));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromArgumentsExpectedIllegalArgumentExceptionWhenArgumentsNull() {
+        ServerConfiguration.fromArguments(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromArgumentsExpectedIllegalArgumentExceptionWhenUnknownOption() {
+        ServerConfiguration.fromArguments(new String[]{"--random", "value"});
+    }
+
+    @Test
+    public void testFromArgumentsExpectedDefaultsWhenNoArguments() {
+        ServerConfiguration actual = ServerConfiguration.fromArguments(new String[0]);
+        ServerConfiguration expected = ServerConfiguration.defaults(ServerConfiguration.DEFAULT_PORT);
+
+        assertEquals("expecting default configuration", expected, actual);
+    }
+
+    @Test
+    public void testFromArgumentsExpectedParsedOptions() {
+        ServerConfiguration actual = ServerConfiguration.fromArguments(new String[]{
+                "--port", "5555",
+                "--server-mode", "thread-per-connection",
+                "--storage", "mapped",
+                "--password-mode", "hashed",
+                "--audit-log", "async",
+                "--io-threads", "2",
+                "--worker-threads", "8",
+                "--write-high-water-mark", "1024",
+                "--metrics-port", "9404",
+                "--data-dir", "data"});
+        ServerConfiguration expected = new ServerConfiguration(5555, ServerMode.THREAD_PER_CONNECTION,
+                StorageMode.MAPPED, PasswordMode.HASHED, AuditLogMode.ASYNC, 2, 8, 1024, 9404, Path.of("data"));
+
+        assertEquals("expecting parsed configuration", expected, actual);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorExpectedIllegalArgumentExceptionWhenNegativeMetricsPort() {
+        new ServerConfiguration(4444, ServerMode.REACTOR, StorageMode.INDEXED, PasswordMode.ENCRYPTED,
+                AuditLogMode.SYNC, 1, 1, 1, -1, Path.of(""));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorExpectedIllegalArgumentExceptionWhenDataDirectoryNull() {
+        new ServerConfiguration(4444, ServerMode.REACTOR, StorageMode.INDEXED, PasswordMode.ENCRYPTED,
+                AuditLogMode.SYNC, 1, 1, 1, 0, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorExpectedIllegalArgumentExceptionWhenInvalidStorageMode() {
+        new ServerConfiguration(4444, ServerMode.REACTOR, StorageMode.INVALID, PasswordMode.ENCRYPTED,
+                AuditLogMode.SYNC, 1, 1, 1, 0, Path.of(""));
+    }
+
+    @Test
+    public void testFromArgumentsExpectedIllegalArgumentExceptionNamingInvalidStorageMode() {
+        try {
+            ServerConfiguration.fromArguments(new String[]{"--storage", "maped"});
+            fail("expecting mistyped storage mode to be rejected");
+        } catch (IllegalArgumentException e) {
+            assertEquals("expecting option and value in message", "invalid value maped for option --storage",
+                    e.getMessage());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromArgumentsExpectedIllegalArgumentExceptionWhenInvalidServerMode() {
+        ServerConfiguration.fromArguments(new String[]{"--server-mode", "reactr"});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromArgumentsExpectedIllegalArgumentExceptionWhenInvalidPasswordMode() {
+        ServerConfiguration.fromArguments(new String[]{"--password-mode", "hash"});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromArgumentsExpectedIllegalArgumentExceptionWhenInvalidAuditLogMode() {
+        ServerConfiguration.fromArguments(new String[]{"--audit-log", "asynch"});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromArgumentsExpectedIllegalArgumentExceptionWhenOptionWithoutValue() {
+        ServerConfiguration.fromArguments(new String[]{"--port", "4444", "--storage"});
+    }
+}
@@ -0,0 +1,63 @@
+package com.security.authentication.storage;
+
+import com.security.authentication.user.Admin;
+import com.security.authentication.user.RegularUser;
+import com.security.authentication.user.User;
+import com.security.authentication.user.info.AccountInfo;
+import com.security.authentication.user.info.PersonalInfo;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BinaryUserRecordTest {
+    private static final User ADMIN = new Admin(new AccountInfo("admin", "password"),
+            new PersonalInfo("fname", "lname", "email"));
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEncodeExpectedIllegalArgumentException() {
+        BinaryUserRecord.encode(null);
+    }
+
+    @Test
+    public void testDecodeExpectedSameUser() {
+        ByteBuffer buffer = ByteBuffer.wrap(BinaryUserRecord.encode(ADMIN));
+
+        assertEquals("expecting same user", ADMIN, BinaryUserRecord.decode(buffer, 0));
+    }
+
+    @Test
+    public void testDecodeExpectedSameUserAtOffset() {
+        User user = new RegularUser(new AccountInfo("user", "password"), new PersonalInfo("f\u00e9", "lname", "email"));
+        byte[] first = BinaryUserRecord.encode(ADMIN);
+        byte[] second = BinaryUserRecord.encode(user);
+        ByteBuffer buffer = ByteBuffer.allocate(first.length + second.length).put(first).put(second);
+
+        assertEquals("expecting same length", first.length, BinaryUserRecord.length(buffer, 0));
+        assertEquals("expecting same user", user, BinaryUserRecord.decode(buffer, first.length));
+    }
+
+    @Test
+    public void testHasUsernameExpectedMatchOnlyForSameBytes() {
+        ByteBuffer buffer = ByteBuffer.wrap(BinaryUserRecord.encode(ADMIN));
+
+        assertTrue("expecting match", BinaryUserRecord.hasUsername(buffer, 0, BinaryUserRecord.bytes("admin")));
+        assertFalse("expecting no match", BinaryUserRecord.hasUsername(buffer, 0, BinaryUserRecord.bytes("admin2")));
+        assertFalse("expecting no match", BinaryUserRecord.hasUsername(buffer, 0, BinaryUserRecord.bytes("admiN")));
+    }
+
+    @Test
+    public void testMarkDeletedExpectedNotLiveButStillAdmin() {
+        ByteBuffer buffer = ByteBuffer.wrap(BinaryUserRecord.encode(ADMIN));
+
+        assertTrue("expecting live record", BinaryUserRecord.isLive(buffer, 0));
+
+        BinaryUserRecord.markDeleted(buffer, 0);
+
+        assertFalse("expecting deleted record", BinaryUserRecord.isLive(buffer, 0));
+        assertTrue("expecting admin flag kept", BinaryUserRecord.isAdmin(buffer, 0));
+    }
+}
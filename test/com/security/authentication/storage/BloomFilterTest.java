@@ -0,0 +1,90 @@
+package com.security.authentication.storage;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BloomFilterTest {
+    @Test(expected = IllegalArgumentException.class)
+    public void testPutExpectedIllegalArgumentException() throws IOException {
+        try (BloomFilter filter = BloomFilter.create(Files.createTempFile("users", ".bloom"), 100, 0.01)) {
+            filter.put(null);
+        }
+    }
+
+    @Test
+    public void testMightContainExpectedNoFalseNegatives() throws IOException {
+        try (BloomFilter filter = BloomFilter.create(Files.createTempFile("users", ".bloom"), 1000, 0.01)) {
+            for (int i = 0; i < 1000; i++) {
+                filter.put("user" + i);
+            }
+
+            for (int i = 0; i < 1000; i++) {
+                assertTrue("expecting inserted key", filter.mightContain("user" + i));
+            }
+        }
+    }
+
+    @Test
+    public void testMightContainExpectedFalseForMostMissingKeys() throws IOException {
+        int falsePositives = 0;
+
+        try (BloomFilter filter = BloomFilter.create(Files.createTempFile("users", ".bloom"), 1000, 0.01)) {
+            for (int i = 0; i < 1000; i++) {
+                filter.put("user" + i);
+            }
+
+            for (int i = 0; i < 1000; i++) {
+                if (filter.mightContain("missing" + i)) {
+                    falsePositives++;
+                }
+            }
+        }
+
+        assertTrue("expecting low false positive rate", falsePositives < 50);
+    }
+
+    @Test
+    public void testOpenExpectedReusedAfterCleanClose() throws IOException {
+        Path path = Files.createTempFile("users", ".bloom");
+
+        try (BloomFilter filter = BloomFilter.create(path, 100, 0.01)) {
+            filter.put("user");
+            filter.setSourceSize(42);
+        }
+
+        try (BloomFilter reopened = BloomFilter.open(path, 42)) {
+            assertNotNull("expecting reusable filter", reopened);
+            assertTrue("expecting persisted key", reopened.mightContain("user"));
+            assertFalse("expecting missing key", reopened.mightContain("other"));
+        }
+    }
+
+    @Test
+    public void testOpenExpectedNullWhenSourceChanged() throws IOException {
+        Path path = Files.createTempFile("users", ".bloom");
+
+        try (BloomFilter filter = BloomFilter.create(path, 100, 0.01)) {
+            filter.setSourceSize(42);
+        }
+
+        assertNull("expecting stale filter", BloomFilter.open(path, 43));
+    }
+
+    @Test
+    public void testOpenExpectedNullWhenNotClosed() throws IOException {
+        Path path = Files.createTempFile("users", ".bloom");
+        BloomFilter filter = BloomFilter.create(path, 100, 0.01);
+
+        filter.setSourceSize(42);
+
+        assertNull("expecting dirty filter", BloomFilter.open(path, 42));
+    }
+}
@@ -140,4 +140,24 @@ public class FileSystemStorageTest {
 
         storage.update(user, Map.of());
     }
+
+    @Test
+    public void testHasStoredInfoExpectedTrueAfterReopen() throws IOException, StorageFailException {
+        Generator<SecretKey> secretKeyGenerator = new SecretKeyGenerator();
+        SecretKey secretKey = secretKeyGenerator.generate();
+        Path path = Path.of(File.createTempFile("frontHaha", "endHaha").toString());
+        User user = new RegularUser(new AccountInfo("user", "password"),
+                new PersonalInfo("fname", "lname", "email"));
+        User other = new RegularUser(new AccountInfo("other", "password"),
+                new PersonalInfo("fname", "lname", "email"));
+
+        try (FileSystemStorage fileSystemStorage = new FileSystemStorage(path, secretKey)) {
+            fileSystemStorage.add(user);
+        }
+
+        try (FileSystemStorage reopened = new FileSystemStorage(path, secretKey)) {
+            assertTrue("should have stored data", reopened.hasStoredInfo(user));
+            assertFalse("should not have stored data", reopened.hasStoredInfo(other));
+        }
+    }
 }
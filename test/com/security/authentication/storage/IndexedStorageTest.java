@@ -0,0 +1,207 @@
+package com.security.authentication.storage;
+
+import com.security.authentication.connect.Connection;
+import com.security.authentication.enums.ChangeRequest;
+import com.security.authentication.exceptions.storage.RemoveFailException;
+import com.security.authentication.exceptions.storage.StorageFailException;
+import com.security.authentication.exceptions.storage.UserNotFoundException;
+import com.security.authentication.exceptions.update.NoUpdateRequestException;
+import com.security.authentication.exceptions.update.UpdateFailException;
+import com.security.authentication.generator.Generator;
+import com.security.authentication.generator.SecretKeyGenerator;
+import com.security.authentication.handler.UserHandler;
+import com.security.authentication.user.Admin;
+import com.security.authentication.user.RegularUser;
+import com.security.authentication.user.UnauthenticatedUser;
+import com.security.authentication.user.User;
+import com.security.authentication.user.info.AccountInfo;
+import com.security.authentication.user.info.PersonalInfo;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.crypto.SecretKey;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class IndexedStorageTest {
+    private static SecretKey secretKey;
+    private static Path path;
+    private static Storage storage;
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        Generator<SecretKey> secretKeyGenerator = new SecretKeyGenerator();
+        secretKey = secretKeyGenerator.generate();
+        File file = File.createTempFile("frontHaha", "endHaha");
+        path = Path.of(file.toString());
+        storage = new IndexedStorage(path, secretKey);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddExpectedIllegalArgumentException() throws StorageFailException {
+        storage.add(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRemoveExpectedIllegalArgumentException() throws RemoveFailException {
+        storage.remove(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUpdateExpectedIllegalArgumentExceptionWhenRequestsNull()
+            throws NoUpdateRequestException, UpdateFailException {
+        storage.update(new UnauthenticatedUser(new AccountInfo("user", "password"),
+                new PersonalInfo("fname", "lname", "email")), null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHasStoredInfoExpectedIllegalArgumentException() throws StorageFailException {
+        storage.hasStoredInfo(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExtractExpectedIllegalArgumentException()
+            throws StorageFailException, UserNotFoundException {
+        storage.extract(null);
+    }
+
+    @Test
+    public void testHasStoredInfoExpectedFalse() throws StorageFailException {
+        User user = new UnauthenticatedUser(new AccountInfo("indexed-missing", "password"),
+                new PersonalInfo("fname", "lname", "email"));
+
+        assertFalse("should not have stored data", storage.hasStoredInfo(user));
+    }
+
+    @Test
+    public void testExtractExpectedSuccess() throws StorageFailException, UserNotFoundException {
+        User user = new RegularUser(new AccountInfo("indexed-user", "password"),
+                new PersonalInfo("fname", "lname", "email"));
+
+        storage.add(user);
+
+        assertTrue("should have stored data", storage.hasStoredInfo(user));
+        assertEquals("should be same", user, storage.extract("indexed-user"));
+    }
+
+    @Test(expected = UserNotFoundException.class)
+    public void testExtractExpectedUserNotFoundException() throws StorageFailException, UserNotFoundException {
+        storage.extract("indexed-nobody");
+    }
+
+    @Test
+    public void testReloadExpectedSameUsers() throws StorageFailException, UserNotFoundException {
+        User user = new Admin(new AccountInfo("indexed-reloaded", "password"),
+                new PersonalInfo("fname", "lname", "email"));
+
+        storage.add(user);
+
+        Storage reloaded = new IndexedStorage(path, secretKey);
+
+        assertEquals("should be same after reload", user, reloaded.extract("indexed-reloaded"));
+    }
+
+    @Test(expected = UserNotFoundException.class)
+    public void testRemoveExpectedUserNotFoundAfterReload()
+            throws StorageFailException, RemoveFailException, UserNotFoundException {
+        User user = new RegularUser(new AccountInfo("indexed-removed", "password"),
+                new PersonalInfo("fname", "lname", "email"));
+
+        storage.add(user);
+        storage.remove(user);
+
+        new IndexedStorage(path, secretKey).extract("indexed-removed");
+    }
+
+    @Test(expected = RemoveFailException.class)
+    public void testRemoveExpectedRemoveFailExceptionWhenLastAdmin()
+            throws IOException, StorageFailException, RemoveFailException {
+        File file = File.createTempFile("frontHaha", "endHaha");
+        Storage emptyStorage = new IndexedStorage(Path.of(file.toString()), secretKey);
+        User admin = new Admin(new AccountInfo("admin", "password"),
+                new PersonalInfo("fname", "lname", "email"));
+
+        emptyStorage.add(admin);
+        emptyStorage.remove(admin);
+    }
+
+    @Test
+    public void testUpdateExpectedChangedPassword()
+            throws StorageFailException, UserNotFoundException, NoUpdateRequestException, UpdateFailException {
+        User user = new RegularUser(new AccountInfo("indexed-updated", "password"),
+                new PersonalInfo("fname", "lname", "email"));
+
+        storage.add(user);
+        storage.update(user, Map.of(ChangeRequest.NEW_PASSWORD, "newPassword"));
+
+        String actual = new IndexedStorage(path, secretKey).extract("indexed-updated")
+                .getAccountInfo().getPassword();
+
+        assertEquals("should have new password", "newPassword", actual);
+    }
+
+    @Test(expected = NoUpdateRequestException.class)
+    public void testUpdateExpectedNoUpdateRequestException() throws NoUpdateRequestException, UpdateFailException {
+        User user = new UnauthenticatedUser(new AccountInfo("user", "password"),
+                new PersonalInfo("fname", "lname", "email"));
+
+        storage.update(user, Map.of());
+    }
+
+    @Test
+    public void testRegisterAndLogInExpectedAllUsersStoredFromManyThreads()
+            throws IOException, StorageFailException, UserNotFoundException, InterruptedException, ExecutionException {
+        Path concurrentPath = Path.of(File.createTempFile("concurrentHaha", "endHaha").toString());
+        Storage concurrentStorage = new IndexedStorage(concurrentPath, secretKey);
+        concurrentStorage.add(new Admin(new AccountInfo("admin", "password"),
+                new PersonalInfo("fname", "lname", "email")));
+
+        UserHandler userHandler = new UserHandler(concurrentStorage);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<String>> tasks = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            String username = "concurrent" + i;
+            tasks.add(() -> {
+                Connection connection = new Connection(mock(SocketChannel.class));
+                userHandler.register(List.of("--username", username,
+                        "--password", "password",
+                        "--first-name", "fname",
+                        "--last-name", "lname",
+                        "--email", "email"), connection);
+
+                return userHandler.logIn(List.of("--username", username, "--password", "password"), connection);
+            });
+        }
+
+        List<Future<String>> results = executor.invokeAll(tasks);
+        executor.shutdown();
+
+        for (Future<String> result : results) {
+            assertNotNull("expecting session id", result.get());
+        }
+
+        Storage reloaded = new IndexedStorage(concurrentPath, secretKey);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("expecting stored user", "concurrent" + i,
+                    reloaded.extract("concurrent" + i).getAccountInfo().getUsername());
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.security.authentication.storage;
+
+import com.security.authentication.enums.ChangeRequest;
+import com.security.authentication.exceptions.server.StorageConfigurationFailException;
+import com.security.authentication.exceptions.storage.RemoveFailException;
+import com.security.authentication.exceptions.storage.StorageFailException;
+import com.security.authentication.exceptions.storage.UserNotFoundException;
+import com.security.authentication.exceptions.update.NoUpdateRequestException;
+import com.security.authentication.exceptions.update.UpdateFailException;
+import com.security.authentication.generator.Generator;
+import com.security.authentication.generator.SecretKeyGenerator;
+import com.security.authentication.user.Admin;
+import com.security.authentication.user.RegularUser;
+import com.security.authentication.user.User;
+import com.security.authentication.user.info.AccountInfo;
+import com.security.authentication.user.info.PersonalInfo;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LogStructuredStorageTest {
+    private static SecretKey secretKey;
+
+    @BeforeClass
+    public static void setUp() {
+        Generator<SecretKey> secretKeyGenerator = new SecretKeyGenerator();
+        secretKey = secretKeyGenerator.generate();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddExpectedIllegalArgumentException() throws IOException, StorageFailException {
+        try (LogStructuredStorage storage = newStorage()) {
+            storage.add(null);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRemoveExpectedIllegalArgumentException() throws IOException, RemoveFailException {
+        try (LogStructuredStorage storage = newStorage()) {
+            storage.remove(null);
+        }
+    }
+
+    @Test
+    public void testExtractExpectedSuccess() throws IOException, StorageFailException, UserNotFoundException {
+        User user = new RegularUser(new AccountInfo("user", "password"),
+                new PersonalInfo("fname", "lname", "email"));
+
+        try (LogStructuredStorage storage = newStorage()) {
+            storage.add(user);
+
+            assertTrue("should have stored data", storage.hasStoredInfo(user));
+            assertEquals("should be same", user, storage.extract("user"));
+        }
+    }
+
+    @Test(expected = UserNotFoundException.class)
+    public void testExtractExpectedUserNotFoundExceptionAfterTombstoneReplay()
+            throws IOException, StorageFailException, RemoveFailException, UserNotFoundException {
+        Path directory = Files.createTempDirectory("segments");
+        User user = new RegularUser(new AccountInfo("user", "password"),
+                new PersonalInfo("fname", "lname", "email"));
+
+        try (LogStructuredStorage storage = new LogStructuredStorage(directory, secretKey)) {
+            storage.add(user);
+            storage.remove(user);
+        }
+
+        try (LogStructuredStorage reloaded = new LogStructuredStorage(directory, secretKey)) {
+            reloaded.extract("user");
+        }
+    }
+
+    @Test(expected = RemoveFailException.class)
+    public void testRemoveExpectedRemoveFailExceptionWhenLastAdmin()
+            throws IOException, StorageFailException, RemoveFailException {
+        User admin = new Admin(new AccountInfo("admin", "password"),
+                new PersonalInfo("fname", "lname", "email"));
+
+        try (LogStructuredStorage storage = newStorage()) {
+            storage.add(admin);
+            storage.remove(admin);
+        }
+    }
+
+    @Test
+    public void testUpdateExpectedLatestRecordAfterReplay() throws IOException, StorageFailException,
+            UserNotFoundException, NoUpdateRequestException, UpdateFailException {
+        Path directory = Files.createTempDirectory("segments");
+        User user = new RegularUser(new AccountInfo("user", "password"),
+                new PersonalInfo("fname", "lname", "email"));
+
+        try (LogStructuredStorage storage = new LogStructuredStorage(directory, secretKey)) {
+            storage.add(user);
+            storage.update(user, Map.of(ChangeRequest.NEW_EMAIL, "new@email"));
+        }
+
+        try (LogStructuredStorage reloaded = new LogStructuredStorage(directory, secretKey)) {
+            String actual = reloaded.extract("user").getPersonalInfo().getEmail();
+
+            assertEquals("should have latest email", "new@email", actual);
+        }
+    }
+
+    @Test
+    public void testCompactExpectedMergedSegmentsWithSameUsers() throws IOException, StorageFailException,
+            RemoveFailException, UserNotFoundException {
+        Path directory = Files.createTempDirectory("segments");
+        User kept = new RegularUser(new AccountInfo("kept", "password"),
+                new PersonalInfo("fname", "lname", "email"));
+        User removed = new RegularUser(new AccountInfo("removed", "password"),
+                new PersonalInfo("fname", "lname", "email"));
+
+        try (LogStructuredStorage storage = new LogStructuredStorage(directory, secretKey, 64, 3600)) {
+            storage.add(kept);
+            storage.add(removed);
+            storage.remove(removed);
+
+            assertTrue("should have rolled segments", storage.segmentCount() > 2);
+
+            storage.compact();
+
+            assertEquals("should have compacted and active segment", 2, storage.segmentCount());
+        }
+
+        try (LogStructuredStorage reloaded = new LogStructuredStorage(directory, secretKey)) {
+            assertEquals("should keep live user", kept, reloaded.extract("kept"));
+            assertFalse("should drop removed user", reloaded.hasStoredInfo(removed));
+        }
+    }
+
+    @Test
+    public void testAddExpectedRotationCountedInEncodedBytes() throws IOException, StorageFailException {
+        User user = new RegularUser(new AccountInfo("\u00fc\u00f1\u00ee\u00e7\u00f8d\u00e9", "password"),
+                new PersonalInfo("\u00e9\u00e9\u00e9\u00e9", "\u00f8\u00f8\u00f8\u00f8", "email"));
+        Path measured = Files.createTempDirectory("segments");
+
+        try (LogStructuredStorage storage = new LogStructuredStorage(measured, secretKey)) {
+            storage.add(user);
+        }
+
+        long recordBytes = Files.size(newestSegment(measured));
+
+        try (LogStructuredStorage storage = new LogStructuredStorage(Files.createTempDirectory("segments"),
+                secretKey, recordBytes, 3600)) {
+            storage.add(user);
+
+            assertEquals("should have rolled after one record", 2, storage.segmentCount());
+        }
+    }
+
+    private LogStructuredStorage newStorage() throws IOException {
+        return new LogStructuredStorage(Files.createTempDirectory("segments"), secretKey);
+    }
+
+    @Test
+    public void testReplayExpectedTornTailTruncated() throws IOException, StorageFailException, UserNotFoundException {
+        Path directory = Files.createTempDirectory("segments");
+        User user = new RegularUser(new AccountInfo("user", "password"),
+                new PersonalInfo("fname", "lname", "email"));
+
+        try (LogStructuredStorage storage = new LogStructuredStorage(directory, secretKey)) {
+            storage.add(user);
+        }
+
+        Path segment = newestSegment(directory);
+        long completeLength = Files.size(segment);
+        String record = Files.readString(segment);
+
+        Files.writeString(segment, record.substring(0, record.length() / 2), StandardOpenOption.APPEND);
+
+        try (LogStructuredStorage reloaded = new LogStructuredStorage(directory, secretKey)) {
+            assertEquals("expecting complete record kept", user, reloaded.extract("user"));
+        }
+
+        assertEquals("expecting torn record truncated", completeLength, Files.size(segment));
+    }
+
+    @Test(expected = StorageConfigurationFailException.class)
+    public void testReplayExpectedStorageConfigurationFailExceptionWhenCorruptBeforeTail()
+            throws IOException, StorageFailException {
+        Path directory = Files.createTempDirectory("segments");
+        User user = new RegularUser(new AccountInfo("user", "password"),
+                new PersonalInfo("fname", "lname", "email"));
+
+        try (LogStructuredStorage storage = new LogStructuredStorage(directory, secretKey)) {
+            storage.add(user);
+        }
+
+        Path segment = newestSegment(directory);
+        String record = Files.readString(segment);
+
+        Files.writeString(segment, record.substring(0, record.length() / 2) + System.lineSeparator() + record);
+
+        new LogStructuredStorage(directory, secretKey).close();
+    }
+
+    private static Path newestSegment(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".log"))
+                    .filter(file -> file.toFile().length() > 0)
+                    .max(Comparator.naturalOrder())
+                    .orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.security.authentication.storage;
+
+import com.security.authentication.enums.ChangeRequest;
+import com.security.authentication.exceptions.storage.RemoveFailException;
+import com.security.authentication.exceptions.storage.StorageFailException;
+import com.security.authentication.exceptions.storage.UserNotFoundException;
+import com.security.authentication.exceptions.update.NoUpdateRequestException;
+import com.security.authentication.exceptions.update.UpdateFailException;
+import com.security.authentication.generator.Generator;
+import com.security.authentication.generator.SecretKeyGenerator;
+import com.security.authentication.user.Admin;
+import com.security.authentication.user.RegularUser;
+import com.security.authentication.user.User;
+import com.security.authentication.user.info.AccountInfo;
+import com.security.authentication.user.info.PersonalInfo;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MappedFileStorageTest {
+    private static SecretKey secretKey;
+
+    @BeforeClass
+    public static void setUp() {
+        Generator<SecretKey> secretKeyGenerator = new SecretKeyGenerator();
+        secretKey = secretKeyGenerator.generate();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddExpectedIllegalArgumentException() throws IOException, StorageFailException {
+        try (MappedFileStorage storage = newStorage()) {
+            storage.add(null);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExtractExpectedIllegalArgumentException()
+            throws IOException, StorageFailException, UserNotFoundException {
+        try (MappedFileStorage storage = newStorage()) {
+            storage.extract(null);
+        }
+    }
+
+    @Test
+    public void testIsEmptyExpectedTrue() throws IOException {
+        try (MappedFileStorage storage = newStorage()) {
+            assertTrue("should be empty", storage.isEmpty());
+        }
+    }
+
+    @Test
+    public void testExtractExpectedSuccessAfterReopen() throws IOException, StorageFailException,
+            UserNotFoundException {
+        Path path = Files.createTempFile("users", ".bin");
+        User admin = new Admin(new AccountInfo("admin", "password"), new PersonalInfo("fname", "lname", "email"));
+        User user = new RegularUser(new AccountInfo("user", "password"), new PersonalInfo("fname", "lname", "email"));
+
+        try (MappedFileStorage storage = new MappedFileStorage(path, secretKey)) {
+            storage.add(admin);
+            storage.add(user);
+        }
+
+        try (MappedFileStorage reopened = new MappedFileStorage(path, secretKey)) {
+            assertEquals("should be same admin", admin, reopened.extract("admin"));
+            assertEquals("should be same user", user, reopened.extract("user"));
+            assertFalse("should not be empty", reopened.isEmpty());
+        }
+    }
+
+    @Test(expected = UserNotFoundException.class)
+    public void testExtractExpectedUserNotFoundExceptionAfterRemove()
+            throws IOException, StorageFailException, RemoveFailException, UserNotFoundException {
+        User user = new RegularUser(new AccountInfo("user", "password"), new PersonalInfo("fname", "lname", "email"));
+
+        try (MappedFileStorage storage = newStorage()) {
+            storage.add(user);
+            storage.remove(user);
+            storage.extract("user");
+        }
+    }
+
+    @Test(expected = RemoveFailException.class)
+    public void testRemoveExpectedRemoveFailExceptionWhenLastAdmin()
+            throws IOException, StorageFailException, RemoveFailException {
+        User admin = new Admin(new AccountInfo("admin", "password"), new PersonalInfo("fname", "lname", "email"));
+
+        try (MappedFileStorage storage = newStorage()) {
+            storage.add(admin);
+            storage.remove(admin);
+        }
+    }
+
+    @Test
+    public void testUpdateExpectedChangedPassword() throws IOException, StorageFailException,
+            UserNotFoundException, NoUpdateRequestException, UpdateFailException {
+        User user = new RegularUser(new AccountInfo("user", "password"), new PersonalInfo("fname", "lname", "email"));
+
+        try (MappedFileStorage storage = newStorage()) {
+            storage.add(user);
+            storage.update(user, Map.of(ChangeRequest.NEW_PASSWORD, "newPassword"));
+
+            assertEquals("should have new password", "newPassword",
+                    storage.extract("user").getAccountInfo().getPassword());
+        }
+    }
+
+    @Test
+    public void testAddExpectedGrowthBeyondInitialMapping() throws IOException, StorageFailException,
+            UserNotFoundException {
+        Path path = Files.createTempFile("users", ".bin");
+        String longName = "x".repeat(4096);
+
+        try (MappedFileStorage storage = new MappedFileStorage(path, secretKey)) {
+            for (int i = 0; i < 300; i++) {
+                storage.add(new RegularUser(new AccountInfo("user" + i, "password"),
+                        new PersonalInfo(longName, "lname", "email")));
+            }
+        }
+
+        try (MappedFileStorage reopened = new MappedFileStorage(path, secretKey)) {
+            assertEquals("should find last user", "user299",
+                    reopened.extract("user299").getAccountInfo().getUsername());
+        }
+    }
+
+    @Test(expected = UserNotFoundException.class)
+    public void testExtractExpectedUserNotFoundExceptionWhenUsernameTooLong()
+            throws IOException, StorageFailException, UserNotFoundException {
+        try (MappedFileStorage storage = newStorage()) {
+            storage.extract("x".repeat(40_000));
+        }
+    }
+
+    @Test
+    public void testHasStoredInfoExpectedFalseWhenUsernameTooLong() throws IOException {
+        User user = new RegularUser(new AccountInfo("x".repeat(40_000), "password"),
+                new PersonalInfo("fname", "lname", "email"));
+
+        try (MappedFileStorage storage = newStorage()) {
+            assertFalse("should not be stored", storage.hasStoredInfo(user));
+        }
+    }
+
+    @Test(expected = StorageFailException.class)
+    public void testAddExpectedStorageFailExceptionWhenUsernameTooLong() throws IOException, StorageFailException {
+        User user = new RegularUser(new AccountInfo("x".repeat(40_000), "password"),
+                new PersonalInfo("fname", "lname", "email"));
+
+        try (MappedFileStorage storage = newStorage()) {
+            storage.add(user);
+        }
+    }
+
+    @Test
+    public void testUpdateExpectedFileSizeBoundedAfterRepeatedUpdates() throws IOException, StorageFailException,
+            NoUpdateRequestException, UpdateFailException, UserNotFoundException {
+        Path usersFile = Files.createTempDirectory("mapped").resolve("users.bin");
+        User user = new RegularUser(new AccountInfo("user", "password"),
+                new PersonalInfo("fname", "lname", "email"));
+
+        try (MappedFileStorage storage = new MappedFileStorage(usersFile, secretKey)) {
+            storage.add(user);
+
+            for (int i = 0; i < 20_000; i++) {
+                storage.update(storage.extract("user"), Map.of(ChangeRequest.NEW_EMAIL, "email" + i));
+            }
+
+            assertEquals("should keep latest update", "email19999",
+                    storage.extract("user").getPersonalInfo().getEmail());
+        }
+
+        assertEquals("should stay within the initial mapping", 1024 * 1024, Files.size(usersFile));
+
+        try (MappedFileStorage reloaded = new MappedFileStorage(usersFile, secretKey)) {
+            assertEquals("should keep latest update after reload", "email19999",
+                    reloaded.extract("user").getPersonalInfo().getEmail());
+        }
+    }
+
+    private MappedFileStorage newStorage() throws IOException {
+        return new MappedFileStorage(Files.createTempFile("users", ".bin"), secretKey);
+    }
+}
@@ -0,0 +1,79 @@
+package com.security.authentication.storage;
+
+import com.security.authentication.enums.StorageOperation;
+import com.security.authentication.exceptions.storage.StorageFailException;
+import com.security.authentication.exceptions.storage.UserNotFoundException;
+import com.security.authentication.metrics.MetricsRegistry;
+import com.security.authentication.metrics.MetricsSnapshot;
+import com.security.authentication.user.User;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MeteredStorageTest {
+    @Mock
+    private Storage storage;
+
+    @Mock
+    private User user;
+
+    private MetricsRegistry metrics;
+    private MeteredStorage meteredStorage;
+
+    @Before
+    public void setUp() {
+        metrics = new MetricsRegistry();
+        meteredStorage = new MeteredStorage(storage, metrics);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorExpectedIllegalArgumentExceptionWhenStorageIsNull() {
+        new MeteredStorage(null, metrics);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorExpectedIllegalArgumentExceptionWhenMetricsIsNull() {
+        new MeteredStorage(storage, null);
+    }
+
+    @Test
+    public void testAddExpectedDelegatedAndRecorded() throws StorageFailException {
+        when(storage.add(user)).thenReturn(true);
+
+        assertTrue("expecting delegated result", meteredStorage.add(user));
+        assertEquals("expecting one add sample", 1, metrics.snapshot().storage(StorageOperation.ADD).count());
+    }
+
+    @Test
+    public void testExtractExpectedDelegatedAndRecorded() throws UserNotFoundException, StorageFailException {
+        when(storage.extract("user")).thenReturn(user);
+
+        assertSame("expecting delegated user", user, meteredStorage.extract("user"));
+        assertEquals("expecting one extract sample", 1,
+                metrics.snapshot().storage(StorageOperation.EXTRACT).count());
+    }
+
+    @Test
+    public void testExtractExpectedRecordedWhenFailing() throws UserNotFoundException, StorageFailException {
+        when(storage.extract("user")).thenThrow(new UserNotFoundException("missing"));
+
+        try {
+            meteredStorage.extract("user");
+        } catch (UserNotFoundException e) {
+            assertEquals("expecting delegated failure", "missing", e.getMessage());
+        }
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+
+        assertEquals("expecting failed extract sampled", 1, snapshot.storage(StorageOperation.EXTRACT).count());
+        assertEquals("expecting no add samples", 0, snapshot.storage(StorageOperation.ADD).count());
+    }
+}
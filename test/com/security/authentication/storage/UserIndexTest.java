@@ -0,0 +1,58 @@
+package com.security.authentication.storage;
+
+import com.security.authentication.user.Admin;
+import com.security.authentication.user.RegularUser;
+import com.security.authentication.user.User;
+import com.security.authentication.user.info.AccountInfo;
+import com.security.authentication.user.info.PersonalInfo;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class UserIndexTest {
+    private final UserIndex index = new UserIndex();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPutExpectedIllegalArgumentException() {
+        index.put(null);
+    }
+
+    @Test
+    public void testGetExpectedLatestUser() {
+        User user = new RegularUser(new AccountInfo("user", "password"), new PersonalInfo("fname", "lname", "email"));
+        User updated = new RegularUser(new AccountInfo("user", "pass"), new PersonalInfo("fname", "lname", "email"));
+
+        index.put(user);
+        index.put(updated);
+
+        assertEquals("expecting latest user", updated, index.get("user"));
+        assertEquals("expecting single entry", 1, index.size());
+    }
+
+    @Test
+    public void testHasOtherAdminExpectedFalseForOnlyAdmin() {
+        index.put(new Admin(new AccountInfo("admin", "password"), new PersonalInfo("fname", "lname", "email")));
+
+        assertFalse("expecting no other admin", index.hasOtherAdmin("admin"));
+        assertTrue("expecting other admin", index.hasOtherAdmin("user"));
+    }
+
+    @Test
+    public void testHasOtherAdminExpectedFalseAfterDemotion() {
+        index.put(new Admin(new AccountInfo("admin", "password"), new PersonalInfo("fname", "lname", "email")));
+        index.put(new RegularUser(new AccountInfo("admin", "password"), new PersonalInfo("fname", "lname", "email")));
+
+        assertFalse("expecting no admin", index.hasOtherAdmin("user"));
+    }
+
+    @Test
+    public void testRemoveExpectedNotContained() {
+        index.put(new Admin(new AccountInfo("admin", "password"), new PersonalInfo("fname", "lname", "email")));
+        index.remove("admin");
+
+        assertFalse("expecting removed user", index.contains("admin"));
+        assertTrue("expecting empty index", index.isEmpty());
+    }
+}
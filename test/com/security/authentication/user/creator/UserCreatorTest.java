@@ -1,5 +1,8 @@
 package com.security.authentication.user.creator;
 
+import com.security.authentication.enums.ChangeRequest;
+import com.security.authentication.exceptions.crypt.PasswordResolveFailException;
+import com.security.authentication.exceptions.update.UpdateFailException;
 import com.security.authentication.user.Admin;
 import com.security.authentication.user.UnauthenticatedUser;
 import com.security.authentication.user.User;
@@ -8,6 +11,7 @@ import com.security.authentication.user.info.PersonalInfo;
 import org.junit.Test;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 
@@ -49,4 +53,31 @@ public class UserCreatorTest {
 
         assertEquals("expecting admin with same data", expected, actual);
     }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateUpdatedExpectedIllegalArgumentException() throws UpdateFailException {
+        UserCreator.createUpdated(null, Map.of());
+    }
+
+    @Test
+    public void testCreateUpdatedExpectedChangedData() throws UpdateFailException {
+        User user = new Admin(new AccountInfo("user", "password"),
+                new PersonalInfo("john", "smith", "email@email"));
+
+        User actual = UserCreator.createUpdated(user, Map.of(ChangeRequest.NEW_PASSWORD, "newPassword",
+                ChangeRequest.NEW_EMAIL, "new@email"));
+        User expected = new UnauthenticatedUser(new AccountInfo("user", "newPassword"),
+                new PersonalInfo("john", "smith", "new@email"));
+
+        assertEquals("expecting user with changed data", expected, actual);
+    }
+
+    @Test(expected = UpdateFailException.class)
+    public void testCreateUpdatedExpectedUpdateFailExceptionWhenPasswordUnresolvable() throws UpdateFailException {
+        User user = new Admin(new AccountInfo("user", () -> {
+            throw new PasswordResolveFailException("failed to decrypt password", new Exception());
+        }), new PersonalInfo("john", "smith", "email@email"));
+
+        UserCreator.createUpdated(user, Map.of(ChangeRequest.NEW_EMAIL, "new@email"));
+    }
 }
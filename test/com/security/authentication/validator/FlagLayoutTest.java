@@ -0,0 +1,54 @@
+package com.security.authentication.validator;
+
+import com.security.authentication.command.CommandCreator;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FlagLayoutTest {
+    private final FlagLayout flagLayout = FlagLayout.of("--session-id", "--username");
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfExpectedIllegalArgumentException() {
+        FlagLayout.of("--session-id", null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMatchesExpectedIllegalArgumentException() {
+        flagLayout.matches(null);
+    }
+
+    @Test
+    public void testMatchesExpectedTrue() {
+        assertTrue("expecting flags at even positions to match",
+                flagLayout.matches(List.of("--session-id", "id", "--username", "user")));
+    }
+
+    @Test
+    public void testMatchesExpectedTrueForParsedArguments() {
+        List<String> arguments = CommandCreator.extractArguments("add-admin-user --session-id id --username user");
+
+        assertTrue("expecting parsed flags to match", flagLayout.matches(arguments));
+    }
+
+    @Test
+    public void testMatchesExpectedFalseWhenFlagsSwapped() {
+        assertFalse("expecting order of flags to matter",
+                flagLayout.matches(List.of("--username", "user", "--session-id", "id")));
+    }
+
+    @Test
+    public void testMatchesExpectedFalseForParsedArgumentsWithPrefixFlag() {
+        List<String> arguments = CommandCreator.extractArguments("add-admin-user --session-id id --user name");
+
+        assertFalse("expecting partial flag not to match", flagLayout.matches(arguments));
+    }
+
+    @Test
+    public void testMatchesExpectedFalseWhenTooFewArguments() {
+        assertFalse("expecting missing flags not to match", flagLayout.matches(List.of("--session-id", "id")));
+    }
+}
@@ -2,6 +2,7 @@ package com.security.authentication.validator;
 
 import com.security.authentication.command.Command;
 import com.security.authentication.enums.CommandType;
+import com.security.authentication.enums.Response;
 import com.security.authentication.exceptions.general.InvalidNumberOfArgumentsException;
 import org.junit.Test;
 
@@ -33,31 +34,31 @@ public class ValidatorTest {
 
     @Test
     public void testValidateCommandRegisterExpectedWrongNumberOfArguments() {
-        String actual = Validator.validateCommand(new Command(CommandType.REGISTER, List.of("--username", "username",
+        Response actual = Validator.validateCommand(new Command(CommandType.REGISTER, List.of("--username", "username",
                 "--password", "password",
                 "--first-name", "first-name")));
 
-        String expected = "<Wrong number of arguments>";
+        Response expected = Response.WRONG_NUMBER_OF_ARGUMENTS;
 
         assertEquals("expecting exactly the same", expected, actual);
     }
 
     @Test
     public void testValidateCommandRegisterExpectedMissingSentinel() {
-        String actual = Validator.validateCommand(new Command(CommandType.REGISTER, List.of("--username", "username",
+        Response actual = Validator.validateCommand(new Command(CommandType.REGISTER, List.of("--username", "username",
                 "--password", "password",
                 "--first-name", "first-name",
                 "--last-name", "last-name",
                 "randomSentinel", "email")));
 
-        String expected = "<Missing authentication sentinel/data>";
+        Response expected = Response.MISSING_DATA;
 
         assertEquals("expecting exactly the same", expected, actual);
     }
 
     @Test
     public void testValidateCommandRegisterExpectedNull() {
-        String actual = Validator.validateCommand(new Command(CommandType.REGISTER, List.of("--username", "username",
+        Response actual = Validator.validateCommand(new Command(CommandType.REGISTER, List.of("--username", "username",
                 "--password", "password",
                 "--first-name", "first-name",
                 "--last-name", "last-name",
@@ -68,37 +69,37 @@ public class ValidatorTest {
 
     @Test
     public void testValidateCommandLogInExpectedWrongNumberOfArguments() {
-        String actual = Validator.validateCommand(new Command(CommandType.LOGIN, List.of("--username", "username",
+        Response actual = Validator.validateCommand(new Command(CommandType.LOGIN, List.of("--username", "username",
                 "--password", "password",
                 "--first-name", "first-name")));
 
-        String expected = "<Wrong number of arguments>";
+        Response expected = Response.WRONG_NUMBER_OF_ARGUMENTS;
 
         assertEquals("expecting exactly the same", expected, actual);
     }
 
     @Test
     public void testValidateCommandLogInCombinationExpectedMissingSentinel() {
-        String actual = Validator.validateCommand(new Command(CommandType.LOGIN, List.of("--username", "username",
+        Response actual = Validator.validateCommand(new Command(CommandType.LOGIN, List.of("--username", "username",
                 "randomSentinel", "password")));
 
-        String expected = "<Missing authentication sentinel/data>";
+        Response expected = Response.MISSING_DATA;
 
         assertEquals("expecting exactly the same", expected, actual);
     }
 
     @Test
     public void testValidateCommandLogInSessionExpectedMissingSentinel() {
-        String actual = Validator.validateCommand(new Command(CommandType.LOGIN, List.of("session", "ses")));
+        Response actual = Validator.validateCommand(new Command(CommandType.LOGIN, List.of("session", "ses")));
 
-        String expected = "<Missing authentication sentinel/data>";
+        Response expected = Response.MISSING_DATA;
 
         assertEquals("expecting exactly the same", expected, actual);
     }
 
     @Test
     public void testValidateCommandLogInCombinationExpectedNull() {
-        String actual = Validator.validateCommand(new Command(CommandType.LOGIN, List.of("--username", "username",
+        Response actual = Validator.validateCommand(new Command(CommandType.LOGIN, List.of("--username", "username",
                 "--password", "password")));
 
         assertNull("expecting exactly the same", actual);
@@ -106,7 +107,7 @@ public class ValidatorTest {
 
     @Test
     public void testValidateCommandLogInSessionExpectedNull() {
-        String actual =
+        Response actual =
                 Validator.validateCommand(new Command(CommandType.LOGIN, List.of("--session-id", "username")));
 
         assertNull("expecting exactly the same", actual);
@@ -114,52 +115,54 @@ public class ValidatorTest {
 
     @Test
     public void testValidateCommandLogOutExpectedWrongNumberOfArguments() {
-        String actual = Validator.validateCommand(new Command(CommandType.LOGOUT, List.of("sessionId")));
+        Response actual = Validator.validateCommand(new Command(CommandType.LOGOUT, List.of("sessionId")));
 
-        String expected = "<Wrong number of arguments>";
+        Response expected = Response.WRONG_NUMBER_OF_ARGUMENTS;
 
         assertEquals("expecting exactly the same", expected, actual);
     }
 
     @Test
     public void testValidateCommandLogOutExpectedMissingSentinel() {
-        String actual = Validator.validateCommand(new Command(CommandType.LOGOUT, List.of("sessionId", "session")));
+        Response actual = Validator.validateCommand(new Command(CommandType.LOGOUT, List.of("sessionId", "session")));
 
-        String expected = "<Missing authentication sentinel/data>";
+        Response expected = Response.MISSING_DATA;
 
         assertEquals("expecting exactly the same", expected, actual);
     }
 
     @Test
     public void testValidateCommandLogOutExpectedNull() {
-        String actual = Validator.validateCommand(new Command(CommandType.LOGOUT, List.of("--session-id", "session")));
+        Response actual = Validator.validateCommand(new Command(CommandType.LOGOUT,
+                List.of("--session-id", "session")));
 
         assertNull("expecting exactly the same", actual);
     }
 
     @Test
     public void testValidateCommandDeleteUserExpectedWrongNumberOfArguments() {
-        String actual = Validator.validateCommand(new Command(CommandType.DELETE_USER, List.of("--session-id", "ses")));
+        Response actual = Validator.validateCommand(new Command(CommandType.DELETE_USER,
+                List.of("--session-id", "ses")));
 
-        String expected = "<Wrong number of arguments>";
+        Response expected = Response.WRONG_NUMBER_OF_ARGUMENTS;
 
         assertEquals("expecting exactly the same", expected, actual);
     }
 
     @Test
     public void testValidateCommandDeleteUserExpectedMissingSentinel() {
-        String actual =
+        Response actual =
                 Validator.validateCommand(new Command(CommandType.DELETE_USER, List.of("--session-id", "session",
                         "--password", "asd")));
 
-        String expected = "<Missing authentication sentinel/data>";
+        Response expected = Response.MISSING_DATA;
 
         assertEquals("expecting exactly the same", expected, actual);
     }
 
     @Test
     public void testValidateCommandDeleteUserExpectedNull() {
-        String actual =
+        Response actual =
                 Validator.validateCommand(new Command(CommandType.DELETE_USER, List.of("--session-id", "session",
                         "--username", "username")));
 
@@ -168,28 +171,28 @@ public class ValidatorTest {
 
     @Test
     public void testValidateCommandUpdateUserExpectedWrongNumberOfArguments() {
-        String actual =
+        Response actual =
                 Validator.validateCommand(new Command(CommandType.UPDATE_USER, List.of("--session-id", "ses", "asd")));
 
-        String expected = "<Wrong number of arguments>";
+        Response expected = Response.WRONG_NUMBER_OF_ARGUMENTS;
 
         assertEquals("expecting exactly the same", expected, actual);
     }
 
     @Test
     public void testValidateCommandUpdateUserExpectedMissingSentinel() {
-        String actual =
+        Response actual =
                 Validator.validateCommand(new Command(CommandType.UPDATE_USER, List.of("-session-id", "session",
                         "--password", "asd")));
 
-        String expected = "<Missing authentication sentinel/data>";
+        Response expected = Response.MISSING_DATA;
 
         assertEquals("expecting exactly the same", expected, actual);
     }
 
     @Test
     public void testValidateCommandUpdateUserExpectedNull() {
-        String actual =
+        Response actual =
                 Validator.validateCommand(new Command(CommandType.UPDATE_USER, List.of("--session-id", "session",
                         "--username", "username")));
 
@@ -198,28 +201,28 @@ public class ValidatorTest {
 
     @Test
     public void testValidateCommandAddAdminUserExpectedWrongNumberOfArguments() {
-        String actual =
+        Response actual =
                 Validator.validateCommand(new Command(CommandType.ADD_ADMIN_USER, List.of("--session-id", "ses")));
 
-        String expected = "<Wrong number of arguments>";
+        Response expected = Response.WRONG_NUMBER_OF_ARGUMENTS;
 
         assertEquals("expecting exactly the same", expected, actual);
     }
 
     @Test
     public void testValidateCommandAddAdminUserExpectedMissingSentinel() {
-        String actual =
+        Response actual =
                 Validator.validateCommand(new Command(CommandType.ADD_ADMIN_USER, List.of("--session-id", "session",
                         "--password", "asd")));
 
-        String expected = "<Missing authentication sentinel/data>";
+        Response expected = Response.MISSING_DATA;
 
         assertEquals("expecting exactly the same", expected, actual);
     }
 
     @Test
     public void testValidateCommandAddAdminUserExpectedNull() {
-        String actual =
+        Response actual =
                 Validator.validateCommand(new Command(CommandType.ADD_ADMIN_USER, List.of("--session-id", "session",
                         "--username", "username")));
 
@@ -228,28 +231,28 @@ public class ValidatorTest {
 
     @Test
     public void testValidateCommandRemoveAdminUserExpectedWrongNumberOfArguments() {
-        String actual =
+        Response actual =
                 Validator.validateCommand(new Command(CommandType.REMOVE_ADMIN_USER, List.of("--session-id", "ses")));
 
-        String expected = "<Wrong number of arguments>";
+        Response expected = Response.WRONG_NUMBER_OF_ARGUMENTS;
 
         assertEquals("expecting exactly the same", expected, actual);
     }
 
     @Test
     public void testValidateCommandRemoveAdminUserExpectedMissingSentinel() {
-        String actual =
+        Response actual =
                 Validator.validateCommand(new Command(CommandType.REMOVE_ADMIN_USER, List.of("--session-id", "session",
                         "--password", "asd")));
 
-        String expected = "<Missing authentication sentinel/data>";
+        Response expected = Response.MISSING_DATA;
 
         assertEquals("expecting exactly the same", expected, actual);
     }
 
     @Test
     public void testValidateCommandRemoveAdminUserExpectedNull() {
-        String actual =
+        Response actual =
                 Validator.validateCommand(new Command(CommandType.REMOVE_ADMIN_USER, List.of("--session-id", "session",
                         "--username", "username")));
 
@@ -258,30 +261,30 @@ public class ValidatorTest {
 
     @Test
     public void testValidateCommandResetPasswordExpectedWrongNumberOfArguments() {
-        String actual =
+        Response actual =
                 Validator.validateCommand(new Command(CommandType.RESET_PASSWORD, List.of("--session-id", "ses")));
 
-        String expected = "<Wrong number of arguments>";
+        Response expected = Response.WRONG_NUMBER_OF_ARGUMENTS;
 
         assertEquals("expecting exactly the same", expected, actual);
     }
 
     @Test
     public void testValidateCommandResetPasswordExpectedMissingSentinel() {
-        String actual =
+        Response actual =
                 Validator.validateCommand(new Command(CommandType.RESET_PASSWORD, List.of("--session-id", "session",
                         "--password", "asd",
                         "asd", "asd",
                         "asd", "asd")));
 
-        String expected = "<Missing authentication sentinel/data>";
+        Response expected = Response.MISSING_DATA;
 
         assertEquals("expecting exactly the same", expected, actual);
     }
 
     @Test
     public void testValidateCommandResetPasswordExpectedNull() {
-        String actual =
+        Response actual =
                 Validator.validateCommand(new Command(CommandType.RESET_PASSWORD, List.of("--session-id", "session",
                         "--username", "username",
                         "--old-password", "oldPass",
@@ -292,7 +295,7 @@ public class ValidatorTest {
 
     @Test
     public void testValidateCommandInvalidExpectedNull() {
-        String actual =
+        Response actual =
                 Validator.validateCommand(new Command(CommandType.INVALID, List.of("--session-id", "session",
                         "--username", "username",
                         "--old-password", "oldPass",